@@ -133,6 +133,7 @@ private static List<String> classNamesOf(final Class<?>[] parameterClasses) {
     private final List<String> parameterNames;
     private final Type type;
     private String identityString;
+    private String classAndNameIdentityString;
 
     /**
      * Caching of {@link #toString()}, for performance.
@@ -214,7 +215,10 @@ public StringBuilder toNameIdentityString(final StringBuilder buf) {
     }
 
     public String toClassAndNameIdentityString() {
-        return toClassAndNameIdentityString(new StringBuilder()).toString();
+        if (classAndNameIdentityString == null) {
+            classAndNameIdentityString = toClassAndNameIdentityString(new StringBuilder()).toString();
+        }
+        return classAndNameIdentityString;
     }
 
     public StringBuilder toClassAndNameIdentityString(final StringBuilder buf) {
@@ -109,4 +109,18 @@
      */
     Class<?> typeOf() default Object.class;
 
+
+    // //////////////////////////////////////
+
+    /**
+     * The (persistent) references of the collection's elements that should be fetched eagerly, in the same
+     * round-trip as the elements themselves, when the collection is loaded.
+     *
+     * <p>
+     *     For example, <tt>@Collection(fetchMembers = {"customer"})</tt> on an <tt>orders</tt> collection avoids a
+     *     separate query to load the customer of each order when the collection is rendered in a table.
+     * </p>
+     */
+    String[] fetchMembers() default {};
+
 }
\ No newline at end of file
@@ -84,7 +84,7 @@ public <T> T add(final FixtureScript script, final T object) {
      *     or simply {@link FixtureScripts.NonPersistedObjectsStrategy#IGNORE ignored}.
      * </P>
      */
-    public <T> T add(final FixtureScript fixtureScript, final String key, final T object) {
+    public synchronized <T> T add(final FixtureScript fixtureScript, final String key, final T object) {
         final boolean firstTime = !fixtureScriptList.contains(fixtureScript);
         final FixtureResult fixtureResult = fixtureScripts.newFixtureResult(fixtureScript, key, object, firstTime);
         if(fixtureResult != null) {
@@ -98,8 +98,8 @@ public <T> T add(final FixtureScript fixtureScript, final String key, final T ob
         return object;
     }
 
-    public List<FixtureResult> getResults() {
-        return Collections.unmodifiableList(list);
+    public synchronized List<FixtureResult> getResults() {
+        return Collections.unmodifiableList(Lists.newArrayList(list));
     }
 
     //endregion
@@ -108,7 +108,7 @@ public List<FixtureResult> getResults() {
 
     private final Map<FixtureScript, AtomicInteger> itemNumberByScript = Maps.newHashMap();
 
-    String nextItemFor(final FixtureScript script) {
+    synchronized String nextItemFor(final FixtureScript script) {
         AtomicInteger atomicInteger = itemNumberByScript.get(script);
         if(atomicInteger == null) {
             atomicInteger = new AtomicInteger();
@@ -123,7 +123,10 @@ String nextItemFor(final FixtureScript script) {
     //region > lookup
 
     <T> T lookup(final String key, Class<T> cls) {
-        final FixtureResult fixtureResult = fixtureResultByKey.get(key);
+        final FixtureResult fixtureResult;
+        synchronized (this) {
+            fixtureResult = fixtureResultByKey.get(key);
+        }
         if(fixtureResult == null) {
             return null;
         }
@@ -23,13 +23,27 @@
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
+import com.google.common.base.Equivalence;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.joda.time.LocalDate;
 import org.joda.time.LocalDateTime;
@@ -48,6 +62,7 @@
 import org.apache.isis.applib.services.registry.ServiceRegistry2;
 import org.apache.isis.applib.services.repository.RepositoryService;
 import org.apache.isis.applib.services.sessmgmt.SessionManagementService;
+import org.apache.isis.applib.services.sessmgmt.SessionManagementService2;
 import org.apache.isis.applib.services.user.UserService;
 import org.apache.isis.applib.services.wrapper.WrapperFactory;
 import org.apache.isis.applib.services.xactn.TransactionService;
@@ -632,6 +647,111 @@ public void executeChild(final FixtureScript callingFixtureScript, final String
         @Programmatic
         public <T extends FixtureScript> T executeChildT(final FixtureScript callingFixtureScript, final String localNameOverride, final T childFixtureScript) {
 
+            executeDependencies(callingFixtureScript, childFixtureScript);
+            return executeChildOnly(callingFixtureScript, localNameOverride, childFixtureScript);
+        }
+
+        /**
+         * Executes the child fixture scripts, along with their {@link FixtureScriptWithDependencies declared dependencies},
+         * running those that are independent of each other concurrently.
+         *
+         * <p>
+         *     Any work done so far is first committed.  Each fixture script is then executed - once all of its
+         *     dependencies have completed - on a worker thread, in a session and transaction of its own (as provided by
+         *     {@link SessionManagementService2#callableInNewSession(Callable)}).  The
+         *     {@link FixtureScripts.MultipleExecutionStrategy multiple execution strategy} is honoured across the whole
+         *     graph; however a fixture script executed as an (undeclared) child by two scripts running concurrently may
+         *     be executed twice, so such shared prerequisites should be declared as dependencies instead.
+         * </p>
+         *
+         * <p>
+         *     The same caveats as for {@link SessionManagementService#nextSession()} apply: any objects
+         *     {@link #addResult(FixtureScript, Object) added as results} are detached by the time this method returns.
+         * </p>
+         *
+         * <p>
+         *     If any fixture script fails then its dependents are not executed, and the first failure is rethrown once
+         *     all other fixture scripts have completed.  If there is no {@link SessionManagementService2} available, or
+         *     only a single fixture script to execute, then the fixture scripts are simply executed one after another,
+         *     in dependency order.
+         * </p>
+         */
+        @Programmatic
+        public void executeChildrenConcurrently(final FixtureScript callingFixtureScript, final FixtureScript... childFixtureScripts) {
+
+            final List<FixtureScript> ordered = inDependencyOrder(Arrays.asList(childFixtureScripts));
+            final SessionManagementService sessionManagementService = callingFixtureScript.sessionManagementService;
+
+            if(ordered.size() < 2 || !(sessionManagementService instanceof SessionManagementService2)) {
+                for (final FixtureScript fixtureScript : ordered) {
+                    executeChildOnly(callingFixtureScript, null, fixtureScript);
+                }
+                return;
+            }
+
+            // so that the work done so far is visible to the sessions in which the children execute
+            callingFixtureScript.transactionService.nextTransaction();
+
+            executeConcurrently(callingFixtureScript, ordered, (SessionManagementService2) sessionManagementService);
+        }
+
+        private void executeConcurrently(
+                final FixtureScript callingFixtureScript,
+                final List<FixtureScript> ordered,
+                final SessionManagementService2 sessionManagementService) {
+
+            final int concurrency = Math.min(ordered.size(), Runtime.getRuntime().availableProcessors());
+            final ExecutorService executorService = Executors.newFixedThreadPool(
+                    concurrency,
+                    new ThreadFactoryBuilder().setNameFormat("fixture-script-%d").setDaemon(true).build());
+            final ListeningExecutorService listeningExecutorService = MoreExecutors.listeningDecorator(executorService);
+
+            // ordered such that the futures of any dependencies are always created first
+            final Map<Object, ListenableFuture<Void>> futureByKey = Maps.newLinkedHashMap();
+            try {
+                for (final FixtureScript fixtureScript : ordered) {
+
+                    final List<ListenableFuture<Void>> dependencyFutures = Lists.newArrayList();
+                    for (final FixtureScript dependency : dependenciesOf(fixtureScript)) {
+                        dependencyFutures.add(futureByKey.get(dependencyKeyFor(dependency)));
+                    }
+
+                    final Callable<Void> callable = sessionManagementService.callableInNewSession(new Callable<Void>() {
+                        @Override
+                        public Void call() {
+                            executeChildOnly(callingFixtureScript, null, fixtureScript);
+                            return null;
+                        }
+                    });
+
+                    final ListenableFuture<Void> future = Futures.transformAsync(
+                            Futures.allAsList(dependencyFutures),
+                            new AsyncFunction<List<Void>, Void>() {
+                                @Override
+                                public ListenableFuture<Void> apply(final List<Void> input) {
+                                    return listeningExecutorService.submit(callable);
+                                }
+                            });
+                    futureByKey.put(dependencyKeyFor(fixtureScript), future);
+                }
+
+                final List<ListenableFuture<Void>> futures = Lists.newArrayList(futureByKey.values());
+                Futures.successfulAsList(futures).get();
+                for (final ListenableFuture<Void> future : futures) {
+                    future.get();
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(ex);
+            } catch (final ExecutionException ex) {
+                throw Throwables.propagate(ex.getCause());
+            } finally {
+                executorService.shutdownNow();
+            }
+        }
+
+        private <T extends FixtureScript> T executeChildOnly(final FixtureScript callingFixtureScript, final String localNameOverride, final T childFixtureScript) {
+
             childFixtureScript.setParentPath(callingFixtureScript.pathWith(""));
             childFixtureScript.withTracing(callingFixtureScript.tracePrintStream); // cascade down
 
@@ -648,6 +768,77 @@ public <T extends FixtureScript> T executeChildT(final FixtureScript callingFixt
 
         static enum As { EXEC, SKIP }
 
+        //region > dependencies
+
+        private void executeDependencies(final FixtureScript callingFixtureScript, final FixtureScript fixtureScript) {
+            if(!(fixtureScript instanceof FixtureScriptWithDependencies)) {
+                return;
+            }
+            final List<FixtureScript> ordered = inDependencyOrder(Collections.singletonList(fixtureScript));
+            // the last is the fixture script itself
+            for (final FixtureScript dependency : ordered.subList(0, ordered.size() - 1)) {
+                executeChildOnly(callingFixtureScript, null, dependency);
+            }
+        }
+
+        /**
+         * The provided fixture scripts along with their (transitive) dependencies, ordered such that each comes after
+         * all of its dependencies.  Fixture scripts that would not be executed more than once (as per their
+         * {@link FixtureScripts.MultipleExecutionStrategy execution strategy}) appear only once.
+         */
+        private List<FixtureScript> inDependencyOrder(final List<FixtureScript> fixtureScripts) {
+            final Map<Object, FixtureScript> ordered = Maps.newLinkedHashMap();
+            final List<Object> path = Lists.newArrayList();
+            for (final FixtureScript fixtureScript : fixtureScripts) {
+                if(fixtureScript != null) {
+                    addInDependencyOrder(fixtureScript, ordered, path);
+                }
+            }
+            return Lists.newArrayList(ordered.values());
+        }
+
+        private void addInDependencyOrder(
+                final FixtureScript fixtureScript,
+                final Map<Object, FixtureScript> ordered,
+                final List<Object> path) {
+            final Object key = dependencyKeyFor(fixtureScript);
+            if(ordered.containsKey(key)) {
+                return;
+            }
+            if(path.contains(key)) {
+                throw new IllegalStateException(
+                        "Cyclic dependency between fixture scripts, involving " + fixtureScript.getClass().getName());
+            }
+            path.add(key);
+            for (final FixtureScript dependency : dependenciesOf(fixtureScript)) {
+                addInDependencyOrder(dependency, ordered, path);
+            }
+            path.remove(path.size() - 1);
+            ordered.put(key, fixtureScript);
+        }
+
+        private Object dependencyKeyFor(final FixtureScript fixtureScript) {
+            switch (determineExecutionStrategy(fixtureScript)) {
+            case IGNORE:
+            case EXECUTE_ONCE_BY_CLASS:
+                return fixtureScript.getClass();
+            case EXECUTE_ONCE_BY_VALUE:
+                return fixtureScript;
+            default:
+                return Equivalence.identity().wrap(fixtureScript);
+            }
+        }
+
+        private static List<FixtureScript> dependenciesOf(final FixtureScript fixtureScript) {
+            if(!(fixtureScript instanceof FixtureScriptWithDependencies)) {
+                return Collections.emptyList();
+            }
+            final List<FixtureScript> dependencies = ((FixtureScriptWithDependencies) fixtureScript).getDependencies();
+            return dependencies != null ? dependencies : Collections.<FixtureScript>emptyList();
+        }
+
+        //endregion
+
         /**
          * DO <i>NOT</i> CALL DIRECTLY; instead use {@link ExecutionContext#executeChild(FixtureScript, String, FixtureScript)} or {@link ExecutionContext#executeChild(FixtureScript, FixtureScript)}.
          *
@@ -674,7 +865,7 @@ private <T extends FixtureScript> T executeChildIfNotAlready(final T childFixtur
                 previouslyExecutedScript = fixtureScriptByClass.get(childFixtureScript.getClass());
                 if (previouslyExecutedScript == null) {
                     trace(childFixtureScript, As.EXEC);
-                    childFixtureScript.execute(this);
+                    executeTimed(childFixtureScript);
                     this.previouslyExecuted.add(childFixtureScript);
                     fixtureScriptByClass.put(childFixtureScript.getClass(), childFixtureScript);
                     return childFixtureScript;
@@ -688,7 +879,7 @@ private <T extends FixtureScript> T executeChildIfNotAlready(final T childFixtur
 
             case EXECUTE:
                 trace(childFixtureScript, As.EXEC);
-                childFixtureScript.execute(this);
+                executeTimed(childFixtureScript);
                 this.previouslyExecuted.add(childFixtureScript);
                 return childFixtureScript;
 
@@ -697,6 +888,14 @@ private <T extends FixtureScript> T executeChildIfNotAlready(final T childFixtur
             }
         }
 
+        private void executeTimed(final FixtureScript fixtureScript) {
+            final long start = System.nanoTime();
+            fixtureScript.execute(this);
+            final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            executionMillisByQualifiedName.put(fixtureScript.getQualifiedName(), elapsedMillis);
+            trace(fixtureScript, elapsedMillis);
+        }
+
         private <T extends FixtureScript> FixtureScripts.MultipleExecutionStrategy determineExecutionStrategy(final T childFixtureScript) {
             final FixtureScripts.MultipleExecutionStrategy executionStrategy;
 
@@ -716,7 +915,7 @@ private <T extends FixtureScript> T executeChildIfNotAlreadyWithValueSemantics(f
             previouslyExecutedScript = fixtureScriptByValue.get(childFixtureScript);
             if (previouslyExecutedScript == null) {
                 trace(childFixtureScript, As.EXEC);
-                childFixtureScript.execute(this);
+                executeTimed(childFixtureScript);
                 this.previouslyExecuted.add(childFixtureScript);
                 fixtureScriptByValue.put(childFixtureScript, childFixtureScript);
                 return childFixtureScript;
@@ -733,7 +932,8 @@ private <T extends FixtureScript> T executeChildIfNotAlreadyWithValueSemantics(f
          * but used only by {@link FixtureScripts.MultipleExecutionStrategy#EXECUTE_ONCE_BY_VALUE} to determine whether
          * should execute or not.
          */
-        private final List<FixtureScript> previouslyExecuted = Lists.newArrayList();
+        private final List<FixtureScript> previouslyExecuted =
+                Collections.synchronizedList(Lists.<FixtureScript>newArrayList());
 
         /**
          * Returns a list of the {@link FixtureScript} instances that have already been executed.
@@ -755,13 +955,38 @@ public List<FixtureScript> getPreviouslyExecuted() {
          * used and populated only if the {@link FixtureScripts.MultipleExecutionStrategy#EXECUTE_ONCE_BY_CLASS}
          * strategy is in use.
          */
-        private final Map<Class<? extends FixtureScript>, FixtureScript> fixtureScriptByClass = Maps.newLinkedHashMap();
+        private final Map<Class<? extends FixtureScript>, FixtureScript> fixtureScriptByClass =
+                Collections.synchronizedMap(Maps.<Class<? extends FixtureScript>, FixtureScript>newLinkedHashMap());
 
         /**
          * used and populated only if the {@link FixtureScripts.MultipleExecutionStrategy#EXECUTE_ONCE_BY_VALUE}
          * strategy is in use.
          */
-        private final Map<FixtureScript, FixtureScript> fixtureScriptByValue = Maps.newLinkedHashMap();
+        private final Map<FixtureScript, FixtureScript> fixtureScriptByValue =
+                Collections.synchronizedMap(Maps.<FixtureScript, FixtureScript>newLinkedHashMap());
+
+        //endregion
+
+        //region > executionTimes
+
+        private final Map<String, Long> executionMillisByQualifiedName =
+                Collections.synchronizedMap(Maps.<String, Long>newLinkedHashMap());
+
+        /**
+         * The elapsed time, in milliseconds, of each fixture script that was executed (rather than skipped), keyed by
+         * its {@link FixtureScript#getQualifiedName() qualified name} and in the order in which they completed.
+         *
+         * <p>
+         *     The time for each fixture script includes that of its children, but not of its
+         *     {@link FixtureScriptWithDependencies declared dependencies}.
+         * </p>
+         */
+        @Programmatic
+        public Map<String, Long> getExecutionTimes() {
+            synchronized (executionMillisByQualifiedName) {
+                return Collections.unmodifiableMap(Maps.newLinkedHashMap(executionMillisByQualifiedName));
+            }
+        }
 
         //endregion
 
@@ -786,6 +1011,16 @@ private void trace(final FixtureScript fixtureScript, final As as) {
             tracePrintStream.flush();
         }
 
+        private void trace(final FixtureScript fixtureScript, final long elapsedMillis) {
+            if(tracePrintStream == null) {
+                return;
+            }
+            final String qualifiedName = fixtureScript.getQualifiedName();
+            final String trace = String.format("%1s: %2s %3s ms\n", pad(qualifiedName), "DONE", elapsedMillis);
+            tracePrintStream.print(trace);
+            tracePrintStream.flush();
+        }
+
         void trace(final FixtureResult fixtureResult) {
             if(tracePrintStream == null) {
                 return;
@@ -796,7 +1031,7 @@ void trace(final FixtureResult fixtureResult) {
             tracePrintStream.flush();
         }
 
-        private String pad(final String key) {
+        private synchronized String pad(final String key) {
             traceHighwatermark = Math.max(key.length(), traceHighwatermark);
             return pad(key, roundup(traceHighwatermark, 20));
         }
@@ -920,6 +1155,7 @@ private String uppercase(final String parameterName) {
     @Programmatic
     public final List<FixtureResult> run(final String parameters) {
         executionContext = fixtureScripts.newExecutionContext(parameters).withTracing(this.tracePrintStream);
+        executionContext.executeDependencies(this, this);
         executionContext.executeChildIfNotAlready(this);
         return executionContext.getResults();
     }
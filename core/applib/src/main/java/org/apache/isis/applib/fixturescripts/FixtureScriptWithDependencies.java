@@ -0,0 +1,40 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.fixturescripts;
+
+import java.util.List;
+
+import org.apache.isis.applib.annotation.Programmatic;
+
+/**
+ * Allows a {@link FixtureScript} to declare the fixture scripts that must have been executed before it, rather than
+ * executing them itself as children.
+ *
+ * <p>
+ *     The dependencies (and their dependencies, transitively) are executed first, in dependency order, honouring the
+ *     {@link FixtureScripts.MultipleExecutionStrategy multiple execution strategy} as for any other child.  When run
+ *     using {@link FixtureScript.ExecutionContext#executeChildrenConcurrently(FixtureScript, FixtureScript...)}, the
+ *     declared dependencies are also what determines which fixture scripts may run concurrently with each other.
+ * </p>
+ */
+public interface FixtureScriptWithDependencies {
+
+    @Programmatic
+    List<FixtureScript> getDependencies();
+}
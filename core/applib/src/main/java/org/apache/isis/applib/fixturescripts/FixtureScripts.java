@@ -458,6 +458,23 @@ protected void execute(ExecutionContext executionContext) {
         transactionService.nextTransaction();
     }
 
+    /**
+     * As {@link #runFixtureScript(FixtureScript...)}, but running fixture scripts that do not
+     * {@link FixtureScriptWithDependencies depend} on each other concurrently, each in its own session.
+     *
+     * @see FixtureScript.ExecutionContext#executeChildrenConcurrently(FixtureScript, FixtureScript...)
+     */
+    @Programmatic
+    public void runFixtureScriptsConcurrently(final FixtureScript... fixtureScriptList) {
+        runFixtureScript(new FixtureScript() {
+            protected void execute(ExecutionContext executionContext) {
+                executionContext.executeChildrenConcurrently(this, fixtureScriptList);
+            }
+        }, null);
+
+        transactionService.nextTransaction();
+    }
+
     @Programmatic
     public <T> T runPersona(final PersonaWithBuilderScript persona) {
         BuilderScriptAbstract fixtureScript = persona.builder();
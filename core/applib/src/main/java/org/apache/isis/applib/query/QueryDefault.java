@@ -19,8 +19,10 @@
 
 package org.apache.isis.applib.query;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -78,6 +80,7 @@ private static Map<String, Object> asMap(final Object[] paramArgs) {
 
     private final String queryName;
     private final Map<String, Object> argumentsByParameterName;
+    private List<String> fetchMembers = Collections.emptyList();
 
     public QueryDefault(final Class<T> resultType, final String queryName, final Object... paramArgs) {
         this(resultType, queryName, asMap(paramArgs));
@@ -113,6 +116,25 @@ public QueryDefault<T> withCount(final long count) {
         return this;
     }
     
+    /**
+     * Hint as to the (persistent) references of the matching instances that should be fetched eagerly, in the same
+     * round-trip as the instances themselves, for this query only.
+     *
+     * <p>
+     *     For example, a query for orders that are to be listed along with their customer can specify
+     *     <tt>withFetchMembers("customer")</tt>, so that each customer is not subsequently loaded with a query of its
+     *     own.  Members that are not persistent references are ignored.
+     * </p>
+     */
+    public QueryDefault<T> withFetchMembers(final String... fetchMembers) {
+        this.fetchMembers = Collections.unmodifiableList(Arrays.asList(fetchMembers));
+        return this;
+    }
+
+    public List<String> getFetchMembers() {
+        return fetchMembers;
+    }
+
     @Override
     public String getDescription() {
         return getQueryName() + " with " + getArgumentsByParameterName();
@@ -32,8 +32,10 @@
 import org.apache.isis.applib.services.eventbus.ActionDomainEvent;
 import org.apache.isis.applib.services.eventbus.ActionInteractionEvent;
 import org.apache.isis.applib.util.ObjectContracts;
+import org.apache.isis.schema.cmd.v1.CommandDto;
+import org.apache.isis.schema.utils.CommandDtoUtils;
 
-public class CommandDefault implements Command3 {
+public class CommandDefault implements Command3, CommandWithLazyMemento {
 
     //region > constructor
 
@@ -102,14 +104,34 @@ public void setArguments(String arguments) {
     //region > memento (property)
 
     private String memento;
-    
+    private CommandDto mementoDto;
+
+    /**
+     * If only the {@link #setMementoDto(CommandDto) dto} has been provided, then is marshalled to XML on first access.
+     */
     @Override
     public String getMemento() {
+        if(memento == null && mementoDto != null) {
+            memento = CommandDtoUtils.toXml(mementoDto);
+            mementoDto = null;
+        }
         return memento;
     }
     @Override
     public void setMemento(String memento) {
         this.memento = memento;
+        this.mementoDto = null;
+    }
+
+    @Override
+    public void setMementoDto(final CommandDto dto) {
+        this.mementoDto = dto;
+        this.memento = null;
+    }
+
+    @Override
+    public boolean hasMemento() {
+        return memento != null || mementoDto != null;
     }
     
     //endregion
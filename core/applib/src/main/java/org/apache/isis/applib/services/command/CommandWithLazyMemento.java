@@ -0,0 +1,50 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.services.command;
+
+import org.apache.isis.applib.annotation.Programmatic;
+import org.apache.isis.schema.cmd.v1.CommandDto;
+
+/**
+ * Optionally implemented by {@link Command}s that can defer the marshalling of their {@link Command#getMemento() memento}
+ * until it is actually required.
+ *
+ * <p>
+ *     For most user-initiated actions and property edits, the command is neither persisted nor executed in the
+ *     background, so its memento is never read.  Commands implementing this interface are given the {@link CommandDto}
+ *     instead, and should convert it to XML (using {@link org.apache.isis.schema.utils.CommandDtoUtils#toXml(CommandDto)})
+ *     on the first call to {@link #getMemento()}.
+ * </p>
+ */
+public interface CommandWithLazyMemento extends Command {
+
+    /**
+     * <b>NOT API</b>: intended to be called only by the framework, in place of {@link #setMemento(String)}.
+     */
+    @Programmatic
+    void setMementoDto(final CommandDto dto);
+
+    /**
+     * Whether a memento has been provided, either as XML or as a {@link CommandDto}, without forcing the latter to be
+     * marshalled.
+     */
+    @Programmatic
+    boolean hasMemento();
+
+}
@@ -0,0 +1,37 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.services.eventbus;
+
+/**
+ * Extends {@link EventBusImplementation} so that the {@link EventBusService} can ask whether any subscriber would
+ * actually receive an event of a given type, allowing the framework to avoid instantiating (and posting) events
+ * that no-one listens for.
+ */
+public interface EventBusImplementation2 extends EventBusImplementation {
+
+    /**
+     * Whether any registered subscriber would be notified were an event of this type posted.
+     *
+     * <p>
+     *     Implementations must err on the side of returning <code>true</code> if unsure.
+     * </p>
+     */
+    boolean hasSubscribersFor(Class<?> eventType);
+
+}
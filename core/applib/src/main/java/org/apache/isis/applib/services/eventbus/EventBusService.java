@@ -57,6 +57,10 @@ public void unregister(Object domainService) {}
         @Override
         public void post(Object event) {}
         @Override
+        public boolean hasSubscribersFor(final Class<?> eventType) {
+            return false;
+        }
+        @Override
         protected EventBusImplementation getEventBusImplementation() {
             return null;
         }
@@ -209,6 +213,27 @@ public void post(Object event) {
     }
 
 
+    /**
+     * Whether any subscriber would be notified were an event of the specified type to be {@link #post(Object) posted}.
+     *
+     * <p>
+     *     Used by the framework to avoid instantiating domain events that no-one is listening for.  If the underlying
+     *     {@link EventBusImplementation} cannot tell (is not an {@link EventBusImplementation2}), then returns
+     *     <code>true</code>.
+     * </p>
+     *
+     * <p>
+     *     As for {@link #post(Object)}, this will lazily set up the event bus for the current
+     *     {@link #getSubscribers() subscribers}.
+     * </p>
+     */
+    @Programmatic
+    public boolean hasSubscribersFor(final Class<?> eventType) {
+        final EventBusImplementation eventBusImplementation = getEventBusImplementation();
+        return !(eventBusImplementation instanceof EventBusImplementation2) ||
+                ((EventBusImplementation2) eventBusImplementation).hasSubscribersFor(eventType);
+    }
+
     protected boolean hasPosted() {
         return this.eventBusImplementation != null;
     }
@@ -24,9 +24,11 @@
 import java.util.Map;
 
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.util.JAXBSource;
 
 import com.google.common.base.Function;
 import com.google.common.base.Joiner;
@@ -65,6 +67,21 @@ public interface JaxbService {
     @Programmatic
     String toXml(final Object domainObject, Map<String,Object> marshallerProperties);
 
+    /**
+     * Returns a deep copy of the provided (JAXB-annotated) domain object.
+     *
+     * <p>
+     *     The default implementation simply round-trips through {@link #toXml(Object) XML};
+     *     {@link Simple} overrides this to stream the marshaller's output directly into an unmarshaller, avoiding
+     *     the cost of rendering and then parsing the intermediate XML string.
+     * </p>
+     */
+    @Programmatic
+    default <T> T copy(final T domainObject) {
+        final Class<T> domainClass = (Class<T>) domainObject.getClass();
+        return fromXml(domainClass, toXml(domainObject));
+    }
+
 
     /**
      * Controls whether, when generating {@link #toXsd(Object, IsisSchemas) XML schemas},
@@ -213,6 +230,30 @@ public String toXml(final Object domainObject, final Map<String, Object> marshal
             }
         }
 
+        @Override
+        public <T> T copy(final T domainObject) {
+
+            final Class<?> domainClass = domainObject.getClass();
+            final JAXBContext context = jaxbContextFor(domainObject);
+
+            try {
+                final Marshaller marshaller = context.createMarshaller();
+                configure(marshaller);
+
+                final Unmarshaller unmarshaller = context.createUnmarshaller();
+                configure(unmarshaller);
+
+                Object copy = unmarshaller.unmarshal(new JAXBSource(marshaller, domainObject));
+                if(copy instanceof JAXBElement) {
+                    copy = ((JAXBElement<?>) copy).getValue();
+                }
+                return (T) copy;
+
+            } catch (final JAXBException ex) {
+                throw new NonRecoverableException("Error copying domain object; domain object class is '" + domainClass.getName() + "'", ex);
+            }
+        }
+
         /**
          * Optional hook
          */
@@ -0,0 +1,162 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.services.metrics;
+
+import org.apache.isis.applib.annotation.Programmatic;
+
+/**
+ * Snapshot of the timings recorded, since start-up (or since last
+ * {@link MetricsService2#resetInteractionTimings() reset}), for a single {@link Phase phase} of the interactions with
+ * a given member.
+ *
+ * <p>
+ *     All durations are in nanoseconds.  Percentiles are approximate (to within 25%), being calculated from a
+ *     histogram of the recorded durations.
+ * </p>
+ */
+public class InteractionTiming {
+
+    public enum Phase {
+        /**
+         * Checking whether the current user is authorized to view or use the member.
+         */
+        AUTHORIZATION,
+        /**
+         * Checking whether the member is visible (including authorization).
+         */
+        HIDE,
+        /**
+         * Checking whether the member is usable (including authorization).
+         */
+        DISABLE,
+        /**
+         * Validating the proposed arguments or new value.
+         */
+        VALIDATE,
+        /**
+         * Invoking the action or editing the property (including any domain events).
+         */
+        INVOCATION,
+        /**
+         * Flushing pending changes to the object store.
+         */
+        FLUSH,
+        /**
+         * Auditing the changed objects.
+         */
+        AUDIT,
+        /**
+         * Publishing the execution or changed objects.
+         */
+        PUBLISH,
+        /**
+         * Rendering the result (by a viewer).
+         */
+        RENDER
+    }
+
+    private final String memberIdentifier;
+    private final Phase phase;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+
+    public InteractionTiming(
+            final String memberIdentifier,
+            final Phase phase,
+            final long count,
+            final long totalNanos,
+            final long maxNanos,
+            final long p50Nanos,
+            final long p90Nanos,
+            final long p99Nanos) {
+        this.memberIdentifier = memberIdentifier;
+        this.phase = phase;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+    }
+
+    /**
+     * The identifier of the member (in the same format as
+     * {@link org.apache.isis.schema.ixn.v1.MemberExecutionDto#getMemberIdentifier()}).
+     */
+    @Programmatic
+    public String getMemberIdentifier() {
+        return memberIdentifier;
+    }
+
+    @Programmatic
+    public Phase getPhase() {
+        return phase;
+    }
+
+    @Programmatic
+    public long getCount() {
+        return count;
+    }
+
+    @Programmatic
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    @Programmatic
+    public long getMeanNanos() {
+        return count != 0 ? totalNanos / count : 0;
+    }
+
+    @Programmatic
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Programmatic
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    @Programmatic
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    @Programmatic
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "InteractionTiming{" +
+                "memberIdentifier='" + memberIdentifier + '\'' +
+                ", phase=" + phase +
+                ", count=" + count +
+                ", meanNanos=" + getMeanNanos() +
+                ", maxNanos=" + maxNanos +
+                ", p99Nanos=" + p99Nanos +
+                '}';
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.services.metrics;
+
+import java.util.List;
+
+import javax.enterprise.context.RequestScoped;
+
+import org.apache.isis.applib.annotation.Programmatic;
+
+/**
+ * Extends {@link MetricsService} with access to the timings of each phase of the interactions with each member.
+ *
+ * <p>
+ *     Unlike the counters of {@link MetricsService}, these timings are accumulated across all requests (since
+ *     start-up), so can be used to identify slow members in production.
+ * </p>
+ */
+@RequestScoped
+public interface MetricsService2 extends MetricsService {
+
+    /**
+     * A snapshot of the timings recorded so far, one for each member and phase, ordered by member identifier and
+     * then phase.
+     */
+    @Programmatic
+    List<InteractionTiming> interactionTimings();
+
+    /**
+     * Discards all the timings recorded so far.
+     */
+    @Programmatic
+    void resetInteractionTimings();
+
+}
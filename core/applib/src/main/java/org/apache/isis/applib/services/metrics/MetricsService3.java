@@ -0,0 +1,44 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.services.metrics;
+
+import javax.enterprise.context.RequestScoped;
+
+import org.apache.isis.applib.annotation.Programmatic;
+
+/**
+ * Extends {@link MetricsService2} with the number of reads (typically SQL <tt>SELECT</tt>s) issued to the database
+ * during the current request; this can be used to verify that rendering a page does not issue a query for each
+ * object (the &quot;N+1 selects&quot; problem).
+ */
+@RequestScoped
+public interface MetricsService3 extends MetricsService2 {
+
+    /**
+     * The number of reads issued to the database by the current request (session), or <tt>-1</tt> if not available.
+     *
+     * <p>
+     *     Requires the DataNucleus statistics to be enabled, using
+     *     <tt>isis.persistor.datanucleus.impl.datanucleus.enableStatistics=true</tt>.
+     * </p>
+     */
+    @Programmatic
+    int numberDatastoreReads();
+
+}
@@ -0,0 +1,45 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.services.metrics;
+
+import javax.enterprise.context.RequestScoped;
+
+import org.apache.isis.applib.annotation.Programmatic;
+
+/**
+ * Extends {@link MetricsService3} with a timeline of how the application was bootstrapped, so that regressions in
+ * start-up time can be tracked (eg in CI, or across versions).
+ */
+@RequestScoped
+public interface MetricsService4 extends MetricsService3 {
+
+    /**
+     * The (nested) phases of bootstrapping, as a JSON array.
+     *
+     * <p>
+     *     Each phase has a <tt>name</tt>, the <tt>thread</tt> that ran it, its <tt>startMillis</tt> (relative to
+     *     the start of bootstrapping), <tt>wallClockMillis</tt>, <tt>cpuMillis</tt> and <tt>allocatedBytes</tt>,
+     *     the number of <tt>specificationsLoaded</tt> and <tt>facetsAdded</tt> while it ran, and its nested
+     *     <tt>phases</tt>.  Any value that could not be measured is <tt>-1</tt>.
+     * </p>
+     */
+    @Programmatic
+    String bootTimeline();
+
+}
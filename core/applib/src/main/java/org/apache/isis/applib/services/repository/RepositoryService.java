@@ -21,6 +21,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.google.common.base.Predicate;
 
@@ -85,6 +86,39 @@ public interface RepositoryService {
     @Programmatic
     <T> T persistAndFlush(T domainObject);
 
+    /**
+     * Persists all of the specified objects (ignoring any that are already persistent) as a single batch, flushing
+     * them to the database immediately.
+     *
+     * <p>
+     *     Intended for bulk imports of many (new) objects; this is considerably quicker than {@link #persist(Object)
+     *     persisting} each object individually, as the inserts are batched and the framework's own bookkeeping is
+     *     performed once for the batch rather than for each object.  Any pending changes are flushed first.
+     * </p>
+     *
+     * <p>
+     *     The default implementation (for implementations written before this method was introduced) simply
+     *     {@link #persist(Object) persists} each object in turn, flushing after the last.
+     * </p>
+     *
+     * @return the same objects, for fluent usage.
+     *
+     * @see #persist(Object)
+     */
+    @Programmatic
+    default <T> List<T> persistAll(List<T> domainObjects) {
+        final int size = domainObjects.size();
+        for (int i = 0; i < size; i++) {
+            final T domainObject = domainObjects.get(i);
+            if (i < size - 1) {
+                persist(domainObject);
+            } else {
+                persistAndFlush(domainObject);
+            }
+        }
+        return domainObjects;
+    }
+
     /**
      * Deletes the domain object but only if is persistent.
      *
@@ -176,6 +210,60 @@ public interface RepositoryService {
     @Programmatic
     <T> List<T> allMatches(Query<T> query);
 
+    /**
+     * As {@link #allMatches(Query)}, but returning the instances as a {@link Stream} that is lazily populated from a
+     * database cursor, rather than as a fully materialized {@link List}.
+     *
+     * <p>
+     *     Intended for iterating over very large numbers of instances (eg for exports).  The stream must be
+     *     {@link Stream#close() closed} (eg using try-with-resources) and consumed within the current transaction.
+     *     As the stream is consumed, the instances already returned are periodically evicted from the framework's
+     *     (and the persistence mechanism's) caches so that memory use does not grow with the number of instances; the
+     *     instances should therefore not be retained, nor modified.
+     * </p>
+     *
+     * <p>
+     *     The default implementation (for implementations written before this method was introduced) simply streams
+     *     the result of {@link #allMatches(Query)}.
+     * </p>
+     */
+    @Programmatic
+    default <T> Stream<T> streamMatches(Query<T> query) {
+        return allMatches(query).stream();
+    }
+
+    /**
+     * Returns the number of instances that {@link #allMatches(Query)} would return for the given {@link Query}, but
+     * without loading any of them (the query is executed as a <tt>count</tt> projection).
+     *
+     * <p>
+     *     Any range specified by the query is honoured.
+     * </p>
+     *
+     * <p>
+     *     The default implementation (for implementations written before this method was introduced) falls back to
+     *     the size of {@link #allMatches(Query)}, so does load the instances.
+     * </p>
+     */
+    @Programmatic
+    default <T> long count(Query<T> query) {
+        return allMatches(query).size();
+    }
+
+    /**
+     * Whether {@link #allMatches(Query)} would return any instances for the given {@link Query}, but without loading
+     * any of them (the query is executed for at most one row).
+     *
+     * <p>
+     *     The default implementation (for implementations written before this method was introduced) falls back to
+     *     {@link #firstMatch(Query)}.
+     * </p>
+     */
+    @Programmatic
+    default <T> boolean exists(Query<T> query) {
+        return firstMatch(query).isPresent();
+    }
+
     /**
      * Returns the first instance of the specified type (including subtypes)
      * that matches the supplied {@link Predicate}, or <tt>null</tt> if none.
@@ -0,0 +1,48 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.services.sessmgmt;
+
+import java.util.concurrent.Callable;
+
+import org.apache.isis.applib.annotation.Programmatic;
+
+public interface SessionManagementService2 extends SessionManagementService {
+
+    /**
+     * Wraps the provided {@link Callable} so that, when called (typically on some other thread), it runs in a
+     * session of its own - for the same user as the current session - and within a transaction of that session.
+     *
+     * <p>
+     *     The transaction is committed if the callable completes normally, and is aborted if it throws an exception
+     *     (checked exceptions being wrapped in a {@link RuntimeException}).  The session is always closed afterwards.
+     * </p>
+     *
+     * <p>
+     *     The same caveats as for {@link #nextSession()} apply: no objects may be passed from the calling session
+     *     into the callable, nor returned from it.
+     * </p>
+     *
+     * <p>
+     *     Must be called from within a session (because the user of the current session is captured).
+     * </p>
+     */
+    @Programmatic
+    <T> Callable<T> callableInNewSession(Callable<T> callable);
+
+}
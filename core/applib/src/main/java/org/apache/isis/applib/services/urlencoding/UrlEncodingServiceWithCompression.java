@@ -0,0 +1,137 @@
+/**
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.isis.applib.services.urlencoding;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.PostConstruct;
+
+import com.google.common.base.Strings;
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.ByteStreams;
+
+import org.apache.isis.applib.annotation.Programmatic;
+
+/**
+ * Variant of {@link UrlEncodingServiceUsingBaseEncoding} that gzips the string before encoding it, significantly
+ * reducing the size of view model mementos (which are typically verbose XML).
+ *
+ * <p>
+ *     Strings that were encoded without compression (for example bookmarks created before this service was
+ *     registered) are still decoded correctly; these are detected by the absence of the gzip header.
+ * </p>
+ *
+ * <p>
+ *     Strings that would decompress to more than {@link #KEY_MAX_DECOMPRESSED_SIZE a maximum size} are rejected.
+ * </p>
+ *
+ * <p>
+ *     This implementation is not annotated as a domain service and so is not registered automatically; to use it,
+ *     subclass and annotate with {@link org.apache.isis.applib.annotation.DomainService} with a
+ *     <code>menuOrder</code> lower than that of the default implementation.
+ * </p>
+ */
+public class UrlEncodingServiceWithCompression extends UrlEncodingServiceUsingBaseEncoding {
+
+    /**
+     * The maximum size (in bytes) that a compressed string may decompress to; larger strings (such as a crafted
+     * bookmark that would decompress to a huge allocation) are rejected.
+     */
+    public static final String KEY_MAX_DECOMPRESSED_SIZE = "isis.services.urlEncoding.maxDecompressedSize";
+
+    public static final int MAX_DECOMPRESSED_SIZE_DEFAULT = 1024 * 1024;
+
+    private final BaseEncoding baseEncoding;
+    private final Charset charset;
+    private int maxDecompressedSize;
+
+    public UrlEncodingServiceWithCompression(
+            final BaseEncoding baseEncoding,
+            final Charset charset,
+            final int maxDecompressedSize) {
+        super(baseEncoding, charset);
+        this.baseEncoding = baseEncoding;
+        this.charset = charset;
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+
+    public UrlEncodingServiceWithCompression(final BaseEncoding baseEncoding, final Charset charset) {
+        this(baseEncoding, charset, MAX_DECOMPRESSED_SIZE_DEFAULT);
+    }
+
+    public UrlEncodingServiceWithCompression() {
+        this(BaseEncoding.base64Url(), Charset.forName("UTF-8"));
+    }
+
+    @PostConstruct
+    public void init(final Map<String, String> properties) {
+        final String maxDecompressedSize = properties.get(KEY_MAX_DECOMPRESSED_SIZE);
+        if (!Strings.isNullOrEmpty(maxDecompressedSize)) {
+            this.maxDecompressedSize = Integer.parseInt(maxDecompressedSize.trim());
+        }
+    }
+
+    @Programmatic
+    @Override
+    public String encode(final String str) {
+        final byte[] bytes = str.getBytes(charset);
+        return baseEncoding.encode(compress(bytes));
+    }
+
+    @Programmatic
+    @Override
+    public String decode(final String str) {
+        final byte[] bytes = baseEncoding.decode(str);
+        return new String(isCompressed(bytes) ? decompress(bytes) : bytes, charset);
+    }
+
+    private static boolean isCompressed(final byte[] bytes) {
+        return bytes.length >= 2
+                && (bytes[0] & 0xff) == (GZIPInputStream.GZIP_MAGIC & 0xff)
+                && (bytes[1] & 0xff) == ((GZIPInputStream.GZIP_MAGIC >> 8) & 0xff);
+    }
+
+    private static byte[] compress(final byte[] bytes) {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream(bytes.length / 4 + 32);
+        try (final GZIPOutputStream gzos = new GZIPOutputStream(baos)) {
+            gzos.write(bytes);
+        } catch (final IOException ex) {
+            throw new IllegalStateException("Unable to compress", ex);
+        }
+        return baos.toByteArray();
+    }
+
+    private byte[] decompress(final byte[] bytes) {
+        try (final GZIPInputStream gzis = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            final byte[] decompressed = ByteStreams.toByteArray(ByteStreams.limit(gzis, maxDecompressedSize + 1L));
+            if (decompressed.length > maxDecompressedSize) {
+                throw new IllegalArgumentException(
+                        "Unable to decompress; exceeds maximum size of " + maxDecompressedSize + " bytes");
+            }
+            return decompressed;
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException("Unable to decompress", ex);
+        }
+    }
+
+}
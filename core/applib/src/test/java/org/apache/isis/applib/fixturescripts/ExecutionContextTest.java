@@ -18,14 +18,30 @@
  */
 package org.apache.isis.applib.fixturescripts;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+
+import com.google.common.collect.Lists;
+
 import org.hamcrest.Matchers;
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
 import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 
+import org.apache.isis.applib.DomainObjectContainer;
+import org.apache.isis.applib.services.sessmgmt.SessionManagementService2;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 import org.apache.isis.testing.fixtures.applib.fixturescripts.FixtureScript;
 
@@ -191,4 +207,153 @@ public void happyCase() throws Exception {
 
     }
 
+    public static class Dependencies extends ExecutionContextTest {
+
+        @Rule
+        public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_AND_CLASSES);
+
+        @Mock
+        DomainObjectContainer mockContainer;
+
+        @Mock
+        TransactionService mockTransactionService;
+
+        private final List<String> executed = Collections.synchronizedList(Lists.<String>newArrayList());
+        private final List<String> threadNames = Collections.synchronizedList(Lists.<String>newArrayList());
+
+        private org.apache.isis.applib.fixturescripts.FixtureScript.ExecutionContext executionContext;
+        private org.apache.isis.applib.fixturescripts.FixtureScript root;
+
+        @Before
+        public void setUp() throws Exception {
+            final FixtureScripts fixtureScripts = new FixtureScripts(
+                    FixtureScriptsSpecification.builder(ExecutionContextTest.class)
+                            .with(FixtureScripts.MultipleExecutionStrategy.EXECUTE_ONCE_BY_VALUE)
+                            .build()) {};
+            executionContext = new org.apache.isis.applib.fixturescripts.FixtureScript.ExecutionContext((String) null, fixtureScripts);
+
+            context.checking(new Expectations() {{
+                allowing(mockContainer).injectServicesInto(with(any(Object.class)));
+            }});
+
+            root = new Script("root");
+        }
+
+        @Test
+        public void dependencies_are_executed_first_and_once() throws Exception {
+
+            final Script a = new Script("a");
+            final Script b = new Script("b", a);
+            final Script c = new Script("c", a, b);
+
+            executionContext.executeChild(root, c);
+            executionContext.executeChild(root, b);
+
+            assertThat(executed, is((List<String>) Lists.newArrayList("a", "b", "c")));
+            assertThat(executionContext.getExecutionTimes().size(), is(3));
+        }
+
+        @Test
+        public void cyclic_dependencies_are_rejected() throws Exception {
+
+            final Script a = new Script("a");
+            final Script b = new Script("b", a);
+            a.dependencies.add(b);
+
+            try {
+                executionContext.executeChild(root, b);
+                fail();
+            } catch (final IllegalStateException ex) {
+                assertThat(executed.isEmpty(), is(true));
+            }
+        }
+
+        @Test
+        public void independent_scripts_are_executed_concurrently_in_dependency_order() throws Exception {
+
+            root.sessionManagementService = new SessionManagementServiceForTesting();
+            root.transactionService = mockTransactionService;
+            context.checking(new Expectations() {{
+                oneOf(mockTransactionService).nextTransaction();
+            }});
+
+            final Script a = new Script("a");
+            final Script b = new Script("b", a);
+            final Script c = new Script("c", a);
+            final Script d = new Script("d", b, c);
+
+            executionContext.executeChildrenConcurrently(root, d, new Script("e"));
+
+            assertThat(executed.size(), is(5));
+            assertThat(executed.indexOf("a") < executed.indexOf("b"), is(true));
+            assertThat(executed.indexOf("a") < executed.indexOf("c"), is(true));
+            assertThat(executed.indexOf("b") < executed.indexOf("d"), is(true));
+            assertThat(executed.indexOf("c") < executed.indexOf("d"), is(true));
+            for (final String threadName : threadNames) {
+                assertThat(threadName.startsWith("fixture-script-"), is(true));
+            }
+            assertThat(executionContext.getExecutionTimes().size(), is(5));
+        }
+
+        @Test
+        public void dependents_of_failed_script_are_not_executed() throws Exception {
+
+            root.sessionManagementService = new SessionManagementServiceForTesting();
+            root.transactionService = mockTransactionService;
+            context.checking(new Expectations() {{
+                oneOf(mockTransactionService).nextTransaction();
+            }});
+
+            final Script a = new Script("a") {
+                @Override
+                protected void execute(final ExecutionContext executionContext) {
+                    throw new IllegalArgumentException("a failed");
+                }
+            };
+            final Script b = new Script("b", a);
+
+            try {
+                executionContext.executeChildrenConcurrently(root, b, new Script("c"));
+                fail();
+            } catch (final IllegalArgumentException ex) {
+                assertThat(ex.getMessage(), is("a failed"));
+            }
+            assertThat(executed, is((List<String>) Lists.newArrayList("c")));
+        }
+
+        class Script extends org.apache.isis.applib.fixturescripts.FixtureScript implements FixtureScriptWithDependencies {
+
+            final List<org.apache.isis.applib.fixturescripts.FixtureScript> dependencies;
+
+            Script(final String name, final org.apache.isis.applib.fixturescripts.FixtureScript... dependencies) {
+                super(name, name);
+                this.dependencies = Lists.newArrayList(dependencies);
+                this.container = mockContainer;
+            }
+
+            @Override
+            public List<org.apache.isis.applib.fixturescripts.FixtureScript> getDependencies() {
+                return dependencies;
+            }
+
+            @Override
+            protected void execute(final ExecutionContext executionContext) {
+                executed.add(getLocalName());
+                threadNames.add(Thread.currentThread().getName());
+            }
+        }
+
+        static class SessionManagementServiceForTesting implements SessionManagementService2 {
+
+            @Override
+            public <T> Callable<T> callableInNewSession(final Callable<T> callable) {
+                return callable;
+            }
+
+            @Override
+            public void nextSession() {
+            }
+        }
+    }
+
 }
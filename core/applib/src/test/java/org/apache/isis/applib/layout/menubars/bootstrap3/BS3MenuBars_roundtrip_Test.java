@@ -77,4 +77,27 @@ public void happyCase() throws Exception {
 
     }
 
+    @Test
+    public void copy() throws Exception {
+
+        // given
+        BS3MenuBars menuBars = new BS3MenuBars();
+        BS3Menu menu = new BS3Menu();
+        menu.setNamed("Parties");
+
+        BS3MenuSection organisationMenu = new BS3MenuSection();
+        organisationMenu.getServiceActions().add(new ServiceActionLayoutData("parties.OrganisationMenu", "findByReference"));
+        menu.getSections().add(organisationMenu);
+
+        menuBars.getPrimary().getMenus().add(menu);
+
+        // when
+        BS3MenuBars menuBars2 = jaxbService.copy(menuBars);
+
+        // then
+        assertThat(menuBars2 == menuBars, is(false));
+        assertThat(menuBars2.getPrimary().getMenus().get(0) == menu, is(false));
+        assertThat(jaxbService.toXml(menuBars2), is(equalTo(jaxbService.toXml(menuBars))));
+    }
+
 }
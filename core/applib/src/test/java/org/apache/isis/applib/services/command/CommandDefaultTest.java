@@ -18,10 +18,47 @@
  */
 package org.apache.isis.applib.services.command;
 
+import org.junit.Test;
+
+import org.apache.isis.schema.cmd.v1.CommandDto;
+import org.apache.isis.schema.utils.CommandDtoUtils;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
 public class CommandDefaultTest extends Command2ContractTestAbstract {
 
     protected Command2 newCommand() {
         return new CommandDefault();
     }
 
+    @Test
+    public void memento_from_dto_marshalled_on_access() throws Exception {
+        final CommandDefault command = new CommandDefault();
+        assertThat(command.hasMemento(), is(false));
+
+        final CommandDto dto = new CommandDto();
+        dto.setTransactionId("some-transaction-id");
+        command.setMementoDto(dto);
+        assertThat(command.hasMemento(), is(true));
+
+        assertThat(command.getMemento(), is(CommandDtoUtils.toXml(dto)));
+        assertThat(command.getMemento(), containsString("some-transaction-id"));
+    }
+
+    @Test
+    public void memento_replaced_by_dto() throws Exception {
+        final CommandDefault command = new CommandDefault();
+        command.setMemento("<xml/>");
+
+        command.setMementoDto(new CommandDto());
+        assertThat(command.getMemento(), is(CommandDtoUtils.toXml(new CommandDto())));
+
+        command.setMemento(null);
+        assertThat(command.hasMemento(), is(false));
+        assertThat(command.getMemento(), is(nullValue()));
+    }
+
 }
\ No newline at end of file
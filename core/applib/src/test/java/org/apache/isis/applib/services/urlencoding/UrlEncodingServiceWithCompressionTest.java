@@ -0,0 +1,109 @@
+/**
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.isis.applib.services.urlencoding;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+public class UrlEncodingServiceWithCompressionTest {
+
+    private UrlEncodingServiceWithCompression serviceWithCompression;
+    private UrlEncodingServiceUsingBaseEncoding serviceBaseEncoding;
+
+    private String xml;
+
+    @Before
+    public void setUp() throws Exception {
+        serviceWithCompression = new UrlEncodingServiceWithCompression();
+        serviceBaseEncoding = new UrlEncodingServiceUsingBaseEncoding();
+
+        final StringBuilder buf = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?><customers>");
+        for (int i = 0; i < 50; i++) {
+            buf.append("<customer><name>Customer ").append(i).append("</name><city>Ümeå</city></customer>");
+        }
+        xml = buf.append("</customers>").toString();
+    }
+
+    @Test
+    public void roundtrip() throws Exception {
+
+        // when
+        final String encoded = serviceWithCompression.encode(xml);
+
+        // then
+        assertThat(serviceWithCompression.decode(encoded), is(equalTo(xml)));
+    }
+
+    @Test
+    public void is_smaller_than_without_compression() throws Exception {
+
+        // when
+        final String encoded = serviceWithCompression.encode(xml);
+        final String encodedWithoutCompression = serviceBaseEncoding.encode(xml);
+
+        // then
+        assertThat(encoded.length(), is(lessThan(encodedWithoutCompression.length() / 4)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejects_strings_that_decompress_beyond_maximum_size() throws Exception {
+
+        // given
+        final String encoded = new UrlEncodingServiceWithCompression().encode(Strings.repeat("a", 2048));
+
+        // when
+        serviceWithCompression.init(
+                ImmutableMap.of(UrlEncodingServiceWithCompression.KEY_MAX_DECOMPRESSED_SIZE, "2047"));
+
+        // then
+        serviceWithCompression.decode(encoded);
+    }
+
+    @Test
+    public void decodes_strings_up_to_maximum_size() throws Exception {
+
+        // given
+        final String str = Strings.repeat("a", 2048);
+        final String encoded = serviceWithCompression.encode(str);
+
+        // when
+        serviceWithCompression.init(
+                ImmutableMap.of(UrlEncodingServiceWithCompression.KEY_MAX_DECOMPRESSED_SIZE, "2048"));
+
+        // then
+        assertThat(serviceWithCompression.decode(encoded), is(equalTo(str)));
+    }
+
+    @Test
+    public void decodes_strings_encoded_without_compression() throws Exception {
+
+        // given
+        final String encodedWithoutCompression = serviceBaseEncoding.encode(xml);
+
+        // then
+        assertThat(serviceWithCompression.decode(encodedWithoutCompression), is(equalTo(xml)));
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.tool.mavenplugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.common.io.Files;
+
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+import org.apache.isis.applib.AppManifest;
+import org.apache.isis.core.commons.factory.InstanceUtil;
+import org.apache.isis.core.runtime.systemusinginstallers.DomainTypeIndex;
+
+/**
+ * Scans the classpath for the domain types of the app manifest, and writes them out as an index into the project's
+ * output directory, to be read at runtime (instead of scanning the classpath).
+ *
+ * <p>
+ * Unlike the other goals, this does not bootstrap the framework.  It should be run in the module that is packaged
+ * with the app manifest (typically the webapp), so that the index is included in the packaged artifact.  The
+ * index must be regenerated whenever the set of domain types changes; at runtime, an index generated for a
+ * different set of packages, or whose fingerprint no longer matches the classes on the classpath, is ignored.
+ */
+@Mojo(
+        name = "index",
+        defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+        requiresProject = true,
+        requiresDependencyResolution = ResolutionScope.COMPILE,
+        requiresDependencyCollection = ResolutionScope.COMPILE
+)
+public class IsisMojoIndex extends AbstractMojo {
+
+    @Component
+    private MavenProject mavenProject;
+
+    @Parameter(required = true, readonly = false, property = "appManifest")
+    private String appManifest;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previousClassLoader = thread.getContextClassLoader();
+        final URLClassLoader projectClassLoader =
+                new URLClassLoader(projectClasspath(), getClass().getClassLoader());
+        try {
+            thread.setContextClassLoader(projectClassLoader);
+
+            final AppManifest manifest = InstanceUtil.createInstance(this.appManifest, AppManifest.class);
+            final DomainTypeIndex index = DomainTypeIndex.scan(DomainTypeIndex.packagesFor(manifest));
+
+            final File indexFile = new File(
+                    mavenProject.getBuild().getOutputDirectory(),
+                    DomainTypeIndex.resourceNameFor(manifest.getClass()));
+            writeIndex(index, indexFile);
+
+            getLog().info("Wrote domain type index to " + indexFile);
+
+        } catch (RuntimeException e) {
+            throw new MojoExecutionException("Failed to index domain types of " + appManifest, e);
+        } finally {
+            thread.setContextClassLoader(previousClassLoader);
+            close(projectClassLoader);
+        }
+    }
+
+    /**
+     * The index has already been written (or the goal has already failed), so a failure to close is only logged.
+     */
+    private void close(final URLClassLoader projectClassLoader) {
+        try {
+            projectClassLoader.close();
+        } catch (IOException e) {
+            getLog().warn("Failed to close class loader for project", e);
+        }
+    }
+
+    private URL[] projectClasspath() throws MojoExecutionException {
+        final List<URL> urls = Lists.newArrayList();
+        try {
+            for (final String element : mavenProject.getCompileClasspathElements()) {
+                urls.add(new File(element).toURI().toURL());
+            }
+        } catch (DependencyResolutionRequiredException | MalformedURLException e) {
+            throw new MojoExecutionException("Failed to determine classpath of project", e);
+        }
+        return urls.toArray(new URL[urls.size()]);
+    }
+
+    private static void writeIndex(final DomainTypeIndex index, final File indexFile) throws MojoExecutionException {
+        try {
+            Files.createParentDirs(indexFile);
+        } catch (IOException e) {
+            throw new MojoExecutionException(String.format("Failed to create dir: '%s'", indexFile.getParent()), e);
+        }
+        try (final Writer writer = Files.newWriter(indexFile, Charsets.UTF_8)) {
+            index.writeTo(writer);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to write out " + indexFile, e);
+        }
+    }
+
+}
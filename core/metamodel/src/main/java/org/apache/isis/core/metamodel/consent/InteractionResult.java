@@ -24,6 +24,7 @@
 import java.util.List;
 
 import org.apache.isis.applib.events.InteractionEvent;
+import org.apache.isis.core.metamodel.interactions.InteractionContext;
 
 public class InteractionResult {
 
@@ -41,13 +42,29 @@ enum State {
         ADVISING, ADVISED
     }
 
-    private final InteractionEvent interactionEvent;
-    private final StringBuilder reasonBuf = new StringBuilder();
-    private final List<InteractionAdvisor> advisors = new ArrayList<InteractionAdvisor>();
+    private final InteractionContext<?> interactionContext;
+    private InteractionEvent interactionEvent;
+    // only allocated once advised, since most interactions are not vetoed
+    private StringBuilder reasonBuf;
+    private List<InteractionAdvisor> advisors;
 
     private State state = State.ADVISING;
 
+    /**
+     * As {@link #InteractionResult(InteractionEvent)}, but with the {@link InteractionEvent} only
+     * {@link InteractionContext#createInteractionEvent() created} if {@link #getInteractionEvent() requested}
+     * (most callers are only interested in whether the interaction was vetoed).
+     */
+    public static InteractionResult forContext(final InteractionContext<?> interactionContext) {
+        return new InteractionResult(interactionContext, null);
+    }
+
     public InteractionResult(final InteractionEvent interactionEvent) {
+        this(null, interactionEvent);
+    }
+
+    private InteractionResult(final InteractionContext<?> interactionContext, final InteractionEvent interactionEvent) {
+        this.interactionContext = interactionContext;
         this.interactionEvent = interactionEvent;
     }
 
@@ -64,6 +81,9 @@ public InteractionResult(final InteractionEvent interactionEvent) {
      * @return
      */
     public InteractionEvent getInteractionEvent() {
+        if (interactionEvent == null) {
+            interactionEvent = interactionContext.createInteractionEvent();
+        }
         if (state == State.ADVISING) {
             interactionEvent.advised(getReason(), getAdvisorClass());
             state = State.ADVISED;
@@ -83,6 +103,10 @@ public void advise(final String reason, final InteractionAdvisor facet) {
         if (reason == null) {
             return;
         }
+        if (reasonBuf == null) {
+            reasonBuf = new StringBuilder();
+            advisors = new ArrayList<InteractionAdvisor>();
+        }
         if (isVetoing()) {
             reasonBuf.append("; ");
         }
@@ -95,7 +119,7 @@ public boolean isVetoing() {
     }
 
     public boolean isNotVetoing() {
-        return reasonBuf.length() == 0;
+        return reasonBuf == null || reasonBuf.length() == 0;
     }
 
     /**
@@ -106,7 +130,7 @@ public boolean isNotVetoing() {
      * @see #getAdvisorFacets()
      */
     public InteractionAdvisor getAdvisor() {
-        return advisors.size() >= 1 ? advisors.get(0) : null;
+        return advisors != null && advisors.size() >= 1 ? advisors.get(0) : null;
     }
 
     /**
@@ -117,7 +141,9 @@ public InteractionAdvisor getAdvisor() {
      * @see #getAdvisor()
      */
     public List<InteractionAdvisor> getAdvisorFacets() {
-        return Collections.unmodifiableList(advisors);
+        return advisors != null
+                ? Collections.unmodifiableList(advisors)
+                : Collections.<InteractionAdvisor>emptyList();
     }
 
     public Consent createConsent() {
@@ -141,7 +167,7 @@ public String getReason() {
 
     @Override
     public String toString() {
-        return String.format("%s: %s: %s (%d facets advised)", interactionEvent, state, toStringInterpret(reasonBuf), advisors.size());
+        return String.format("%s: %s: %s (%d facets advised)", interactionEvent, state, toStringInterpret(reasonBuf), advisors != null ? advisors.size() : 0);
     }
 
     private String toStringInterpret(final StringBuilder reasonBuf) {
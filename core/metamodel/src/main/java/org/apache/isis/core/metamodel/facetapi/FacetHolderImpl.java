@@ -24,6 +24,7 @@
 import java.util.Map;
 
 import org.apache.isis.applib.filter.Filter;
+import org.apache.isis.core.metamodel.services.metrics.BootTimeline;
 
 /**
  * For base subclasses or, more likely, to help write tests.
@@ -63,6 +64,7 @@ public void addFacet(final MultiTypedFacet facet) {
     }
 
     private void addFacet(final Class<? extends Facet> facetType, final Facet facet) {
+        BootTimeline.getInstance().increment(BootTimeline.Counter.FACETS_ADDED);
         final Facet existingFacet = getFacet(facetType);
         if (existingFacet == null || existingFacet.isNoop()) {
             facetsByClass.put(facetType, facet);
@@ -24,9 +24,11 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 import org.apache.isis.applib.FatalException;
 import org.apache.isis.applib.Identifier;
@@ -69,6 +71,10 @@ public ActionDomainEvent<?> postEventForAction(
             final Command command,
             final ObjectAdapter resultAdapter) {
 
+        if(!hasSubscribersFor(phase, eventType)) {
+            return null;
+        }
+
         try {
             final ActionDomainEvent<?> event;
 
@@ -140,23 +146,20 @@ static <S> ActionDomainEvent<S> newActionDomainEvent(
             final S source,
             final Object... arguments) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
 
-        final Constructor<?>[] constructors = type.getConstructors();
+        final EventConstructors eventConstructors = constructorsOf(type);
+        final Constructor<?>[] constructors = eventConstructors.all;
 
         // no-arg constructor
-        for (final Constructor<?> constructor : constructors) {
-            final Class<?>[] parameterTypes = constructor.getParameterTypes();
-            if(parameterTypes.length == 0) {
-                final Object event = constructor.newInstance();
-                final ActionDomainEvent<S> ade = (ActionDomainEvent<S>) event;
-
-                ade.setSource(source);
-                ade.setIdentifier(identifier);
-                ade.setArguments(asList(arguments));
-                return ade;
-            }
+        if(eventConstructors.noArg != null) {
+            final Object event = eventConstructors.noArg.newInstance();
+            final ActionDomainEvent<S> ade = (ActionDomainEvent<S>) event;
+
+            ade.setSource(source);
+            ade.setIdentifier(identifier);
+            ade.setArguments(asList(arguments));
+            return ade;
         }
 
-
         for (final Constructor<?> constructor : constructors) {
             final Class<?>[] parameterTypes = constructor.getParameterTypes();
             if(parameterTypes.length != 3) {
@@ -196,6 +199,10 @@ private static List<Object> asList(final Object[] arguments) {
             final Object oldValue,
             final Object newValue) {
 
+        if(!hasSubscribersFor(phase, eventType)) {
+            return null;
+        }
+
         try {
             final PropertyDomainEvent<?, ?> event;
             final Object source = ObjectAdapter.Util.unwrap(targetAdapter);
@@ -240,20 +247,18 @@ static <S,T> PropertyDomainEvent<S,T> newPropertyDomainEvent(
             final T oldValue,
             final T newValue) throws NoSuchMethodException, SecurityException, InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException  {
 
-        final Constructor<?>[] constructors = type.getConstructors();
+        final EventConstructors eventConstructors = constructorsOf(type);
+        final Constructor<?>[] constructors = eventConstructors.all;
 
         // no-arg constructor
-        for (final Constructor<?> constructor : constructors) {
-            final Class<?>[] parameterTypes = constructor.getParameterTypes();
-            if(parameterTypes.length == 0) {
-                final Object event = constructor.newInstance();
-                final PropertyDomainEvent<S, T> pde = (PropertyDomainEvent<S, T>) event;
-                pde.setSource(source);
-                pde.setIdentifier(identifier);
-                pde.setOldValue(oldValue);
-                pde.setNewValue(newValue);
-                return pde;
-            }
+        if(eventConstructors.noArg != null) {
+            final Object event = eventConstructors.noArg.newInstance();
+            final PropertyDomainEvent<S, T> pde = (PropertyDomainEvent<S, T>) event;
+            pde.setSource(source);
+            pde.setIdentifier(identifier);
+            pde.setOldValue(oldValue);
+            pde.setNewValue(newValue);
+            return pde;
         }
 
         // else
@@ -293,6 +298,11 @@ static <S,T> PropertyDomainEvent<S,T> newPropertyDomainEvent(
             final ObjectAdapter mixedInAdapter,
             final CollectionDomainEvent.Of of,
             final Object reference) {
+
+        if(!hasSubscribersFor(phase, eventType)) {
+            return null;
+        }
+
         try {
             final CollectionDomainEvent<?, ?> event;
             if (existingEvent != null && phase.isExecuted()) {
@@ -331,21 +341,19 @@ <S, T> CollectionDomainEvent<S, T> newCollectionDomainEvent(
             throws NoSuchMethodException, SecurityException, InstantiationException,
             IllegalAccessException, IllegalArgumentException, InvocationTargetException {
 
-        final Constructor<?>[] constructors = type.getConstructors();
+        final EventConstructors eventConstructors = constructorsOf(type);
+        final Constructor<?>[] constructors = eventConstructors.all;
 
         // no-arg constructor
-        for (final Constructor<?> constructor : constructors) {
-            final Class<?>[] parameterTypes = constructor.getParameterTypes();
-            if(parameterTypes.length ==0) {
-                final Object event = constructor.newInstance();
-                final CollectionDomainEvent<S, T> cde = (CollectionDomainEvent<S, T>) event;
-
-                cde.setSource(source);
-                cde.setIdentifier(identifier);
-                cde.setOf(of);
-                cde.setValue(value);
-                return cde;
-            }
+        if(eventConstructors.noArg != null) {
+            final Object event = eventConstructors.noArg.newInstance();
+            final CollectionDomainEvent<S, T> cde = (CollectionDomainEvent<S, T>) event;
+
+            cde.setSource(source);
+            cde.setIdentifier(identifier);
+            cde.setOf(of);
+            cde.setValue(value);
+            return cde;
         }
 
         // search for constructor accepting source, identifier, type, value
@@ -419,6 +427,44 @@ <S, T> CollectionDomainEvent<S, T> newCollectionDomainEvent(
 
     //endregion
 
+    //region > hasSubscribersFor, constructorsOf
+
+    /**
+     * Events for the hide, disable and validate phases only exist so that subscribers can veto; if no-one is
+     * listening then there is no need to instantiate (let alone post) them.
+     *
+     * <p>
+     *     Events for the executing and executed phases are always created, because they are also made available
+     *     through the {@link Command} and to the caller.
+     * </p>
+     */
+    private boolean hasSubscribersFor(final AbstractDomainEvent.Phase phase, final Class<?> eventType) {
+        return phase.isExecutingOrLater() || getEventBusService().hasSubscribersFor(eventType);
+    }
+
+    private static final ConcurrentMap<Class<?>, EventConstructors> constructorsByEventType = Maps.newConcurrentMap();
+
+    /**
+     * The public constructors of the event type, resolved once per type.
+     */
+    private static EventConstructors constructorsOf(final Class<?> eventType) {
+        return constructorsByEventType.computeIfAbsent(eventType, EventConstructors::new);
+    }
+
+    private static class EventConstructors {
+
+        private final Constructor<?>[] all;
+        private final Constructor<?> noArg;
+
+        EventConstructors(final Class<?> eventType) {
+            this.all = eventType.getConstructors();
+            this.noArg = Arrays.stream(all)
+                    .filter(constructor -> constructor.getParameterCount() == 0)
+                    .findFirst().orElse(null);
+        }
+    }
+
+    //endregion
 
     //region > eventBusService
 
@@ -56,4 +56,9 @@ public String hiddenReason(final ObjectAdapter targetAdapter, final Where whereC
         return "Hidden on " + where().getFriendlyName();
     }
 
+    @Override
+    public boolean isIndependentOfTarget() {
+        return true;
+    }
+
 }
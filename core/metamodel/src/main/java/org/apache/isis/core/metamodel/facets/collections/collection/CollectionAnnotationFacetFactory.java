@@ -57,6 +57,7 @@
 import org.apache.isis.core.metamodel.facets.all.hide.HiddenFacet;
 import org.apache.isis.core.metamodel.facets.collections.collection.disabled.DisabledFacetForCollectionAnnotation;
 import org.apache.isis.core.metamodel.facets.collections.collection.disabled.DisabledFacetForDisabledAnnotationOnCollection;
+import org.apache.isis.core.metamodel.facets.collections.collection.fetch.FetchMembersFacetForCollectionAnnotation;
 import org.apache.isis.core.metamodel.facets.collections.collection.hidden.HiddenFacetForCollectionAnnotation;
 import org.apache.isis.core.metamodel.facets.collections.collection.hidden.HiddenFacetForHiddenAnnotationOnCollection;
 import org.apache.isis.core.metamodel.facets.collections.collection.modify.CollectionAddToFacetForDomainEventFromAbstract;
@@ -115,6 +116,7 @@ public void process(final ProcessMethodContext processMethodContext) {
         processEditing(processMethodContext);
         processNotPersisted(processMethodContext);
         processTypeOf(processMethodContext);
+        processFetchMembers(processMethodContext);
     }
 
     // Added to support v2
@@ -348,6 +350,15 @@ void processNotPersisted(final ProcessMethodContext processMethodContext) {
     }
 
 
+    void processFetchMembers(final ProcessMethodContext processMethodContext) {
+        final Method method = processMethodContext.getMethod();
+        final FacetHolder holder = processMethodContext.getFacetHolder();
+
+        final Collection collection = Annotations.getAnnotationFromMethodOrClass(method, Collection.class);
+        FacetUtil.addFacet(FetchMembersFacetForCollectionAnnotation.create(collection, holder));
+    }
+
+
     void processTypeOf(final ProcessMethodContext processMethodContext) {
 
         final FacetedMethod facetHolder = processMethodContext.getFacetHolder();
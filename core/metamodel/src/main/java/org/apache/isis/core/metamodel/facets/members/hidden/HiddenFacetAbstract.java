@@ -70,6 +70,30 @@ public String hides(final VisibilityContext<? extends VisibilityEvent> ic) {
      */
     protected abstract String hiddenReason(ObjectAdapter target, Where whereContext);
 
+    /**
+     * Whether the {@link #hiddenReason(ObjectAdapter, Where) reason} depends only upon the {@link Where} and not upon
+     * the target object, in which case it can be {@link #hiddenReasonIndependentOfTarget(Where) evaluated} up-front
+     * rather than for every interaction.
+     *
+     * <p>
+     *     Returns <tt>false</tt> unless overridden.
+     * </p>
+     */
+    public boolean isIndependentOfTarget() {
+        return false;
+    }
+
+    /**
+     * The reason why the (feature of any) object is hidden in the provided {@link Where}, or <tt>null</tt> if visible.
+     *
+     * <p>
+     *     Only meaningful if {@link #isIndependentOfTarget()}.
+     * </p>
+     */
+    public final String hiddenReasonIndependentOfTarget(final Where whereContext) {
+        return hiddenReason(null, whereContext);
+    }
+
     @Override
     public Class<? extends Facet>[] facetTypes() {
         return new Class[]{facetType(), HiddenFacet.class};
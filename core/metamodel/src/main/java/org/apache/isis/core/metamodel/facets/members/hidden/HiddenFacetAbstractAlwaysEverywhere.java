@@ -48,4 +48,9 @@ public String hiddenReason(final ObjectAdapter target, Where where) {
         return "Always hidden";
     }
 
+    @Override
+    public boolean isIndependentOfTarget() {
+        return true;
+    }
+
 }
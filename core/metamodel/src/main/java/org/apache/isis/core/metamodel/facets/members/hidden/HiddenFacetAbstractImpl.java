@@ -64,4 +64,9 @@ public String hiddenReason(final ObjectAdapter targetAdapter, Where whereContext
         return null;
     }
 
+    @Override
+    public boolean isIndependentOfTarget() {
+        return when() == When.ALWAYS || when() == When.NEVER;
+    }
+
 }
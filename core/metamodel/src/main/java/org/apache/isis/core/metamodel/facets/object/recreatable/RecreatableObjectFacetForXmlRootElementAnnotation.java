@@ -19,6 +19,11 @@
 
 package org.apache.isis.core.metamodel.facets.object.recreatable;
 
+import java.util.Collections;
+import java.util.Map;
+
+import javax.xml.bind.Marshaller;
+
 import org.apache.isis.applib.services.jaxb.JaxbService;
 import org.apache.isis.applib.services.urlencoding.UrlEncodingService;
 import org.apache.isis.core.metamodel.facetapi.FacetHolder;
@@ -27,6 +32,12 @@
 
 public class RecreatableObjectFacetForXmlRootElementAnnotation extends RecreatableObjectFacetAbstract {
 
+    /**
+     * The memento is never read by a human, so there's no point in paying for the indentation whitespace
+     * (which would otherwise be carried through into the URL).
+     */
+    private static final Map<String, Object> MEMENTO_MARSHALLER_PROPERTIES =
+            Collections.<String, Object>singletonMap(Marshaller.JAXB_FORMATTED_OUTPUT, false);
 
     public RecreatableObjectFacetForXmlRootElementAnnotation(
             final FacetHolder holder,
@@ -48,7 +59,7 @@ protected Object doInstantiate(final Class<?> viewModelClass, final String memen
     @Override
     public String memento(final Object pojo) {
 
-        final String xml = getJaxbService().toXml(pojo);
+        final String xml = getJaxbService().toXml(pojo, MEMENTO_MARSHALLER_PROPERTIES);
         final String encoded = getUrlEncodingService().encode(xml);
 
         return encoded;
@@ -66,9 +77,7 @@ public boolean isImplicitlyImmutable() {
 
     @Override
     public Object clone(Object pojo) {
-        final String xml = getJaxbService().toXml(pojo);
-        final Object cloned = getJaxbService().fromXml(pojo.getClass(), xml);
-        return cloned;
+        return getJaxbService().copy(pojo);
     }
 
 
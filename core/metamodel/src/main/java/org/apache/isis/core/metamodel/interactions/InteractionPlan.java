@@ -0,0 +1,192 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.interactions;
+
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import org.apache.isis.applib.annotation.When;
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.core.metamodel.facetapi.Facet;
+import org.apache.isis.core.metamodel.facetapi.FacetFilters;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.facets.members.disabled.DisabledFacetAbstract;
+import org.apache.isis.core.metamodel.facets.members.hidden.HiddenFacetAbstract;
+import org.apache.isis.core.metamodel.facets.members.hidden.HiddenFacetAbstractImpl;
+
+/**
+ * The {@link HidingInteractionAdvisor}s and {@link DisablingInteractionAdvisor}s of a member, flattened (in the same
+ * order as {@link FacetHolder#getFacets(org.apache.isis.applib.filter.Filter)} would return them) into arrays once,
+ * rather than being filtered from all of the member's facets every time the member is rendered.
+ *
+ * <p>
+ *     Advisors that can be shown never to veto are left out altogether:
+ * </p>
+ * <ul>
+ *     <li>{@link Facet#isNoop() no-op} facets;</li>
+ *     <li>{@link DisabledFacetAbstract disabled facets} with {@link DisabledFacetAbstract#isInvertedSemantics() inverted
+ *     semantics} (ie, enabled);</li>
+ *     <li>{@link HiddenFacetAbstractImpl hidden facets} that apply {@link When#NEVER never}.</li>
+ * </ul>
+ * <p>
+ *     Moreover, since {@link HiddenFacetAbstract hidden facets} only ever hide within the {@link Where} that they
+ *     {@link HiddenFacetAbstract#where() apply to}, the hiding advisors are held per {@link Where}; for example a
+ *     property annotated with <tt>@Property(hidden=Where.ALL_TABLES)</tt> has no hiding advisors at all when rendered
+ *     in an {@link Where#OBJECT_FORMS object form}.
+ * </p>
+ * <p>
+ *     Likewise, the reason of a hidden facet that is {@link HiddenFacetAbstract#isIndependentOfTarget() independent
+ *     of the target} (such as <tt>@Property(hidden=Where.EVERYWHERE)</tt>) is evaluated once per {@link Where} up-front,
+ *     rather than for every interaction.  (Disabled facets cannot be folded in this way, because whether they veto
+ *     also depends upon the kind of interaction and upon any underlying facet.)
+ * </p>
+ *
+ * @see InteractionUtils#isVisibleResult(InteractionPlan, VisibilityContext)
+ * @see InteractionUtils#isUsableResult(InteractionPlan, UsabilityContext)
+ */
+public final class InteractionPlan {
+
+    public static InteractionPlan of(final FacetHolder facetHolder) {
+        return new InteractionPlan(
+                hidingAdvisorsOf(facetHolder),
+                disablingAdvisorsOf(facetHolder));
+    }
+
+    private static HidingInteractionAdvisor[] hidingAdvisorsOf(final FacetHolder facetHolder) {
+        final List<Facet> facets = facetHolder.getFacets(FacetFilters.isA(HidingInteractionAdvisor.class));
+        final List<HidingInteractionAdvisor> advisors = Lists.newArrayList();
+        for (final Facet facet : facets) {
+            if(facet.isNoop()) {
+                continue;
+            }
+            if(facet instanceof HiddenFacetAbstractImpl && ((HiddenFacetAbstractImpl) facet).when() == When.NEVER) {
+                continue;
+            }
+            advisors.add((HidingInteractionAdvisor) facet);
+        }
+        return advisors.toArray(new HidingInteractionAdvisor[advisors.size()]);
+    }
+
+    private static DisablingInteractionAdvisor[] disablingAdvisorsOf(final FacetHolder facetHolder) {
+        final List<Facet> facets = facetHolder.getFacets(FacetFilters.isA(DisablingInteractionAdvisor.class));
+        final List<DisablingInteractionAdvisor> advisors = Lists.newArrayList();
+        for (final Facet facet : facets) {
+            if(facet.isNoop()) {
+                continue;
+            }
+            if(facet instanceof DisabledFacetAbstract && ((DisabledFacetAbstract) facet).isInvertedSemantics()) {
+                continue;
+            }
+            advisors.add((DisablingInteractionAdvisor) facet);
+        }
+        return advisors.toArray(new DisablingInteractionAdvisor[advisors.size()]);
+    }
+
+    /**
+     * Indexed by {@link Where#ordinal()}, with a final entry for a <tt>null</tt> {@link Where}.
+     */
+    private final HidingInteractionAdvisor[][] hidingAdvisorsByWhere;
+    /**
+     * Parallel to {@link #hidingAdvisorsByWhere}; a non-<tt>null</tt> entry is the precomputed reason of the
+     * corresponding advisor.
+     */
+    private final String[][] hiddenReasonsByWhere;
+    private final DisablingInteractionAdvisor[] disablingAdvisors;
+
+    private InteractionPlan(
+            final HidingInteractionAdvisor[] hidingAdvisors,
+            final DisablingInteractionAdvisor[] disablingAdvisors) {
+        final Where[] wheres = Where.values();
+        this.hidingAdvisorsByWhere = new HidingInteractionAdvisor[wheres.length + 1][];
+        this.hiddenReasonsByWhere = new String[wheres.length + 1][];
+        for (final Where where : wheres) {
+            initHidingAdvisors(hidingAdvisors, where, where.ordinal());
+        }
+        initHidingAdvisors(hidingAdvisors, null, wheres.length);
+        this.disablingAdvisors = disablingAdvisors;
+    }
+
+    private void initHidingAdvisors(
+            final HidingInteractionAdvisor[] hidingAdvisors,
+            final Where where,
+            final int index) {
+        final List<HidingInteractionAdvisor> applicable = Lists.newArrayList();
+        final List<String> reasons = Lists.newArrayList();
+        for (final HidingInteractionAdvisor advisor : hidingAdvisors) {
+            String reason = null;
+            if(advisor instanceof HiddenFacetAbstract) {
+                final HiddenFacetAbstract hiddenFacet = (HiddenFacetAbstract) advisor;
+                if(!hiddenFacet.where().includes(where)) {
+                    continue;
+                }
+                if(hiddenFacet.isIndependentOfTarget()) {
+                    reason = hiddenFacet.hiddenReasonIndependentOfTarget(where);
+                    if(reason == null) {
+                        continue;
+                    }
+                }
+            }
+            applicable.add(advisor);
+            reasons.add(reason);
+        }
+        hidingAdvisorsByWhere[index] = applicable.toArray(new HidingInteractionAdvisor[applicable.size()]);
+        hiddenReasonsByWhere[index] = reasons.toArray(new String[reasons.size()]);
+    }
+
+    private static int indexOf(final Where where, final Object[] byWhere) {
+        return where != null ? where.ordinal() : byWhere.length - 1;
+    }
+
+    /**
+     * The advisors that could hide the member when rendered in the specified {@link Where} (which may be
+     * <tt>null</tt>).
+     *
+     * <p>
+     *     The returned array must not be modified.
+     * </p>
+     */
+    HidingInteractionAdvisor[] getHidingAdvisors(final Where where) {
+        return hidingAdvisorsByWhere[indexOf(where, hidingAdvisorsByWhere)];
+    }
+
+    /**
+     * Parallel to {@link #getHidingAdvisors(Where)}: for each advisor, either its precomputed reason (in which case the
+     * advisor need not be consulted), or <tt>null</tt> if the advisor must be consulted.
+     *
+     * <p>
+     *     The returned array must not be modified.
+     * </p>
+     */
+    String[] getHiddenReasons(final Where where) {
+        return hiddenReasonsByWhere[indexOf(where, hiddenReasonsByWhere)];
+    }
+
+    /**
+     * The advisors that could disable the member.
+     *
+     * <p>
+     *     The returned array must not be modified.
+     * </p>
+     */
+    DisablingInteractionAdvisor[] getDisablingAdvisors() {
+        return disablingAdvisors;
+    }
+
+}
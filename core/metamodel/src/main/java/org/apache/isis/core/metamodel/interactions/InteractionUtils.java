@@ -21,11 +21,13 @@
 
 import java.util.List;
 
+import org.apache.isis.applib.services.metrics.InteractionTiming.Phase;
 import org.apache.isis.core.metamodel.consent.InteractionResult;
 import org.apache.isis.core.metamodel.consent.InteractionResultSet;
 import org.apache.isis.core.metamodel.facetapi.Facet;
 import org.apache.isis.core.metamodel.facetapi.FacetFilters;
 import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.services.metrics.InteractionTimings;
 
 public final class InteractionUtils {
 
@@ -33,33 +35,79 @@ private InteractionUtils() {
     }
 
     public static InteractionResult isVisibleResult(final FacetHolder facetHolder, final VisibilityContext<?> context) {
-        final InteractionResult result = new InteractionResult(context.createInteractionEvent());
+        final long startedAt = System.nanoTime();
+        final InteractionResult result = InteractionResult.forContext(context);
         final List<Facet> facets = facetHolder.getFacets(FacetFilters.isA(HidingInteractionAdvisor.class));
         for (final Facet facet : facets) {
             final HidingInteractionAdvisor advisor = (HidingInteractionAdvisor) facet;
             result.advise(advisor.hides(context), advisor);
         }
+        InteractionTimings.getInstance().record(context.getIdentifier(), Phase.HIDE, startedAt);
         return result;
     }
 
     public static InteractionResult isUsableResult(final FacetHolder facetHolder, final UsabilityContext<?> context) {
-        final InteractionResult result = new InteractionResult(context.createInteractionEvent());
+        final long startedAt = System.nanoTime();
+        final InteractionResult result = InteractionResult.forContext(context);
         final List<Facet> facets = facetHolder.getFacets(FacetFilters.isA(DisablingInteractionAdvisor.class));
         for (final Facet facet : facets) {
             final DisablingInteractionAdvisor advisor = (DisablingInteractionAdvisor) facet;
             final String disables = advisor.disables(context);
             result.advise(disables, advisor);
         }
+        InteractionTimings.getInstance().record(context.getIdentifier(), Phase.DISABLE, startedAt);
+        return result;
+    }
+
+    /**
+     * As {@link #isVisibleResult(FacetHolder, VisibilityContext)}, but consulting only the (precomputed) advisors of
+     * the {@link InteractionPlan} that apply to the {@link VisibilityContext#getWhere() where} of the context (and
+     * using any reasons that the plan has precomputed).
+     *
+     * <p>
+     *     Nothing further is allocated unless an advisor vetoes.
+     * </p>
+     */
+    public static InteractionResult isVisibleResult(final InteractionPlan plan, final VisibilityContext<?> context) {
+        final long startedAt = System.nanoTime();
+        final InteractionResult result = InteractionResult.forContext(context);
+        final HidingInteractionAdvisor[] advisors = plan.getHidingAdvisors(context.getWhere());
+        final String[] reasons = plan.getHiddenReasons(context.getWhere());
+        for (int i = 0; i < advisors.length; i++) {
+            final HidingInteractionAdvisor advisor = advisors[i];
+            result.advise(reasons[i] != null ? reasons[i] : advisor.hides(context), advisor);
+        }
+        InteractionTimings.getInstance().record(context.getIdentifier(), Phase.HIDE, startedAt);
+        return result;
+    }
+
+    /**
+     * As {@link #isUsableResult(FacetHolder, UsabilityContext)}, but consulting only the (precomputed) advisors of
+     * the {@link InteractionPlan}.
+     *
+     * <p>
+     *     Nothing further is allocated unless an advisor vetoes.
+     * </p>
+     */
+    public static InteractionResult isUsableResult(final InteractionPlan plan, final UsabilityContext<?> context) {
+        final long startedAt = System.nanoTime();
+        final InteractionResult result = InteractionResult.forContext(context);
+        for (final DisablingInteractionAdvisor advisor : plan.getDisablingAdvisors()) {
+            result.advise(advisor.disables(context), advisor);
+        }
+        InteractionTimings.getInstance().record(context.getIdentifier(), Phase.DISABLE, startedAt);
         return result;
     }
 
     public static InteractionResult isValidResult(final FacetHolder facetHolder, final ValidityContext<?> context) {
-        final InteractionResult result = new InteractionResult(context.createInteractionEvent());
+        final long startedAt = System.nanoTime();
+        final InteractionResult result = InteractionResult.forContext(context);
         final List<Facet> facets = facetHolder.getFacets(FacetFilters.isA(ValidatingInteractionAdvisor.class));
         for (final Facet facet : facets) {
             final ValidatingInteractionAdvisor advisor = (ValidatingInteractionAdvisor) facet;
             result.advise(advisor.invalidates(context), advisor);
         }
+        InteractionTimings.getInstance().record(context.getIdentifier(), Phase.VALIDATE, startedAt);
         return result;
     }
 
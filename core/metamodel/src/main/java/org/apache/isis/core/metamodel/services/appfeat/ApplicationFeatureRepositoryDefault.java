@@ -21,12 +21,15 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.SortedMap;
 import java.util.SortedSet;
 
 import javax.annotation.PostConstruct;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -69,8 +72,13 @@
 public class ApplicationFeatureRepositoryDefault implements ApplicationFeatureRepository {
 
     //region > caches
+
+    /**
+     * Populated while {@link #initializeIfRequired() initializing}, and then published (as an immutable
+     * {@link Snapshot}) for all lookups.
+     */
     SortedMap<ApplicationFeatureId, ApplicationFeature> packageFeatures = Maps.newTreeMap();
-    private final SortedMap<ApplicationFeatureId, ApplicationFeature> classFeatures = Maps.newTreeMap();
+    final SortedMap<ApplicationFeatureId, ApplicationFeature> classFeatures = Maps.newTreeMap();
     private final SortedMap<ApplicationFeatureId, ApplicationFeature> memberFeatures = Maps.newTreeMap();
     private final SortedMap<ApplicationFeatureId, ApplicationFeature> propertyFeatures = Maps.newTreeMap();
     private final SortedMap<ApplicationFeatureId, ApplicationFeature> collectionFeatures = Maps.newTreeMap();
@@ -101,19 +109,25 @@ private boolean isEagerInitialize() {
 
     //region > initializeIfRequired
 
-    enum InitializationState {
-        NOT_INITIALIZED,
-        INITIALIZED
+    /**
+     * Once initialized, all lookups are against this (immutable) snapshot, without any locking.
+     */
+    private volatile Snapshot snapshot;
+
+    private Snapshot initializeIfRequired() {
+        final Snapshot snapshot = this.snapshot;
+        return snapshot != null ? snapshot : initialize();
     }
-    private InitializationState initializationState = InitializationState.NOT_INITIALIZED;
 
-    private synchronized void initializeIfRequired() {
-        if(initializationState == InitializationState.INITIALIZED) {
-            return;
+    private synchronized Snapshot initialize() {
+        if(snapshot == null) {
+            final Collection<ObjectSpecification> specifications = primeMetaModel();
+            createApplicationFeaturesFor(specifications);
+            snapshot = new Snapshot(
+                    packageFeatures, classFeatures, memberFeatures,
+                    propertyFeatures, collectionFeatures, actionFeatures);
         }
-        initializationState = InitializationState.INITIALIZED;
-        final Collection<ObjectSpecification> specifications = primeMetaModel();
-        createApplicationFeaturesFor(specifications);
+        return snapshot;
     }
 
     private Collection<ObjectSpecification> primeMetaModel() {
@@ -226,7 +240,7 @@ void addParents(final ApplicationFeatureId classOrPackageId) {
     }
 
     private ApplicationFeature findPackageElseCreate(final ApplicationFeatureId parentPackageId) {
-        ApplicationFeature parentPackage = findPackage(parentPackageId);
+        ApplicationFeature parentPackage = packageFeatures.get(parentPackageId);
         if (parentPackage == null) {
             parentPackage = newPackage(parentPackageId);
         }
@@ -309,7 +323,7 @@ private void newMember(
         // also cache per memberType
         featuresMapFor(memberType).put(featureId, memberFeature);
 
-        final ApplicationFeature classFeature = findClass(classFeatureId);
+        final ApplicationFeature classFeature = classFeatures.get(classFeatureId);
         classFeature.addToMembers(featureId, memberType);
     }
 
@@ -397,7 +411,6 @@ protected boolean isBuiltIn(final ObjectSpecification spec) {
     //region > packageFeatures, classFeatures, memberFeatures
     @Programmatic
     public ApplicationFeature findFeature(final ApplicationFeatureId featureId) {
-        initializeIfRequired();
         switch (featureId.getType()) {
         case PACKAGE:
             return findPackage(featureId);
@@ -411,20 +424,17 @@ public ApplicationFeature findFeature(final ApplicationFeatureId featureId) {
 
     @Programmatic
     public ApplicationFeature findPackage(final ApplicationFeatureId featureId) {
-        initializeIfRequired();
-        return packageFeatures.get(featureId);
+        return initializeIfRequired().packageFeatures.get(featureId);
     }
 
     @Programmatic
     public ApplicationFeature findClass(final ApplicationFeatureId featureId) {
-        initializeIfRequired();
-        return classFeatures.get(featureId);
+        return initializeIfRequired().classFeatures.get(featureId);
     }
 
     @Programmatic
     public ApplicationFeature findMember(final ApplicationFeatureId featureId) {
-        initializeIfRequired();
-        return memberFeatures.get(featureId);
+        return initializeIfRequired().memberFeatures.get(featureId);
     }
 
     //endregion
@@ -432,7 +442,6 @@ public ApplicationFeature findMember(final ApplicationFeatureId featureId) {
     //region > allFeatures, allPackages, allClasses, allMembers
     @Programmatic
     public Collection<ApplicationFeature> allFeatures(final ApplicationFeatureType featureType) {
-        initializeIfRequired();
         if (featureType == null) {
             return Collections.emptyList();
         }
@@ -449,45 +458,38 @@ public Collection<ApplicationFeature> allFeatures(final ApplicationFeatureType f
 
     @Programmatic
     public Collection<ApplicationFeature> allPackages() {
-        initializeIfRequired();
-        return packageFeatures.values();
+        return initializeIfRequired().packageFeatures.values();
     }
 
     @Programmatic
     public Collection<ApplicationFeature> allClasses() {
-        initializeIfRequired();
-        return classFeatures.values();
+        return initializeIfRequired().classFeatures.values();
     }
 
     @Programmatic
     public Collection<ApplicationFeature> allMembers() {
-        initializeIfRequired();
-        return memberFeatures.values();
+        return initializeIfRequired().memberFeatures.values();
     }
 
     @Programmatic
     public Collection<ApplicationFeature> allProperties() {
-        initializeIfRequired();
-        return propertyFeatures.values();
+        return initializeIfRequired().propertyFeatures.values();
     }
 
     @Programmatic
     public Collection<ApplicationFeature> allCollections() {
-        initializeIfRequired();
-        return collectionFeatures.values();
+        return initializeIfRequired().collectionFeatures.values();
     }
 
     @Programmatic
     public Collection<ApplicationFeature> allActions() {
-        initializeIfRequired();
-        return actionFeatures.values();
+        return initializeIfRequired().actionFeatures.values();
     }
     //endregion
 
     //region > packageNames, packageNamesContainingClasses, classNamesContainedIn, memberNamesOf
     @Override @Programmatic
     public List<String> packageNames() {
-        initializeIfRequired();
         return Lists.newArrayList(
                 Iterables.transform(
                         allFeatures(ApplicationFeatureType.PACKAGE), ApplicationFeature.Functions.GET_FQN));
@@ -495,49 +497,22 @@ public List<String> packageNames() {
 
     @Override @Programmatic
     public List<String> packageNamesContainingClasses(final ApplicationMemberType memberType) {
-        initializeIfRequired();
-        final Collection<ApplicationFeature> packages = allFeatures(ApplicationFeatureType.PACKAGE);
         return Lists.newArrayList(
-                Iterables.transform(
-                        Iterables.filter(
-                                packages,
-                                ApplicationFeature.Predicates.packageContainingClasses(memberType, this)
-                        ),
-                        ApplicationFeature.Functions.GET_FQN));
+                initializeIfRequired().packageNamesContainingClasses.get(memberType));
     }
 
     @Override @Programmatic
     public List<String> classNamesContainedIn(final String packageFqn, final ApplicationMemberType memberType) {
-        initializeIfRequired();
         final ApplicationFeatureId packageId = ApplicationFeatureId.newPackage(packageFqn);
-        final ApplicationFeature pkg = findPackage(packageId);
-        if (pkg == null) {
-            return Collections.emptyList();
-        }
-        final SortedSet<ApplicationFeatureId> contents = pkg.getContents();
         return Lists.newArrayList(
-                Iterables.transform(
-                        Iterables.filter(
-                                contents,
-                                ApplicationFeatureId.Predicates.isClassContaining(memberType, this)),
-                        ApplicationFeatureId.Functions.GET_CLASS_NAME));
+                initializeIfRequired().classNamesContainedIn.get(memberType).get(packageId));
     }
 
     @Override @Programmatic
     public List<String> classNamesRecursivelyContainedIn(final String packageFqn) {
-        initializeIfRequired();
         final ApplicationFeatureId packageId = ApplicationFeatureId.newPackage(packageFqn);
-        final ApplicationFeature pkg = findPackage(packageId);
-        if (pkg == null) {
-            return Collections.emptyList();
-        }
-        final Set<ApplicationFeatureId> classIds = this.classFeatures.keySet();
         return Lists.newArrayList(
-                Iterables.transform(
-                        Iterables.filter(
-                                classIds,
-                                ApplicationFeatureId.Predicates.isClassRecursivelyWithin(packageId)),
-                        ApplicationFeatureId.Functions.GET_CLASS_NAME));
+                initializeIfRequired().classNamesRecursivelyContainedIn.get(packageId));
     }
 
     @Override @Programmatic
@@ -545,7 +520,6 @@ public List<String> memberNamesOf(
             final String packageFqn,
             final String className,
             final ApplicationMemberType memberType) {
-        initializeIfRequired();
         final ApplicationFeatureId classId = ApplicationFeatureId.newClass(packageFqn + "." + className);
         final ApplicationFeature cls = findClass(classId);
         if (cls == null) {
@@ -559,6 +533,88 @@ public List<String> memberNamesOf(
 
     //endregion
 
+    //region > Snapshot
+
+    /**
+     * Immutable, hash-indexed copy of the features (iterated in the natural order of their ids), along with the
+     * package-to-class adjacency lists precomputed for each {@link ApplicationMemberType} (or <code>null</code>,
+     * meaning classes with any members at all).
+     */
+    static class Snapshot {
+
+        private static final ApplicationMemberType[] MEMBER_TYPES_AND_ANY = {
+                null, ApplicationMemberType.PROPERTY, ApplicationMemberType.COLLECTION, ApplicationMemberType.ACTION };
+
+        private final Map<ApplicationFeatureId, ApplicationFeature> packageFeatures;
+        private final Map<ApplicationFeatureId, ApplicationFeature> classFeatures;
+        private final Map<ApplicationFeatureId, ApplicationFeature> memberFeatures;
+        private final Map<ApplicationFeatureId, ApplicationFeature> propertyFeatures;
+        private final Map<ApplicationFeatureId, ApplicationFeature> collectionFeatures;
+        private final Map<ApplicationFeatureId, ApplicationFeature> actionFeatures;
+
+        private final Map<ApplicationMemberType, List<String>> packageNamesContainingClasses = Maps.newHashMap();
+        private final Map<ApplicationMemberType, ImmutableListMultimap<ApplicationFeatureId, String>> classNamesContainedIn = Maps.newHashMap();
+        private final ImmutableListMultimap<ApplicationFeatureId, String> classNamesRecursivelyContainedIn;
+
+        Snapshot(
+                final SortedMap<ApplicationFeatureId, ApplicationFeature> packageFeatures,
+                final SortedMap<ApplicationFeatureId, ApplicationFeature> classFeatures,
+                final SortedMap<ApplicationFeatureId, ApplicationFeature> memberFeatures,
+                final SortedMap<ApplicationFeatureId, ApplicationFeature> propertyFeatures,
+                final SortedMap<ApplicationFeatureId, ApplicationFeature> collectionFeatures,
+                final SortedMap<ApplicationFeatureId, ApplicationFeature> actionFeatures) {
+            this.packageFeatures = ImmutableMap.copyOf(packageFeatures);
+            this.classFeatures = ImmutableMap.copyOf(classFeatures);
+            this.memberFeatures = ImmutableMap.copyOf(memberFeatures);
+            this.propertyFeatures = ImmutableMap.copyOf(propertyFeatures);
+            this.collectionFeatures = ImmutableMap.copyOf(collectionFeatures);
+            this.actionFeatures = ImmutableMap.copyOf(actionFeatures);
+
+            for (final ApplicationMemberType memberType : MEMBER_TYPES_AND_ANY) {
+                final ImmutableList.Builder<String> packageNames = ImmutableList.builder();
+                final ImmutableListMultimap.Builder<ApplicationFeatureId, String> classNames = ImmutableListMultimap.builder();
+                for (final ApplicationFeature pkg : this.packageFeatures.values()) {
+                    boolean containsClasses = false;
+                    for (final ApplicationFeatureId contentId : pkg.getContents()) {
+                        if(isClassContaining(contentId, memberType)) {
+                            classNames.put(pkg.getFeatureId(), contentId.getClassName());
+                            containsClasses = true;
+                        }
+                    }
+                    if(containsClasses) {
+                        packageNames.add(pkg.getFeatureId().getFullyQualifiedName());
+                    }
+                }
+                this.packageNamesContainingClasses.put(memberType, packageNames.build());
+                this.classNamesContainedIn.put(memberType, classNames.build());
+            }
+
+            final ImmutableListMultimap.Builder<ApplicationFeatureId, String> classNamesRecursively = ImmutableListMultimap.builder();
+            for (final ApplicationFeatureId classId : this.classFeatures.keySet()) {
+                for (final ApplicationFeatureId parentId : classId.getParentIds()) {
+                    classNamesRecursively.put(parentId, classId.getClassName());
+                }
+            }
+            this.classNamesRecursivelyContainedIn = classNamesRecursively.build();
+        }
+
+        /**
+         * As per {@link ApplicationFeatureId.Predicates#isClassContaining(ApplicationMemberType, ApplicationFeatureRepositoryDefault)}.
+         */
+        private boolean isClassContaining(final ApplicationFeatureId featureId, final ApplicationMemberType memberType) {
+            if(featureId.getType() != ApplicationFeatureType.CLASS) {
+                return false;
+            }
+            final ApplicationFeature feature = classFeatures.get(featureId);
+            if(feature == null) {
+                return false;
+            }
+            return memberType == null || !feature.membersOf(memberType).isEmpty();
+        }
+    }
+
+    //endregion
+
     //region  > services (injected)
 
     @javax.inject.Inject
@@ -0,0 +1,300 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the (nested) phases of bootstrapping the framework, with the wall-clock time, CPU time and bytes
+ * allocated for each, along with how many specifications were loaded and facets added while each was running.
+ *
+ * <p>
+ * Phases are nested under whichever phase is current for the calling thread; a phase run on some other thread (eg
+ * by {@link org.apache.isis.core.runtime.threadpool.ThreadPoolSupport}) can be nested explicitly using
+ * {@link #start(String, Phase)}.  A phase must be {@link Phase#close() closed} by the thread that started it.
+ *
+ * <p>
+ * CPU time and allocations are those of the thread that ran the phase, so exclude any work that it handed off to
+ * other threads; the counts, on the other hand, are global so also include the work of any phases running
+ * concurrently.
+ *
+ * <p>
+ * Typical usage:
+ * <pre>
+ * try (final BootTimeline.Phase phase = BootTimeline.getInstance().start("catalogNamedQueries")) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class BootTimeline {
+
+    public enum Counter {
+        SPECIFICATIONS_LOADED("specificationsLoaded"),
+        FACETS_ADDED("facetsAdded");
+
+        private final String jsonName;
+
+        Counter(final String jsonName) {
+            this.jsonName = jsonName;
+        }
+    }
+
+    private static final Counter[] COUNTERS = Counter.values();
+
+    private static final BootTimeline INSTANCE = new BootTimeline();
+
+    public static BootTimeline getInstance() {
+        return INSTANCE;
+    }
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final boolean cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported();
+    private final boolean allocatedBytesSupported =
+            threadMXBean instanceof com.sun.management.ThreadMXBean &&
+            ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported();
+
+    private final LongAdder[] counts = new LongAdder[COUNTERS.length];
+    private final ThreadLocal<Phase> current = new ThreadLocal<>();
+
+    private volatile List<Phase> phases = new CopyOnWriteArrayList<>();
+    private volatile long originNanos = System.nanoTime();
+
+    BootTimeline() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    //region > counters
+
+    public void increment(final Counter counter) {
+        counts[counter.ordinal()].increment();
+    }
+
+    public long countOf(final Counter counter) {
+        return counts[counter.ordinal()].sum();
+    }
+
+    private long[] counts() {
+        final long[] counts = new long[COUNTERS.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = this.counts[i].sum();
+        }
+        return counts;
+    }
+
+    //endregion
+
+    //region > start, reset
+
+    /**
+     * Starts a phase nested under the current phase (if any) of the calling thread.
+     */
+    public Phase start(final String name) {
+        return start(name, current.get());
+    }
+
+    /**
+     * Starts a phase nested under the specified phase (or at the top-level if <tt>null</tt>), and makes it the
+     * current phase of the calling thread until it is {@link Phase#close() closed}.
+     */
+    public Phase start(final String name, final Phase parent) {
+        final Phase phase = new Phase(name, current.get());
+        if(parent != null) {
+            parent.children.add(phase);
+        } else {
+            phases.add(phase);
+        }
+        current.set(phase);
+        return phase;
+    }
+
+    /**
+     * The current phase of the calling thread, if any.
+     */
+    public Phase current() {
+        return current.get();
+    }
+
+    /**
+     * Discards all phases recorded so far, eg if the framework is being bootstrapped again within the same JVM.
+     *
+     * <p>
+     *     The counts are not reset, but since each phase records only the change in count, this doesn't matter.
+     * </p>
+     */
+    public void reset() {
+        phases = new CopyOnWriteArrayList<>();
+        originNanos = System.nanoTime();
+    }
+
+    //endregion
+
+    //region > toJson
+
+    /**
+     * The phases recorded so far, as a JSON array.
+     *
+     * <p>
+     *     Times are in milliseconds; the start of each phase is relative to when the timeline was last
+     *     {@link #reset() reset}.  Any values not available (eg allocations on a JVM that doesn't support measuring
+     *     them, or the durations of a phase still running) are reported as <tt>-1</tt>.
+     * </p>
+     */
+    public String toJson() {
+        final StringBuilder buf = new StringBuilder();
+        appendJson(buf, phases, "");
+        return buf.toString();
+    }
+
+    private void appendJson(final StringBuilder buf, final List<Phase> phases, final String indent) {
+        if(phases.isEmpty()) {
+            buf.append("[]");
+            return;
+        }
+        buf.append("[\n");
+        final String phaseIndent = indent + "  ";
+        final String fieldIndent = phaseIndent + "  ";
+        for (int i = 0; i < phases.size(); i++) {
+            final Phase phase = phases.get(i);
+            buf.append(phaseIndent).append("{\n");
+            buf.append(fieldIndent).append("\"name\": ").append(quoted(phase.name)).append(",\n");
+            buf.append(fieldIndent).append("\"thread\": ").append(quoted(phase.threadName)).append(",\n");
+            buf.append(fieldIndent).append("\"startMillis\": ").append(millis(phase.startedAtNanos - originNanos)).append(",\n");
+            buf.append(fieldIndent).append("\"wallClockMillis\": ").append(millisElseUnknown(phase.wallClockNanos)).append(",\n");
+            buf.append(fieldIndent).append("\"cpuMillis\": ").append(millisElseUnknown(phase.cpuNanos)).append(",\n");
+            buf.append(fieldIndent).append("\"allocatedBytes\": ").append(phase.allocatedBytes).append(",\n");
+            for (final Counter counter : COUNTERS) {
+                buf.append(fieldIndent).append(quoted(counter.jsonName)).append(": ")
+                   .append(phase.counts != null ? phase.counts[counter.ordinal()] : -1).append(",\n");
+            }
+            buf.append(fieldIndent).append("\"phases\": ");
+            appendJson(buf, phase.children, fieldIndent);
+            buf.append("\n").append(phaseIndent).append(i < phases.size() - 1 ? "},\n" : "}\n");
+        }
+        buf.append(indent).append("]");
+    }
+
+    private static long millis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static long millisElseUnknown(final long nanos) {
+        return nanos < 0 ? -1 : millis(nanos);
+    }
+
+    private static String quoted(final String str) {
+        final StringBuilder buf = new StringBuilder(str.length() + 2).append('"');
+        for (final char ch : str.toCharArray()) {
+            switch (ch) {
+            case '"':  buf.append("\\\""); break;
+            case '\\': buf.append("\\\\"); break;
+            case '\n': buf.append("\\n"); break;
+            case '\r': buf.append("\\r"); break;
+            case '\t': buf.append("\\t"); break;
+            default:
+                if(ch < 0x20) {
+                    buf.append(String.format("\\u%04x", (int) ch));
+                } else {
+                    buf.append(ch);
+                }
+            }
+        }
+        return buf.append('"').toString();
+    }
+
+    //endregion
+
+    //region > Phase
+
+    public final class Phase implements AutoCloseable {
+
+        private final String name;
+        private final String threadName;
+        private final Phase previous;
+        private final List<Phase> children = new CopyOnWriteArrayList<>();
+
+        private final long startedAtNanos;
+        private final long startedCpuNanos;
+        private final long startedAllocatedBytes;
+        private final long[] startedCounts;
+
+        private volatile long wallClockNanos = -1;
+        private volatile long cpuNanos = -1;
+        private volatile long allocatedBytes = -1;
+        private volatile long[] counts;
+
+        private Phase(final String name, final Phase previous) {
+            this.name = name;
+            this.threadName = Thread.currentThread().getName();
+            this.previous = previous;
+            this.startedCounts = counts();
+            this.startedAllocatedBytes = currentThreadAllocatedBytes();
+            this.startedCpuNanos = currentThreadCpuNanos();
+            this.startedAtNanos = System.nanoTime();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Records the durations, and reinstates whichever phase was current (for the calling thread) before this
+         * one was started.
+         */
+        @Override
+        public void close() {
+            if(wallClockNanos >= 0) {
+                return;
+            }
+            wallClockNanos = System.nanoTime() - startedAtNanos;
+            if(startedCpuNanos >= 0) {
+                cpuNanos = currentThreadCpuNanos() - startedCpuNanos;
+            }
+            if(startedAllocatedBytes >= 0) {
+                allocatedBytes = currentThreadAllocatedBytes() - startedAllocatedBytes;
+            }
+            final long[] counts = counts();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] -= startedCounts[i];
+            }
+            this.counts = counts;
+
+            current.set(previous);
+        }
+    }
+
+    private long currentThreadCpuNanos() {
+        return cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : -1;
+    }
+
+    private long currentThreadAllocatedBytes() {
+        return allocatedBytesSupported
+                ? ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId())
+                : -1;
+    }
+
+    //endregion
+
+}
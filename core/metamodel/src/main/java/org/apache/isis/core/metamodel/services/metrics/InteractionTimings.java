@@ -0,0 +1,143 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services.metrics;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.services.metrics.InteractionTiming;
+import org.apache.isis.applib.services.metrics.InteractionTiming.Phase;
+
+/**
+ * Records the duration of each {@link Phase phase} of the interactions with each member, into a {@link Histogram}
+ * per member and phase.
+ *
+ * <p>
+ * Recording is lock-free and allocation-free (once a member/phase has been seen), so is always enabled.  The
+ * timings are exposed through {@link org.apache.isis.applib.services.metrics.MetricsService2}.
+ *
+ * <p>
+ * Typical usage:
+ * <pre>
+ * final long startedAt = System.nanoTime();
+ * try {
+ *     ...
+ * } finally {
+ *     InteractionTimings.getInstance().record(identifier, Phase.INVOCATION, startedAt);
+ * }
+ * </pre>
+ */
+public final class InteractionTimings {
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private static final InteractionTimings INSTANCE = new InteractionTimings();
+
+    public static InteractionTimings getInstance() {
+        return INSTANCE;
+    }
+
+    private final ConcurrentMap<String, AtomicReferenceArray<Histogram>> histogramsByMemberIdentifier =
+            new ConcurrentHashMap<>();
+
+    InteractionTimings() {
+    }
+
+    /**
+     * Records the time elapsed since <code>startedAt</code> (as obtained from {@link System#nanoTime()}).
+     *
+     * @param identifier - ignored if null.
+     */
+    public void record(final Identifier identifier, final Phase phase, final long startedAt) {
+        if(identifier == null) {
+            return;
+        }
+        record(identifier.toClassAndNameIdentityString(), phase, startedAt);
+    }
+
+    /**
+     * Records the time elapsed since <code>startedAt</code> (as obtained from {@link System#nanoTime()}).
+     *
+     * @param memberIdentifier - as per {@link Identifier#toClassAndNameIdentityString()}; ignored if null.
+     */
+    public void record(final String memberIdentifier, final Phase phase, final long startedAt) {
+        if(memberIdentifier == null) {
+            return;
+        }
+        histogramFor(memberIdentifier, phase).record(System.nanoTime() - startedAt);
+    }
+
+    private Histogram histogramFor(final String memberIdentifier, final Phase phase) {
+        AtomicReferenceArray<Histogram> histograms = histogramsByMemberIdentifier.get(memberIdentifier);
+        if(histograms == null) {
+            histograms = new AtomicReferenceArray<>(PHASES.length);
+            final AtomicReferenceArray<Histogram> existing =
+                    histogramsByMemberIdentifier.putIfAbsent(memberIdentifier, histograms);
+            if(existing != null) {
+                histograms = existing;
+            }
+        }
+        final int i = phase.ordinal();
+        Histogram histogram = histograms.get(i);
+        if(histogram == null) {
+            histograms.compareAndSet(i, null, new Histogram());
+            histogram = histograms.get(i);
+        }
+        return histogram;
+    }
+
+    /**
+     * A snapshot of the timings so far, ordered by member identifier and then phase.
+     */
+    public List<InteractionTiming> snapshot() {
+        final List<InteractionTiming> timings = Lists.newArrayList();
+        final List<String> memberIdentifiers =
+                Ordering.natural().sortedCopy(histogramsByMemberIdentifier.keySet());
+        for (final String memberIdentifier : memberIdentifiers) {
+            final AtomicReferenceArray<Histogram> histograms = histogramsByMemberIdentifier.get(memberIdentifier);
+            if(histograms == null) {
+                continue;
+            }
+            for (final Phase phase : PHASES) {
+                final Histogram histogram = histograms.get(phase.ordinal());
+                if(histogram == null) {
+                    continue;
+                }
+                timings.add(new InteractionTiming(
+                        memberIdentifier, phase,
+                        histogram.getCount(), histogram.getTotal(), histogram.getMax(),
+                        histogram.valueAtPercentile(50),
+                        histogram.valueAtPercentile(90),
+                        histogram.valueAtPercentile(99)));
+            }
+        }
+        return timings;
+    }
+
+    public void reset() {
+        histogramsByMemberIdentifier.clear();
+    }
+
+}
@@ -17,6 +17,8 @@
 package org.apache.isis.core.metamodel.services.persistsession;
 
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.isis.applib.annotation.Programmatic;
 import org.apache.isis.applib.query.Query;
@@ -139,6 +141,16 @@ public interface PersistenceSessionServiceInternal extends AdapterManager {
     @Programmatic
     void makePersistent(ObjectAdapter adapter);
 
+    /**
+     * Provided by the <tt>PersistenceSession</tt> when used by framework.
+     *
+     * <p>
+     * Called by <tt>RepositoryServiceInternalDefault#persistAll(List)</tt>; persists the (transient) adapters as a
+     * single batch.
+     */
+    @Programmatic
+    void makePersistentAll(List<ObjectAdapter> adapters);
+
     /**
      * Provided by <tt>UpdateNotifier</tt> and <tt>PersistenceSession</tt> when
      * used by framework.
@@ -171,6 +183,43 @@ public interface PersistenceSessionServiceInternal extends AdapterManager {
     @Programmatic
     <T> ObjectAdapter firstMatchingQuery(Query<T> query);
 
+    /**
+     * Provided by <tt>PersistenceSession</tt> when used by framework.
+     *
+     * <p>
+     * Called by <tt>RepositoryServiceInternalDefault#streamMatches(Query)</tt>.
+     */
+    @Programmatic
+    <T> Stream<ObjectAdapter> streamMatchingQuery(Query<T> query);
+
+    /**
+     * Provided by <tt>PersistenceSession</tt> when used by framework.
+     *
+     * <p>
+     * Called by <tt>RepositoryServiceInternalDefault#count(Query)</tt>.
+     */
+    @Programmatic
+    <T> long countMatchingQuery(Query<T> query);
+
+    /**
+     * Provided by <tt>PersistenceSession</tt> when used by framework.
+     *
+     * <p>
+     * Called by <tt>RepositoryServiceInternalDefault#exists(Query)</tt>.
+     */
+    @Programmatic
+    <T> boolean existsMatchingQuery(Query<T> query);
+
+    /**
+     * Provided by <tt>PersistenceSession</tt> when used by framework.
+     *
+     * <p>
+     * Called by <tt>OneToManyAssociationDefault</tt> (for <tt>@Collection(fetchMembers=...)</tt>) and by the
+     * viewers, to fetch the specified references of any instances of the class loaded by the block eagerly.
+     */
+    @Programmatic
+    <T> T executeWithFetchMembers(Class<?> cls, List<String> fetchMembers, Supplier<T> block);
+
     void executeWithinTransaction(TransactionalClosure transactionalClosure);
 
 
@@ -19,6 +19,8 @@
 package org.apache.isis.core.metamodel.services.persistsession;
 
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.isis.applib.annotation.DomainService;
 import org.apache.isis.applib.annotation.NatureOfService;
@@ -156,6 +158,11 @@ public void makePersistent(final ObjectAdapter adapter) {
         throw new UnsupportedOperationException("Not supported by this implementation of PersistenceSessionServiceInternal");
     }
 
+    @Override
+    public void makePersistentAll(final List<ObjectAdapter> adapters) {
+        throw new UnsupportedOperationException("Not supported by this implementation of PersistenceSessionServiceInternal");
+    }
+
     @Override
     public <T> ObjectAdapter firstMatchingQuery(final Query<T> query) {
         throw new UnsupportedOperationException("Not supported by this implementation of PersistenceSessionServiceInternal");
@@ -166,6 +173,29 @@ public <T> List<ObjectAdapter> allMatchingQuery(final Query<T> query) {
         throw new UnsupportedOperationException("Not supported by this implementation of PersistenceSessionServiceInternal");
     }
 
+    @Override
+    public <T> Stream<ObjectAdapter> streamMatchingQuery(final Query<T> query) {
+        throw new UnsupportedOperationException("Not supported by this implementation of PersistenceSessionServiceInternal");
+    }
+
+    @Override
+    public <T> long countMatchingQuery(final Query<T> query) {
+        throw new UnsupportedOperationException("Not supported by this implementation of PersistenceSessionServiceInternal");
+    }
+
+    @Override
+    public <T> boolean existsMatchingQuery(final Query<T> query) {
+        throw new UnsupportedOperationException("Not supported by this implementation of PersistenceSessionServiceInternal");
+    }
+
+    /**
+     * Fetch members are only a hint, so simply executes the block.
+     */
+    @Override
+    public <T> T executeWithFetchMembers(final Class<?> cls, final List<String> fetchMembers, final Supplier<T> block) {
+        return block.get();
+    }
+
     @Override
     public TransactionState getTransactionState() {
         throw new UnsupportedOperationException("Not supported by this implementation of PersistenceSessionServiceInternal");
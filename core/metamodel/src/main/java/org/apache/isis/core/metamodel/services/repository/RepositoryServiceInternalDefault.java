@@ -23,6 +23,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 
@@ -108,6 +109,26 @@ public <T> T persistAndFlush(final T object) {
         return object;
     }
 
+    @Programmatic
+    @Override
+    public <T> List<T> persistAll(final List<T> objects) {
+        final List<ObjectAdapter> adapters = new ArrayList<>();
+        for (final T object : objects) {
+            final ObjectAdapter adapter = persistenceSessionServiceInternal.adapterFor(unwrapped(object));
+            if(adapter == null) {
+                throw new PersistFailedException("Object not known to framework (unable to create/obtain an adapter)");
+            }
+            if (adapter.representsPersistent() || adapter.isParentedCollection()) {
+                continue;
+            }
+            adapters.add(adapter);
+        }
+        if(!adapters.isEmpty()) {
+            persistenceSessionServiceInternal.makePersistentAll(adapters);
+        }
+        return objects;
+    }
+
     @Override
     @Programmatic
     public void remove(final Object domainObject) {
@@ -179,6 +200,34 @@ public <T> List<T> allMatches(final Query<T> query) {
         return submitQuery(query);
     }
 
+    @Programmatic
+    @Override
+    public <T> Stream<T> streamMatches(final Query<T> query) {
+        if(autoFlush) {
+            transactionService.flushTransaction();
+        }
+        return persistenceSessionServiceInternal.streamMatchingQuery(query)
+                .map(adapter -> (T) ObjectAdapter.Util.unwrap(adapter));
+    }
+
+    @Programmatic
+    @Override
+    public <T> long count(final Query<T> query) {
+        if(autoFlush) {
+            transactionService.flushTransaction();
+        }
+        return persistenceSessionServiceInternal.countMatchingQuery(query);
+    }
+
+    @Programmatic
+    @Override
+    public <T> boolean exists(final Query<T> query) {
+        if(autoFlush) {
+            transactionService.flushTransaction();
+        }
+        return persistenceSessionServiceInternal.existsMatchingQuery(query);
+    }
+
     <T> List<T> submitQuery(final Query<T> query) {
         final List<ObjectAdapter> allMatching = persistenceSessionServiceInternal.allMatchingQuery(query);
         return ObjectAdapter.Util.unwrapT(allMatching);
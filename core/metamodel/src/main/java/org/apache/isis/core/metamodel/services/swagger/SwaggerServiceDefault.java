@@ -18,6 +18,7 @@
  */
 package org.apache.isis.core.metamodel.services.swagger;
 
+import java.util.EnumMap;
 import java.util.Map;
 
 import javax.annotation.PostConstruct;
@@ -44,11 +45,24 @@ public class SwaggerServiceDefault implements SwaggerService {
     public static final String KEY_RESTFUL_BASE_PATH = "isis.services.swagger.restfulBasePath";
     public static final String KEY_RESTFUL_BASE_PATH_DEFAULT = "/restful";
 
+    /**
+     * If set to "eager", then the (JSON) specs for every {@link Visibility} are generated when the service is
+     * initialized, rather than on first request.
+     */
+    public static final String KEY_INIT = "isis.services.swagger.init";
+
     private String basePath;
 
     @PostConstruct
     public void init(final Map<String,String> properties) {
         this.basePath = getPropertyElse(properties, KEY_RESTFUL_BASE_PATH, KEY_RESTFUL_BASE_PATH_DEFAULT);
+
+        final String init = properties.get(KEY_INIT);
+        if("eager".equalsIgnoreCase(init) || "eagerly".equalsIgnoreCase(init)) {
+            for (final Visibility visibility : Visibility.values()) {
+                generateSwaggerSpec(visibility, Format.JSON);
+            }
+        }
     }
 
     static String getPropertyElse(final Map<String, String> properties, final String key, final String dflt) {
@@ -59,15 +73,68 @@ static String getPropertyElse(final Map<String, String> properties, final String
         return basePath;
     }
 
+    /**
+     * Generating a spec walks the entire metamodel, so the result for each visibility and format is cached, and only
+     * regenerated if the metamodel has since changed (as per {@link SpecificationLoader#getMetaModelVersion()}).
+     *
+     * <p>
+     *     Callers can therefore rely on the same {@link String} instance being returned for as long as the spec is
+     *     unchanged.
+     * </p>
+     */
     @Programmatic
     @Override
     public String generateSwaggerSpec(
             final Visibility visibility,
             final Format format) {
 
-        final SwaggerSpecGenerator swaggerSpecGenerator = new SwaggerSpecGenerator(specificationLoader);
-        final String swaggerSpec = swaggerSpecGenerator.generate(basePath, visibility, format);
-        return swaggerSpec;
+        return cachedSpecs.get(visibility).get(format).get();
+    }
+
+    private final Map<Visibility, Map<Format, CachedSpec>> cachedSpecs = newCachedSpecs();
+
+    private Map<Visibility, Map<Format, CachedSpec>> newCachedSpecs() {
+        final Map<Visibility, Map<Format, CachedSpec>> cachedSpecs = new EnumMap<>(Visibility.class);
+        for (final Visibility visibility : Visibility.values()) {
+            final Map<Format, CachedSpec> cachedSpecsByFormat = new EnumMap<>(Format.class);
+            for (final Format format : Format.values()) {
+                cachedSpecsByFormat.put(format, new CachedSpec(visibility, format));
+            }
+            cachedSpecs.put(visibility, cachedSpecsByFormat);
+        }
+        return cachedSpecs;
+    }
+
+    /**
+     * Synchronizes on itself, so that concurrent requests for the same spec wait for a single generation, while
+     * requests for other specs are unaffected.
+     */
+    class CachedSpec {
+
+        private final Visibility visibility;
+        private final Format format;
+
+        private long metaModelVersion;
+        private String swaggerSpec;
+
+        CachedSpec(final Visibility visibility, final Format format) {
+            this.visibility = visibility;
+            this.format = format;
+        }
+
+        synchronized String get() {
+            // read before generating; if generation itself loads further specs then it is simply regenerated next time
+            final long currentVersion = specificationLoader.getMetaModelVersion();
+            if(swaggerSpec == null || metaModelVersion != currentVersion) {
+                swaggerSpec = newSwaggerSpecGenerator().generate(basePath, visibility, format);
+                metaModelVersion = currentVersion;
+            }
+            return swaggerSpec;
+        }
+    }
+
+    SwaggerSpecGenerator newSwaggerSpecGenerator() {
+        return new SwaggerSpecGenerator(specificationLoader);
     }
 
 
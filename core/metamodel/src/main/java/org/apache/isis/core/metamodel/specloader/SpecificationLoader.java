@@ -19,14 +19,19 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.google.common.base.Function;
 import com.google.common.base.Predicate;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,10 +53,12 @@
 import org.apache.isis.core.metamodel.layoutmetadata.LayoutMetadataReader;
 import org.apache.isis.core.metamodel.progmodel.ProgrammingModel;
 import org.apache.isis.core.metamodel.services.ServicesInjector;
+import org.apache.isis.core.metamodel.services.metrics.BootTimeline;
 import org.apache.isis.core.metamodel.services.configinternal.ConfigurationServiceInternal;
 import org.apache.isis.core.metamodel.spec.FreeStandingList;
 import org.apache.isis.core.metamodel.spec.ObjectSpecId;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.Contributed;
 import org.apache.isis.core.metamodel.specloader.classsubstitutor.ClassSubstitutor;
 import org.apache.isis.core.metamodel.specloader.facetprocessor.FacetProcessor;
 import org.apache.isis.core.metamodel.specloader.postprocessor.PostProcessor;
@@ -61,6 +68,8 @@
 import org.apache.isis.core.metamodel.specloader.specimpl.dflt.ObjectSpecificationDefault;
 import org.apache.isis.core.metamodel.specloader.specimpl.standalonelist.ObjectSpecificationOnStandaloneList;
 import org.apache.isis.core.metamodel.specloader.validator.MetaModelValidator;
+import org.apache.isis.core.metamodel.specloader.validator.MetaModelValidatorComposite;
+import org.apache.isis.core.metamodel.specloader.validator.MetaModelValidatorVisiting;
 import org.apache.isis.core.metamodel.specloader.validator.ValidationFailures;
 import org.apache.isis.core.runtime.threadpool.ThreadPoolSupport;
 import org.apache.isis.progmodels.dflt.ProgrammingModelFacetsJava5;
@@ -114,6 +123,8 @@ public class SpecificationLoader implements ApplicationScopedComponent {
     private final List<LayoutMetadataReader> layoutMetadataReaders;
     private final PostProcessor postProcessor;
 
+    private final AtomicLong metaModelVersion = new AtomicLong();
+
 
 
     public SpecificationLoader(
@@ -169,40 +180,44 @@ public void init() {
 
         // need to completely load services and mixins (synchronously)
         LOG.info("Loading all specs (up to state of {})", IntrospectionState.NOT_INTROSPECTED);
-
+        final long loadingStartedAt = System.currentTimeMillis();
         final List<ObjectSpecification> specificationsFromRegistry = Lists.newArrayList();
-
-        // we use allServiceClasses() - obtained from servicesInjector - rather than reading from the
-        // AppManifest.Registry.instance().getDomainServiceTypes(), because the former also has the fallback
-        // services set up in IsisSessionFactoryBuilder beforehand.
-        final List<ObjectSpecification> domainServiceSpecs =
-        loadSpecificationsFor(
-                allServiceClasses(), NatureOfService.DOMAIN,
-                specificationsFromRegistry, IntrospectionState.NOT_INTROSPECTED
-        );
-        final List<ObjectSpecification> mixinSpecs =
+        final List<ObjectSpecification> domainServiceSpecs;
+        final List<ObjectSpecification> mixinSpecs;
+        try (final BootTimeline.Phase loadingPhase =
+                     BootTimeline.getInstance().start("SpecificationLoader: load all specs")) {
+
+            // we use allServiceClasses() - obtained from servicesInjector - rather than reading from the
+            // AppManifest.Registry.instance().getDomainServiceTypes(), because the former also has the fallback
+            // services set up in IsisSessionFactoryBuilder beforehand.
+            domainServiceSpecs = loadSpecificationsFor(
+                    allServiceClasses(), NatureOfService.DOMAIN,
+                    specificationsFromRegistry, IntrospectionState.NOT_INTROSPECTED
+            );
+            mixinSpecs = loadSpecificationsFor(
+                    AppManifest.Registry.instance().getMixinTypes(), null,
+                    specificationsFromRegistry, IntrospectionState.NOT_INTROSPECTED
+            );
+            loadSpecificationsFor(
+                    CommonDtoUtils.VALUE_TYPES, null,
+                    specificationsFromRegistry, IntrospectionState.NOT_INTROSPECTED
+            );
+            loadSpecificationsFor(
+                    AppManifest.Registry.instance().getDomainObjectTypes(), null,
+                    specificationsFromRegistry, IntrospectionState.NOT_INTROSPECTED
+            );
+            loadSpecificationsFor(
+                    AppManifest.Registry.instance().getViewModelTypes(), null,
+                    specificationsFromRegistry, IntrospectionState.NOT_INTROSPECTED
+            );
             loadSpecificationsFor(
-                AppManifest.Registry.instance().getMixinTypes(), null,
-                specificationsFromRegistry, IntrospectionState.NOT_INTROSPECTED
-        );
-        loadSpecificationsFor(
-                CommonDtoUtils.VALUE_TYPES, null,
-                specificationsFromRegistry, IntrospectionState.NOT_INTROSPECTED
-        );
-        loadSpecificationsFor(
-                AppManifest.Registry.instance().getDomainObjectTypes(), null,
-                specificationsFromRegistry, IntrospectionState.NOT_INTROSPECTED
-        );
-        loadSpecificationsFor(
-                AppManifest.Registry.instance().getViewModelTypes(), null,
-                specificationsFromRegistry, IntrospectionState.NOT_INTROSPECTED
-        );
-        loadSpecificationsFor(
-                AppManifest.Registry.instance().getXmlElementTypes(), null,
-                specificationsFromRegistry, IntrospectionState.NOT_INTROSPECTED
-        );
-
-        cache.init();
+                    AppManifest.Registry.instance().getXmlElementTypes(), null,
+                    specificationsFromRegistry, IntrospectionState.NOT_INTROSPECTED
+            );
+
+            cache.init();
+        }
+        LOG.info("Loaded all specs in {} millis", System.currentTimeMillis() - loadingStartedAt);
 
         final Collection<ObjectSpecification> cachedSpecifications = allCachedSpecifications();
 
@@ -221,8 +236,8 @@ public void init() {
 
         final IntrospectionMode mode = CONFIG_PROPERTY_MODE.from(configuration);
         if(mode.isFullIntrospect(servicesInjector.getDeploymentCategoryProvider().getDeploymentCategory())) {
-            LOG.info("Introspecting all cached specs up to {}", IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
-            introspect(cachedSpecifications, IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+            LOG.info("Introspecting all cached specs (and any discovered) up to {}", IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+            introspectTransitively(cachedSpecifications, IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
         }
 
         LOG.info("init() - done");
@@ -276,6 +291,73 @@ public boolean apply(final ObjectSpecification objectSpecification) {
     }
 
     private void introspect(final Collection<ObjectSpecification> specs, final IntrospectionState upTo) {
+        final long startedAt = System.currentTimeMillis();
+        try (final BootTimeline.Phase phase = BootTimeline.getInstance().start(
+                String.format("SpecificationLoader: introspect %d specs up to %s", specs.size(), upTo))) {
+            introspectEach(specs, upTo);
+        }
+        LOG.info("Introspected {} specs up to {} in {} millis",
+                specs.size(), upTo, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * As {@link #introspect(Collection, IntrospectionState)}, but any further specs discovered (ie loaded as a
+     * side-effect of introspecting those already queued, eg the types of parameters) are then queued up and
+     * introspected in turn, until no more are found.  Otherwise those discovered specs would only be introspected
+     * lazily, one at a time, by whichever thread first happens to need their members (typically the validators).
+     */
+    private void introspectTransitively(
+            final Collection<ObjectSpecification> specs,
+            final IntrospectionState upTo) {
+        final long startedAt = System.currentTimeMillis();
+        final Set<ObjectSpecification> queued = Sets.newIdentityHashSet();
+        Collection<ObjectSpecification> batch = specs;
+        int batchNum = 0;
+        try (final BootTimeline.Phase phase = BootTimeline.getInstance().start(
+                String.format("SpecificationLoader: introspect %d specs (and any discovered) up to %s", specs.size(), upTo))) {
+            while(!batch.isEmpty()) {
+                queued.addAll(batch);
+                try (final BootTimeline.Phase batchPhase = BootTimeline.getInstance().start(
+                        String.format("batch #%d: %d specs", ++batchNum, batch.size()))) {
+                    introspectEach(batch, upTo);
+                }
+                batch = notYetIntrospected(allCachedSpecifications(), queued, upTo);
+            }
+        }
+        LOG.info("Introspected {} specs (in {} batches) up to {} in {} millis; specs by state: {}",
+                queued.size(), batchNum, upTo, System.currentTimeMillis() - startedAt,
+                countByIntrospectionState(allCachedSpecifications()));
+    }
+
+    private static List<ObjectSpecification> notYetIntrospected(
+            final Collection<ObjectSpecification> specs,
+            final Set<ObjectSpecification> alreadyQueued,
+            final IntrospectionState upTo) {
+        final List<ObjectSpecification> discovered = Lists.newArrayList();
+        for (final ObjectSpecification spec : specs) {
+            if(alreadyQueued.contains(spec)) {
+                continue;
+            }
+            final ObjectSpecificationAbstract specSpi = (ObjectSpecificationAbstract) spec;
+            if(specSpi.getIntrospectionState().compareTo(upTo) < 0) {
+                discovered.add(spec);
+            }
+        }
+        return discovered;
+    }
+
+    private static Map<IntrospectionState, Integer> countByIntrospectionState(
+            final Collection<ObjectSpecification> specs) {
+        final Map<IntrospectionState, Integer> countByState = Maps.newEnumMap(IntrospectionState.class);
+        for (final ObjectSpecification spec : specs) {
+            final IntrospectionState state = ((ObjectSpecificationAbstract) spec).getIntrospectionState();
+            final Integer count = countByState.get(state);
+            countByState.put(state, count == null ? 1 : count + 1);
+        }
+        return countByState;
+    }
+
+    private void introspectEach(final Collection<ObjectSpecification> specs, final IntrospectionState upTo) {
         final List<Callable<Object>> callables = Lists.newArrayList();
         for (final ObjectSpecification specification : specs) {
             Callable<Object> callable = new Callable<Object>() {
@@ -372,6 +454,7 @@ public void invalidateCache(final Class<?> cls) {
             }
             spec = spec.superclass();
         }
+        metaModelVersion.incrementAndGet();
     }
 
 
@@ -381,14 +464,26 @@ private void recache(final ObjectSpecification newSpec) {
 
     //endregion
 
+    //region > metaModelVersion
+
+    /**
+     * Incremented whenever a specification is added to the cache or invalidated (eg by the JRebel plugin), so that
+     * anything derived from the metamodel as a whole (such as the Swagger spec) can tell whether it is out of date.
+     */
+    @Programmatic
+    public long getMetaModelVersion() {
+        return metaModelVersion.get();
+    }
+
+    //endregion
+
     //region > validation
 
     private ValidationFailures validationFailures;
 
     @Programmatic
     public void validateAndAssert() {
-        final IntrospectionMode mode = CONFIG_PROPERTY_MODE.from(configuration);
-        if(!mode.isFullIntrospect(servicesInjector.getDeploymentCategoryProvider().getDeploymentCategory())) {
+        if(!isFullIntrospect()) {
             LOG.info("Meta model validation skipped (full introspection of metamodel not configured)");
             return;
         }
@@ -400,12 +495,93 @@ public void validateAndAssert() {
     @Programmatic
     public ValidationFailures validate() {
         if(validationFailures == null) {
-            validationFailures = new ValidationFailures();
-            metaModelValidator.validate(validationFailures);
+            final long startedAt = System.currentTimeMillis();
+            final ValidationFailures validationFailures = new ValidationFailures();
+            try (final BootTimeline.Phase phase = BootTimeline.getInstance().start("SpecificationLoader: validate")) {
+                if(metaModelValidator instanceof MetaModelValidatorComposite && isFullIntrospect()) {
+                    validateEach((MetaModelValidatorComposite) metaModelValidator, validationFailures);
+                } else {
+                    metaModelValidator.validate(validationFailures);
+                }
+            }
+            this.validationFailures = validationFailures;
+            LOG.info("Meta model validated in {} millis ({} failures)",
+                    System.currentTimeMillis() - startedAt, validationFailures.getNumberOfMessages());
         }
         return validationFailures;
     }
 
+    /**
+     * Only if the metamodel has been fully introspected up-front; otherwise validation would be introspecting the
+     * remaining specs lazily, which is safest done on a single thread.
+     */
+    private boolean isFullIntrospect() {
+        final IntrospectionMode mode = CONFIG_PROPERTY_MODE.from(configuration);
+        return mode.isFullIntrospect(servicesInjector.getDeploymentCategoryProvider().getDeploymentCategory());
+    }
+
+    /**
+     * The visiting validators (and composites of them) each keep their own state, so they are run concurrently, each
+     * into their own {@link ValidationFailures}.  Any other validators (eg those that simply report failures
+     * collected during introspection) are run afterwards, in sequence, since validating can itself cause further
+     * specs to be introspected.
+     *
+     * <p>
+     *     Either way, failures are gathered in the same order as if all validators had run in sequence.
+     * </p>
+     *
+     * <p>
+     *     Several visiting validators request the contributed actions and associations of each spec; these are
+     *     created lazily and require a session, so are first created for all specs on the calling thread (which is
+     *     running within a session) rather than on the worker threads.
+     * </p>
+     */
+    private void validateEach(
+            final MetaModelValidatorComposite compositeValidator,
+            final ValidationFailures validationFailures) {
+
+        createContributeeAndMixedInMembers();
+
+        final List<MetaModelValidator> validators = compositeValidator.getValidators();
+        final ValidationFailures[] failuresByValidator = new ValidationFailures[validators.size()];
+
+        final List<Callable<Object>> callables = Lists.newArrayList();
+        for (int i = 0; i < validators.size(); i++) {
+            final MetaModelValidator validator = validators.get(i);
+            if(!(validator instanceof MetaModelValidatorVisiting ||
+                 validator instanceof MetaModelValidatorComposite)) {
+                continue;
+            }
+            final ValidationFailures failures = failuresByValidator[i] = new ValidationFailures();
+            callables.add(new Callable<Object>() {
+                @Override
+                public Object call() {
+                    validator.validate(failures);
+                    return null;
+                }
+                public String toString() {
+                    return String.format("%s: #validate()", validator);
+                }
+            });
+        }
+        invokeAndWait(callables);
+
+        for (int i = 0; i < validators.size(); i++) {
+            if(failuresByValidator[i] == null) {
+                failuresByValidator[i] = new ValidationFailures();
+                validators.get(i).validate(failuresByValidator[i]);
+            }
+            validationFailures.add(failuresByValidator[i]);
+        }
+    }
+
+    private void createContributeeAndMixedInMembers() {
+        for (final ObjectSpecification spec : allSpecifications()) {
+            spec.getAssociations(Contributed.INCLUDED);
+            spec.getObjectActions(Contributed.INCLUDED);
+        }
+    }
+
     //endregion
 
 
@@ -499,27 +675,47 @@ private ObjectSpecification internalLoadSpecification(
         final String typeName = substitutedType.getName();
         ObjectSpecification spec = cache.get(typeName);
         if (spec != null) {
-            return spec;
+            return introspectedUpTo(spec, upTo);
         }
 
+        final ObjectSpecification specification;
         synchronized (this) {
             // inside the synchronized block
             spec = cache.get(typeName);
             if (spec != null) {
-                return spec;
+                return introspectedUpTo(spec, upTo);
             }
 
-            final ObjectSpecification specification = createSpecification(substitutedType, natureFallback);
+            specification = createSpecification(substitutedType, natureFallback);
 
             // put into the cache prior to introspecting, to prevent
             // infinite loops
             cache.cache(typeName, specification);
+        }
+
+        // introspected outside of the lock, so that other threads can load (and introspect) other specs meanwhile;
+        // ObjectSpecificationAbstract#introspectUpTo ensures each stage is only performed once, and that any other
+        // thread loading this spec meanwhile waits for the stage it requires.
+        final ObjectSpecificationAbstract specSpi = (ObjectSpecificationAbstract) specification;
+        specSpi.introspectUpTo(upTo);
+
+        metaModelVersion.incrementAndGet();
+        BootTimeline.getInstance().increment(BootTimeline.Counter.SPECIFICATIONS_LOADED);
 
-            final ObjectSpecificationAbstract specSpi = (ObjectSpecificationAbstract) specification;
-            specSpi.introspectUpTo(upTo);
+        return specification;
+    }
 
-            return specification;
+    /**
+     * A spec found in the cache may still be being introspected by another thread (or may have been cached earlier
+     * without being introspected as far as is now required).
+     */
+    private static ObjectSpecification introspectedUpTo(
+            final ObjectSpecification spec,
+            final IntrospectionState upTo) {
+        if(spec instanceof ObjectSpecificationAbstract) {
+            ((ObjectSpecificationAbstract) spec).introspectUpTo(upTo);
         }
+        return spec;
     }
 
     /**
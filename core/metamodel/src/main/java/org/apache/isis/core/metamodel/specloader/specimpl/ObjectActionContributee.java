@@ -149,7 +149,7 @@ public Consent isVisible(
         final VisibilityContext<?> ic = serviceAction.createVisibleInteractionContext(getServiceAdapter(),
                 interactionInitiatedBy, where);
         ic.putContributee(this.contributeeParam, contributee);
-        return InteractionUtils.isVisibleResult(this, ic).createConsent();
+        return InteractionUtils.isVisibleResult(getInteractionPlan(), ic).createConsent();
     }
 
     @Override
@@ -159,7 +159,7 @@ public Consent isUsable(
         final UsabilityContext<?> ic = serviceAction.createUsableInteractionContext(getServiceAdapter(),
                 interactionInitiatedBy, where);
         ic.putContributee(this.contributeeParam, contributee);
-        return InteractionUtils.isUsableResult(this, ic).createConsent();
+        return InteractionUtils.isUsableResult(getInteractionPlan(), ic).createConsent();
     }
 
     @Override
@@ -255,21 +255,25 @@ public List<Facet> getFacets(Filter<Facet> filter) {
     @Override
     public void addFacet(Facet facet) {
         facetHolder.addFacet(facet);
+        invalidateInteractionPlan();
     }
 
     @Override
     public void addFacet(MultiTypedFacet facet) {
         facetHolder.addFacet(facet);
+        invalidateInteractionPlan();
     }
     
     @Override
     public void removeFacet(Facet facet) {
         facetHolder.removeFacet(facet);
+        invalidateInteractionPlan();
     }
 
     @Override
     public void removeFacet(Class<? extends Facet> facetType) {
         facetHolder.removeFacet(facetType);
+        invalidateInteractionPlan();
     }
 
     
@@ -92,7 +92,7 @@ public ObjectActionMixedIn(
 
         if(Strings.isNullOrEmpty(name) || name.equalsIgnoreCase(mixinMethodName)) {
             String memberName = determineNameFrom(mixinAction);
-            FacetUtil.addFacet(new NamedFacetInferred(memberName, facetHolder));
+            addFacet(new NamedFacetInferred(memberName, facetHolder));
         }
 
         // calculate the identifier
@@ -168,7 +168,7 @@ public Consent isVisible(
         final VisibilityContext<?> ic =
                 mixinAction.createVisibleInteractionContext(mixinAdapter, interactionInitiatedBy, where);
         ic.setMixedIn(mixedInAdapter);
-        return InteractionUtils.isVisibleResult(this, ic).createConsent();
+        return InteractionUtils.isVisibleResult(getInteractionPlan(), ic).createConsent();
     }
 
     @Override
@@ -180,7 +180,7 @@ public Consent isUsable(
         final UsabilityContext<?> ic =
                 mixinAction.createUsableInteractionContext(mixinAdapter, interactionInitiatedBy, where);
         ic.setMixedIn(mixedInAdapter);
-        return InteractionUtils.isUsableResult(this, ic).createConsent();
+        return InteractionUtils.isUsableResult(getInteractionPlan(), ic).createConsent();
     }
 
     @Override
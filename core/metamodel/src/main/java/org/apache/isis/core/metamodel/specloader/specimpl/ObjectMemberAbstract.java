@@ -29,6 +29,7 @@
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.command.Command;
 import org.apache.isis.applib.services.command.CommandContext;
+import org.apache.isis.applib.services.command.CommandWithLazyMemento;
 import org.apache.isis.core.commons.lang.StringExtensions;
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
 import org.apache.isis.core.metamodel.consent.Consent;
@@ -50,6 +51,7 @@
 import org.apache.isis.core.metamodel.interactions.DisablingInteractionAdvisor;
 import org.apache.isis.core.metamodel.interactions.HidingInteractionAdvisor;
 import org.apache.isis.core.metamodel.interactions.InteractionContext;
+import org.apache.isis.core.metamodel.interactions.InteractionPlan;
 import org.apache.isis.core.metamodel.interactions.InteractionUtils;
 import org.apache.isis.core.metamodel.interactions.UsabilityContext;
 import org.apache.isis.core.metamodel.interactions.VisibilityContext;
@@ -161,21 +163,53 @@ public List<Facet> getFacets(final Filter<Facet> filter) {
     @Override
     public void addFacet(final Facet facet) {
         getFacetHolder().addFacet(facet);
+        invalidateInteractionPlan();
     }
 
     @Override
     public void addFacet(final MultiTypedFacet facet) {
         getFacetHolder().addFacet(facet);
+        invalidateInteractionPlan();
     }
 
     @Override
     public void removeFacet(final Facet facet) {
         getFacetHolder().removeFacet(facet);
+        invalidateInteractionPlan();
     }
 
     @Override
     public void removeFacet(final Class<? extends Facet> facetType) {
         getFacetHolder().removeFacet(facetType);
+        invalidateInteractionPlan();
+    }
+
+    //endregion
+
+    //region > interactionPlan
+
+    private volatile InteractionPlan interactionPlan;
+
+    /**
+     * The {@link HidingInteractionAdvisor}s and {@link DisablingInteractionAdvisor}s of this member, captured on first
+     * use (by which time the metamodel has been fully built) and discarded if facets are subsequently added or removed
+     * through this member.
+     */
+    protected InteractionPlan getInteractionPlan() {
+        InteractionPlan plan = interactionPlan;
+        if (plan == null) {
+            plan = InteractionPlan.of(this);
+            interactionPlan = plan;
+        }
+        return plan;
+    }
+
+    /**
+     * To be called by any subclass that adds or removes facets other than through this member's own
+     * {@link #addFacet(Facet)} and {@link #removeFacet(Facet)}.
+     */
+    protected void invalidateInteractionPlan() {
+        interactionPlan = null;
     }
 
     //endregion
@@ -244,7 +278,7 @@ public boolean isAlwaysHidden() {
     }
 
     /**
-     * Loops over all {@link HidingInteractionAdvisor} {@link Facet}s and
+     * Loops over the (precomputed, see {@link #getInteractionPlan()}) {@link HidingInteractionAdvisor} {@link Facet}s and
      * returns <tt>true</tt> only if none hide the member.
      */
     @Override
@@ -260,7 +294,7 @@ private InteractionResult isVisibleResult(
             final InteractionInitiatedBy interactionInitiatedBy,
             final Where where) {
         final VisibilityContext<?> ic = createVisibleInteractionContext(target, interactionInitiatedBy, where);
-        return InteractionUtils.isVisibleResult(this, ic);
+        return InteractionUtils.isVisibleResult(getInteractionPlan(), ic);
     }
     //endregion
 
@@ -281,7 +315,7 @@ protected abstract UsabilityContext<?> createUsableInteractionContext(
             final Where where);
 
     /**
-     * Loops over all {@link DisablingInteractionAdvisor} {@link Facet}s and
+     * Loops over the (precomputed, see {@link #getInteractionPlan()}) {@link DisablingInteractionAdvisor} {@link Facet}s and
      * returns <tt>true</tt> only if none disables the member.
      */
     @Override
@@ -297,7 +331,7 @@ private InteractionResult isUsableResult(
             final InteractionInitiatedBy interactionInitiatedBy,
             final Where where) {
         final UsabilityContext<?> ic = createUsableInteractionContext(target, interactionInitiatedBy, where);
-        return InteractionUtils.isUsableResult(this, ic);
+        return InteractionUtils.isUsableResult(getInteractionPlan(), ic);
     }
 
     //endregion
@@ -470,7 +504,7 @@ protected void setupCommandDtoAndExecutionContext(final CommandDto dto) {
             return;
         }
 
-        if (command.getMemento() != null) {
+        if (hasMemento(command)) {
             // guard here to prevent subsequent contributed/mixin actions from
             // trampling over the command's memento and execution context
             return;
@@ -478,8 +512,13 @@ protected void setupCommandDtoAndExecutionContext(final CommandDto dto) {
 
         // memento
 
-        final String mementoXml = CommandDtoUtils.toXml(dto);
-        command.setMemento(mementoXml);
+        if(command instanceof CommandWithLazyMemento) {
+            // only marshalled to XML if actually required (eg if the command is persisted)
+            ((CommandWithLazyMemento) command).setMementoDto(dto);
+        } else {
+            final String mementoXml = CommandDtoUtils.toXml(dto);
+            command.setMemento(mementoXml);
+        }
 
         // copy over the command execution 'context' (if available)
         final CommandFacet commandFacet = getFacetHolder().getFacet(CommandFacet.class);
@@ -493,6 +532,12 @@ protected void setupCommandDtoAndExecutionContext(final CommandDto dto) {
         }
     }
 
+    private static boolean hasMemento(final Command command) {
+        return command instanceof CommandWithLazyMemento
+                ? ((CommandWithLazyMemento) command).hasMemento()
+                : command.getMemento() != null;
+    }
+
     //endregion
 
 }
@@ -25,6 +25,11 @@
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.google.common.base.Function;
 import com.google.common.base.Predicate;
@@ -148,8 +153,10 @@ private static Map<ActionType, List<ObjectAction>> createObjectActionsByType() {
         return map;
     }
 
-    private boolean contributeeAndMixedInAssociationsAdded;
-    private boolean contributeeAndMixedInActionsAdded;
+    // volatile, and re-checked while holding the lock on the list, since members may be requested concurrently
+    // (eg by metamodel validators)
+    private volatile boolean contributeeAndMixedInAssociationsAdded;
+    private volatile boolean contributeeAndMixedInActionsAdded;
 
 
     private final List<ObjectSpecification> interfaces = Lists.newArrayList();
@@ -173,7 +180,10 @@ private static Map<ActionType, List<ObjectAction>> createObjectActionsByType() {
     private IconFacet iconFacet;
     private CssClassFacet cssClassFacet;
 
-    private IntrospectionState introspectionState = IntrospectionState.NOT_INTROSPECTED;
+    private final AtomicReference<IntrospectionState> introspectionState =
+            new AtomicReference<>(IntrospectionState.NOT_INTROSPECTED);
+    private final IntrospectionStage typeStage = new IntrospectionStage();
+    private final IntrospectionStage membersStage = new IntrospectionStage();
     //endregion
 
     //region > Constructor
@@ -253,47 +263,134 @@ public String getFullIdentifier() {
 
     /**
      * Keeps introspecting up to the level required.
+     *
+     * <p>
+     *     Each stage is performed by exactly one thread: the state is moved on to the &quot;being introspected&quot; stage
+     *     atomically by the thread that will do the work.  Any other thread requesting that stage waits until it has
+     *     completed, so is never handed a partially introspected specification.  The exceptions are a re-entrant call
+     *     from the owning thread itself (eg for a cyclic reference), which returns immediately as it always has, and a
+     *     call that would otherwise deadlock (two threads each waiting on a stage owned by the other, eg while
+     *     introspecting a pair of mutually dependent types), which is treated in the same way.
+     * </p>
      */
     public void introspectUpTo(final IntrospectionState upTo) {
 
         LOG.debug("introspectingUpTo: {}, {}", getFullIdentifier(), upTo);
 
-        switch (introspectionState) {
-        case NOT_INTROSPECTED:
-            if(this.introspectionState.compareTo(upTo) < 0) {
-                // set to avoid infinite loops
-                this.introspectionState = IntrospectionState.TYPE_BEING_INTROSPECTED;
+        if(introspectionState.get().compareTo(upTo) >= 0) {
+            return;
+        }
+
+        if(introspectionState.compareAndSet(IntrospectionState.NOT_INTROSPECTED, IntrospectionState.TYPE_BEING_INTROSPECTED)) {
+            typeStage.begin();
+            try {
                 introspectTypeHierarchy();
                 updateFromFacetValues();
-                this.introspectionState = IntrospectionState.TYPE_INTROSPECTED;
+                introspectionState.set(IntrospectionState.TYPE_INTROSPECTED);
+            } finally {
+                typeStage.end();
             }
+        } else {
+            typeStage.awaitCompletion();
+        }
 
-            if(this.introspectionState.compareTo(upTo) < 0) {
-                this.introspectionState = IntrospectionState.MEMBERS_BEING_INTROSPECTED;
+        if(introspectionState.get().compareTo(upTo) >= 0 ||
+           introspectionState.get().compareTo(IntrospectionState.TYPE_INTROSPECTED) < 0) {
+            // either done, or the type is still being introspected by this thread (a re-entrant call)
+            return;
+        }
+
+        if(introspectionState.compareAndSet(IntrospectionState.TYPE_INTROSPECTED, IntrospectionState.MEMBERS_BEING_INTROSPECTED)) {
+            membersStage.begin();
+            try {
                 introspectMembers();
-                this.introspectionState = IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED;
+                introspectionState.set(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+            } finally {
+                membersStage.end();
             }
-            // set to avoid infinite loops
-            break;
-        case TYPE_BEING_INTROSPECTED:
-            // nothing to do
-            break;
-        case TYPE_INTROSPECTED:
-            if(this.introspectionState.compareTo(upTo) < 0) {
-                // set to avoid infinite loops
-                this.introspectionState = IntrospectionState.MEMBERS_BEING_INTROSPECTED;
-                introspectMembers();
-                this.introspectionState = IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED;
+        } else {
+            membersStage.awaitCompletion();
+        }
+    }
+
+    /**
+     * Tracks the completion of one stage of introspection (of one specification), so that threads other than the one
+     * performing it can wait for it.
+     */
+    static final class IntrospectionStage {
+
+        private static final long WAIT_SLICE_MILLIS = 50;
+
+        /**
+         * The stage (if any) that each thread is currently waiting on; used to detect deadlocks.
+         */
+        private static final ConcurrentMap<Thread, IntrospectionStage> awaitedByThread = new ConcurrentHashMap<>();
+
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile Thread owner;
+
+        void begin() {
+            owner = Thread.currentThread();
+        }
+
+        void end() {
+            completed.countDown();
+        }
+
+        /**
+         * Waits for the stage to be completed by its owning thread, unless called by the owning thread itself or
+         * unless waiting would deadlock.
+         */
+        void awaitCompletion() {
+            if(completed.getCount() == 0) {
+                return;
+            }
+            final Thread currentThread = Thread.currentThread();
+            awaitedByThread.put(currentThread, this);
+            try {
+                while(!wouldDeadlock(currentThread)) {
+                    if(completed.await(WAIT_SLICE_MILLIS, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                awaitedByThread.remove(currentThread);
+            }
+        }
+
+        /**
+         * Whether the chain of threads owning the stages that each is waiting on leads back to this thread (which
+         * includes the re-entrant case, where this thread owns this stage).
+         */
+        private boolean wouldDeadlock(final Thread currentThread) {
+            IntrospectionStage stage = this;
+            for (int i = 0; stage != null && i < 1000; i++) {
+                if(stage.completed.getCount() == 0) {
+                    return false;
+                }
+                final Thread stageOwner = stage.owner;
+                if(stageOwner == null) {
+                    // about to be started by the thread that claimed it
+                    return false;
+                }
+                if(stageOwner == currentThread) {
+                    return true;
+                }
+                stage = awaitedByThread.get(stageOwner);
             }
-            break;
-        case MEMBERS_BEING_INTROSPECTED:
-            // nothing to do
-        case TYPE_AND_MEMBERS_INTROSPECTED:
-            // nothing to do
-            break;
+            return false;
         }
     }
 
+    /**
+     * How far this specification has been introspected (so far).
+     */
+    public IntrospectionState getIntrospectionState() {
+        return introspectionState.get();
+    }
+
     protected abstract void introspectTypeHierarchy();
     protected abstract void introspectMembers();
 
@@ -672,16 +769,21 @@ public List<ObjectAssociation> getAssociations(final Contributed contributed) {
         // there must be a session available
         if(contributed.isIncluded() && !contributeeAndMixedInAssociationsAdded) {
             synchronized (this.associations) {
-                List<ObjectAssociation> associations = Lists.newArrayList(this.associations);
-                if(isPersistenceCapableOrViewModel()) {
-                    associations.addAll(createContributeeAssociations());
-                    associations.addAll(createMixedInAssociations());
+                if(!contributeeAndMixedInAssociationsAdded) {
+                    List<ObjectAssociation> associations = Lists.newArrayList(this.associations);
+                    if(isPersistenceCapableOrViewModel()) {
+                        associations.addAll(createContributeeAssociations());
+                        associations.addAll(createMixedInAssociations());
+                    }
+                    sortAndUpdateAssociations(associations);
+                    contributeeAndMixedInAssociationsAdded = true;
                 }
-                sortAndUpdateAssociations(associations);
-                contributeeAndMixedInAssociationsAdded = true;
             }
         }
-        final List<ObjectAssociation> associations = Lists.newArrayList(this.associations);
+        final List<ObjectAssociation> associations;
+        synchronized (this.associations) {
+            associations = Lists.newArrayList(this.associations);
+        }
         return Lists.newArrayList(Iterables.filter(
                 associations, ContributeeMember.Predicates.regularElse(contributed)));
     }
@@ -822,26 +924,30 @@ public List<ObjectAction> getObjectActions(
         // there must be a session available
         if(contributed.isIncluded() && !contributeeAndMixedInActionsAdded) {
             synchronized (this.objectActions) {
-                final List<ObjectAction> actions = Lists.newArrayList(this.objectActions);
-                if (isPersistenceCapableOrViewModel()) {
-                    // only contribute to entities and view models (not to mixins themselves, nor domain services, nor values).
-                    actions.addAll(createContributeeActions());
-                    actions.addAll(createMixedInActions());
+                if(!contributeeAndMixedInActionsAdded) {
+                    final List<ObjectAction> actions = Lists.newArrayList(this.objectActions);
+                    if (isPersistenceCapableOrViewModel()) {
+                        // only contribute to entities and view models (not to mixins themselves, nor domain services, nor values).
+                        actions.addAll(createContributeeActions());
+                        actions.addAll(createMixedInActions());
+                    }
+                    sortCacheAndUpdateActions(actions);
+                    contributeeAndMixedInActionsAdded = true;
                 }
-                sortCacheAndUpdateActions(actions);
-                contributeeAndMixedInActionsAdded = true;
             }
         }
 
         final List<ObjectAction> actions = Lists.newArrayList();
-        for (final ActionType type : types) {
-            final Collection<ObjectAction> filterActions =
-                    Collections2.filter(objectActionsByType.get(type), Filters.asPredicate(filter));
-            actions.addAll(filterActions);
+        // objectActionsByType is cleared and refilled (under this lock) by sortCacheAndUpdateActions
+        synchronized (this.objectActions) {
+            for (final ActionType type : types) {
+                actions.addAll(objectActionsByType.get(type));
+            }
         }
+        final Collection<ObjectAction> filteredActions = Collections2.filter(actions, Filters.asPredicate(filter));
         return Lists.newArrayList(
                 Iterables.filter(
-                        actions,
+                        filteredActions,
                         ContributeeMember.Predicates.regularElse(contributed)));
     }
 
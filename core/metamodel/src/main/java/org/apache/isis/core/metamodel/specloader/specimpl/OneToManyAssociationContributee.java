@@ -152,7 +152,7 @@ public Consent isVisible(
         final VisibilityContext<?> ic = ((ObjectMemberAbstract)serviceAction).createVisibleInteractionContext(
                 getServiceAdapter(), interactionInitiatedBy, where);
         ic.putContributee(0, contributee); // by definition, the contributee will be the first arg of the service action
-        return InteractionUtils.isVisibleResult(this, ic).createConsent();
+        return InteractionUtils.isVisibleResult(getInteractionPlan(), ic).createConsent();
     }
 
     @Override
@@ -163,7 +163,7 @@ public Consent isUsable(
         final UsabilityContext<?> ic = serviceAction.createUsableInteractionContext(
                 getServiceAdapter(), interactionInitiatedBy, where);
         ic.putContributee(0, contributee); // by definition, the contributee will be the first arg of the service action
-        return InteractionUtils.isUsableResult(this, ic).createConsent();
+        return InteractionUtils.isUsableResult(getInteractionPlan(), ic).createConsent();
     }
 
     //region > FacetHolder
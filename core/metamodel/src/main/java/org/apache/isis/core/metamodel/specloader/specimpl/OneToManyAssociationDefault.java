@@ -28,6 +28,7 @@
 import org.apache.isis.core.metamodel.consent.InteractionResult;
 import org.apache.isis.core.metamodel.facetapi.FeatureType;
 import org.apache.isis.core.metamodel.facets.FacetedMethod;
+import org.apache.isis.core.metamodel.facets.collections.collection.fetch.FetchMembersFacet;
 import org.apache.isis.core.metamodel.facets.collections.modify.CollectionAddToFacet;
 import org.apache.isis.core.metamodel.facets.collections.modify.CollectionClearFacet;
 import org.apache.isis.core.metamodel.facets.collections.modify.CollectionFacet;
@@ -160,8 +161,12 @@ public ObjectAdapter get(
             final InteractionInitiatedBy interactionInitiatedBy) {
 
         final PropertyOrCollectionAccessorFacet accessor = getFacet(PropertyOrCollectionAccessorFacet.class);
-        final Object collection = accessor.getProperty(ownerAdapter,
-                interactionInitiatedBy);
+        final FetchMembersFacet fetchMembersFacet = getFacet(FetchMembersFacet.class);
+        final Object collection = fetchMembersFacet != null
+                ? getPersistenceSessionService().executeWithFetchMembers(
+                        getSpecification().getCorrespondingClass(), fetchMembersFacet.value(),
+                        () -> accessor.getProperty(ownerAdapter, interactionInitiatedBy))
+                : accessor.getProperty(ownerAdapter, interactionInitiatedBy);
         if (collection == null) {
             return null;
         }
@@ -182,7 +182,7 @@ public Consent isVisible(
         final VisibilityContext<?> ic =
                 mixinAction.createVisibleInteractionContext(mixinAdapter, interactionInitiatedBy, where);
         ic.setMixedIn(mixedInAdapter);
-        return InteractionUtils.isVisibleResult(this, ic).createConsent();
+        return InteractionUtils.isVisibleResult(getInteractionPlan(), ic).createConsent();
     }
 
     @Override
@@ -196,7 +196,7 @@ public Consent isUsable(
                 mixinAction.createUsableInteractionContext(
                         mixinAdapter, interactionInitiatedBy, where);
         ic.setMixedIn(mixedInAdapter);
-        return InteractionUtils.isUsableResult(this, ic).createConsent();
+        return InteractionUtils.isUsableResult(getInteractionPlan(), ic).createConsent();
     }
 
     //region > FacetHolder
@@ -134,7 +134,7 @@ public Consent isVisible(
         final VisibilityContext<?> ic = ((ObjectMemberAbstract)serviceAction).createVisibleInteractionContext(
                 getServiceAdapter(), interactionInitiatedBy, where);
         ic.putContributee(0, contributee); // by definition, the contributee will be the first arg of the service action
-        return InteractionUtils.isVisibleResult(this, ic).createConsent();
+        return InteractionUtils.isVisibleResult(getInteractionPlan(), ic).createConsent();
     }
 
     @Override
@@ -144,7 +144,7 @@ public Consent isUsable(
         final UsabilityContext<?> ic = ((ObjectMemberAbstract)serviceAction).createUsableInteractionContext(
                 getServiceAdapter(), interactionInitiatedBy, where);
         ic.putContributee(0, contributee); // by definition, the contributee will be the first arg of the service action
-        return InteractionUtils.isUsableResult(this, ic).createConsent();
+        return InteractionUtils.isUsableResult(getInteractionPlan(), ic).createConsent();
     }
 
     @Override
@@ -19,6 +19,7 @@
 
 package org.apache.isis.core.metamodel.specloader.validator;
 
+import java.util.Collections;
 import java.util.List;
 
 import com.google.common.collect.Lists;
@@ -45,6 +46,13 @@ public MetaModelValidatorComposite addAll(
     }
 
 
+    /**
+     * The validators that make up this composite, in the order that they are {@link #validate(ValidationFailures) run}.
+     */
+    public List<MetaModelValidator> getValidators() {
+        return Collections.unmodifiableList(validators);
+    }
+
     @Override
     public void init(final SpecificationLoader specificationLoader) {
         super.init(specificationLoader);
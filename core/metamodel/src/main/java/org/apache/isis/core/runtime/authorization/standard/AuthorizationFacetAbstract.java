@@ -21,6 +21,7 @@
 
 import org.apache.isis.applib.events.UsabilityEvent;
 import org.apache.isis.applib.events.VisibilityEvent;
+import org.apache.isis.applib.services.metrics.InteractionTiming.Phase;
 import org.apache.isis.core.commons.authentication.AuthenticationSession;
 import org.apache.isis.core.commons.authentication.AuthenticationSessionProvider;
 import org.apache.isis.core.metamodel.facetapi.Facet;
@@ -28,6 +29,7 @@
 import org.apache.isis.core.metamodel.facetapi.FacetHolder;
 import org.apache.isis.core.metamodel.interactions.UsabilityContext;
 import org.apache.isis.core.metamodel.interactions.VisibilityContext;
+import org.apache.isis.core.metamodel.services.metrics.InteractionTimings;
 import org.apache.isis.core.runtime.authorization.AuthorizationManager;
 
 public abstract class AuthorizationFacetAbstract extends FacetAbstract implements AuthorizationFacet {
@@ -50,12 +52,22 @@ public AuthorizationFacetAbstract(
 
     @Override
     public String hides(final VisibilityContext<? extends VisibilityEvent> ic) {
-        return authorizationManager.isVisible(getAuthenticationSession(), ic.getTarget(), ic.getIdentifier()) ? null : "Not authorized to view";
+        final long startedAt = System.nanoTime();
+        try {
+            return authorizationManager.isVisible(getAuthenticationSession(), ic.getTarget(), ic.getIdentifier()) ? null : "Not authorized to view";
+        } finally {
+            InteractionTimings.getInstance().record(ic.getIdentifier(), Phase.AUTHORIZATION, startedAt);
+        }
     }
 
     @Override
     public String disables(final UsabilityContext<? extends UsabilityEvent> ic) {
-        return authorizationManager.isUsable(getAuthenticationSession(), ic.getTarget(), ic.getIdentifier()) ? null : "Not authorized to edit";
+        final long startedAt = System.nanoTime();
+        try {
+            return authorizationManager.isUsable(getAuthenticationSession(), ic.getTarget(), ic.getIdentifier()) ? null : "Not authorized to edit";
+        } finally {
+            InteractionTimings.getInstance().record(ic.getIdentifier(), Phase.AUTHORIZATION, startedAt);
+        }
     }
 
     protected AuthenticationSession getAuthenticationSession() {
@@ -16,91 +16,229 @@
  *  specific language governing permissions and limitations
  *  under the License.
  */
-
 package org.apache.isis.core.runtime.threadpool;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nullable;
 
 import com.google.common.base.Function;
-import com.google.common.base.Supplier;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.Lists;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.apache.isis.core.commons.config.ConfigPropertyEnum;
+import org.apache.isis.core.commons.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.services.metrics.Histogram;
+
+/**
+ * Runs tasks (mostly during bootstrapping) on a shared thread pool.
+ *
+ * <p>
+ * The pool is created with default settings on first use, and (re)configured from {@link IsisConfiguration} once
+ * that is available, using {@link #configure(IsisConfiguration)}:
+ * </p>
+ * <ul>
+ *     <li><tt>isis.threadpool.mode</tt> - either <tt>FIXED</tt> (the default), a fixed-size pool with a bounded
+ *     queue, or <tt>WORK_STEALING</tt>, a {@link ForkJoinPool}.  The latter suits tasks that themselves submit and
+ *     wait upon further tasks, because a waiting worker thread will run other queued tasks.</li>
+ *     <li><tt>isis.threadpool.size</tt> - the number of threads; defaults to the number of available processors
+ *     (but at least 4).</li>
+ *     <li><tt>isis.threadpool.queueCapacity</tt> - the number of tasks that can be queued (<tt>FIXED</tt> mode
+ *     only); defaults to 5000.</li>
+ * </ul>
+ *
+ * <p>
+ * The depth of the queue, number of active threads and the time that tasks spend queued and executing are
+ * available as metrics.
+ * </p>
+ */
 public final class ThreadPoolSupport {
 
     private static final Logger LOG = LoggerFactory.getLogger(ThreadPoolSupport.class);
 
+    public enum Mode {
+        FIXED,
+        WORK_STEALING
+    }
+
+    public static final ConfigPropertyEnum<Mode> CONFIG_PROPERTY_MODE =
+            new ConfigPropertyEnum<>("isis.threadpool.mode", Mode.FIXED);
+
+    public static final String KEY_SIZE = "isis.threadpool.size";
+    public static final String KEY_QUEUE_CAPACITY = "isis.threadpool.queueCapacity";
+
     private final static int KEEP_ALIVE_TIME_SECS = 5;
     private final static int QUEUE_CAPACITY = 5000;
 
-    private static final int MIN_CORE_POOL_SIZE = 4;
-    private static final int MIN_MAX_POOL_SIZE = 4;
-
-    private final ThreadGroup group;
-    private final ThreadPoolExecutor concurrentExecutor;
-    private final ThreadPoolExecutor sequentialExecutor;
+    private static final int MIN_POOL_SIZE = 4;
 
     private static ThreadPoolSupport threadPoolSupport;
 
     public static synchronized ThreadPoolSupport getInstance() {
         if (threadPoolSupport == null) {
-            threadPoolSupport = new ThreadPoolSupport();
+            threadPoolSupport = new ThreadPoolSupport(Settings.DEFAULT);
         }
         return threadPoolSupport;
     }
 
-    private ThreadPoolSupport() {
-        group = new ThreadGroup(ThreadPoolSupport.class.getName());
+    /**
+     * Applies the settings from the configuration.
+     *
+     * <p>
+     *     If the pool has already been created with different settings, then it is replaced; any tasks already
+     *     submitted to the previous pool are still completed.
+     * </p>
+     */
+    public static void configure(final IsisConfiguration configuration) {
+        getInstance().apply(Settings.from(configuration));
+    }
 
-        final int corePoolSize = Math.max(Runtime.getRuntime().availableProcessors(), MIN_CORE_POOL_SIZE);
-        final int maximumPoolSize = Math.max(Runtime.getRuntime().availableProcessors(), MIN_MAX_POOL_SIZE);
+    //region > Settings
 
-        ThreadFactory threadFactory = new ThreadFactory() {
-            @Override
-            public Thread newThread(final Runnable r) {
-                return new Thread(group, r);
-            }
-        };
+    static final class Settings {
 
-        Supplier<BlockingQueue<Runnable>> workQueueFactory = new Supplier<BlockingQueue<Runnable>>() {
-            @Override
-            public BlockingQueue<Runnable> get() {
-                return new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+        static final Settings DEFAULT = new Settings(
+                Mode.FIXED, Math.max(Runtime.getRuntime().availableProcessors(), MIN_POOL_SIZE), QUEUE_CAPACITY);
+
+        static Settings from(final IsisConfiguration configuration) {
+            return new Settings(
+                    CONFIG_PROPERTY_MODE.from(configuration),
+                    Math.max(configuration.getInteger(KEY_SIZE, DEFAULT.size), 1),
+                    Math.max(configuration.getInteger(KEY_QUEUE_CAPACITY, DEFAULT.queueCapacity), 1));
+        }
+
+        private final Mode mode;
+        private final int size;
+        private final int queueCapacity;
+
+        Settings(final Mode mode, final int size, final int queueCapacity) {
+            this.mode = mode;
+            this.size = size;
+            this.queueCapacity = queueCapacity;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
             }
-        };
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Settings other = (Settings) o;
+            return mode == other.mode && size == other.size && queueCapacity == other.queueCapacity;
+        }
 
-        concurrentExecutor = new ThreadPoolExecutor(
-                corePoolSize,
-                maximumPoolSize,
-                KEEP_ALIVE_TIME_SECS,
-                TimeUnit.SECONDS,
-                workQueueFactory.get(),
-                threadFactory);
+        @Override
+        public int hashCode() {
+            return Objects.hash(mode, size, queueCapacity);
+        }
+
+        @Override
+        public String toString() {
+            return mode == Mode.WORK_STEALING
+                    ? String.format("%s, size: %d", mode, size)
+                    : String.format("%s, size: %d, queueCapacity: %d", mode, size, queueCapacity);
+        }
+    }
+
+    //endregion
+
+    //region > constructor, apply, close
+
+    private final ThreadGroup group;
+    private final AtomicInteger threadNumber = new AtomicInteger();
+    private final ThreadPoolExecutor sequentialExecutor;
+
+    private Settings settings;
+    private volatile ExecutorService concurrentExecutor;
+
+    private final Histogram queuedNanos = new Histogram();
+    private final Histogram executingNanos = new Histogram();
+    private final AtomicLong failedTasks = new AtomicLong();
+
+    ThreadPoolSupport(final Settings settings) {
+        group = new ThreadGroup(ThreadPoolSupport.class.getName());
+
+        this.settings = settings;
+        this.concurrentExecutor = newConcurrentExecutor(settings);
 
         sequentialExecutor = new ThreadPoolExecutor(
                 1,
                 1,
                 KEEP_ALIVE_TIME_SECS,
                 TimeUnit.SECONDS,
-                workQueueFactory.get(),
-                threadFactory);
+                new LinkedBlockingQueue<Runnable>(QUEUE_CAPACITY),
+                newThreadFactory());
+    }
+
+    private ExecutorService newConcurrentExecutor(final Settings settings) {
+        if(settings.mode == Mode.WORK_STEALING) {
+            final ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory =
+                    new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+                        @Override
+                        public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+                            final ForkJoinWorkerThread thread =
+                                    ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                            thread.setName(nextThreadName());
+                            return thread;
+                        }
+                    };
+            return new ForkJoinPool(settings.size, threadFactory, null, false);
+        }
 
+        final BlockingQueue<Runnable> workQueue = new LinkedBlockingQueue<>(settings.queueCapacity);
+        return new ThreadPoolExecutor(
+                settings.size,
+                settings.size,
+                KEEP_ALIVE_TIME_SECS,
+                TimeUnit.SECONDS,
+                workQueue,
+                newThreadFactory());
+    }
+
+    private ThreadFactory newThreadFactory() {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable r) {
+                return new Thread(group, r, nextThreadName());
+            }
+        };
+    }
+
+    private String nextThreadName() {
+        return ThreadPoolSupport.class.getSimpleName() + "-" + threadNumber.incrementAndGet();
+    }
+
+    synchronized void apply(final Settings settings) {
+        if(this.settings.equals(settings)) {
+            return;
+        }
+        LOG.info("thread pool: {} (was {})", settings, this.settings);
+        final ExecutorService previousExecutor = this.concurrentExecutor;
+        this.settings = settings;
+        this.concurrentExecutor = newConcurrentExecutor(settings);
+        previousExecutor.shutdown();
     }
 
     public void close() throws Exception {
@@ -112,6 +250,10 @@ public void close() throws Exception {
         }
     }
 
+    //endregion
+
+    //region > invokeAll, invokeAllSequential
+
     /**
      * Executes specified {@code callables} on the default executor.
      * See {@link ThreadPoolExecutor#invokeAll(java.util.Collection)}
@@ -150,7 +292,14 @@ public List<Future<Object>> invokeAllSequential(final Callable<Object>... callab
         return invokeAllSequential(Arrays.asList(callables));
     }
 
+    //endregion
 
+    //region > join, joinGatherFailures
+
+    /**
+     * Waits for each of the futures, returning their results; any task that failed is logged (as a warning), and
+     * has a <tt>null</tt> result.
+     */
     public List<Object> join(final List<Future<Object>> futures) {
         if (futures == null) {
             return null;
@@ -160,24 +309,26 @@ public List<Object> join(final List<Future<Object>> futures) {
         try{
             final List<Object> returnValues = Lists.newArrayList();
             for (Future<Object> future : futures) {
-                Object result;
-                try {
-                    result = future.get();
-                } catch (InterruptedException | ExecutionException e) {
-                    // ignore
-                    result = null;
-                }
-                returnValues.add(result);
+                returnValues.add(join(future));
             }
             return returnValues;
         } finally {
             final long t1 = System.currentTimeMillis();
             if(LOG.isInfoEnabled()) {
-                LOG.info("join'ing {} tasks: waited {} milliseconds ", futures.size(), (t1-t0));
+                logJoined(futures, t1 - t0);
             }
         }
     }
 
+    /**
+     * Waits for all of the futures, returning their results.
+     *
+     * <p>
+     *     If any of the tasks failed, then (once all have completed) a {@link TaskFailedException} is thrown for
+     *     the first task that failed, with those of any other failed tasks as
+     *     {@link Throwable#getSuppressed() suppressed} exceptions.
+     * </p>
+     */
     public List<Object> joinGatherFailures(final List<Future<Object>> futures) {
         if (futures == null) {
             return null;
@@ -186,84 +337,198 @@ public List<Object> joinGatherFailures(final List<Future<Object>> futures) {
         final long t0 = System.currentTimeMillis();
         try{
             final List<Object> returnValues = Lists.newArrayList();
+            TaskFailedException failure = null;
             for (Future<Object> future : futures) {
-                final Object result;
+                Object result = null;
                 try {
                     result = future.get();
-                } catch (InterruptedException | ExecutionException e) {
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
                     throw new RuntimeException(e);
+                } catch (final ExecutionException e) {
+                    final TaskFailedException taskFailure = TaskFailedException.from(e);
+                    if(failure == null) {
+                        failure = taskFailure;
+                    } else {
+                        failure.addSuppressed(taskFailure);
+                    }
                 }
                 returnValues.add(result);
             }
+            if(failure != null) {
+                throw failure;
+            }
             return returnValues;
         } finally {
             final long t1 = System.currentTimeMillis();
-            LOG.info("join'ing {} tasks: waited {} milliseconds ", futures.size(), (t1-t0));
+            logJoined(futures, t1 - t0);
         }
     }
 
+    /**
+     * Waits for the future, returning its result; if the task failed then this is logged (as a warning), and
+     * <tt>null</tt> is returned.
+     */
     public Object join(final Future<Object> future) {
         try {
             return future.get();
-        } catch (InterruptedException | ExecutionException e) {
-            // ignore
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (final ExecutionException e) {
+            final TaskFailedException failure = TaskFailedException.from(e);
+            LOG.warn(failure.getMessage(), failure.getCause());
             return null;
         }
     }
 
+    private void logJoined(final List<Future<Object>> futures, final long waitedMillis) {
+        LOG.info("join'ing {} tasks: waited {} milliseconds (queue depth: {}, active threads: {})",
+                futures.size(), waitedMillis, getQueueDepth(), getActiveThreadCount());
+    }
+
+    /**
+     * Thrown by {@link #joinGatherFailures(List)} if a task failed, identifying the task (by its
+     * {@link Object#toString() description}).
+     */
+    public static class TaskFailedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String task;
+
+        TaskFailedException(final String task, final Throwable cause) {
+            super(String.format("task failed: %s", task), cause);
+            this.task = task;
+        }
+
+        /**
+         * The description of the task that failed.
+         */
+        public String getTask() {
+            return task;
+        }
+
+        static TaskFailedException from(final ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            // tasks are always wrapped (see #timed), so this is just defensive
+            return cause instanceof TaskFailedException
+                    ? (TaskFailedException) cause
+                    : new TaskFailedException("(unknown)", cause);
+        }
+    }
+
+    //endregion
+
+    //region > metrics
+
+    /**
+     * The number of tasks waiting to be executed.
+     */
+    public int getQueueDepth() {
+        final ExecutorService executor = concurrentExecutor;
+        if(executor instanceof ForkJoinPool) {
+            final ForkJoinPool forkJoinPool = (ForkJoinPool) executor;
+            return forkJoinPool.getQueuedSubmissionCount() + (int) forkJoinPool.getQueuedTaskCount();
+        }
+        return ((ThreadPoolExecutor) executor).getQueue().size();
+    }
+
+    /**
+     * The (approximate) number of threads currently executing tasks.
+     */
+    public int getActiveThreadCount() {
+        final ExecutorService executor = concurrentExecutor;
+        if(executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getActiveThreadCount();
+        }
+        return ((ThreadPoolExecutor) executor).getActiveCount();
+    }
+
+    /**
+     * How long (in nanoseconds) tasks have been queued before they started executing.
+     */
+    public Histogram getQueuedNanos() {
+        return queuedNanos;
+    }
+
+    /**
+     * How long (in nanoseconds) tasks took to execute.
+     */
+    public Histogram getExecutingNanos() {
+        return executingNanos;
+    }
+
+    /**
+     * The number of tasks that have failed (thrown an exception).
+     */
+    public long getFailedTaskCount() {
+        return failedTasks.get();
+    }
+
+    //endregion
+
     // -- HELPER
 
-    private List<Future<Object>> invokeAll(ThreadPoolExecutor executor, @Nullable final List<Callable<Object>> callables) {
+    private List<Future<Object>> invokeAll(ExecutorService executor, @Nullable final List<Callable<Object>> callables) {
         if(isEmpty(callables)) {
             return Collections.emptyList();
         }
         try {
-            return executor.invokeAll(timed(executor, callables));
+            return executor.invokeAll(timed(callables));
         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new RuntimeException(e);
         }
     }
 
-    private static List<Callable<Object>> timed(
-            final ThreadPoolExecutor executor,
-            final List<Callable<Object>> callables) {
-        final long queuedAt = System.currentTimeMillis();
+    private List<Callable<Object>> timed(final List<Callable<Object>> callables) {
+        final long queuedAt = System.nanoTime();
+        final int queueDepth = getQueueDepth();
         return FluentIterable.from(callables).transform(
                 new Function<Callable<Object>, Callable<Object>>() {
                     @Override
                     public Callable<Object> apply(final Callable<Object> callable) {
-                        final int queueSize = executor.getQueue().size();
-                        return timed(callable, queueSize, queuedAt);
+                        return timed(callable, queueDepth, queuedAt);
                     }
                 }).toList();
     }
 
-    private static Callable<Object> timed(
+    private Callable<Object> timed(
             final Callable<Object> callable,
-            final int queueSize,
+            final int queueDepth,
             final long queuedAt) {
         return new Callable<Object>() {
             @Override
             public Object call() throws Exception {
 
-                final long startedAt = System.currentTimeMillis();
+                final long startedAt = System.nanoTime();
+                queuedNanos.record(startedAt - queuedAt);
                 if(LOG.isDebugEnabled()) {
                     LOG.debug("START: workQueue.size: {}, waited for: {}ms, {}",
-                            queueSize,
-                            startedAt - queuedAt,
+                            queueDepth,
+                            TimeUnit.NANOSECONDS.toMillis(startedAt - queuedAt),
                             callable.toString());
                 }
                 try {
                     return callable.call();
+                } catch (final Exception ex) {
+                    failedTasks.incrementAndGet();
+                    throw new TaskFailedException(callable.toString(), ex);
                 } finally {
-                    final long completedAt = System.currentTimeMillis();
+                    final long completedAt = System.nanoTime();
+                    executingNanos.record(completedAt - startedAt);
                     if(LOG.isDebugEnabled()) {
                         LOG.debug("END: completed in: {}ms, {}",
-                                completedAt - startedAt,
+                                TimeUnit.NANOSECONDS.toMillis(completedAt - startedAt),
                                 callable.toString());
                     }
                 }
             }
+            @Override
+            public String toString() {
+                return callable.toString();
+            }
         };
     }
 
@@ -17,6 +17,7 @@
 package org.apache.isis.core.metamodel.facets.collections.collection;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.List;
 
 import org.jmock.Expectations;
@@ -49,6 +50,8 @@
 import org.apache.isis.core.metamodel.facets.actcoll.typeof.TypeOfFacetInferredFromGenerics;
 import org.apache.isis.core.metamodel.facets.all.hide.HiddenFacet;
 import org.apache.isis.core.metamodel.facets.collections.collection.disabled.DisabledFacetForCollectionAnnotation;
+import org.apache.isis.core.metamodel.facets.collections.collection.fetch.FetchMembersFacet;
+import org.apache.isis.core.metamodel.facets.collections.collection.fetch.FetchMembersFacetForCollectionAnnotation;
 import org.apache.isis.core.metamodel.facets.collections.collection.hidden.HiddenFacetForCollectionAnnotation;
 import org.apache.isis.core.metamodel.facets.collections.collection.modify.CollectionAddToFacetForDomainEventFromCollectionAnnotation;
 import org.apache.isis.core.metamodel.facets.collections.collection.modify.CollectionAddToFacetForDomainEventFromCollectionInteractionAnnotation;
@@ -623,4 +626,66 @@ public void setOrders(final java.util.Collection<Order> orders) {
 
     }
 
-}
\ No newline at end of file
+    public static class FetchMembers extends CollectionAnnotationFacetFactoryTest {
+
+        @Test
+        public void withAnnotation() {
+
+            class Order {
+            }
+            class Customer {
+                @Collection(fetchMembers = {"product", "shipTo"})
+                public List<Order> getOrders() {
+                    return null;
+                }
+
+                public void setOrders(final List<Order> orders) {
+                }
+            }
+
+            // given
+            final Class<?> cls = Customer.class;
+            collectionMethod = findMethod(Customer.class, "getOrders");
+
+            // when
+            final FacetFactory.ProcessMethodContext processMethodContext = new FacetFactory.ProcessMethodContext(cls,
+                    null, null, collectionMethod, mockMethodRemover, facetedMethod);
+            facetFactory.processFetchMembers(processMethodContext);
+
+            // then
+            final FetchMembersFacet facet = facetedMethod.getFacet(FetchMembersFacet.class);
+            Assert.assertNotNull(facet);
+            Assert.assertTrue(facet instanceof FetchMembersFacetForCollectionAnnotation);
+            assertThat(facet.value(), is(Arrays.asList("product", "shipTo")));
+        }
+
+        @Test
+        public void withoutAnnotation() {
+
+            class Order {
+            }
+            class Customer {
+                public List<Order> getOrders() {
+                    return null;
+                }
+
+                public void setOrders(final List<Order> orders) {
+                }
+            }
+
+            // given
+            final Class<?> cls = Customer.class;
+            collectionMethod = findMethod(Customer.class, "getOrders");
+
+            // when
+            final FacetFactory.ProcessMethodContext processMethodContext = new FacetFactory.ProcessMethodContext(cls,
+                    null, null, collectionMethod, mockMethodRemover, facetedMethod);
+            facetFactory.processFetchMembers(processMethodContext);
+
+            // then
+            Assert.assertNull(facetedMethod.getFacet(FetchMembersFacet.class));
+        }
+
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.interactions;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.annotation.When;
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.applib.events.PropertyVisibilityEvent;
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.consent.InteractionResult;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.facets.FacetedMethod;
+import org.apache.isis.core.metamodel.facets.members.disabled.DisabledFacetAbstract;
+import org.apache.isis.core.metamodel.facets.members.disabled.DisabledFacetAbstractImpl;
+import org.apache.isis.core.metamodel.facets.members.hidden.HiddenFacetAbstract;
+import org.apache.isis.core.metamodel.facets.members.hidden.method.HideForContextFacetNone;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class InteractionPlanTest {
+
+    public static class Customer {
+        public String getFirstName() {
+            return null;
+        }
+    }
+
+    private FacetedMethod facetedMethod;
+    private Identifier identifier;
+
+    @Before
+    public void setUp() throws Exception {
+        facetedMethod = FacetedMethod.createForProperty(Customer.class, "firstName");
+        identifier = facetedMethod.getIdentifier();
+    }
+
+    @Test
+    public void hiding_advisors_only_where_applicable() throws Exception {
+
+        facetedMethod.addFacet(new HiddenOn(Where.ALL_TABLES, facetedMethod));
+
+        final InteractionPlan plan = InteractionPlan.of(facetedMethod);
+
+        assertThat(plan.getHidingAdvisors(Where.OBJECT_FORMS).length, is(0));
+        assertThat(plan.getHidingAdvisors(Where.STANDALONE_TABLES).length, is(1));
+        assertThat(plan.getHidingAdvisors(Where.PARENTED_TABLES).length, is(1));
+        assertThat(plan.getHidingAdvisors(null).length, is(0));
+    }
+
+    @Test
+    public void advisors_that_never_veto_are_dropped() throws Exception {
+
+        facetedMethod.addFacet(new HideForContextFacetNone(facetedMethod));
+        facetedMethod.addFacet(new DisabledFacetAbstractImpl(
+                When.ALWAYS, Where.ANYWHERE, null, facetedMethod, DisabledFacetAbstract.Semantics.ENABLED) {});
+
+        final InteractionPlan plan = InteractionPlan.of(facetedMethod);
+
+        assertThat(plan.getHidingAdvisors(Where.OBJECT_FORMS).length, is(0));
+        assertThat(plan.getDisablingAdvisors().length, is(0));
+    }
+
+    @Test
+    public void same_result_as_consulting_all_facets() throws Exception {
+
+        facetedMethod.addFacet(new HiddenOn(Where.ALL_TABLES, facetedMethod));
+        final InteractionPlan plan = InteractionPlan.of(facetedMethod);
+
+        for (final Where where : new Where[] { Where.OBJECT_FORMS, Where.STANDALONE_TABLES, null }) {
+            final InteractionResult planned = InteractionUtils.isVisibleResult(plan, new Context(where));
+            final InteractionResult unplanned = InteractionUtils.isVisibleResult((FacetHolder) facetedMethod, new Context(where));
+
+            assertThat(planned.isVetoing(), is(unplanned.isVetoing()));
+            assertThat(planned.getReason(), is(unplanned.getReason()));
+        }
+    }
+
+    @Test
+    public void reasons_independent_of_target_are_precomputed() throws Exception {
+
+        final HiddenOn hiddenOn = new HiddenOn(Where.ALL_TABLES, facetedMethod, true);
+        facetedMethod.addFacet(hiddenOn);
+        final InteractionPlan plan = InteractionPlan.of(facetedMethod);
+        hiddenOn.reasonsEvaluated = 0;
+
+        final InteractionResult result = InteractionUtils.isVisibleResult(plan, new Context(Where.STANDALONE_TABLES));
+
+        assertThat(result.isVetoing(), is(true));
+        assertThat(result.getReason(), is("Hidden on " + Where.ALL_TABLES.getFriendlyName()));
+        assertThat(hiddenOn.reasonsEvaluated, is(0));
+    }
+
+    @Test
+    public void reasons_dependent_on_target_are_evaluated() throws Exception {
+
+        final HiddenOn hiddenOn = new HiddenOn(Where.ALL_TABLES, facetedMethod);
+        facetedMethod.addFacet(hiddenOn);
+        final InteractionPlan plan = InteractionPlan.of(facetedMethod);
+
+        InteractionUtils.isVisibleResult(plan, new Context(Where.STANDALONE_TABLES));
+
+        assertThat(hiddenOn.reasonsEvaluated, is(1));
+    }
+
+    @Test
+    public void interaction_event_only_created_if_requested() throws Exception {
+
+        final InteractionPlan plan = InteractionPlan.of(facetedMethod);
+        final Context context = new Context(Where.OBJECT_FORMS);
+
+        final InteractionResult result = InteractionUtils.isVisibleResult(plan, context);
+
+        assertThat(result.isNotVetoing(), is(true));
+        assertThat(result.getReason(), is(nullValue()));
+        assertThat(context.eventsCreated, is(0));
+
+        assertThat(result.getInteractionEvent().isVeto(), is(false));
+        assertThat(context.eventsCreated, is(1));
+    }
+
+    static class HiddenOn extends HiddenFacetAbstract {
+
+        private final boolean independentOfTarget;
+        int reasonsEvaluated;
+
+        HiddenOn(final Where where, final FacetHolder holder) {
+            this(where, holder, false);
+        }
+
+        HiddenOn(final Where where, final FacetHolder holder, final boolean independentOfTarget) {
+            super(When.ALWAYS, where, holder);
+            this.independentOfTarget = independentOfTarget;
+        }
+
+        @Override
+        protected String hiddenReason(final ObjectAdapter target, final Where whereContext) {
+            reasonsEvaluated++;
+            return where().includes(whereContext) ? "Hidden on " + where().getFriendlyName() : null;
+        }
+
+        @Override
+        public boolean isIndependentOfTarget() {
+            return independentOfTarget;
+        }
+    }
+
+    class Context extends PropertyVisibilityContext {
+
+        int eventsCreated;
+
+        Context(final Where where) {
+            super(null, identifier, InteractionInitiatedBy.USER, where);
+        }
+
+        @Override
+        public PropertyVisibilityEvent createInteractionEvent() {
+            eventsCreated++;
+            return new PropertyVisibilityEvent(new Customer(), getIdentifier());
+        }
+    }
+
+}
@@ -37,6 +37,7 @@
 import org.apache.isis.applib.annotation.ActionSemantics;
 import org.apache.isis.applib.annotation.When;
 import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.applib.services.appfeat.ApplicationMemberType;
 import org.apache.isis.applib.services.factory.FactoryService;
 import org.apache.isis.applib.services.registry.ServiceRegistry2;
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
@@ -57,9 +58,11 @@
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 
 public class ApplicationFeatureRepositoryDefaultTest {
 
@@ -326,4 +329,73 @@ public void parentAlreadyEncountered() throws Exception {
 
     }
 
-}
\ No newline at end of file
+    public static class Lookups extends ApplicationFeatureRepositoryDefaultTest {
+
+        @Before
+        public void setUp() throws Exception {
+            super.setUp();
+
+            context.checking(new Expectations() {{
+                allowing(mockServiceRegistry).getRegisteredServices();
+                will(returnValue(Lists.newArrayList()));
+
+                allowing(mockSpecificationLoader).allSpecifications();
+                will(returnValue(Lists.newArrayList()));
+            }});
+
+            final ApplicationFeature bar = addClass("com.mycompany.Bar");
+            bar.addToMembers(ApplicationFeatureId.newMember("com.mycompany.Bar", "name"), ApplicationMemberType.PROPERTY);
+            final ApplicationFeature baz = addClass("com.mycompany.sub.Baz");
+            baz.addToMembers(ApplicationFeatureId.newMember("com.mycompany.sub.Baz", "run"), ApplicationMemberType.ACTION);
+            addPackage("com").addToContents(ApplicationFeatureId.newPackage("com.mycompany"));
+            final ApplicationFeature mycompany = addPackage("com.mycompany");
+            mycompany.addToContents(bar.getFeatureId());
+            mycompany.addToContents(ApplicationFeatureId.newPackage("com.mycompany.sub"));
+            addPackage("com.mycompany.sub").addToContents(baz.getFeatureId());
+        }
+
+        private ApplicationFeature addPackage(final String packageFqn) {
+            final ApplicationFeature feature = new ApplicationFeature(ApplicationFeatureId.newPackage(packageFqn));
+            applicationFeatureRepository.packageFeatures.put(feature.getFeatureId(), feature);
+            return feature;
+        }
+
+        private ApplicationFeature addClass(final String classFqn) {
+            final ApplicationFeature feature = new ApplicationFeature(ApplicationFeatureId.newClass(classFqn));
+            applicationFeatureRepository.classFeatures.put(feature.getFeatureId(), feature);
+            return feature;
+        }
+
+        @Test
+        public void findFeature() throws Exception {
+            final ApplicationFeatureId barId = ApplicationFeatureId.newClass("com.mycompany.Bar");
+            assertThat(applicationFeatureRepository.findFeature(barId).getFeatureId(), is(barId));
+            assertThat(applicationFeatureRepository.findClass(ApplicationFeatureId.newClass("com.mycompany.Foo")), is(nullValue()));
+        }
+
+        @Test
+        public void packageNamesContainingClasses() throws Exception {
+            assertThat(applicationFeatureRepository.packageNamesContainingClasses(null),
+                    contains("com.mycompany", "com.mycompany.sub"));
+            assertThat(applicationFeatureRepository.packageNamesContainingClasses(ApplicationMemberType.ACTION),
+                    contains("com.mycompany.sub"));
+            assertThat(applicationFeatureRepository.packageNamesContainingClasses(ApplicationMemberType.COLLECTION),
+                    is(empty()));
+        }
+
+        @Test
+        public void classNamesContainedIn() throws Exception {
+            assertThat(applicationFeatureRepository.classNamesContainedIn("com.mycompany", null), contains("Bar"));
+            assertThat(applicationFeatureRepository.classNamesContainedIn("com.mycompany", ApplicationMemberType.ACTION), is(empty()));
+            assertThat(applicationFeatureRepository.classNamesContainedIn("com.other", null), is(empty()));
+        }
+
+        @Test
+        public void classNamesRecursivelyContainedIn() throws Exception {
+            assertThat(applicationFeatureRepository.classNamesRecursivelyContainedIn("com"), contains("Bar", "Baz"));
+            assertThat(applicationFeatureRepository.classNamesRecursivelyContainedIn("com.mycompany.sub"), contains("Baz"));
+        }
+
+    }
+
+}
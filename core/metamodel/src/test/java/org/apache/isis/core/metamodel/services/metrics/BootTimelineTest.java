@@ -0,0 +1,139 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services.metrics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.services.metrics.BootTimeline.Counter;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class BootTimelineTest {
+
+    private BootTimeline bootTimeline;
+
+    @Before
+    public void setUp() throws Exception {
+        bootTimeline = new BootTimeline();
+    }
+
+    @Test
+    public void nests_phases_of_same_thread() throws Exception {
+
+        try (final BootTimeline.Phase boot = bootTimeline.start("boot")) {
+            try (final BootTimeline.Phase load = bootTimeline.start("load")) {
+                assertThat(bootTimeline.current(), is(sameInstance(load)));
+            }
+            assertThat(bootTimeline.current(), is(sameInstance(boot)));
+            bootTimeline.start("validate").close();
+        }
+        assertThat(bootTimeline.current(), is(nullValue()));
+
+        final String json = bootTimeline.toJson();
+        assertThat(json, containsString(
+                "    \"name\": \"boot\",\n"));
+        assertThat(json, containsString(
+                "        \"name\": \"load\",\n"));
+        assertThat(json, containsString(
+                "        \"name\": \"validate\",\n"));
+        assertThat(json.startsWith("[\n  {\n"), is(true));
+        assertThat(json.endsWith("\n  }\n]"), is(true));
+    }
+
+    @Test
+    public void nests_phase_of_other_thread_explicitly() throws Exception {
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (final BootTimeline.Phase boot = bootTimeline.start("boot")) {
+            executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    try (final BootTimeline.Phase init = bootTimeline.start("init", boot)) {
+                        bootTimeline.start("nested").close();
+                    }
+                    assertThat(bootTimeline.current(), is(nullValue()));
+                }
+            }).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        final String json = bootTimeline.toJson();
+        assertThat(json, containsString(
+                "        \"name\": \"init\",\n"));
+        assertThat(json, containsString(
+                "            \"name\": \"nested\",\n"));
+    }
+
+    @Test
+    public void records_change_in_counts() throws Exception {
+
+        bootTimeline.increment(Counter.FACETS_ADDED);
+
+        try (final BootTimeline.Phase boot = bootTimeline.start("boot")) {
+            bootTimeline.increment(Counter.SPECIFICATIONS_LOADED);
+            bootTimeline.increment(Counter.FACETS_ADDED);
+            bootTimeline.increment(Counter.FACETS_ADDED);
+        }
+
+        assertThat(bootTimeline.countOf(Counter.FACETS_ADDED), is(3L));
+
+        final String json = bootTimeline.toJson();
+        assertThat(json, containsString("\"specificationsLoaded\": 1,"));
+        assertThat(json, containsString("\"facetsAdded\": 2,"));
+    }
+
+    @Test
+    public void running_phase_reported_as_unknown() throws Exception {
+
+        bootTimeline.start("boot");
+
+        final String json = bootTimeline.toJson();
+        assertThat(json, containsString("\"wallClockMillis\": -1,"));
+        assertThat(json, containsString("\"facetsAdded\": -1,"));
+    }
+
+    @Test
+    public void escapes_names() throws Exception {
+
+        bootTimeline.start("\"quoted\"\\path\n").close();
+
+        assertThat(bootTimeline.toJson(), containsString("\"name\": \"\\\"quoted\\\"\\\\path\\n\","));
+    }
+
+    @Test
+    public void reset_discards_phases() throws Exception {
+
+        bootTimeline.start("boot").close();
+        assertThat(bootTimeline.toJson(), is(not("[]")));
+
+        bootTimeline.reset();
+        assertThat(bootTimeline.toJson(), is("[]"));
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services.metrics;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class HistogramTest {
+
+    private Histogram histogram;
+
+    @Before
+    public void setUp() throws Exception {
+        histogram = new Histogram();
+    }
+
+    @Test
+    public void empty() throws Exception {
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getMax(), is(0L));
+        assertThat(histogram.valueAtPercentile(99), is(0L));
+    }
+
+    @Test
+    public void buckets_are_contiguous() throws Exception {
+        for (long value = 0; value < 100000; value++) {
+            final int bucket = Histogram.bucketFor(value);
+            assertThat(value <= Histogram.highestValueIn(bucket), is(true));
+            if(bucket > 0) {
+                assertThat(value > Histogram.highestValueIn(bucket - 1), is(true));
+            }
+        }
+    }
+
+    @Test
+    public void values_beyond_range_go_into_last_bucket() throws Exception {
+        final int lastBucket = Histogram.bucketFor((1L << Histogram.MAX_EXPONENT) - 1);
+        assertThat(Histogram.bucketFor(1L << Histogram.MAX_EXPONENT), is(lastBucket));
+        assertThat(Histogram.bucketFor(Long.MAX_VALUE), is(lastBucket));
+    }
+
+    @Test
+    public void percentiles_within_25_percent() throws Exception {
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        assertThat(histogram.getCount(), is(1000L));
+        assertThat(histogram.getTotal(), is(500500L * 1000));
+        assertThat(histogram.getMax(), is(1000000L));
+
+        assertWithin25Percent(histogram.valueAtPercentile(50), 500000L);
+        assertWithin25Percent(histogram.valueAtPercentile(90), 900000L);
+        assertThat(histogram.valueAtPercentile(100), is(1000000L));
+    }
+
+    private static void assertWithin25Percent(final long actual, final long expected) {
+        assertThat(actual, is(greaterThanOrEqualTo(expected)));
+        assertThat(actual, is(lessThanOrEqualTo(expected + expected / 4)));
+    }
+
+}
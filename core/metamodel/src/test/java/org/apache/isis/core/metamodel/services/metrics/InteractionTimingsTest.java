@@ -0,0 +1,87 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services.metrics;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.services.metrics.InteractionTiming;
+import org.apache.isis.applib.services.metrics.InteractionTiming.Phase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class InteractionTimingsTest {
+
+    private InteractionTimings interactionTimings;
+
+    @Before
+    public void setUp() throws Exception {
+        interactionTimings = new InteractionTimings();
+    }
+
+    @Test
+    public void records_per_member_and_phase() throws Exception {
+        final Identifier placeOrder = Identifier.actionIdentifier("com.mycompany.Customer", "placeOrder", String.class);
+        final Identifier name = Identifier.propertyOrCollectionIdentifier("com.mycompany.Customer", "name");
+
+        final long startedAt = System.nanoTime();
+        interactionTimings.record(placeOrder, Phase.INVOCATION, startedAt);
+        interactionTimings.record(placeOrder, Phase.INVOCATION, startedAt);
+        interactionTimings.record(placeOrder, Phase.HIDE, startedAt);
+        interactionTimings.record(name, Phase.DISABLE, startedAt);
+
+        final List<InteractionTiming> timings = interactionTimings.snapshot();
+
+        assertThat(timings.size(), is(3));
+
+        assertThat(timings.get(0).getMemberIdentifier(), is("com.mycompany.Customer#name"));
+        assertThat(timings.get(0).getPhase(), is(Phase.DISABLE));
+        assertThat(timings.get(0).getCount(), is(1L));
+
+        assertThat(timings.get(1).getMemberIdentifier(), is("com.mycompany.Customer#placeOrder()"));
+        assertThat(timings.get(1).getPhase(), is(Phase.HIDE));
+        assertThat(timings.get(1).getCount(), is(1L));
+
+        assertThat(timings.get(2).getMemberIdentifier(), is("com.mycompany.Customer#placeOrder()"));
+        assertThat(timings.get(2).getPhase(), is(Phase.INVOCATION));
+        assertThat(timings.get(2).getCount(), is(2L));
+    }
+
+    @Test
+    public void ignores_null_identifiers() throws Exception {
+        interactionTimings.record((Identifier) null, Phase.FLUSH, System.nanoTime());
+        interactionTimings.record((String) null, Phase.FLUSH, System.nanoTime());
+
+        assertThat(interactionTimings.snapshot().isEmpty(), is(true));
+    }
+
+    @Test
+    public void reset() throws Exception {
+        interactionTimings.record("com.mycompany.Customer#name", Phase.DISABLE, System.nanoTime());
+
+        interactionTimings.reset();
+
+        assertThat(interactionTimings.snapshot().isEmpty(), is(true));
+    }
+
+}
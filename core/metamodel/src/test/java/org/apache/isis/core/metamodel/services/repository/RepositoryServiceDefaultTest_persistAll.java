@@ -0,0 +1,105 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services.repository;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.services.persistsession.PersistenceSessionServiceInternal;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class RepositoryServiceDefaultTest_persistAll {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    private RepositoryServiceInternalDefault repositoryService;
+
+    @Mock
+    private PersistenceSessionServiceInternal mockPersistenceSessionServiceInternal;
+
+    @Mock
+    private ObjectAdapter mockTransientAdapter;
+
+    @Mock
+    private ObjectAdapter mockPersistentAdapter;
+
+    private final Object transientObject = new Object();
+    private final Object persistentObject = new Object();
+
+    @Before
+    public void setUp() throws Exception {
+        repositoryService = new RepositoryServiceInternalDefault();
+        repositoryService.persistenceSessionServiceInternal = mockPersistenceSessionServiceInternal;
+
+        context.checking(new Expectations() {{
+            allowing(mockPersistenceSessionServiceInternal).adapterFor(transientObject);
+            will(returnValue(mockTransientAdapter));
+            allowing(mockTransientAdapter).representsPersistent();
+            will(returnValue(false));
+            allowing(mockTransientAdapter).isParentedCollection();
+            will(returnValue(false));
+
+            allowing(mockPersistenceSessionServiceInternal).adapterFor(persistentObject);
+            will(returnValue(mockPersistentAdapter));
+            allowing(mockPersistentAdapter).representsPersistent();
+            will(returnValue(true));
+        }});
+    }
+
+    @Test
+    public void persists_only_those_not_yet_persistent_in_one_batch() throws Exception {
+        // expect
+        context.checking(new Expectations() {{
+            oneOf(mockPersistenceSessionServiceInternal).makePersistentAll(Collections.singletonList(mockTransientAdapter));
+        }});
+
+        // when
+        final List<Object> objects = Arrays.asList(transientObject, persistentObject);
+        final List<Object> persisted = repositoryService.persistAll(objects);
+
+        // then
+        assertThat(persisted, is(sameInstance(objects)));
+    }
+
+    @Test
+    public void does_nothing_when_all_already_persistent() throws Exception {
+        // expect
+        context.checking(new Expectations() {{
+            never(mockPersistenceSessionServiceInternal).makePersistentAll(with(any(List.class)));
+        }});
+
+        // when
+        repositoryService.persistAll(Collections.singletonList(persistentObject));
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services.swagger;
+
+import java.util.Collections;
+
+import org.jmock.Expectations;
+import org.jmock.api.Action;
+import org.jmock.api.Invocation;
+import org.jmock.auto.Mock;
+import org.jmock.lib.action.CustomAction;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.applib.services.swagger.SwaggerService.Format;
+import org.apache.isis.applib.services.swagger.SwaggerService.Visibility;
+import org.apache.isis.core.metamodel.services.swagger.internal.SwaggerSpecGenerator;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class SwaggerServiceDefaultTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    SpecificationLoader mockSpecificationLoader;
+
+    private long metaModelVersion;
+    private int generationCount;
+
+    private SwaggerServiceDefault swaggerService;
+
+    @Before
+    public void setUp() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockSpecificationLoader).getMetaModelVersion();
+            will(returnValueOfMetaModelVersion());
+        }});
+
+        swaggerService = new SwaggerServiceDefault() {
+            @Override
+            SwaggerSpecGenerator newSwaggerSpecGenerator() {
+                return new SwaggerSpecGenerator(mockSpecificationLoader) {
+                    @Override
+                    public String generate(final String basePath, final Visibility visibility, final Format format) {
+                        generationCount++;
+                        return basePath + ":" + visibility + ":" + format + ":" + metaModelVersion;
+                    }
+                };
+            }
+        };
+        swaggerService.specificationLoader = mockSpecificationLoader;
+        swaggerService.init(Collections.<String, String>emptyMap());
+    }
+
+    @Test
+    public void cached_per_visibility_and_format() throws Exception {
+
+        final String publicJson = swaggerService.generateSwaggerSpec(Visibility.PUBLIC, Format.JSON);
+        assertThat(publicJson, is("/restful:PUBLIC:JSON:0"));
+
+        assertThat(swaggerService.generateSwaggerSpec(Visibility.PUBLIC, Format.JSON), is(sameInstance(publicJson)));
+        assertThat(generationCount, is(1));
+
+        assertThat(swaggerService.generateSwaggerSpec(Visibility.PUBLIC, Format.YAML), is("/restful:PUBLIC:YAML:0"));
+        assertThat(swaggerService.generateSwaggerSpec(Visibility.PRIVATE, Format.JSON), is("/restful:PRIVATE:JSON:0"));
+        assertThat(generationCount, is(3));
+    }
+
+    @Test
+    public void regenerated_when_metamodel_changes() throws Exception {
+
+        final String before = swaggerService.generateSwaggerSpec(Visibility.PRIVATE, Format.YAML);
+
+        metaModelVersion++;
+
+        final String after = swaggerService.generateSwaggerSpec(Visibility.PRIVATE, Format.YAML);
+        assertThat(after, is(not(sameInstance(before))));
+        assertThat(after, is("/restful:PRIVATE:YAML:1"));
+        assertThat(generationCount, is(2));
+
+        assertThat(swaggerService.generateSwaggerSpec(Visibility.PRIVATE, Format.YAML), is(sameInstance(after)));
+        assertThat(generationCount, is(2));
+    }
+
+    @Test
+    public void eager_init_pregenerates_json() throws Exception {
+
+        swaggerService.init(Collections.singletonMap(SwaggerServiceDefault.KEY_INIT, "eager"));
+        assertThat(generationCount, is(Visibility.values().length));
+
+        swaggerService.generateSwaggerSpec(Visibility.PUBLIC, Format.JSON);
+        swaggerService.generateSwaggerSpec(Visibility.PRIVATE_WITH_PROTOTYPING, Format.JSON);
+        assertThat(generationCount, is(Visibility.values().length));
+    }
+
+    private Action returnValueOfMetaModelVersion() {
+        return new CustomAction("returns current metamodel version") {
+            @Override
+            public Object invoke(final Invocation invocation) throws Throwable {
+                return metaModelVersion;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.applib.AppManifest;
+import org.apache.isis.applib.services.grid.GridService;
+import org.apache.isis.applib.services.message.MessageService;
+import org.apache.isis.core.commons.authentication.AuthenticationSessionProvider;
+import org.apache.isis.core.commons.config.IsisConfigurationDefault;
+import org.apache.isis.core.metamodel.deployment.DeploymentCategory;
+import org.apache.isis.core.metamodel.deployment.DeploymentCategoryProvider;
+import org.apache.isis.core.metamodel.layoutmetadata.LayoutMetadataReader;
+import org.apache.isis.core.metamodel.services.ServicesInjector;
+import org.apache.isis.core.metamodel.services.persistsession.PersistenceSessionServiceInternal;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.validator.MetaModelValidatorComposite;
+import org.apache.isis.core.metamodel.specloader.validator.MetaModelValidatorForValidationFailures;
+import org.apache.isis.core.metamodel.specloader.validator.MetaModelValidatorVisiting;
+import org.apache.isis.core.metamodel.specloader.validator.ValidationFailures;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+import org.apache.isis.progmodels.dflt.ProgrammingModelFacetsJava5;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SpecificationLoaderTest_validate {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private DeploymentCategoryProvider mockDeploymentCategoryProvider;
+    @Mock
+    private AuthenticationSessionProvider mockAuthenticationSessionProvider;
+    @Mock
+    private GridService mockGridService;
+    @Mock
+    private PersistenceSessionServiceInternal mockPersistenceSessionServiceInternal;
+    @Mock
+    private MessageService mockMessageService;
+
+    private IsisConfigurationDefault stubConfiguration;
+    private MetaModelValidatorComposite metaModelValidator;
+    private MetaModelValidatorForValidationFailures collectedFailures;
+
+    @Before
+    public void setUp() throws Exception {
+
+        context.checking(new Expectations() {{
+            allowing(mockDeploymentCategoryProvider).getDeploymentCategory();
+            will(returnValue(DeploymentCategory.PRODUCTION));
+
+            ignoring(mockGridService).existsFor(with(any(Class.class)));
+
+            ignoring(mockPersistenceSessionServiceInternal);
+            ignoring(mockMessageService);
+        }});
+
+        // the registry is otherwise populated by the AppManifest
+        final AppManifest.Registry registry = AppManifest.Registry.instance();
+        registry.setMixinTypes(Collections.<Class<?>>emptySet());
+        registry.setDomainObjectTypes(Collections.<Class<?>>emptySet());
+        registry.setViewModelTypes(Collections.<Class<?>>emptySet());
+        registry.setXmlElementTypes(Collections.<Class<?>>emptySet());
+
+        stubConfiguration = new IsisConfigurationDefault(null);
+
+        collectedFailures = new MetaModelValidatorForValidationFailures();
+        metaModelValidator = new MetaModelValidatorComposite()
+                .add(visitingValidatorReporting("first", 50))
+                .add(collectedFailures)
+                .add(new MetaModelValidatorComposite().add(visitingValidatorReporting("third", 0)))
+                .add(visitingValidatorReporting("fourth", 0));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        final AppManifest.Registry registry = AppManifest.Registry.instance();
+        registry.setMixinTypes(null);
+        registry.setDomainObjectTypes(null);
+        registry.setViewModelTypes(null);
+        registry.setXmlElementTypes(null);
+    }
+
+    @Test
+    public void failures_gathered_in_order_when_parallelized() throws Exception {
+        stubConfiguration.add("isis.reflector.introspector.parallelize", "true");
+
+        assertThat(validate(), is((List<String>) Lists.newArrayList("first", "second", "third", "fourth")));
+    }
+
+    @Test
+    public void failures_gathered_in_order_when_sequential() throws Exception {
+        stubConfiguration.add("isis.reflector.introspector.parallelize", "false");
+
+        assertThat(validate(), is((List<String>) Lists.newArrayList("first", "second", "third", "fourth")));
+    }
+
+    private List<String> validate() {
+        final ServicesInjector stubServicesInjector =
+                new ServicesInjector(
+                        Lists.newArrayList(
+                                mockAuthenticationSessionProvider,
+                                stubConfiguration,
+                                mockDeploymentCategoryProvider,
+                                mockPersistenceSessionServiceInternal,
+                                mockMessageService,
+                                mockGridService),
+                        stubConfiguration);
+
+        final SpecificationLoader specificationLoader =
+                new SpecificationLoader(
+                        stubConfiguration, new ProgrammingModelFacetsJava5(stubConfiguration),
+                        metaModelValidator, Lists.<LayoutMetadataReader>newArrayList(), stubServicesInjector);
+        stubServicesInjector.addFallbackIfRequired(SpecificationLoader.class, specificationLoader);
+        specificationLoader.init();
+
+        collectedFailures.addFailure("second");
+
+        final ValidationFailures validationFailures = specificationLoader.validate();
+        return Lists.newArrayList(validationFailures.getMessages());
+    }
+
+    private static MetaModelValidatorVisiting visitingValidatorReporting(final String message, final long delayMillis) {
+        return new MetaModelValidatorVisiting(new MetaModelValidatorVisiting.Visitor() {
+            @Override
+            public boolean visit(final ObjectSpecification objectSpec, final ValidationFailures validationFailures) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                validationFailures.add(message);
+                return false;
+            }
+        });
+    }
+
+}
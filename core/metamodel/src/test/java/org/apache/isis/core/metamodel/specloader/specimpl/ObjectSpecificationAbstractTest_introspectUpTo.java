@@ -0,0 +1,224 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader.specimpl;
+
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.Lists;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.deployment.DeploymentCategory;
+import org.apache.isis.core.metamodel.deployment.DeploymentCategoryProvider;
+import org.apache.isis.core.metamodel.services.ServicesInjector;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.core.metamodel.specloader.specimpl.standalonelist.ObjectSpecificationOnStandaloneList;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ObjectSpecificationAbstractTest_introspectUpTo {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private ServicesInjector mockServicesInjector;
+    @Mock
+    private SpecificationLoader mockSpecificationLoader;
+    @Mock
+    private DeploymentCategoryProvider mockDeploymentCategoryProvider;
+
+    private CountingSpecification spec;
+
+    @Before
+    public void setUp() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockServicesInjector).getSpecificationLoader();
+            will(returnValue(mockSpecificationLoader));
+            allowing(mockServicesInjector).getDeploymentCategoryProvider();
+            will(returnValue(mockDeploymentCategoryProvider));
+            allowing(mockDeploymentCategoryProvider).getDeploymentCategory();
+            will(returnValue(DeploymentCategory.PRODUCTION));
+        }});
+        spec = new CountingSpecification(mockServicesInjector);
+    }
+
+    @Test
+    public void stops_at_requested_state() throws Exception {
+
+        spec.introspectUpTo(IntrospectionState.TYPE_INTROSPECTED);
+
+        assertThat(spec.getIntrospectionState(), is(IntrospectionState.TYPE_INTROSPECTED));
+        assertThat(spec.typeCount.get(), is(1));
+        assertThat(spec.membersCount.get(), is(0));
+
+        spec.introspectUpTo(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+
+        assertThat(spec.getIntrospectionState(), is(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED));
+        assertThat(spec.typeCount.get(), is(1));
+        assertThat(spec.membersCount.get(), is(1));
+    }
+
+    @Test
+    public void reentrant_call_does_not_introspect_again() throws Exception {
+
+        spec.reenter = true;
+
+        spec.introspectUpTo(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+
+        assertThat(spec.getIntrospectionState(), is(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED));
+        assertThat(spec.typeCount.get(), is(1));
+        assertThat(spec.membersCount.get(), is(1));
+    }
+
+    @Test
+    public void each_stage_performed_once_when_called_concurrently() throws Exception {
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = Lists.newArrayList();
+        final List<IntrospectionState> observedStates = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    spec.introspectUpTo(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+                    observedStates.add(spec.getIntrospectionState());
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(spec.getIntrospectionState(), is(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED));
+        assertThat(spec.typeCount.get(), is(1));
+        assertThat(spec.membersCount.get(), is(1));
+
+        // each caller waited for the introspection to complete, rather than returning while it was under way
+        assertThat(observedStates.size(), is(8));
+        for (final IntrospectionState observedState : observedStates) {
+            assertThat(observedState, is(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED));
+        }
+    }
+
+    @Test
+    public void mutually_dependent_specs_on_different_threads_do_not_deadlock() throws Exception {
+
+        final CountingSpecification other = new CountingSpecification(mockServicesInjector);
+        final CyclicBarrier bothIntrospectingMembers = new CyclicBarrier(2);
+        spec.membersDependOn(other, bothIntrospectingMembers);
+        other.membersDependOn(spec, bothIntrospectingMembers);
+
+        final Thread thread1 = introspectOnNewThread(spec);
+        final Thread thread2 = introspectOnNewThread(other);
+        thread1.join(10000);
+        thread2.join(10000);
+
+        assertThat(thread1.isAlive(), is(false));
+        assertThat(thread2.isAlive(), is(false));
+        assertThat(spec.getIntrospectionState(), is(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED));
+        assertThat(other.getIntrospectionState(), is(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED));
+    }
+
+    private static Thread introspectOnNewThread(final ObjectSpecificationAbstract spec) {
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                spec.introspectUpTo(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    static class CountingSpecification extends ObjectSpecificationOnStandaloneList {
+
+        final AtomicInteger typeCount = new AtomicInteger();
+        final AtomicInteger membersCount = new AtomicInteger();
+        boolean reenter;
+        private ObjectSpecificationAbstract membersDependOn;
+        private CyclicBarrier barrier;
+
+        CountingSpecification(final ServicesInjector servicesInjector) {
+            super(servicesInjector, null, null);
+        }
+
+        @Override
+        protected void introspectTypeHierarchy() {
+            typeCount.incrementAndGet();
+            pause();
+            if(reenter) {
+                introspectUpTo(IntrospectionState.TYPE_INTROSPECTED);
+            }
+        }
+
+        @Override
+        protected void introspectMembers() {
+            membersCount.incrementAndGet();
+            pause();
+            if(reenter) {
+                introspectUpTo(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+            }
+            if(membersDependOn != null) {
+                try {
+                    barrier.await();
+                } catch (InterruptedException | BrokenBarrierException e) {
+                    throw new RuntimeException(e);
+                }
+                membersDependOn.introspectUpTo(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+            }
+        }
+
+        void membersDependOn(final ObjectSpecificationAbstract other, final CyclicBarrier barrier) {
+            this.membersDependOn = other;
+            this.barrier = barrier;
+        }
+
+        private static void pause() {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
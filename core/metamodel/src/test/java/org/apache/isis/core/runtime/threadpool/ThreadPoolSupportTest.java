@@ -0,0 +1,138 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.threadpool;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import com.google.common.collect.Lists;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.isis.core.commons.config.IsisConfigurationDefault;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ThreadPoolSupportTest {
+
+    private ThreadPoolSupport threadPoolSupport;
+
+    @After
+    public void tearDown() throws Exception {
+        if(threadPoolSupport != null) {
+            threadPoolSupport.close();
+        }
+    }
+
+    @Test
+    public void joinGatherFailures_reports_every_failed_task() throws Exception {
+        threadPoolSupport = new ThreadPoolSupport(ThreadPoolSupport.Settings.DEFAULT);
+
+        final List<Future<Object>> futures = threadPoolSupport.invokeAll(
+                returning("ok"), failing("first"), failing("second"));
+
+        try {
+            threadPoolSupport.joinGatherFailures(futures);
+            fail();
+        } catch (final ThreadPoolSupport.TaskFailedException ex) {
+            assertThat(ex.getTask(), is("first"));
+            assertThat(ex.getCause(), is(instanceOf(IllegalStateException.class)));
+            assertThat(ex.getSuppressed().length, is(1));
+            assertThat(((ThreadPoolSupport.TaskFailedException) ex.getSuppressed()[0]).getTask(), is("second"));
+        }
+        assertThat(threadPoolSupport.getFailedTaskCount(), is(2L));
+    }
+
+    @Test
+    public void join_returns_null_for_failed_task() throws Exception {
+        threadPoolSupport = new ThreadPoolSupport(ThreadPoolSupport.Settings.DEFAULT);
+
+        final List<Object> results = threadPoolSupport.join(
+                threadPoolSupport.invokeAll(returning("ok"), failing("failing")));
+
+        assertThat(results.get(0), is((Object) "ok"));
+        assertThat(results.get(1), is(nullValue()));
+    }
+
+    @Test(timeout = 10000)
+    public void work_stealing_runs_nested_tasks_even_if_single_thread() throws Exception {
+        threadPoolSupport = new ThreadPoolSupport(
+                new ThreadPoolSupport.Settings(ThreadPoolSupport.Mode.WORK_STEALING, 1, 1));
+
+        final List<Object> results = threadPoolSupport.joinGatherFailures(threadPoolSupport.invokeAll(
+                new Callable<Object>() {
+                    @Override
+                    public Object call() throws Exception {
+                        return threadPoolSupport.joinGatherFailures(
+                                threadPoolSupport.invokeAll(returning("a"), returning("b")));
+                    }
+                }));
+
+        assertThat(results.get(0), is((Object) Lists.newArrayList("a", "b")));
+        assertThat(threadPoolSupport.getExecutingNanos().getCount(), is(3L));
+        assertThat(threadPoolSupport.getQueuedNanos().getCount(), is(3L));
+    }
+
+    @Test
+    public void configure_replaces_pool_but_completes_tasks_already_submitted() throws Exception {
+        threadPoolSupport = new ThreadPoolSupport(ThreadPoolSupport.Settings.DEFAULT);
+
+        final List<Future<Object>> futures = threadPoolSupport.invokeAll(returning("before"));
+
+        final IsisConfigurationDefault configuration = new IsisConfigurationDefault(null);
+        configuration.add("isis.threadpool.mode", "work_stealing");
+        configuration.add(ThreadPoolSupport.KEY_SIZE, "2");
+        threadPoolSupport.apply(ThreadPoolSupport.Settings.from(configuration));
+
+        assertThat(threadPoolSupport.joinGatherFailures(futures).get(0), is((Object) "before"));
+        assertThat(threadPoolSupport.joinGatherFailures(
+                threadPoolSupport.invokeAll(returning("after"))).get(0), is((Object) "after"));
+    }
+
+    private static Callable<Object> returning(final String result) {
+        return new Callable<Object>() {
+            @Override
+            public Object call() {
+                return result;
+            }
+            public String toString() {
+                return result;
+            }
+        };
+    }
+
+    private static Callable<Object> failing(final String task) {
+        return new Callable<Object>() {
+            @Override
+            public Object call() {
+                throw new IllegalStateException(task);
+            }
+            public String toString() {
+                return task;
+            }
+        };
+    }
+
+}
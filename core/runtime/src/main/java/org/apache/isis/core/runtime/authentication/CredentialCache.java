@@ -0,0 +1,187 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.authentication;
+
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Predicate;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import org.apache.isis.core.commons.config.IsisConfiguration;
+
+/**
+ * A bounded cache of the outcome of verifying a set of credentials (for example, the authenticated session), so
+ * that repeated requests presenting the same credentials need not be re-verified (for example, by binding to an
+ * LDAP server).
+ *
+ * <p>
+ * Entries are keyed by a salted hash of the credentials (the credentials themselves are never held; the salt is
+ * random and held only in memory), and expire after a configurable time-to-live.  Caching is disabled if the
+ * time-to-live is zero.
+ *
+ * <p>
+ * Entries can also be revoked explicitly, for example if a user's password or roles are changed.
+ */
+public class CredentialCache<V> {
+
+    /**
+     * Suffix of the configuration property for how long (in seconds) an entry is cached for; disabled if zero.
+     */
+    public static final String TTL_SECONDS_SUFFIX = ".ttlSeconds";
+    private static final int TTL_SECONDS_DEFAULT = 0;
+
+    /**
+     * Suffix of the configuration property for the maximum number of entries.
+     */
+    public static final String MAX_SIZE_SUFFIX = ".maxSize";
+    private static final int MAX_SIZE_DEFAULT = 10000;
+
+    private static final int SALT_LENGTH = 32;
+
+    /**
+     * Creates a cache configured from the properties with the provided prefix.
+     */
+    public static <V> CredentialCache<V> create(final IsisConfiguration configuration, final String keyPrefix) {
+        return new CredentialCache<>(
+                configuration.getInteger(keyPrefix + TTL_SECONDS_SUFFIX, TTL_SECONDS_DEFAULT),
+                configuration.getInteger(keyPrefix + MAX_SIZE_SUFFIX, MAX_SIZE_DEFAULT),
+                Ticker.systemTicker());
+    }
+
+    private final byte[] salt;
+    private final Cache<String, V> valueByKey;
+
+    public CredentialCache(final long ttlSeconds, final long maxSize, final Ticker ticker) {
+        this.salt = new byte[SALT_LENGTH];
+        new SecureRandom().nextBytes(salt);
+        this.valueByKey = ttlSeconds > 0
+                ? CacheBuilder.newBuilder()
+                    .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                    .maximumSize(maxSize)
+                    .ticker(ticker)
+                    .recordStats()
+                    .<String, V>build()
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return valueByKey != null;
+    }
+
+    /**
+     * The key for the provided credentials.
+     *
+     * <p>
+     * The first credential should be some discriminator of the caller (eg the name of the authentication scheme),
+     * so that different callers cannot share entries.
+     */
+    public String keyFor(final String... credentials) {
+        final Hasher hasher = Hashing.sha256().newHasher().putBytes(salt);
+        for (final String credential : credentials) {
+            // length-prefixed, so that ("ab", "c") and ("a", "bc") do not collide
+            final String nonNull = credential != null ? credential : "";
+            hasher.putInt(nonNull.length()).putString(nonNull, Charsets.UTF_8);
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * The value cached against the key, or <tt>null</tt> if none (or if disabled).
+     */
+    public V lookup(final String key) {
+        return valueByKey != null ? valueByKey.getIfPresent(key) : null;
+    }
+
+    public void put(final String key, final V value) {
+        if(valueByKey == null || value == null) {
+            return;
+        }
+        valueByKey.put(key, value);
+    }
+
+    public void revoke(final String key) {
+        if(valueByKey == null) {
+            return;
+        }
+        valueByKey.invalidate(key);
+    }
+
+    /**
+     * Revokes all entries whose value satisfies the predicate (eg, is for a particular user).
+     */
+    public void revokeIf(final Predicate<? super V> predicate) {
+        if(valueByKey == null) {
+            return;
+        }
+        final Iterator<Map.Entry<String, V>> iterator = valueByKey.asMap().entrySet().iterator();
+        while (iterator.hasNext()) {
+            if(predicate.apply(iterator.next().getValue())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public void revokeAll() {
+        if(valueByKey == null) {
+            return;
+        }
+        valueByKey.invalidateAll();
+    }
+
+    // //////////////////////////////////////
+
+    public long size() {
+        return valueByKey != null ? valueByKey.size() : 0;
+    }
+
+    public long getHitCount() {
+        return stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return stats().missCount();
+    }
+
+    /**
+     * The proportion of lookups that found a cached entry; <tt>1.0</tt> if there have been no lookups.
+     */
+    public double getHitRate() {
+        return stats().hitRate();
+    }
+
+    private CacheStats stats() {
+        return valueByKey != null ? valueByKey.stats() : new CacheStats(0, 0, 0, 0, 0, 0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("size=%d, hits=%d, misses=%d, hitRate=%.3f",
+                size(), getHitCount(), getMissCount(), getHitRate());
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.headless;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * A copy of the contents of every table of an in-memory HSQLDB database, so that the database can be restored to
+ * that state (eg between integration tests) without re-running the fixture scripts that originally populated it.
+ *
+ * <p>
+ *     The schema itself is not captured; tables created after the snapshot was taken are simply emptied on restore.
+ * </p>
+ */
+public class HsqlDbSnapshot {
+
+    private static final String URL_PREFIX = "jdbc:hsqldb:mem:";
+
+    /**
+     * Whether the database at this JDBC URL can be snapshotted (only in-memory HSQLDB databases are supported).
+     */
+    public static boolean supports(final String url) {
+        return url != null && url.startsWith(URL_PREFIX);
+    }
+
+    /**
+     * Captures the (committed) contents of all tables.
+     */
+    public static HsqlDbSnapshot take(final Connection connection) throws SQLException {
+        final Map<String, List<Object[]>> rowsByTable = Maps.newLinkedHashMap();
+        try (final Statement statement = connection.createStatement()) {
+            for (final String table : tablesOf(connection)) {
+                final List<Object[]> rows = Lists.newArrayList();
+                try (final ResultSet rs = statement.executeQuery("SELECT * FROM " + table)) {
+                    final int columnCount = rs.getMetaData().getColumnCount();
+                    while (rs.next()) {
+                        final Object[] row = new Object[columnCount];
+                        for (int i = 0; i < columnCount; i++) {
+                            row[i] = detached(rs.getObject(i + 1));
+                        }
+                        rows.add(row);
+                    }
+                }
+                rowsByTable.put(table, rows);
+            }
+        }
+        return new HsqlDbSnapshot(rowsByTable);
+    }
+
+    /**
+     * LOBs are only valid while the row they were read from exists, so copy their contents.
+     */
+    private static Object detached(final Object value) throws SQLException {
+        if (value instanceof Blob) {
+            final Blob blob = (Blob) value;
+            return blob.getBytes(1, (int) blob.length());
+        }
+        if (value instanceof Clob) {
+            final Clob clob = (Clob) value;
+            return clob.getSubString(1, (int) clob.length());
+        }
+        return value;
+    }
+
+    private final Map<String, List<Object[]>> rowsByTable;
+
+    private HsqlDbSnapshot(final Map<String, List<Object[]>> rowsByTable) {
+        this.rowsByTable = rowsByTable;
+    }
+
+    /**
+     * The (quoted, schema-qualified) names of the tables captured.
+     */
+    public List<String> getTables() {
+        return Collections.unmodifiableList(Lists.newArrayList(rowsByTable.keySet()));
+    }
+
+    public int getRowCount(final String table) {
+        final List<Object[]> rows = rowsByTable.get(table);
+        return rows != null ? rows.size() : 0;
+    }
+
+    /**
+     * Empties every table and reinstates the captured rows; identity columns continue from the highest value
+     * restored.
+     *
+     * <p>
+     *     Referential integrity is disabled (database-wide) while the rows are reinstated, so the connection should
+     *     not be in use by anything else.
+     * </p>
+     */
+    public void restoreInto(final Connection connection) throws SQLException {
+        final boolean autoCommit = connection.getAutoCommit();
+        try (final Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            statement.execute("SET DATABASE REFERENTIAL INTEGRITY FALSE");
+            try {
+                for (final String table : tablesOf(connection)) {
+                    statement.execute("TRUNCATE TABLE " + table + " RESTART IDENTITY AND COMMIT NO CHECK");
+                }
+                connection.setAutoCommit(false);
+                for (final Map.Entry<String, List<Object[]>> entry : rowsByTable.entrySet()) {
+                    insertInto(connection, entry.getKey(), entry.getValue());
+                }
+                connection.commit();
+            } finally {
+                connection.setAutoCommit(true);
+                statement.execute("SET DATABASE REFERENTIAL INTEGRITY TRUE");
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private static void insertInto(
+            final Connection connection,
+            final String table,
+            final List<Object[]> rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        final String placeholders = Joiner.on(',').join(Collections.nCopies(rows.get(0).length, "?"));
+        try (final PreparedStatement insert =
+                     connection.prepareStatement("INSERT INTO " + table + " VALUES (" + placeholders + ")")) {
+            for (final Object[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    insert.setObject(i + 1, row[i]);
+                }
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private static List<String> tablesOf(final Connection connection) throws SQLException {
+        final List<String> tables = Lists.newArrayList();
+        try (final ResultSet rs = connection.getMetaData().getTables(null, null, "%", new String[] { "TABLE" })) {
+            while (rs.next()) {
+                final String schema = rs.getString("TABLE_SCHEM");
+                if ("INFORMATION_SCHEMA".equals(schema) || "SYSTEM_LOBS".equals(schema)) {
+                    continue;
+                }
+                tables.add(quoted(schema) + "." + quoted(rs.getString("TABLE_NAME")));
+            }
+        }
+        return tables;
+    }
+
+    private static String quoted(final String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+}
@@ -18,11 +18,17 @@
  */
 package org.apache.isis.core.runtime.headless;
 
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import javax.jdo.PersistenceManagerFactory;
 
+import com.google.common.collect.Sets;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +42,8 @@
 import org.apache.isis.applib.services.jdosupport.IsisJdoSupport;
 import org.apache.isis.applib.services.metamodel.MetaModelService4;
 import org.apache.isis.applib.services.registry.ServiceRegistry2;
+import org.apache.isis.applib.services.xactn.TransactionService3;
+import org.apache.isis.core.commons.config.IsisConfiguration;
 import org.apache.isis.core.runtime.headless.logging.LogConfig;
 import org.apache.isis.core.runtime.system.context.IsisContext;
 import org.apache.isis.core.runtime.system.session.IsisSessionFactory;
@@ -50,6 +58,26 @@ public class IsisSystemBootstrapper {
      */
     private static ThreadLocal<AppManifest2> isftAppManifest = new ThreadLocal<>();
 
+    /**
+     * System property that, if set to <tt>true</tt>, causes the module ref data to be set up only once, after which the
+     * contents of the (in-memory HSQLDB) database are snapshotted; the database is then restored from the snapshot
+     * after each test rather than running the module teardown fixtures.
+     */
+    public static final String SYSTEM_PROPERTY_SNAPSHOT = "isis.integTest.snapshot";
+
+    private static final String DATANUCLEUS_PROPERTY_PREFIX = "isis.persistor.datanucleus.impl.";
+
+    /**
+     * The {@link HsqlDbSnapshot} of the {@link IsisSystem} (on the thread-local), once its module ref data has been
+     * set up; only if {@link #SYSTEM_PROPERTY_SNAPSHOT snapshotting}.
+     */
+    private static ThreadLocal<HsqlDbSnapshot> isftSnapshot = new ThreadLocal<>();
+
+    /**
+     * The JDBC URLs found not to support {@link HsqlDbSnapshot snapshotting}, so that this is only warned about once.
+     */
+    private static final Set<String> snapshotUnsupportedUrls = Sets.newConcurrentHashSet();
+
 
     private final LogConfig logConfig;
     private final AppManifest2 appManifest2;
@@ -88,11 +116,65 @@ public IsisSystem bootstrapIfRequired() {
 
     /**
      * Expects a transaction to have been started
+     *
+     * <p>
+     *     If {@link #SYSTEM_PROPERTY_SNAPSHOT snapshotting}, then the ref data is only set up the first time, and is
+     *     then committed and snapshotted.
+     * </p>
      */
     public void setupModuleRefData() {
+        final boolean snapshotting = isSnapshotting() && isSnapshotSupported();
+        if(snapshotting && isftSnapshot.get() != null) {
+            // the ref data was restored from the snapshot when the previous test was torn down
+            return;
+        }
+
         MetaModelService4 metaModelService4 = lookupService(MetaModelService4.class);
         FixtureScript refDataSetupFixture = metaModelService4.getAppManifest2().getRefDataSetupFixture();
         runFixtureScript(refDataSetupFixture);
+
+        if(snapshotting) {
+            lookupService(TransactionService3.class).nextTransaction(TransactionService3.Policy.ALWAYS);
+            takeSnapshot();
+        }
+    }
+
+    private static boolean isSnapshotting() {
+        return Boolean.getBoolean(SYSTEM_PROPERTY_SNAPSHOT);
+    }
+
+    private static boolean isSnapshotSupported() {
+        final IsisConfiguration configuration = getIsisSystem().getIsisSessionFactory().getConfiguration();
+        final String url = configuration.getString(DATANUCLEUS_PROPERTY_PREFIX + "javax.jdo.option.ConnectionURL");
+        if(HsqlDbSnapshot.supports(url)) {
+            return true;
+        }
+        if(snapshotUnsupportedUrls.add(String.valueOf(url))) {
+            LOG.warn("Unable to snapshot database '{}'; only in-memory HSQLDB is supported", url);
+        }
+        return false;
+    }
+
+    private void takeSnapshot() {
+        final IsisConfiguration configuration = getIsisSystem().getIsisSessionFactory().getConfiguration();
+        final String url = configuration.getString(DATANUCLEUS_PROPERTY_PREFIX + "javax.jdo.option.ConnectionURL");
+
+        long t0 = System.currentTimeMillis();
+        try (final Connection connection = connectionFor(configuration)) {
+            isftSnapshot.set(HsqlDbSnapshot.take(connection));
+        } catch (SQLException e) {
+            throw new RuntimeException("Unable to snapshot database '" + url + "'", e);
+        }
+        long t1 = System.currentTimeMillis();
+
+        log("# Snapshotted module ref data in " + (t1 - t0) + " millis");
+    }
+
+    private static Connection connectionFor(final IsisConfiguration configuration) throws SQLException {
+        return DriverManager.getConnection(
+                configuration.getString(DATANUCLEUS_PROPERTY_PREFIX + "javax.jdo.option.ConnectionURL"),
+                configuration.getString(DATANUCLEUS_PROPERTY_PREFIX + "javax.jdo.option.ConnectionUserName"),
+                configuration.getString(DATANUCLEUS_PROPERTY_PREFIX + "javax.jdo.option.ConnectionPassword", ""));
     }
 
 
@@ -191,13 +273,47 @@ private static void teardownSystem() {
         IsisContext.testReset();
     }
 
+    /**
+     * Expects a transaction to have been started
+     *
+     * <p>
+     *     If a {@link HsqlDbSnapshot snapshot} has been taken, then restores the database from it (in a new session
+     *     and transaction) rather than running the module teardown fixtures.
+     * </p>
+     */
     public void tearDownAllModules() {
+        final HsqlDbSnapshot snapshot = isftSnapshot.get();
+        if(snapshot != null) {
+            restoreSnapshot(snapshot);
+            return;
+        }
+
         final MetaModelService4 metaModelService4 = lookupService(MetaModelService4.class);
 
         FixtureScript fixtureScript = metaModelService4.getAppManifest2().getTeardownFixture();
         runFixtureScript(fixtureScript);
     }
 
+    private static void restoreSnapshot(final HsqlDbSnapshot snapshot) {
+        final IsisSystem isft = getIsisSystem();
+        try {
+            isft.endTran();
+            // discard any objects cached by the persistence manager
+            isft.closeSession();
+
+            try (final Connection connection = connectionFor(isft.getIsisSessionFactory().getConfiguration())) {
+                snapshot.restoreInto(connection);
+            }
+
+            isft.openSession();
+            lookupService(IsisJdoSupport.class).getJdoPersistenceManager().getPersistenceManagerFactory()
+                    .getDataStoreCache().evictAll();
+            isft.beginTran();
+        } catch (Exception e) {
+            throw new RuntimeException("Unable to restore database from snapshot", e);
+        }
+    }
+
 
     private void runFixtureScript(final FixtureScript... fixtureScriptList) {
         final FixtureScripts fixtureScripts = lookupService(FixtureScripts.class);
@@ -22,6 +22,7 @@
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.isis.applib.query.Query;
@@ -41,11 +42,13 @@ public class PersistenceQueryFindUsingApplibQueryDefault extends PersistenceQuer
     private final String queryName;
     private final QueryCardinality cardinality;
     private final Map<String, ObjectAdapter> argumentsAdaptersByParameterName;
+    private final List<String> fetchMembers;
 
     public PersistenceQueryFindUsingApplibQueryDefault(
             final ObjectSpecification specification,
             final String queryName,
             final Map<String, ObjectAdapter> argumentsAdaptersByParameterName,
+            final List<String> fetchMembers,
             final QueryCardinality cardinality,
             final SpecificationLoader specificationLoader,
             final long... range) {
@@ -53,6 +56,7 @@ public PersistenceQueryFindUsingApplibQueryDefault(
         this.queryName = queryName;
         this.cardinality = cardinality;
         this.argumentsAdaptersByParameterName = argumentsAdaptersByParameterName;
+        this.fetchMembers = fetchMembers;
         initialized();
     }
 
@@ -65,6 +69,7 @@ public PersistenceQueryFindUsingApplibQueryDefault(
         this.cardinality = QueryCardinality.valueOf(input.readUTF());
         // TODO: need to read from input
         this.argumentsAdaptersByParameterName = new HashMap<>();
+        this.fetchMembers = Collections.emptyList();
         initialized();
     }
 
@@ -94,6 +99,13 @@ public Map<String, ObjectAdapter> getArgumentsAdaptersByParameterName() {
         return Collections.unmodifiableMap(argumentsAdaptersByParameterName);
     }
 
+    /**
+     * The references of the matching instances to be fetched eagerly.
+     */
+    public List<String> getFetchMembers() {
+        return fetchMembers;
+    }
+
     public QueryCardinality getCardinality() {
         return cardinality;
     }
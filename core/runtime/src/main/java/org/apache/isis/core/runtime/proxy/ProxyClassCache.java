@@ -0,0 +1,228 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.proxy;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.isis.core.commons.exceptions.IsisException;
+import org.apache.isis.core.commons.lang.ArrayExtensions;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import javassist.util.proxy.MethodFilter;
+import javassist.util.proxy.ProxyFactory;
+
+/**
+ * Bounded cache of the javassist proxy classes generated by the framework (for the
+ * <code>WrapperFactory</code> and the <code>BackgroundService</code>), so that the (relatively expensive)
+ * work of configuring a {@link ProxyFactory} and creating the proxy class is done only once per proxied class.
+ *
+ * <p>
+ * Each entry is keyed by the proxied class, the additional interfaces that the proxy implements and the
+ * {@link MethodFilter}; callers should therefore use the same {@link MethodFilter} instance for each request.
+ *
+ * <p>
+ * javassist's own (per-classloader) cache is left enabled, so a class evicted from this cache and then requested
+ * again is not redefined.
+ *
+ * <p>
+ * The cache refers to the proxied classes and the proxy classes only weakly, so does not prevent the classloader of
+ * a (redeployed) application from being garbage collected; entries for collected classes are evicted.
+ */
+public final class ProxyClassCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProxyClassCache.class);
+
+    /**
+     * If set, then the services that use this cache pre-generate the proxy classes for all domain types when they
+     * are initialized, rather than lazily on first use.
+     */
+    public static final String KEY_PREGENERATE = "isis.services.proxy.pregenerate";
+
+    /**
+     * Corresponds to a few proxy classes for each class of a large metamodel.
+     */
+    private static final int MAX_SIZE = 5000;
+
+    private static ProxyClassCache proxyClassCache;
+
+    public static synchronized ProxyClassCache getInstance() {
+        if (proxyClassCache == null) {
+            proxyClassCache = new ProxyClassCache(MAX_SIZE);
+        }
+        return proxyClassCache;
+    }
+
+    private final Cache<Key, Class<?>> proxyClassByKey;
+
+    ProxyClassCache(final int maxSize) {
+        proxyClassByKey = CacheBuilder.newBuilder().maximumSize(maxSize).weakValues().build();
+    }
+
+    /**
+     * Returns the proxy class for the provided class, implementing the interfaces of that class along with any
+     * additional interfaces, and handling those methods accepted by the filter.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Class<T> proxyClassFor(
+            final Class<?> toProxyClass,
+            final Class<?>[] additionalInterfaces,
+            final MethodFilter methodFilter) {
+
+        final Key key = new Key(toProxyClass, additionalInterfaces, methodFilter);
+        try {
+            return (Class<T>) proxyClassByKey.get(key, new Callable<Class<?>>() {
+                @Override
+                public Class<?> call() throws Exception {
+                    return createProxyClass(toProxyClass, additionalInterfaces, methodFilter);
+                }
+            });
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new IsisException("Unable to create proxy class for " + toProxyClass.getName(), e.getCause());
+        }
+    }
+
+    private static Class<?> createProxyClass(
+            final Class<?> toProxyClass,
+            final Class<?>[] additionalInterfaces,
+            final MethodFilter methodFilter) {
+
+        final ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setSuperclass(toProxyClass);
+        proxyFactory.setInterfaces(ArrayExtensions.combine(toProxyClass.getInterfaces(), additionalInterfaces));
+        proxyFactory.setFilter(methodFilter);
+
+        return proxyFactory.createClass();
+    }
+
+    /**
+     * Eagerly creates the proxy class for each of the domain types (entities, view models, mixins and services) in
+     * the provided specifications.
+     *
+     * <p>
+     * Any class that cannot be proxied is logged and skipped.
+     *
+     * @return the number of proxy classes now cached for these specifications.
+     */
+    public int pregenerate(
+            final Iterable<ObjectSpecification> specifications,
+            final Class<?>[] additionalInterfaces,
+            final MethodFilter methodFilter) {
+        int count = 0;
+        for (final ObjectSpecification spec : specifications) {
+            if(!isDomainType(spec)) {
+                continue;
+            }
+            final Class<?> cls = spec.getCorrespondingClass();
+            if(!isProxyable(cls)) {
+                continue;
+            }
+            try {
+                proxyClassFor(cls, additionalInterfaces, methodFilter);
+                count++;
+            } catch(RuntimeException ex) {
+                LOG.warn("Unable to pre-generate proxy class for {}", cls.getName(), ex);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Whether {@link #KEY_PREGENERATE pre-generation} is enabled in the provided configuration properties.
+     */
+    public static boolean isPregenerate(final Map<String, String> properties) {
+        final String value = properties.get(KEY_PREGENERATE);
+        return !Strings.isNullOrEmpty(value) && Boolean.parseBoolean(value);
+    }
+
+    private static boolean isDomainType(final ObjectSpecification spec) {
+        return spec.isPersistenceCapableOrViewModel() || spec.isMixin() || spec.isService();
+    }
+
+    private static boolean isProxyable(final Class<?> cls) {
+        final int modifiers = cls.getModifiers();
+        return !cls.isInterface() && !cls.isPrimitive() && !cls.isArray()
+                && !Modifier.isFinal(modifiers) && !Modifier.isAbstract(modifiers);
+    }
+
+    public long size() {
+        return proxyClassByKey.size();
+    }
+
+    // //////////////////////////////////////
+
+    /**
+     * Refers to the classes only weakly; {@link Class} does not override {@link Object#equals(Object) equals}, so
+     * classes are compared by identity.
+     */
+    private static class Key {
+        private final List<WeakReference<Class<?>>> classes;
+        private final MethodFilter methodFilter;
+        private final int hashCode;
+
+        Key(final Class<?> toProxyClass, final Class<?>[] additionalInterfaces, final MethodFilter methodFilter) {
+            final List<Class<?>> classes = Lists.asList(toProxyClass, additionalInterfaces);
+            this.classes = Lists.newArrayList(Lists.transform(classes, WeakReference::new));
+            this.methodFilter = methodFilter;
+            this.hashCode = Objects.hashCode(classes, System.identityHashCode(methodFilter));
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key other = (Key) o;
+            if (methodFilter != other.methodFilter || classes.size() != other.classes.size()) {
+                return false;
+            }
+            for (int i = 0; i < classes.size(); i++) {
+                final Class<?> cls = classes.get(i).get();
+                if (cls == null || cls != other.classes.get(i).get()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+}
@@ -26,6 +26,9 @@
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import org.apache.isis.applib.annotation.DomainService;
 import org.apache.isis.applib.annotation.NatureOfService;
 import org.apache.isis.applib.annotation.Programmatic;
@@ -37,7 +40,6 @@
 import org.apache.isis.applib.services.command.CommandContext;
 import org.apache.isis.applib.services.factory.FactoryService;
 import org.apache.isis.core.commons.exceptions.IsisException;
-import org.apache.isis.core.commons.lang.ArrayExtensions;
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
 import org.apache.isis.core.metamodel.adapter.mgr.AdapterManager;
 import org.apache.isis.core.metamodel.facets.actions.action.invocation.CommandUtil;
@@ -50,12 +52,12 @@
 import org.apache.isis.core.metamodel.specloader.classsubstitutor.JavassistEnhanced;
 import org.apache.isis.core.metamodel.specloader.specimpl.ObjectActionMixedIn;
 import org.apache.isis.core.metamodel.specloader.specimpl.dflt.ObjectSpecificationDefault;
+import org.apache.isis.core.runtime.proxy.ProxyClassCache;
 import org.apache.isis.core.runtime.system.session.IsisSessionFactory;
 import org.apache.isis.schema.cmd.v1.CommandDto;
 
 import javassist.util.proxy.MethodFilter;
 import javassist.util.proxy.MethodHandler;
-import javassist.util.proxy.ProxyFactory;
 import javassist.util.proxy.ProxyObject;
 
 /**
@@ -68,10 +70,28 @@
 )
 public class BackgroundServiceDefault implements BackgroundService2 {
 
+    private static final Logger LOG = LoggerFactory.getLogger(BackgroundServiceDefault.class);
+
+    private static final Class<?>[] ADDITIONAL_INTERFACES = { JavassistEnhanced.class };
+
+    private static final MethodFilter METHOD_FILTER = new MethodFilter() {
+        @Override
+        public boolean isHandled(final Method m) {
+            // ignore finalize()
+            return !m.getName().equals("finalize");
+        }
+    };
+
+    private final ProxyClassCache proxyClassCache = ProxyClassCache.getInstance();
 
     @Programmatic
     @PostConstruct
     public void init(Map<String,String> props) {
+        if(ProxyClassCache.isPregenerate(props)) {
+            final int count = proxyClassCache.pregenerate(
+                    specificationLoader.allSpecifications(), ADDITIONAL_INTERFACES, METHOD_FILTER);
+            LOG.info("pre-generated {} background proxy classes", count);
+        }
     }
 
     @Programmatic
@@ -125,19 +145,7 @@ private <T> T newProxy(
             final Object mixedInIfAny,
             final MethodHandler methodHandler) {
 
-        final ProxyFactory proxyFactory = new ProxyFactory();
-        proxyFactory.setSuperclass(cls);
-        proxyFactory.setInterfaces(ArrayExtensions.combine(cls.getInterfaces(), new Class<?>[] { JavassistEnhanced.class }));
-
-        proxyFactory.setFilter(new MethodFilter() {
-            @Override
-            public boolean isHandled(final Method m) {
-                // ignore finalize()
-                return !m.getName().equals("finalize");
-            }
-        });
-
-        final Class<T> proxySubclass = proxyFactory.createClass();
+        final Class<T> proxySubclass = proxyClassCache.proxyClassFor(cls, ADDITIONAL_INTERFACES, METHOD_FILTER);
         try {
             final T newInstance;
             if(mixedInIfAny == null) {
@@ -33,6 +33,7 @@
 import org.apache.isis.core.runtime.services.RequestScopedService;
 import org.apache.isis.core.runtime.services.eventbus.adapter.EventBusImplementationForAxonSimple;
 import org.apache.isis.core.runtime.services.eventbus.adapter.EventBusImplementationForGuava;
+import org.apache.isis.core.runtime.services.eventbus.adapter.EventBusImplementationPrecompiled;
 
 /**
  * Holds common runtime logic for EventBusService implementations.
@@ -92,6 +93,8 @@ private static String getNormalized(final String implementation) {
                 return "guava";
             } else if("axon".equalsIgnoreCase(implementationTrimmed)) {
                 return "axon";
+            } else if("precompiled".equalsIgnoreCase(implementationTrimmed)) {
+                return "precompiled";
             } else {
                 return implementationTrimmed;
             }
@@ -110,7 +113,7 @@ boolean isAllowLateRegistration() {
     }
 
     /**
-     * Either &lt;guava&gt; or &lt;axon&gt;, or else the fully qualified class name of an
+     * Either &lt;guava&gt;, &lt;axon&gt; or &lt;precompiled&gt;, or else the fully qualified class name of an
      * implementation of {@link org.apache.isis.applib.services.eventbus.EventBusImplementation}.
      */
     private String implementation;
@@ -132,6 +135,9 @@ private EventBusImplementation instantiateEventBus() {
         if("axon".equals(implementation)) {
             return new EventBusImplementationForAxonSimple();
         }
+        if("precompiled".equals(implementation)) {
+            return new EventBusImplementationPrecompiled();
+        }
 
         final Class<?> aClass = ClassUtil.forName(implementation);
         if(EventBusImplementation.class.isAssignableFrom(aClass)) {
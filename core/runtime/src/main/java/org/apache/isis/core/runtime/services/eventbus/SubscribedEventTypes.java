@@ -0,0 +1,99 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.services.eventbus;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.reflect.TypeToken;
+
+/**
+ * Index of the event types that the subscribers registered with an event bus implementation listen for, used to
+ * implement {@link org.apache.isis.applib.services.eventbus.EventBusImplementation2#hasSubscribersFor(Class)}.
+ *
+ * <p>
+ *     The subscribed types are determined once, when each subscriber is {@link #add(Object) added}, by inspecting
+ *     the methods of its class hierarchy (so that request-scoped proxies, which override those methods, are handled
+ *     in the same way as the underlying service).  The answer for any given event type is then cached.
+ * </p>
+ */
+public class SubscribedEventTypes {
+
+    private final Function<Method, Class<?>> subscribedEventTypeOf;
+
+    private volatile Index index = new Index(ImmutableSet.<Class<?>>of());
+
+    /**
+     * @param subscribedEventTypeOf - for a subscriber method (as recognised by the event bus implementation), the
+     *                              type of event that it receives, else <code>null</code>.
+     */
+    public SubscribedEventTypes(final Function<Method, Class<?>> subscribedEventTypeOf) {
+        this.subscribedEventTypeOf = subscribedEventTypeOf;
+    }
+
+    public synchronized void add(final Object subscriber) {
+        final ImmutableSet.Builder<Class<?>> eventTypes = ImmutableSet.builder();
+        eventTypes.addAll(index.eventTypes);
+        for (final Class<?> cls : TypeToken.of(subscriber.getClass()).getTypes().rawTypes()) {
+            for (final Method method : cls.getDeclaredMethods()) {
+                if(method.isSynthetic()) {
+                    continue;
+                }
+                final Class<?> eventType = subscribedEventTypeOf.apply(method);
+                if(eventType != null) {
+                    eventTypes.add(eventType);
+                }
+            }
+        }
+        // replaced rather than mutated, so that a concurrent lookup cannot cache a stale answer
+        index = new Index(eventTypes.build());
+    }
+
+    public boolean contains(final Class<?> eventType) {
+        return index.contains(eventType);
+    }
+
+    private static class Index {
+
+        private final Set<Class<?>> eventTypes;
+        private final ConcurrentMap<Class<?>, Boolean> subscribedByEventType = Maps.newConcurrentMap();
+
+        Index(final Set<Class<?>> eventTypes) {
+            this.eventTypes = eventTypes;
+        }
+
+        boolean contains(final Class<?> eventType) {
+            return subscribedByEventType.computeIfAbsent(eventType, this::isSubscribed);
+        }
+
+        private boolean isSubscribed(final Class<?> eventType) {
+            for (final Class<?> subscribedType : eventTypes) {
+                if(subscribedType.isAssignableFrom(eventType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
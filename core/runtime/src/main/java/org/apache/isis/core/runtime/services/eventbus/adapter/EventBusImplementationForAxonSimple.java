@@ -16,6 +16,8 @@
  */
 package org.apache.isis.core.runtime.services.eventbus.adapter;
 
+import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Map;
 
 import com.google.common.collect.Maps;
@@ -23,18 +25,45 @@
 import org.axonframework.domain.EventMessage;
 import org.axonframework.domain.GenericEventMessage;
 import org.axonframework.eventhandling.SimpleEventBus;
+import org.axonframework.eventhandling.annotation.EventHandler;
 
 import org.apache.isis.applib.services.eventbus.AbstractDomainEvent;
+import org.apache.isis.applib.services.eventbus.EventBusImplementation2;
 import org.apache.isis.core.runtime.services.eventbus.EventBusImplementationAbstract;
+import org.apache.isis.core.runtime.services.eventbus.SubscribedEventTypes;
 
 /**
  * A wrapper for an Axon {@link org.axonframework.eventhandling.SimpleEventBus},
  * allowing arbitrary events to be posted and subscribed to.
  */
-public class EventBusImplementationForAxonSimple extends EventBusImplementationAbstract {
+public class EventBusImplementationForAxonSimple extends EventBusImplementationAbstract implements EventBusImplementation2 {
 
     private SimpleEventBus simpleEventBus = new SimpleEventBus();
 
+    private final SubscribedEventTypes subscribedEventTypes = new SubscribedEventTypes(
+            EventBusImplementationForAxonSimple::subscribedEventTypeOf);
+
+    /**
+     * As per {@link IsisAnnotationListenerAdapterAxon}, recognizes both Axon's {@link EventHandler} (honouring its
+     * {@link EventHandler#eventType() eventType} if specified) and Spring's <code>@EventListener</code>.
+     */
+    private static Class<?> subscribedEventTypeOf(final Method method) {
+        final EventHandler eventHandler = method.getAnnotation(EventHandler.class);
+        if(eventHandler != null && eventHandler.eventType() != Void.class) {
+            return eventHandler.eventType();
+        }
+        if(eventHandler == null && !isSpringEventListener(method)) {
+            return null;
+        }
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        return parameterTypes.length > 0 ? parameterTypes[0] : Object.class;
+    }
+
+    private static boolean isSpringEventListener(final Method method) {
+        return Arrays.stream(method.getAnnotations()).anyMatch(annotation ->
+                "org.springframework.context.event.EventListener".equals(annotation.annotationType().getName()));
+    }
+
     private Map<Object, AxonEventListenerAdapter> listenerAdapterByDomainService = Maps.newConcurrentMap();
 
     private AxonEventListenerAdapter adapterFor(final Object domainService) {
@@ -49,6 +78,7 @@ private AxonEventListenerAdapter adapterFor(final Object domainService) {
     @Override
     public void register(final Object domainService) {
         simpleEventBus.subscribe(adapterFor(domainService));
+        subscribedEventTypes.add(domainService);
     }
 
     @Override
@@ -70,6 +100,10 @@ public void post(final Object event) {
         simpleEventBus.publish(GenericEventMessage.asEventMessage(event));
     }
 
+    @Override
+    public boolean hasSubscribersFor(final Class<?> eventType) {
+        return subscribedEventTypes.contains(eventType);
+    }
 
     @Override
     protected AbstractDomainEvent<?> asDomainEvent(final Object event) {
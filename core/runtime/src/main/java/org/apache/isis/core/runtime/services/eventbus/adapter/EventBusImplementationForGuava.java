@@ -16,20 +16,40 @@
  */
 package org.apache.isis.core.runtime.services.eventbus.adapter;
 
+import java.lang.reflect.Method;
+
+import com.google.common.eventbus.Subscribe;
 import com.google.common.eventbus.SubscriberExceptionContext;
 import com.google.common.eventbus.SubscriberExceptionHandler;
 
 import org.apache.isis.applib.services.eventbus.AbstractDomainEvent;
+import org.apache.isis.applib.services.eventbus.EventBusImplementation2;
 import org.apache.isis.core.runtime.services.eventbus.EventBusImplementationAbstract;
+import org.apache.isis.core.runtime.services.eventbus.SubscribedEventTypes;
 
 /**
  * A wrapper for a Guava {@link com.google.common.eventbus.EventBus},
  * allowing arbitrary events to be posted and subscribed to.
  */
-public class EventBusImplementationForGuava extends EventBusImplementationAbstract {
+public class EventBusImplementationForGuava extends EventBusImplementationAbstract implements EventBusImplementation2 {
 
     private final com.google.common.eventbus.EventBus eventBus = new com.google.common.eventbus.EventBus(newEventBusSubscriberExceptionHandler());
 
+    private final SubscribedEventTypes subscribedEventTypes = new SubscribedEventTypes(
+            EventBusImplementationForGuava::subscribedEventTypeOf);
+
+    /**
+     * As per Guava's own discovery of subscribers: a method annotated with {@link Subscribe} receives events
+     * assignable to its single parameter.
+     */
+    private static Class<?> subscribedEventTypeOf(final Method method) {
+        if(!method.isAnnotationPresent(Subscribe.class)) {
+            return null;
+        }
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        return parameterTypes.length == 1 ? parameterTypes[0] : null;
+    }
+
     protected SubscriberExceptionHandler newEventBusSubscriberExceptionHandler() {
         return new SubscriberExceptionHandler() {
             @Override
@@ -45,6 +65,7 @@ public void handleException(final Throwable exception,
     @Override
     public void register(final Object domainService) {
         eventBus.register(domainService);
+        subscribedEventTypes.add(domainService);
     }
 
     @Override
@@ -58,6 +79,11 @@ public void post(final Object event) {
         eventBus.post(event);
     }
 
+    @Override
+    public boolean hasSubscribersFor(final Class<?> eventType) {
+        return subscribedEventTypes.contains(eventType);
+    }
+
     @Override
     protected AbstractDomainEvent<?> asDomainEvent(final Object event) {
         return event instanceof AbstractDomainEvent
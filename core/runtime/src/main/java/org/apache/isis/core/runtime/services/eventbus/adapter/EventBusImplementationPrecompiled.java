@@ -0,0 +1,290 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.services.eventbus.adapter;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.primitives.Primitives;
+import com.google.common.reflect.TypeToken;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.isis.applib.NonRecoverableException;
+import org.apache.isis.applib.services.eventbus.AbstractDomainEvent;
+import org.apache.isis.applib.services.eventbus.EventBusImplementation2;
+import org.apache.isis.core.runtime.services.eventbus.EventBusImplementationAbstract;
+
+/**
+ * An event bus that recognizes the same subscriber methods as {@link EventBusImplementationForGuava} (annotated with
+ * Guava's {@link Subscribe}), but which dispatches to them through generated lambdas rather than reflection.
+ *
+ * <p>
+ *     Each subscriber's methods are discovered, and a dispatcher generated for each, just once, when that subscriber
+ *     is {@link #register(Object) registered}.  The subscribers for any given event type are then resolved the first
+ *     time that an event of that type is {@link #post(Object) posted}, and cached.
+ * </p>
+ *
+ * <p>
+ *     As for Guava, a subscriber method is invoked by one thread at a time unless it is also annotated with
+ *     {@link AllowConcurrentEvents}.  Unlike Guava, an event posted by a subscriber is dispatched immediately rather
+ *     than queued until the outer event has been dispatched, and any exception that
+ *     {@link #processException(Throwable, Object)} rethrows (during the executing and executed phases) propagates
+ *     to the poster, the remaining subscribers not being called.  This is the same behaviour as
+ *     {@link EventBusImplementationForAxonSimple}.
+ * </p>
+ */
+public class EventBusImplementationPrecompiled extends EventBusImplementationAbstract implements EventBusImplementation2 {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventBusImplementationPrecompiled.class);
+
+    private final Set<Object> subscribers = Sets.newIdentityHashSet();
+
+    private volatile DispatchTable dispatchTable = new DispatchTable(ImmutableList.<SubscriberInvoker>of());
+
+    @Override
+    public synchronized void register(final Object domainService) {
+        if(!subscribers.add(domainService)) {
+            // request-scoped services (re-)register their proxy at the start of every transaction
+            return;
+        }
+        final ImmutableList.Builder<SubscriberInvoker> invokers = ImmutableList.builder();
+        invokers.addAll(dispatchTable.invokers);
+        invokers.addAll(invokersFor(domainService));
+        dispatchTable = new DispatchTable(invokers.build());
+    }
+
+    @Override
+    public void unregister(final Object domainService) {
+        // Intentionally no-op, as for the other implementations.
+    }
+
+    @Override
+    public void post(final Object event) {
+        for (final SubscriberInvoker invoker : dispatchTable.invokersFor(event.getClass())) {
+            try {
+                invoker.invoke(event);
+            } catch (final Throwable exception) {
+                processException(exception, event);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasSubscribersFor(final Class<?> eventType) {
+        return !dispatchTable.invokersFor(eventType).isEmpty();
+    }
+
+    @Override
+    protected AbstractDomainEvent<?> asDomainEvent(final Object event) {
+        return event instanceof AbstractDomainEvent
+                ? (AbstractDomainEvent<?>) event
+                : null;
+    }
+
+    //region > DispatchTable
+
+    /**
+     * Immutable list of all invokers, along with (lazily populated) those that apply to each event type.
+     *
+     * <p>
+     *     Replaced rather than mutated on registration, so that a concurrent post cannot cache a stale list.
+     * </p>
+     */
+    private static class DispatchTable {
+
+        private final List<SubscriberInvoker> invokers;
+        private final ConcurrentMap<Class<?>, List<SubscriberInvoker>> invokersByEventType = Maps.newConcurrentMap();
+
+        DispatchTable(final List<SubscriberInvoker> invokers) {
+            this.invokers = invokers;
+        }
+
+        List<SubscriberInvoker> invokersFor(final Class<?> eventType) {
+            return invokersByEventType.computeIfAbsent(eventType, this::resolve);
+        }
+
+        private List<SubscriberInvoker> resolve(final Class<?> eventType) {
+            final ImmutableList.Builder<SubscriberInvoker> builder = ImmutableList.builder();
+            for (final SubscriberInvoker invoker : invokers) {
+                if(invoker.eventType.isAssignableFrom(eventType)) {
+                    builder.add(invoker);
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    //endregion
+
+    //region > SubscriberInvoker
+
+    /**
+     * Implemented by the generated lambdas, with the subscriber captured as the receiver.
+     */
+    interface EventDispatcher {
+        void dispatch(Object event) throws Throwable;
+    }
+
+    private static class SubscriberInvoker {
+
+        private final Class<?> eventType;
+        private final EventDispatcher dispatcher;
+        private final boolean synchronize;
+
+        SubscriberInvoker(
+                final Class<?> eventType,
+                final EventDispatcher dispatcher,
+                final boolean synchronize) {
+            this.eventType = eventType;
+            this.dispatcher = dispatcher;
+            this.synchronize = synchronize;
+        }
+
+        void invoke(final Object event) throws Throwable {
+            if(synchronize) {
+                // as per Guava, serializes calls to each subscriber method (rather than to each subscriber)
+                synchronized (this) {
+                    dispatcher.dispatch(event);
+                }
+            } else {
+                dispatcher.dispatch(event);
+            }
+        }
+    }
+
+    /**
+     * As per Guava, searches the entire class hierarchy (so that request-scoped proxies, which override the
+     * subscriber methods, are handled), any overridden method being invoked only once.
+     */
+    private static List<SubscriberInvoker> invokersFor(final Object subscriber) {
+        final Map<String, Method> methodBySignature = Maps.newLinkedHashMap();
+        for (final Class<?> cls : TypeToken.of(subscriber.getClass()).getTypes().rawTypes()) {
+            for (final Method method : cls.getDeclaredMethods()) {
+                if(method.isSynthetic() || !method.isAnnotationPresent(Subscribe.class)) {
+                    continue;
+                }
+                final Class<?>[] parameterTypes = method.getParameterTypes();
+                if(parameterTypes.length != 1) {
+                    throw new IllegalArgumentException(String.format(
+                            "Method %s has @Subscribe annotation but has %d parameters; subscriber methods must have exactly 1 parameter",
+                            method, parameterTypes.length));
+                }
+                // '#' cannot appear in either a method or a class name, so signatures cannot collide
+                methodBySignature.putIfAbsent(method.getName() + "#" + parameterTypes[0].getName(), method);
+            }
+        }
+
+        final ImmutableList.Builder<SubscriberInvoker> invokers = ImmutableList.builder();
+        for (final Method method : methodBySignature.values()) {
+            invokers.add(new SubscriberInvoker(
+                    Primitives.wrap(method.getParameterTypes()[0]),
+                    dispatcherFor(subscriber, method),
+                    !method.isAnnotationPresent(AllowConcurrentEvents.class)));
+        }
+        return invokers.build();
+    }
+
+    //endregion
+
+    //region > dispatcherFor
+
+    private static EventDispatcher dispatcherFor(final Object subscriber, final Method method) {
+        try {
+            if(canGenerateLambdaFor(method)) {
+                return lambdaFor(subscriber, method);
+            }
+        } catch (final Throwable ex) {
+            LOG.debug("Could not generate lambda for {}, will use a method handle instead", method, ex);
+        }
+        return methodHandleFor(subscriber, method);
+    }
+
+    /**
+     * The generated class is defined alongside this one, so can only call the subscriber method if it (and its
+     * declaring and parameter types) are public and visible from this class' classloader.
+     */
+    private static boolean canGenerateLambdaFor(final Method method) {
+        final Class<?> declaringClass = method.getDeclaringClass();
+        final Class<?> parameterType = method.getParameterTypes()[0];
+        return Modifier.isPublic(method.getModifiers()) &&
+                Modifier.isPublic(declaringClass.getModifiers()) &&
+                !Modifier.isStatic(method.getModifiers()) &&
+                isVisible(declaringClass) &&
+                (parameterType.isPrimitive() ||
+                        Modifier.isPublic(parameterType.getModifiers()) && isVisible(parameterType));
+    }
+
+    private static boolean isVisible(final Class<?> cls) {
+        try {
+            return Class.forName(cls.getName(), false, EventBusImplementationPrecompiled.class.getClassLoader()) == cls;
+        } catch (final ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static EventDispatcher lambdaFor(final Object subscriber, final Method method) throws Throwable {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final MethodHandle implMethod = lookup.unreflect(method);
+        final CallSite callSite = LambdaMetafactory.metafactory(
+                lookup,
+                "dispatch",
+                MethodType.methodType(EventDispatcher.class, method.getDeclaringClass()),
+                MethodType.methodType(void.class, Object.class),
+                implMethod,
+                MethodType.methodType(void.class, Primitives.wrap(method.getParameterTypes()[0])));
+        return (EventDispatcher) callSite.getTarget().invoke(subscriber);
+    }
+
+    private static EventDispatcher methodHandleFor(final Object subscriber, final Method method) {
+        try {
+            method.setAccessible(true);
+            MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
+            if(!Modifier.isStatic(method.getModifiers())) {
+                methodHandle = methodHandle.bindTo(subscriber);
+            }
+            final MethodHandle dispatchHandle = methodHandle.asType(MethodType.methodType(void.class, Object.class));
+            // block body, so that the call site has the (Object)void signature that invokeExact requires
+            return event -> {
+                dispatchHandle.invokeExact(event);
+            };
+        } catch (final IllegalAccessException | SecurityException e) {
+            throw new NonRecoverableException(
+                    String.format("Unable to access subscriber method %s", method), e);
+        }
+    }
+
+    //endregion
+
+}
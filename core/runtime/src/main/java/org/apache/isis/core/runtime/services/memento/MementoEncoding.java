@@ -16,31 +16,56 @@
  */
 package org.apache.isis.core.runtime.services.memento;
 
-import java.io.IOException;
 import java.io.StringReader;
-import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.Element;
-import org.dom4j.io.SAXReader;
-import org.dom4j.io.XMLWriter;
 import org.joda.time.LocalDate;
 
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.core.commons.exceptions.IsisException;
 
-class Dom4jUtil {
-    
-    private Dom4jUtil(){}
+/**
+ * Converts the flat, ordered name/value pairs of a memento to and from its string form.
+ *
+ * <p>
+ * The current format is a version prefix followed by each entry in turn, the name and the value each written as
+ * <code>length:chars</code> (a null value is written as <code>-</code>).  This can be written and read in a single
+ * pass, without escaping and without building any intermediate document.
+ *
+ * <p>
+ * Mementos written by earlier versions of the framework were XML documents (a root <code>memento</code> element with
+ * one child element per entry); these are still accepted when {@link #parse(String) parsing}.
+ */
+class MementoEncoding {
     
+    private MementoEncoding(){}
+
+    static final String VERSION_1_PREFIX = "~1|";
+
+    private static final char NAME_VALUE_SEPARATOR = ':';
+    private static final char NULL_VALUE = '-';
+
+    /**
+     * Used by the legacy XML format only.
+     */
     private final static String NULL_MARKER = "$$_isis_null_value_$$";
 
-    static void addChild(final Element el, final String name, final Object value) {
-        el.addElement(name).setText(encodeForNulls(value));
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private static XMLInputFactory createXmlInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
     }
 
     static boolean isSupportedClass(final Class<?> cls) {
@@ -48,66 +73,133 @@ static boolean isSupportedClass(final Class<?> cls) {
     }
 
     /**
-     * @param el
-     * @param name
+     * @return the formatted value, or <tt>null</tt> if the value is <tt>null</tt>.
+     */
+    static String formatValue(final Object value) {
+        return value != null ? Parseable.format(value) : null;
+    }
+
+    /**
+     * @param str - as previously {@link #formatValue(Object) formatted}.
      * @param cls - see {@link Parseable}
-     * @return
      */
-    static <T> T getChild(final Element el, final String name, final Class<T> cls) {
+    static <T> T parseValue(final String str, final Class<T> cls) {
         Parseable.assertSupported(cls);
-        final Element child = el.element(name);
-        if(child == null) { 
-            return null;
-        }
-        final String str = decodeForNulls(child.getText());
         if(str == null) {
             return null;
         }
         return Parseable.parse(str, cls);
     }
 
-    static Document parse(final String xmlStr) {
-        try {
-            final SAXReader saxReader = new SAXReader();
-            Document doc = saxReader.read(new StringReader(xmlStr));
-            return doc;
-        } catch (DocumentException e) {
-            throw new IsisException(e);
+    static String asString(final Map<String, String> valueByName) {
+        final StringBuilder buf = new StringBuilder(VERSION_1_PREFIX);
+        for (final Map.Entry<String, String> entry : valueByName.entrySet()) {
+            append(buf, entry.getKey());
+            append(buf, entry.getValue());
         }
+        return buf.toString();
     }
 
-    static String asString(final Document doc) {
-        XMLWriter writer = null;
-        final StringWriter sw = new StringWriter();
+    private static void append(final StringBuilder buf, final String str) {
+        if(str == null) {
+            buf.append(NULL_VALUE);
+            return;
+        }
+        buf.append(str.length()).append(NAME_VALUE_SEPARATOR).append(str);
+    }
+
+    static LinkedHashMap<String, String> parse(final String str) {
+        if(str.startsWith(VERSION_1_PREFIX)) {
+            return parseVersion1(str);
+        }
+        if(str.startsWith("<")) {
+            return parseXml(str);
+        }
+        throw new IsisException("Unrecognized memento format");
+    }
+
+    private static LinkedHashMap<String, String> parseVersion1(final String str) {
+        final LinkedHashMap<String, String> valueByName = new LinkedHashMap<>();
+        final Version1Reader reader = new Version1Reader(str);
+        while(reader.hasMore()) {
+            final String name = reader.read();
+            if(name == null || !reader.hasMore()) {
+                throw new IsisException("Corrupt memento");
+            }
+            valueByName.put(name, reader.read());
+        }
+        return valueByName;
+    }
+
+    private static class Version1Reader {
+        private final String str;
+        private int pos = VERSION_1_PREFIX.length();
+
+        Version1Reader(final String str) {
+            this.str = str;
+        }
+
+        boolean hasMore() {
+            return pos < str.length();
+        }
+
+        String read() {
+            if(str.charAt(pos) == NULL_VALUE) {
+                pos++;
+                return null;
+            }
+            final int separator = str.indexOf(NAME_VALUE_SEPARATOR, pos);
+            if(separator == -1) {
+                throw new IsisException("Corrupt memento");
+            }
+            final int length;
+            try {
+                length = Integer.parseInt(str.substring(pos, separator));
+            } catch (NumberFormatException e) {
+                throw new IsisException("Corrupt memento", e);
+            }
+            final int endIndex = separator + 1 + length;
+            if(length < 0 || endIndex > str.length()) {
+                throw new IsisException("Corrupt memento");
+            }
+            pos = endIndex;
+            return str.substring(separator + 1, endIndex);
+        }
+    }
+
+    /**
+     * Reads the legacy XML format in a single streaming pass.
+     *
+     * <p>
+     * If an element is repeated then (as previously) the first occurrence wins.
+     */
+    private static LinkedHashMap<String, String> parseXml(final String xmlStr) {
+        final LinkedHashMap<String, String> valueByName = new LinkedHashMap<>();
+        XMLStreamReader reader = null;
         try {
-            // previously this code used pretty print.
-            // however, that tripped up on strings with double spaces in them; the double space was normalized 
-            // to a single space!
-            // OutputFormat outputFormat = OutputFormat.createPrettyPrint();
-            // writer = new XMLWriter(sw, outputFormat);
-            writer = new XMLWriter(sw);
-            writer.write(doc);
-            return sw.toString();
-        } catch (IOException e) {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(xmlStr));
+            reader.nextTag(); // the root 'memento' element
+            while(reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                final String name = reader.getLocalName();
+                final String text = reader.getElementText();
+                if(!valueByName.containsKey(name)) {
+                    valueByName.put(name, NULL_MARKER.equals(text) ? null : text);
+                }
+            }
+            return valueByName;
+        } catch (XMLStreamException e) {
             throw new IsisException(e);
         } finally {
-            if(writer != null) {
+            if(reader != null) {
                 try {
-                    writer.close();
-                } catch (IOException e) {
+                    reader.close();
+                } catch (XMLStreamException e) {
                     // ignore
                 }
             }
         }
     }
 
-    private static String encodeForNulls(final Object value) {
-        return value != null ? Parseable.format(value) : NULL_MARKER;
-    }
-    private static String decodeForNulls(final String valueStr) {
-        return NULL_MARKER.equals(valueStr)? null: valueStr;
-    }
-
     // //////////////////////////////////////
 
     static enum Parseable {
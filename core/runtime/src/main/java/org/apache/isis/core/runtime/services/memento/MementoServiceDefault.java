@@ -16,17 +16,11 @@
  */
 package org.apache.isis.core.runtime.services.memento;
 
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Set;
 
-import com.google.common.base.Function;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 
-import org.dom4j.Document;
-import org.dom4j.DocumentHelper;
-import org.dom4j.Element;
-
 import org.apache.isis.applib.annotation.DomainService;
 import org.apache.isis.applib.annotation.NatureOfService;
 import org.apache.isis.applib.annotation.Programmatic;
@@ -41,6 +35,11 @@
  * This implementation has no UI and there are no other implementations of the service API, and so it annotated
  * with {@link org.apache.isis.applib.annotation.DomainService}.  Because this class is implemented in core, this means
  * that it is automatically registered and available for use; no further configuration is required.
+ *
+ * <p>
+ * The state of each memento is held as a flat, ordered set of name/value pairs and is converted to/from its string
+ * form by {@link MementoEncoding}; mementos created by previous (XML-based) versions of this service can still be
+ * parsed.
  */
 @DomainService(
         nature = NatureOfService.DOMAIN,
@@ -51,67 +50,58 @@ public class MementoServiceDefault implements MementoService {
     static class MementoDefault implements Memento {
 
         private final boolean noEncoding;
-        private final Document doc;
+        private final LinkedHashMap<String, String> valueByName;
 
         private final UrlEncodingService urlEncodingService;
 
         MementoDefault(boolean noEncoding, final UrlEncodingService urlEncodingService) {
-            this(DocumentHelper.createDocument(), noEncoding, urlEncodingService);
-            doc.addElement("memento");
+            this(new LinkedHashMap<String, String>(), noEncoding, urlEncodingService);
         }
 
         MementoDefault(
-                Document doc,
+                final LinkedHashMap<String, String> valueByName,
                 boolean noEncoding,
                 final UrlEncodingService urlEncodingService) {
-            this.doc = doc;
+            this.valueByName = valueByName;
             this.noEncoding = noEncoding;
             this.urlEncodingService = urlEncodingService;
         }
         
+        /**
+         * As with the original (XML) implementation, if a value has already been set for this name then it is
+         * retained; the first value set wins.
+         */
         @Override
         public Memento set(String name, Object value) {
-            final Element el = doc.getRootElement();
-            Dom4jUtil.addChild(el, name, value);
+            valueByName.putIfAbsent(name, MementoEncoding.formatValue(value));
             return this;
         }
 
         @Override
         public <T> T get(String name, Class<T> cls) {
-            final Element el = doc.getRootElement();
-            return Dom4jUtil.getChild(el, name, cls);
+            return MementoEncoding.parseValue(valueByName.get(name), cls);
         }
 
         @Override
         public String asString() {
-            final String xmlStr = Dom4jUtil.asString(doc);
-            return encode(xmlStr);
+            final String str = MementoEncoding.asString(valueByName);
+            return encode(str);
         }
 
-        protected String encode(final String xmlStr) {
-            return noEncoding ? xmlStr : urlEncodingService.encode(xmlStr);
+        protected String encode(final String str) {
+            return noEncoding ? str : urlEncodingService.encode(str);
         }
 
-        private static final Function<Element, String> ELEMENT_NAME = new Function<Element, String>(){
-            @Override
-            public String apply(final Element input) {
-                return input.getName();
-            }
-        };
-
         @Override
         public Set<String> keySet() {
-            Element element = doc.getRootElement();
-            @SuppressWarnings("unchecked")
-            List<Element> elements = element.elements();
-            return Sets.newLinkedHashSet(Iterables.transform(elements, ELEMENT_NAME));
+            return Sets.newLinkedHashSet(valueByName.keySet());
         }
 
         // //////////////////////////////////////
 
         @Override
         public String toString() {
-            return Dom4jUtil.asString(doc);
+            return MementoEncoding.asString(valueByName);
         }
 
     }
@@ -145,20 +135,19 @@ public Memento create() {
     @Programmatic
     @Override
     public Memento parse(String str) {
-        String xmlStr;
+        final String decoded;
         if (noEncoding) {
-            xmlStr = str;
+            decoded = str;
         } else {
-            xmlStr = urlEncodingService.decode(str);
+            decoded = urlEncodingService.decode(str);
         }
-        final Document doc = Dom4jUtil.parse(xmlStr);
-        return new MementoDefault(doc, noEncoding, urlEncodingService);
+        return new MementoDefault(MementoEncoding.parse(decoded), noEncoding, urlEncodingService);
     }
 
     @Programmatic
     @Override
     public boolean canSet(final Object input) {
-        return input == null || Dom4jUtil.isSupportedClass(input.getClass());
+        return input == null || MementoEncoding.isSupportedClass(input.getClass());
     }
 
     // //////////////////////////////////////
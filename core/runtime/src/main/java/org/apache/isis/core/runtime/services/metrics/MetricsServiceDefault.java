@@ -18,6 +18,7 @@
  */
 package org.apache.isis.core.runtime.services.metrics;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.enterprise.context.RequestScoped;
@@ -29,15 +30,19 @@
 import org.apache.isis.applib.annotation.NatureOfService;
 import org.apache.isis.applib.annotation.Programmatic;
 import org.apache.isis.applib.services.WithTransactionScope;
-import org.apache.isis.applib.services.metrics.MetricsService;
+import org.apache.isis.applib.services.metrics.InteractionTiming;
+import org.apache.isis.applib.services.metrics.MetricsService4;
+import org.apache.isis.core.metamodel.services.metrics.BootTimeline;
+import org.apache.isis.core.metamodel.services.metrics.InteractionTimings;
 import org.apache.isis.core.runtime.services.changes.ChangedObjectsServiceInternal;
+import org.apache.isis.core.runtime.system.session.IsisSessionFactory;
 
 @RequestScoped
 @DomainService(
         nature = NatureOfService.DOMAIN,
         menuOrder = "" + Integer.MAX_VALUE
 )
-public class MetricsServiceDefault implements MetricsService, InstanceLifecycleListener, LoadLifecycleListener, WithTransactionScope {
+public class MetricsServiceDefault implements MetricsService4, InstanceLifecycleListener, LoadLifecycleListener, WithTransactionScope {
 
     private AtomicInteger numberLoaded = new AtomicInteger(0);
 
@@ -51,6 +56,26 @@ public int numberObjectsDirtied() {
         return changedObjectsServiceInternal.numberObjectsDirtied();
     }
 
+    @Override
+    public int numberDatastoreReads() {
+        return isisSessionFactory.getCurrentSession().getPersistenceSession().getNumberOfDatastoreReads();
+    }
+
+    @Override
+    public List<InteractionTiming> interactionTimings() {
+        return InteractionTimings.getInstance().snapshot();
+    }
+
+    @Override
+    public void resetInteractionTimings() {
+        InteractionTimings.getInstance().reset();
+    }
+
+    @Override
+    public String bootTimeline() {
+        return BootTimeline.getInstance().toJson();
+    }
+
     @Programmatic
     @Override
     public void postLoad(final InstanceLifecycleEvent event) {
@@ -70,4 +95,7 @@ public void resetForNextTransaction() {
     @javax.inject.Inject
     ChangedObjectsServiceInternal changedObjectsServiceInternal;
 
+    @javax.inject.Inject
+    IsisSessionFactory isisSessionFactory;
+
 }
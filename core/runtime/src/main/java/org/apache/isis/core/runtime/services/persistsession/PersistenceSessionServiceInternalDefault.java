@@ -19,6 +19,8 @@
 package org.apache.isis.core.runtime.services.persistsession;
 
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.isis.applib.annotation.DomainService;
 import org.apache.isis.applib.annotation.NatureOfService;
@@ -86,6 +88,11 @@ public void makePersistent(final ObjectAdapter adapter) {
         getPersistenceSession().makePersistentInTransaction(adapter);
     }
 
+    @Override
+    public void makePersistentAll(final List<ObjectAdapter> adapters) {
+        getPersistenceSession().makePersistentAllInTransaction(adapters);
+    }
+
     @Override
     public void remove(final ObjectAdapter adapter) {
         getPersistenceSession().destroyObjectInTransaction(adapter);
@@ -182,6 +189,26 @@ public <T> List<ObjectAdapter> allMatchingQuery(final Query<T> query) {
         return getPersistenceSession().allMatchingQuery(query);
     }
 
+    @Override
+    public <T> Stream<ObjectAdapter> streamMatchingQuery(final Query<T> query) {
+        return getPersistenceSession().streamMatchingQuery(query);
+    }
+
+    @Override
+    public <T> long countMatchingQuery(final Query<T> query) {
+        return getPersistenceSession().countMatchingQuery(query);
+    }
+
+    @Override
+    public <T> boolean existsMatchingQuery(final Query<T> query) {
+        return getPersistenceSession().existsMatchingQuery(query);
+    }
+
+    @Override
+    public <T> T executeWithFetchMembers(final Class<?> cls, final List<String> fetchMembers, final Supplier<T> block) {
+        return getPersistenceSession().executeWithFetchMembers(cls, fetchMembers, block);
+    }
+
     @Override
     public <T> ObjectAdapter firstMatchingQuery(final Query<T> query) {
         return getPersistenceSession().firstMatchingQuery(query);
@@ -45,6 +45,7 @@
 import org.apache.isis.applib.services.command.CommandContext;
 import org.apache.isis.applib.services.iactn.Interaction;
 import org.apache.isis.applib.services.iactn.InteractionContext;
+import org.apache.isis.applib.services.metrics.InteractionTiming.Phase;
 import org.apache.isis.applib.services.metrics.MetricsService;
 import org.apache.isis.applib.services.publish.EventMetadata;
 import org.apache.isis.applib.services.publish.EventPayload;
@@ -66,6 +67,7 @@
 import org.apache.isis.core.metamodel.facets.object.encodeable.EncodableFacet;
 import org.apache.isis.core.metamodel.facets.object.publishedobject.PublishedObjectFacet;
 import org.apache.isis.core.metamodel.services.ixn.InteractionDtoServiceInternal;
+import org.apache.isis.core.metamodel.services.metrics.InteractionTimings;
 import org.apache.isis.core.metamodel.services.publishing.PublishingServiceInternal;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
 import org.apache.isis.core.runtime.services.changes.ChangedObjectsServiceInternal;
@@ -228,11 +230,16 @@ public void publishAction(
         if(suppress) {
             return;
         }
-        publishActionToPublishingService(
-                objectAction, identifiedHolder, targetAdapter, parameterAdapters, resultAdapter
-        );
+        final long startedAt = System.nanoTime();
+        try {
+            publishActionToPublishingService(
+                    objectAction, identifiedHolder, targetAdapter, parameterAdapters, resultAdapter
+            );
 
-        publishToPublisherServices(execution);
+            publishToPublisherServices(execution);
+        } finally {
+            InteractionTimings.getInstance().record(execution.getMemberIdentifier(), Phase.PUBLISH, startedAt);
+        }
     }
 
     private void publishActionToPublishingService(
@@ -382,7 +389,12 @@ public void publishProperty(
             return;
         }
 
-        publishToPublisherServices(execution);
+        final long startedAt = System.nanoTime();
+        try {
+            publishToPublisherServices(execution);
+        } finally {
+            InteractionTimings.getInstance().record(execution.getMemberIdentifier(), Phase.PUBLISH, startedAt);
+        }
     }
 
 
@@ -19,19 +19,22 @@
 
 package org.apache.isis.core.runtime.services.sessmgmt;
 
+import java.util.concurrent.Callable;
+
 import org.apache.isis.applib.annotation.DomainService;
 import org.apache.isis.applib.annotation.NatureOfService;
 import org.apache.isis.applib.annotation.Programmatic;
-import org.apache.isis.applib.services.sessmgmt.SessionManagementService;
+import org.apache.isis.applib.services.sessmgmt.SessionManagementService2;
 import org.apache.isis.core.commons.authentication.AuthenticationSession;
 import org.apache.isis.core.metamodel.services.persistsession.PersistenceSessionServiceInternal;
 import org.apache.isis.core.runtime.system.session.IsisSessionFactory;
+import org.apache.isis.core.runtime.system.transaction.TransactionalClosureWithReturn;
 
 @DomainService(
         nature = NatureOfService.DOMAIN,
         menuOrder = "" + Integer.MAX_VALUE
 )
-public class SessionManagementServiceDefault implements SessionManagementService {
+public class SessionManagementServiceDefault implements SessionManagementService2 {
 
     @Programmatic
     @Override
@@ -47,6 +50,38 @@ public void nextSession() {
         persistenceSessionServiceInternal.beginTran();
     }
 
+    @Programmatic
+    @Override
+    public <T> Callable<T> callableInNewSession(final Callable<T> callable) {
+
+        final AuthenticationSession authenticationSession =
+                isisSessionFactory.getCurrentSession().getAuthenticationSession();
+
+        return new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                isisSessionFactory.openSession(authenticationSession);
+                try {
+                    return isisSessionFactory.getCurrentSession().getPersistenceSession().getTransactionManager()
+                            .executeWithinTransaction(new TransactionalClosureWithReturn<T>() {
+                                @Override
+                                public T execute() {
+                                    try {
+                                        return callable.call();
+                                    } catch (final RuntimeException ex) {
+                                        throw ex;
+                                    } catch (final Exception ex) {
+                                        throw new RuntimeException(ex);
+                                    }
+                                }
+                            });
+                } finally {
+                    isisSessionFactory.closeSession();
+                }
+            }
+        };
+    }
+
 
     @javax.inject.Inject
     IsisSessionFactory isisSessionFactory;
@@ -0,0 +1,125 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.system.persistence;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.jdo.FetchGroup;
+import javax.jdo.FetchPlan;
+import javax.jdo.PersistenceManager;
+
+import com.google.common.collect.Lists;
+
+import org.datanucleus.ClassLoaderResolver;
+import org.datanucleus.ExecutionContext;
+import org.datanucleus.api.jdo.JDOPersistenceManager;
+import org.datanucleus.metadata.AbstractClassMetaData;
+import org.datanucleus.metadata.AbstractMemberMetaData;
+import org.datanucleus.metadata.RelationType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Extends fetch plans with dynamic fetch groups, so that the specified references of instances of a class are
+ * fetched eagerly.
+ *
+ * @see PersistenceSession#executeWithFetchMembers(Class, List, Supplier)
+ * @see PersistenceSession#addFetchMembers(Class, List, FetchPlan)
+ */
+class FetchMembersSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FetchMembersSupport.class);
+
+    static final String FETCH_GROUP_PREFIX = "isis-fetchMembers:";
+
+    private final PersistenceManager persistenceManager;
+
+    FetchMembersSupport(final PersistenceManager persistenceManager) {
+        this.persistenceManager = persistenceManager;
+    }
+
+    <T> T executeWith(
+            final Class<?> cls,
+            final List<String> fetchMembers,
+            final Supplier<T> block) {
+        final FetchPlan fetchPlan = persistenceManager.getFetchPlan();
+        final String fetchGroupName = addTo(cls, fetchMembers, fetchPlan);
+        try {
+            return loaded(block.get());
+        } finally {
+            if(fetchGroupName != null) {
+                fetchPlan.removeGroup(fetchGroupName);
+            }
+        }
+    }
+
+    /**
+     * A lazily loaded (second class object) collection only reads its elements when first iterated, so this is done
+     * while the fetch group is still in place.
+     */
+    private static <T> T loaded(final T result) {
+        if(result instanceof Iterable) {
+            final Iterator<?> iterator = ((Iterable<?>) result).iterator();
+            while (iterator.hasNext()) {
+                iterator.next();
+            }
+        }
+        return result;
+    }
+
+    String addTo(final Class<?> cls, final List<String> fetchMembers, final FetchPlan fetchPlan) {
+        if(fetchMembers.isEmpty()) {
+            return null;
+        }
+        final List<String> relationships = relationshipsOf(cls, fetchMembers);
+        if(relationships.isEmpty()) {
+            return null;
+        }
+        final String fetchGroupName = FETCH_GROUP_PREFIX + cls.getName() + relationships;
+        if(fetchPlan.getGroups().contains(fetchGroupName)) {
+            return null;
+        }
+        final FetchGroup fetchGroup = persistenceManager.getFetchGroup(cls, fetchGroupName);
+        fetchGroup.addMembers(relationships.toArray(new String[relationships.size()]));
+        fetchPlan.addGroup(fetchGroupName);
+        return fetchGroupName;
+    }
+
+    List<String> relationshipsOf(final Class<?> cls, final List<String> members) {
+        final ExecutionContext executionContext = ((JDOPersistenceManager) persistenceManager).getExecutionContext();
+        final ClassLoaderResolver clr = executionContext.getClassLoaderResolver();
+        final AbstractClassMetaData cmd = executionContext.getMetaDataManager().getMetaDataForClass(cls, clr);
+        final List<String> relationships = Lists.newArrayList();
+        if(cmd == null) {
+            return relationships;
+        }
+        for (final String member : members) {
+            final AbstractMemberMetaData mmd = cmd.getMetaDataForMember(member);
+            if(mmd != null && mmd.getRelationType(clr) != RelationType.NONE) {
+                relationships.add(member);
+            } else {
+                LOG.debug("ignoring fetch member '{}' of {}; not a persistent relationship", member, cls.getName());
+            }
+        }
+        return relationships;
+    }
+
+}
@@ -83,7 +83,8 @@ final PersistenceQuery createPersistenceQueryFor(final Query<?> query, final Que
             final QueryDefault<?> queryDefault = (QueryDefault<?>) query;
             final String queryName = queryDefault.getQueryName();
             final Map<String, ObjectAdapter> argumentsAdaptersByParameterName = wrap(queryDefault.getArgumentsByParameterName());
-            return new PersistenceQueryFindUsingApplibQueryDefault(noSpec, queryName, argumentsAdaptersByParameterName, cardinality,
+            return new PersistenceQueryFindUsingApplibQueryDefault(noSpec, queryName, argumentsAdaptersByParameterName,
+                    queryDefault.getFetchMembers(), cardinality,
                     specificationLoader, queryDefault.getStart(), queryDefault.getCount());
         }
         // fallback; generic serializable applib query.
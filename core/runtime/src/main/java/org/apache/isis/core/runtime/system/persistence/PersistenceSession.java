@@ -19,6 +19,7 @@
 package org.apache.isis.core.runtime.system.persistence;
 
 import java.lang.reflect.Array;
+import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.sql.Timestamp;
 import java.text.MessageFormat;
@@ -26,21 +27,32 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import javax.jdo.FetchGroup;
 import javax.jdo.FetchPlan;
+import javax.jdo.JDOHelper;
 import javax.jdo.PersistenceManager;
 import javax.jdo.PersistenceManagerFactory;
 import javax.jdo.identity.SingleFieldIdentity;
 import javax.jdo.listener.InstanceLifecycleListener;
 
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
+import org.datanucleus.ExecutionContext;
+import org.datanucleus.ExecutionContextImpl;
+import org.datanucleus.api.jdo.JDOPersistenceManager;
 import org.datanucleus.enhancement.Persistable;
 import org.datanucleus.exceptions.NucleusObjectNotFoundException;
 import org.datanucleus.identity.DatastoreIdImpl;
+import org.datanucleus.management.ManagerStatistics;
+import org.datanucleus.properties.BasePropertyStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -173,6 +185,13 @@ public class PersistenceSession implements
 
     public static final String SERVICE_IDENTIFIER = "1";
 
+    /**
+     * The number of rows fetched at a time by {@link #streamMatchingQuery(Query) streamed} queries, also the number
+     * of results after which those already consumed are {@link #evictStreamed(List, Set) evicted}.
+     */
+    public static final String KEY_STREAMING_FETCH_SIZE = ROOT_KEY + "streamingFetchSize";
+    public static final int KEY_STREAMING_FETCH_SIZE_DEFAULT = 500;
+
     //endregion
 
     //region > constructor, fields, finalize()
@@ -220,6 +239,7 @@ public class PersistenceSession implements
 
 
     private final boolean concurrencyCheckingGloballyEnabled;
+    private final int streamingFetchSize;
 
 
     /**
@@ -267,6 +287,9 @@ public PersistenceSession(
                 this.configuration.getBoolean("isis.persistor.disableConcurrencyChecking", false);
         this.concurrencyCheckingGloballyEnabled = !concurrencyCheckingGloballyDisabled;
 
+        this.streamingFetchSize =
+                this.configuration.getInteger(KEY_STREAMING_FETCH_SIZE, KEY_STREAMING_FETCH_SIZE_DEFAULT);
+
     }
 
     @Override
@@ -545,6 +568,63 @@ public <T> ObjectAdapter firstMatchingQuery(final Query<T> query) {
         return list.size() > 0 ? list.get(0) : null;
     }
 
+    /**
+     * As {@link #allMatchingQuery(Query)}, but the instances are read from a database cursor and adapted only as the
+     * returned stream is consumed; the stream must be closed, and must be consumed within the current transaction.
+     *
+     * @see #KEY_STREAMING_FETCH_SIZE
+     */
+    public <T> Stream<ObjectAdapter> streamMatchingQuery(final Query<T> query) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("streamInstances using (applib) Query: {}", query);
+        }
+        if (!transactionManager.inTransaction()) {
+            throw new IllegalStateException("Streamed queries can only be performed within a transaction");
+        }
+
+        final PersistenceQuery persistenceQuery = createPersistenceQueryFor(query, QueryCardinality.MULTIPLE);
+        final PersistenceQueryProcessor<? extends PersistenceQuery> processor = lookupProcessorFor(persistenceQuery);
+        return processPersistenceQueryStreaming(processor, persistenceQuery);
+    }
+
+    /**
+     * The number of instances that {@link #allMatchingQuery(Query)} would return, obtained using a <tt>count</tt>
+     * projection so that no pojos or adapters are created.
+     */
+    public <T> long countMatchingQuery(final Query<T> query) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("countInstances using (applib) Query: {}", query);
+        }
+        final PersistenceQuery persistenceQuery = createPersistenceQueryFor(query, QueryCardinality.MULTIPLE);
+        final PersistenceQueryProcessor<? extends PersistenceQuery> processor = lookupProcessorFor(persistenceQuery);
+        return transactionManager.executeWithinTransaction(
+                new TransactionalClosureWithReturn<Long>() {
+                    @Override
+                    public Long execute() {
+                        return processPersistenceQueryCount(processor, persistenceQuery);
+                    }
+                });
+    }
+
+    /**
+     * Whether {@link #allMatchingQuery(Query)} would return any instances, determined by querying for (at most) a
+     * single identity so that no pojos or adapters are created.
+     */
+    public <T> boolean existsMatchingQuery(final Query<T> query) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("existsInstances using (applib) Query: {}", query);
+        }
+        final PersistenceQuery persistenceQuery = createPersistenceQueryFor(query, QueryCardinality.MULTIPLE);
+        final PersistenceQueryProcessor<? extends PersistenceQuery> processor = lookupProcessorFor(persistenceQuery);
+        return transactionManager.executeWithinTransaction(
+                new TransactionalClosureWithReturn<Boolean>() {
+                    @Override
+                    public Boolean execute() {
+                        return processPersistenceQueryExists(processor, persistenceQuery);
+                    }
+                });
+    }
+
     /**
      * Finds and returns instances that match the specified query.
      *
@@ -613,6 +693,62 @@ private <Q extends PersistenceQuery> List<ObjectAdapter> processPersistenceQuery
             final PersistenceQuery persistenceQuery) {
         return persistenceQueryProcessor.process((Q) persistenceQuery);
     }
+    @SuppressWarnings("unchecked")
+    private <Q extends PersistenceQuery> Stream<ObjectAdapter> processPersistenceQueryStreaming(
+            final PersistenceQueryProcessor<Q> persistenceQueryProcessor,
+            final PersistenceQuery persistenceQuery) {
+        return persistenceQueryProcessor.processStreaming((Q) persistenceQuery, streamingFetchSize);
+    }
+    @SuppressWarnings("unchecked")
+    private <Q extends PersistenceQuery> long processPersistenceQueryCount(
+            final PersistenceQueryProcessor<Q> persistenceQueryProcessor,
+            final PersistenceQuery persistenceQuery) {
+        return persistenceQueryProcessor.processCount((Q) persistenceQuery);
+    }
+    @SuppressWarnings("unchecked")
+    private <Q extends PersistenceQuery> boolean processPersistenceQueryExists(
+            final PersistenceQueryProcessor<Q> persistenceQueryProcessor,
+            final PersistenceQuery persistenceQuery) {
+        return persistenceQueryProcessor.processExists((Q) persistenceQuery);
+    }
+
+    /**
+     * The adapters currently mapped, taken before a {@link #streamMatchingQuery(Query) streamed query} is executed so
+     * that those pojos that were already being managed are {@link #evictStreamed(List, Set) not evicted}.
+     */
+    public Set<ObjectAdapter> snapshotAdapters() {
+        final Set<ObjectAdapter> adapters = Sets.newIdentityHashSet();
+        Iterables.addAll(adapters, pojoAdapterMap);
+        return adapters;
+    }
+
+    /**
+     * Called periodically as the results of a {@link #streamMatchingQuery(Query) streamed query} are consumed, so that
+     * the pojos newly loaded by the query (and their adapters) do not accumulate in the adapter maps nor in the
+     * persistence manager's level 1 cache.
+     *
+     * <p>
+     * Pojos whose adapters were {@link #snapshotAdapters() already mapped} before the query was executed are left
+     * alone, as are pojos that have since been modified (or deleted), so that their changes are still flushed.
+     * </p>
+     */
+    public void evictStreamed(final List<Object> pojos, final Set<ObjectAdapter> adaptersBeforeStream) {
+        for (final Object pojo : pojos) {
+            if (JDOHelper.isDirty(pojo) || JDOHelper.isNew(pojo) || JDOHelper.isDeleted(pojo)) {
+                continue;
+            }
+            final ObjectAdapter adapter = pojoAdapterMap.getAdapter(pojo);
+            if (adapter != null) {
+                if (adaptersBeforeStream.contains(adapter)) {
+                    continue;
+                }
+                removeAdapter(adapter);
+            }
+            if (pojo instanceof Persistable) {
+                persistenceManager.evict(pojo);
+            }
+        }
+    }
 
     public IsisConfiguration getConfiguration() {
         return configuration;
@@ -1047,6 +1183,51 @@ private Class<?> clsOf(final RootOid oid) {
 
     //endregion
 
+    //region > fetch members
+
+    /**
+     * Executes the block with the persistence manager's fetch plan extended such that the specified references of
+     * any instances of the class that are loaded (by queries, by id, or as the elements of a collection) are fetched
+     * eagerly, that is, in the same SQL as the instances themselves rather than with a further select per instance.
+     *
+     * <p>
+     *     If the block returns a (lazily loaded) collection, then its elements are loaded before the fetch plan is
+     *     restored.  Any members that are not persistent relationships of the class are ignored.
+     * </p>
+     */
+    public <T> T executeWithFetchMembers(
+            final Class<?> cls,
+            final List<String> fetchMembers,
+            final Supplier<T> block) {
+        return new FetchMembersSupport(persistenceManager).executeWith(cls, fetchMembers, block);
+    }
+
+    /**
+     * Adds a (dynamic) fetch group for the specified references of the class to the fetch plan (either that of the
+     * persistence manager, or of a single query).
+     *
+     * @return the name of the fetch group added, or <tt>null</tt> if none was (because none of the members are
+     *          relationships, or because the fetch plan already includes them).
+     */
+    public String addFetchMembers(final Class<?> cls, final List<String> fetchMembers, final FetchPlan fetchPlan) {
+        return new FetchMembersSupport(persistenceManager).addTo(cls, fetchMembers, fetchPlan);
+    }
+
+    /**
+     * The number of reads (SQL selects) issued to the database by this session so far, or <tt>-1</tt> if the
+     * DataNucleus statistics have not been enabled (<tt>datanucleus.enableStatistics</tt>).
+     */
+    public int getNumberOfDatastoreReads() {
+        if(persistenceManager == null) {
+            return -1;
+        }
+        final ManagerStatistics statistics =
+                ((JDOPersistenceManager) persistenceManager).getExecutionContext().getStatistics();
+        return statistics != null ? statistics.getNumberOfDatastoreReads() : -1;
+    }
+
+    //endregion
+
     //region > lazilyLoaded
 
 
@@ -1142,6 +1323,22 @@ public void resolve(final Object parent) {
      * recursively calling this method.
      */
     public void makePersistentInTransaction(final ObjectAdapter adapter) {
+        ensurePersistable(adapter);
+
+        getTransactionManager().executeWithinTransaction(new TransactionalClosure() {
+
+            @Override
+            public void execute() {
+                makePersistentTransactionAssumed(adapter);
+
+                // clear out the map of transient -> persistent
+                PersistenceSession.this.persistentByTransient.clear();
+            }
+
+        });
+    }
+
+    private static void ensurePersistable(final ObjectAdapter adapter) {
         if (adapter.representsPersistent()) {
             throw new NotPersistableException("Object already persistent: " + adapter);
         }
@@ -1152,12 +1349,40 @@ public void makePersistentInTransaction(final ObjectAdapter adapter) {
         if (specification.isService()) {
             throw new NotPersistableException("Cannot persist services: " + adapter);
         }
+    }
+
+    /**
+     * Makes all of the (transient) {@link ObjectAdapter}s persistent as a single batch, flushing immediately.
+     *
+     * <p>
+     * Rather than queuing a {@link CreateObjectCommand} for each adapter, any pending commands are first flushed and
+     * then the pojos are handed to DataNucleus in a single <tt>makePersistentAll</tt>, with the flush mode set to
+     * {@value #FLUSH_MODE_MANUAL} for the duration (and then restored exactly) so that the inserts are batched (up to the
+     * <tt>datanucleus.rdbms.statementBatchLimit</tt>).  The remapping of each adapter as persistent, its lifecycle
+     * callbacks and its enlisting as created are deferred until the inserts have completed, and are then done in a
+     * single pass.
+     */
+    public void makePersistentAllInTransaction(final List<ObjectAdapter> adapters) {
+        final List<Object> pojos = Lists.newArrayList();
+        for (final ObjectAdapter adapter : adapters) {
+            ensurePersistable(adapter);
+            if (alreadyPersistedOrNotPersistable(adapter)) {
+                continue;
+            }
+            pojos.add(adapter.getObject());
+        }
+        if (pojos.isEmpty()) {
+            return;
+        }
 
         getTransactionManager().executeWithinTransaction(new TransactionalClosure() {
 
             @Override
             public void execute() {
-                makePersistentTransactionAssumed(adapter);
+                // so that the batch is not interleaved with any earlier work
+                getTransactionManager().flushTransaction();
+
+                makePersistentAllTransactionAssumed(pojos);
 
                 // clear out the map of transient -> persistent
                 PersistenceSession.this.persistentByTransient.clear();
@@ -1166,6 +1391,86 @@ public void execute() {
         });
     }
 
+    private static final String PROPERTY_FLUSH_MODE = "datanucleus.flush.mode";
+    private static final String FLUSH_MODE_MANUAL = "MANUAL";
+
+    /**
+     * DataNucleus distinguishes an unset flush mode (meaning: delay datastore operations only if the transaction is
+     * optimistic) from an explicit <tt>AUTO</tt>, but validates any value set through its API and so rejects
+     * <tt>null</tt>.  An unset flush mode is therefore restored by clearing it directly in the execution context's
+     * property store, which this field (if available in this version of DataNucleus) provides access to.
+     */
+    private static final Field EXECUTION_CONTEXT_PROPERTIES = executionContextPropertiesField();
+
+    private static Field executionContextPropertiesField() {
+        try {
+            final Field field = ExecutionContextImpl.class.getDeclaredField("properties");
+            if (!BasePropertyStore.class.isAssignableFrom(field.getType())) {
+                return null;
+            }
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException | RuntimeException e) {
+            LOG.warn("Unable to access DataNucleus' execution context properties; batches will not be flushed manually", e);
+            return null;
+        }
+    }
+
+    /**
+     * Non-null only while {@link #makePersistentAllInTransaction(List)} is flushing its batch, during which newly
+     * stored pojos are collected here rather than being processed one-by-one by the lifecycle listener.
+     */
+    private List<Persistable> pojosStoredInBatch;
+
+    private void makePersistentAllTransactionAssumed(final List<Object> pojos) {
+        LOG.debug("persist all ({} objects)", pojos.size());
+
+        final Object flushMode = persistenceManager.getProperties().get(PROPERTY_FLUSH_MODE);
+        // only if the flush mode can afterwards be restored exactly
+        final boolean flushManually = flushMode != null || executionContextPropertyStore() != null;
+        if (flushManually) {
+            persistenceManager.setProperty(PROPERTY_FLUSH_MODE, FLUSH_MODE_MANUAL);
+        }
+        final List<Persistable> storedPojos = Lists.newArrayList();
+        pojosStoredInBatch = storedPojos;
+        try {
+            persistenceManager.makePersistentAll(pojos);
+            persistenceManager.flush();
+        } finally {
+            pojosStoredInBatch = null;
+            if (flushManually) {
+                restoreFlushMode(flushMode);
+            }
+        }
+
+        for (final Persistable pojo : storedPojos) {
+            enlistCreatedAndRemapIfRequiredThenInvokeIsisInvokePersistingOrUpdatedCallback(pojo);
+        }
+    }
+
+    private void restoreFlushMode(final Object flushMode) {
+        if (flushMode != null) {
+            persistenceManager.setProperty(PROPERTY_FLUSH_MODE, flushMode);
+        } else {
+            executionContextPropertyStore().setProperty(PROPERTY_FLUSH_MODE, null);
+        }
+    }
+
+    private BasePropertyStore executionContextPropertyStore() {
+        if (EXECUTION_CONTEXT_PROPERTIES == null || !(persistenceManager instanceof JDOPersistenceManager)) {
+            return null;
+        }
+        final ExecutionContext executionContext = ((JDOPersistenceManager) persistenceManager).getExecutionContext();
+        if (!(executionContext instanceof ExecutionContextImpl)) {
+            return null;
+        }
+        try {
+            return (BasePropertyStore) EXECUTION_CONTEXT_PROPERTIES.get(executionContext);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
     private void makePersistentTransactionAssumed(final ObjectAdapter adapter) {
         if (alreadyPersistedOrNotPersistable(adapter)) {
             return;
@@ -2320,6 +2625,11 @@ public void invokeIsisPersistingCallback(final Persistable pojo) {
      * to determine which callback to fire.
      */
     public void enlistCreatedAndRemapIfRequiredThenInvokeIsisInvokePersistingOrUpdatedCallback(final Persistable pojo) {
+        if (pojosStoredInBatch != null) {
+            // processed once the batch has been flushed; see makePersistentAllInTransaction(...)
+            pojosStoredInBatch.add(pojo);
+            return;
+        }
         final ObjectAdapter adapter = adapterFor(pojo);
 
         final RootOid rootOid = (RootOid) adapter.getOid(); // ok since this is for a Persistable
@@ -42,6 +42,7 @@
 import org.apache.isis.core.metamodel.deployment.DeploymentCategory;
 import org.apache.isis.core.metamodel.services.ServicesInjector;
 import org.apache.isis.core.metamodel.services.appmanifest.AppManifestProvider;
+import org.apache.isis.core.metamodel.services.metrics.BootTimeline;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.specloader.ServiceInitializer;
 import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
@@ -131,7 +132,7 @@ public void constructServices() {
 
             IsisTransactionManager transactionManager = getCurrentSessionTransactionManager();
             transactionManager.startTransaction();
-            try {
+            try (final BootTimeline.Phase phase = BootTimeline.getInstance().start("postConstruct services")) {
                 serviceInitializer.postConstruct();
             } catch(RuntimeException ex) {
                 transactionManager.getCurrentTransaction().setAbortCause(new IsisTransactionManagerException(ex));
@@ -143,17 +144,21 @@ public void constructServices() {
             //
             // Register all subscribers
             //
-            EventBusService eventBusService = servicesInjector.lookupService(EventBusService.class);
-            servicesInjector.getRegisteredServices().stream()
-                    .filter(service -> shouldRegister(service))
-                    .forEach( service -> eventBusService.register(service));
+            try (final BootTimeline.Phase phase = BootTimeline.getInstance().start("register subscribers")) {
+                EventBusService eventBusService = servicesInjector.lookupService(EventBusService.class);
+                servicesInjector.getRegisteredServices().stream()
+                        .filter(service -> shouldRegister(service))
+                        .forEach( service -> eventBusService.register(service));
+            }
 
             //
             // installFixturesIfRequired
             //
             final FixturesInstallerFromConfiguration fixtureInstaller =
                     new FixturesInstallerFromConfiguration(this);
-            fixtureInstaller.installFixtures();
+            try (final BootTimeline.Phase phase = BootTimeline.getInstance().start("install fixtures")) {
+                fixtureInstaller.installFixtures();
+            }
 
             // only allow logon fixtures if not in production mode.
             if (!deploymentCategory.isProduction()) {
@@ -164,35 +169,38 @@ public void constructServices() {
             // translateServicesAndEnumConstants
             //
 
-            final List<Object> services = servicesInjector.getRegisteredServices();
-            // take a copy of all services to avoid occasional concurrent modification exceptions
-            // that can sometimes occur in the loop
-            final List<Object> copyOfServices = Lists.newArrayList(services);
-            final TitleService titleService = servicesInjector.lookupServiceElseFail(TitleService.class);
-            for (Object service : copyOfServices) {
-                final String unused = titleService.titleOf(service);
-            }
+            try (final BootTimeline.Phase phase =
+                         BootTimeline.getInstance().start("translate services, enums and messages")) {
+                final List<Object> services = servicesInjector.getRegisteredServices();
+                // take a copy of all services to avoid occasional concurrent modification exceptions
+                // that can sometimes occur in the loop
+                final List<Object> copyOfServices = Lists.newArrayList(services);
+                final TitleService titleService = servicesInjector.lookupServiceElseFail(TitleService.class);
+                for (Object service : copyOfServices) {
+                    final String unused = titleService.titleOf(service);
+                }
 
-            // (previously we took a protective copy to avoid a concurrent modification exception,
-            // but this is now done by SpecificationLoader itself)
-            for (final ObjectSpecification objSpec : servicesInjector.getSpecificationLoader().allSpecifications()) {
-                final Class<?> correspondingClass = objSpec.getCorrespondingClass();
-                if(correspondingClass.isEnum()) {
-                    final Object[] enumConstants = correspondingClass.getEnumConstants();
-                    for (Object enumConstant : enumConstants) {
-                        final String unused = titleService.titleOf(enumConstant);
+                // (previously we took a protective copy to avoid a concurrent modification exception,
+                // but this is now done by SpecificationLoader itself)
+                for (final ObjectSpecification objSpec : servicesInjector.getSpecificationLoader().allSpecifications()) {
+                    final Class<?> correspondingClass = objSpec.getCorrespondingClass();
+                    if(correspondingClass.isEnum()) {
+                        final Object[] enumConstants = correspondingClass.getEnumConstants();
+                        for (Object enumConstant : enumConstants) {
+                            final String unused = titleService.titleOf(enumConstant);
+                        }
                     }
                 }
-            }
 
-            // as used by the Wicket UI
-            final TranslationService translationService = servicesInjector.lookupServiceElseFail(TranslationService.class);
+                // as used by the Wicket UI
+                final TranslationService translationService = servicesInjector.lookupServiceElseFail(TranslationService.class);
 
-            final String context = IsisSessionFactoryBuilder.class.getName();
-            final MessageRegistry messageRegistry = new MessageRegistry();
-            final List<String> messages = messageRegistry.listMessages();
-            for (String message : messages) {
-                translationService.translate(context, message);
+                final String context = IsisSessionFactoryBuilder.class.getName();
+                final MessageRegistry messageRegistry = new MessageRegistry();
+                final List<String> messages = messageRegistry.listMessages();
+                for (String message : messages) {
+                    translationService.translate(context, message);
+                }
             }
 
         } finally {
@@ -20,6 +20,9 @@
 package org.apache.isis.core.runtime.system.session;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
@@ -39,6 +42,7 @@
 import org.apache.isis.core.metamodel.facetapi.MetaModelRefiner;
 import org.apache.isis.core.metamodel.services.ServicesInjector;
 import org.apache.isis.core.metamodel.services.configinternal.ConfigurationServiceInternal;
+import org.apache.isis.core.metamodel.services.metrics.BootTimeline;
 import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
 import org.apache.isis.core.metamodel.specloader.validator.MetaModelInvalidException;
 import org.apache.isis.core.runtime.authentication.AuthenticationManager;
@@ -60,6 +64,11 @@ public class IsisSessionFactoryBuilder {
 
     public static final Logger LOG = LoggerFactory.getLogger(IsisSessionFactoryBuilder.class);
 
+    /**
+     * If set, the {@link BootTimeline boot timeline} is written (as JSON) to this file once bootstrapping completes.
+     */
+    public static final String KEY_BOOT_TIMELINE_FILE = "isis.bootTimeline.file";
+
     private boolean initialized = false;
 
     //region > constructors, accessors
@@ -107,191 +116,247 @@ public IsisSessionFactory buildSessionFactory() {
         }
         initialized = true;
 
+        final BootTimeline bootTimeline = BootTimeline.getInstance();
+        bootTimeline.reset();
+        final IsisConfigurationDefault configuration = componentProvider.getConfiguration();
+        final IsisSessionFactory isisSessionFactory;
+        try (final BootTimeline.Phase bootPhase =
+                     bootTimeline.start("IsisSessionFactoryBuilder#buildSessionFactory()")) {
 
-        LOG.info("initialising Isis System");
-        LOG.info("working directory: {}", new File(".").getAbsolutePath());
+            LOG.info("initialising Isis System");
+            LOG.info("working directory: {}", new File(".").getAbsolutePath());
 
-        final IsisConfigurationDefault configuration = componentProvider.getConfiguration();
-        LOG.info("resource stream source: {}", configuration.getResourceStreamSource());
+            LOG.info("resource stream source: {}", configuration.getResourceStreamSource());
 
-        localeInitializer.initLocale(configuration);
-        timeZoneInitializer.initTimeZone(configuration);
+            localeInitializer.initLocale(configuration);
+            timeZoneInitializer.initTimeZone(configuration);
+            ThreadPoolSupport.configure(configuration);
 
-        // a bit of a workaround, but required if anything in the metamodel (for example, a
-        // ValueSemanticsProvider for a date value type) needs to use the Clock singleton
-        // we do this after loading the services to allow a service to prime a different clock
-        // implementation (eg to use an NTP time service).
-        if (!getDeploymentCategory().isProduction() && !Clock.isInitialized()) {
-            FixtureClock.initialize();
-        }
+            // a bit of a workaround, but required if anything in the metamodel (for example, a
+            // ValueSemanticsProvider for a date value type) needs to use the Clock singleton
+            // we do this after loading the services to allow a service to prime a different clock
+            // implementation (eg to use an NTP time service).
+            if (!getDeploymentCategory().isProduction() && !Clock.isInitialized()) {
+                FixtureClock.initialize();
+            }
 
-        IsisSessionFactory isisSessionFactory;
-        try {
+            try {
 
-            // everything added to ServicesInjector will be able to @javax.inject.Inject'ed
-            // the IsisSessionFactory will look up each of these components from the ServicesInjector
+                // everything added to ServicesInjector will be able to @javax.inject.Inject'ed
+                // the IsisSessionFactory will look up each of these components from the ServicesInjector
 
-            final ServicesInjector servicesInjector = componentProvider.provideServiceInjector(configuration);
+                final AuthenticationManager authenticationManager;
+                final AuthorizationManager authorizationManager;
+                final SpecificationLoader specificationLoader;
+                final PersistenceSessionFactory persistenceSessionFactory;
+                try (final BootTimeline.Phase componentsPhase = bootTimeline.start("provide and wire components")) {
+                    final ServicesInjector servicesInjector = componentProvider.provideServiceInjector(configuration);
 
-            // deploymentCategory, configuration
-            servicesInjector.addFallbackIfRequired(
-                    DeploymentCategoryProvider.class, new DeploymentCategoryProviderDefault(deploymentCategory));
-            servicesInjector.addFallbackIfRequired(ConfigurationServiceInternal.class, configuration);
+                    // deploymentCategory, configuration
+                    servicesInjector.addFallbackIfRequired(
+                            DeploymentCategoryProvider.class, new DeploymentCategoryProviderDefault(deploymentCategory));
+                    servicesInjector.addFallbackIfRequired(ConfigurationServiceInternal.class, configuration);
 
 
-            // fixtureScripts
-            servicesInjector.addFallbackIfRequired(FixtureScripts.class, new FixtureScriptsDefault());
+                    // fixtureScripts
+                    servicesInjector.addFallbackIfRequired(FixtureScripts.class, new FixtureScriptsDefault());
 
-            // authentication
-            final AuthenticationManager authenticationManager = componentProvider.provideAuthenticationManager();
-            servicesInjector.addFallbackIfRequired(AuthenticationManager.class, authenticationManager);
+                    // authentication
+                    authenticationManager = componentProvider.provideAuthenticationManager();
+                    servicesInjector.addFallbackIfRequired(AuthenticationManager.class, authenticationManager);
 
-            // authorization
-            final AuthorizationManager authorizationManager = componentProvider.provideAuthorizationManager();
-            servicesInjector.addFallbackIfRequired(AuthorizationManager.class, authorizationManager);
+                    // authorization
+                    authorizationManager = componentProvider.provideAuthorizationManager();
+                    servicesInjector.addFallbackIfRequired(AuthorizationManager.class, authorizationManager);
 
-            // specificationLoader
-            List<Object> metaModelRefinersCandidates = new ArrayList<>(servicesInjector.lookupServices(MetaModelRefiner.class));
-            metaModelRefinersCandidates.add(authenticationManager);
-            metaModelRefinersCandidates.add(authorizationManager);
-            final Collection<MetaModelRefiner> metaModelRefiners = ListExtensions.filtered(metaModelRefinersCandidates, MetaModelRefiner.class);
+                    // specificationLoader
+                    List<Object> metaModelRefinersCandidates = new ArrayList<>(servicesInjector.lookupServices(MetaModelRefiner.class));
+                    metaModelRefinersCandidates.add(authenticationManager);
+                    metaModelRefinersCandidates.add(authorizationManager);
+                    final Collection<MetaModelRefiner> metaModelRefiners = ListExtensions.filtered(metaModelRefinersCandidates, MetaModelRefiner.class);
 
-            final SpecificationLoader specificationLoader =
-                    componentProvider.provideSpecificationLoader(servicesInjector, metaModelRefiners);
-            servicesInjector.addFallbackIfRequired(SpecificationLoader.class, specificationLoader);
+                    specificationLoader =
+                            componentProvider.provideSpecificationLoader(servicesInjector, metaModelRefiners);
+                    servicesInjector.addFallbackIfRequired(SpecificationLoader.class, specificationLoader);
 
-            // persistenceSessionFactory
-            final PersistenceSessionFactory persistenceSessionFactory = new PersistenceSessionFactory(configuration);
-            servicesInjector.addFallbackIfRequired(PersistenceSessionFactory.class, persistenceSessionFactory);
+                    // persistenceSessionFactory
+                    persistenceSessionFactory = new PersistenceSessionFactory(configuration);
+                    servicesInjector.addFallbackIfRequired(PersistenceSessionFactory.class, persistenceSessionFactory);
 
 
-            servicesInjector.validateServices();
+                    servicesInjector.validateServices();
 
-            // instantiate the IsisSessionFactory
-            isisSessionFactory = new IsisSessionFactory(deploymentCategory, servicesInjector, appManifest);
+                    // instantiate the IsisSessionFactory
+                    isisSessionFactory = new IsisSessionFactory(deploymentCategory, servicesInjector, appManifest);
 
-            // now, add the IsisSessionFactory itself into ServicesInjector, so it can be @javax.inject.Inject'd
-            // into any internal domain services
-            servicesInjector.addFallbackIfRequired(IsisSessionFactory.class, isisSessionFactory);
+                    // now, add the IsisSessionFactory itself into ServicesInjector, so it can be @javax.inject.Inject'd
+                    // into any internal domain services
+                    servicesInjector.addFallbackIfRequired(IsisSessionFactory.class, isisSessionFactory);
 
 
 
-            // finally, wire up components and components into services...
-            servicesInjector.autowire();
+                    // finally, wire up components and components into services...
+                    servicesInjector.autowire();
 
 
-            // ... and make IsisSessionFactory available via the IsisContext static for those places where we cannot
-            // yet inject.
-            IsisContext.setSessionFactory(isisSessionFactory);
+                    // ... and make IsisSessionFactory available via the IsisContext static for those places where we cannot
+                    // yet inject.
+                    IsisContext.setSessionFactory(isisSessionFactory);
+                }
 
 
-            final List<Future<Object>> futures = ThreadPoolSupport.getInstance().invokeAll(
-                    new Callable<Object>() {
-                        @Override
-                        public Object call() {
+                final List<Future<Object>> futures = ThreadPoolSupport.getInstance().invokeAll(inPhasesOf(bootPhase,
+                        new Callable<Object>() {
+                            @Override
+                            public Object call() {
 
-                            // time to initialize...
-                            specificationLoader.init();
+                                // time to initialize...
+                                specificationLoader.init();
 
-                            // we need to do this before checking if the metamodel is valid.
-                            //
-                            // eg ActionChoicesForCollectionParameterFacetFactory metamodel validator requires a runtime...
-                            // at o.a.i.core.metamodel.specloader.specimpl.ObjectActionContributee.getServiceAdapter(ObjectActionContributee.java:287)
-                            // at o.a.i.core.metamodel.specloader.specimpl.ObjectActionContributee.determineParameters(ObjectActionContributee.java:138)
-                            // at o.a.i.core.metamodel.specloader.specimpl.ObjectActionDefault.getParameters(ObjectActionDefault.java:182)
-                            // at o.a.i.core.metamodel.facets.actions.action.ActionChoicesForCollectionParameterFacetFactory$1.validate(ActionChoicesForCollectionParameterFacetFactory.java:85)
-                            // at o.a.i.core.metamodel.facets.actions.action.ActionChoicesForCollectionParameterFacetFactory$1.visit(ActionChoicesForCollectionParameterFacetFactory.java:76)
-                            // at o.a.i.core.metamodel.specloader.validator.MetaModelValidatorVisiting.validate(MetaModelValidatorVisiting.java:47)
-                            //
-                            // also, required so that can still call isisSessionFactory#doInSession
-                            //
-                            // eg todoapp has a custom UserSettingsThemeProvider that is called when rendering any page
-                            // (including the metamodel invalid page)
-                            // at o.a.i.core.runtime.system.session.IsisSessionFactory.doInSession(IsisSessionFactory.java:327)
-                            // at todoapp.webapp.UserSettingsThemeProvider.getActiveTheme(UserSettingsThemeProvider.java:36)
+                                // we need to do this before checking if the metamodel is valid.
+                                //
+                                // eg ActionChoicesForCollectionParameterFacetFactory metamodel validator requires a runtime...
+                                // at o.a.i.core.metamodel.specloader.specimpl.ObjectActionContributee.getServiceAdapter(ObjectActionContributee.java:287)
+                                // at o.a.i.core.metamodel.specloader.specimpl.ObjectActionContributee.determineParameters(ObjectActionContributee.java:138)
+                                // at o.a.i.core.metamodel.specloader.specimpl.ObjectActionDefault.getParameters(ObjectActionDefault.java:182)
+                                // at o.a.i.core.metamodel.facets.actions.action.ActionChoicesForCollectionParameterFacetFactory$1.validate(ActionChoicesForCollectionParameterFacetFactory.java:85)
+                                // at o.a.i.core.metamodel.facets.actions.action.ActionChoicesForCollectionParameterFacetFactory$1.visit(ActionChoicesForCollectionParameterFacetFactory.java:76)
+                                // at o.a.i.core.metamodel.specloader.validator.MetaModelValidatorVisiting.validate(MetaModelValidatorVisiting.java:47)
+                                //
+                                // also, required so that can still call isisSessionFactory#doInSession
+                                //
+                                // eg todoapp has a custom UserSettingsThemeProvider that is called when rendering any page
+                                // (including the metamodel invalid page)
+                                // at o.a.i.core.runtime.system.session.IsisSessionFactory.doInSession(IsisSessionFactory.java:327)
+                                // at todoapp.webapp.UserSettingsThemeProvider.getActiveTheme(UserSettingsThemeProvider.java:36)
 
-                            authenticationManager.init(deploymentCategory);
-                            authorizationManager.init(deploymentCategory);
+                                authenticationManager.init(deploymentCategory);
+                                authorizationManager.init(deploymentCategory);
 
-                            return null;
-                        }
-                        public String toString() {
-                            return "SpecificationLoader#init()";
-                        }
+                                return null;
+                            }
+                            public String toString() {
+                                return "SpecificationLoader#init()";
+                            }
 
-                    },
-                    new Callable<Object>() {
-                        @Override public Object call() {
-                            persistenceSessionFactory.init(configuration);
-                            return null;
-                        }
-                        public String toString() {
-                            return "persistenceSessionFactory#init(...)";
-                        }
-                    },
-                    new Callable<Object>() {
-                        @Override public Object call() throws Exception {
-                            ChangesDtoUtils.init();
-                            return null;
-                        }
-                        public String toString() {
-                            return "ChangesDtoUtils.init()";
-                        }
-                    },
-                    new Callable<Object>() {
-                        @Override public Object call() throws Exception {
-                            InteractionDtoUtils.init();
-                            return null;
-                        }
-                        public String toString() {
-                            return "InteractionDtoUtils.init()";
-                        }
-                    },
-                    new Callable<Object>() {
-                        @Override public Object call() throws Exception {
-                            CommandDtoUtils.init();
-                            return null;
-                        }
-                        public String toString() {
-                            return "CommandDtoUtils.init()";
+                        },
+                        new Callable<Object>() {
+                            @Override public Object call() {
+                                persistenceSessionFactory.init(configuration);
+                                return null;
+                            }
+                            public String toString() {
+                                return "persistenceSessionFactory#init(...)";
+                            }
+                        },
+                        new Callable<Object>() {
+                            @Override public Object call() throws Exception {
+                                ChangesDtoUtils.init();
+                                return null;
+                            }
+                            public String toString() {
+                                return "ChangesDtoUtils.init()";
+                            }
+                        },
+                        new Callable<Object>() {
+                            @Override public Object call() throws Exception {
+                                InteractionDtoUtils.init();
+                                return null;
+                            }
+                            public String toString() {
+                                return "InteractionDtoUtils.init()";
+                            }
+                        },
+                        new Callable<Object>() {
+                            @Override public Object call() throws Exception {
+                                CommandDtoUtils.init();
+                                return null;
+                            }
+                            public String toString() {
+                                return "CommandDtoUtils.init()";
+                            }
                         }
-                    }
 
-            );
+                ));
 
-            ThreadPoolSupport.getInstance().joinGatherFailures(futures);
+                ThreadPoolSupport.getInstance().joinGatherFailures(futures);
 
 
-            persistenceSessionFactory.catalogNamedQueries(specificationLoader);
+                try (final BootTimeline.Phase phase = bootTimeline.start("PersistenceSessionFactory#catalogNamedQueries()")) {
+                    persistenceSessionFactory.catalogNamedQueries(specificationLoader);
+                }
 
-            isisSessionFactory.constructServices();
+                try (final BootTimeline.Phase phase = bootTimeline.start("IsisSessionFactory#constructServices()")) {
+                    isisSessionFactory.constructServices();
+                }
 
-            isisSessionFactory.doInSession(
-                    new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                specificationLoader.validateAndAssert();
+                isisSessionFactory.doInSession(
+                        new Runnable() {
+                            @Override
+                            public void run() {
+                                try (final BootTimeline.Phase phase = bootTimeline.start("SpecificationLoader#validateAndAssert()", bootPhase)) {
+                                    specificationLoader.validateAndAssert();
 
-                            } catch (final MetaModelInvalidException ex) {
-                                // no need to use a higher level, such as error(...); the calling code will expose any metamodel
-                                // validation errors in their own particular way.
-                                if(LOG.isDebugEnabled()) {
-                                    LOG.debug("Meta model invalid", ex);
+                                } catch (final MetaModelInvalidException ex) {
+                                    // no need to use a higher level, such as error(...); the calling code will expose any metamodel
+                                    // validation errors in their own particular way.
+                                    if(LOG.isDebugEnabled()) {
+                                        LOG.debug("Meta model invalid", ex);
+                                    }
+                                    IsisContext.setMetaModelInvalidException(ex);
                                 }
-                                IsisContext.setMetaModelInvalidException(ex);
                             }
                         }
-                    }
-            );
+                );
+            } catch (final IsisSystemException ex) {
+                LOG.error("failed to initialise", ex);
+                throw new RuntimeException(ex);
+            }
+        }
 
+        writeBootTimelineIfRequired(configuration, bootTimeline);
 
-        } catch (final IsisSystemException ex) {
-            LOG.error("failed to initialise", ex);
-            throw new RuntimeException(ex);
+        return isisSessionFactory;
+    }
+
+    /**
+     * Runs each of the callables in its own phase (named after the callable), nested under the specified phase.
+     */
+    @SafeVarargs
+    private static List<Callable<Object>> inPhasesOf(
+            final BootTimeline.Phase parent,
+            final Callable<Object>... callables) {
+        final List<Callable<Object>> callablesInPhases = new ArrayList<>();
+        for (final Callable<Object> callable : callables) {
+            callablesInPhases.add(new Callable<Object>() {
+                @Override
+                public Object call() throws Exception {
+                    try (final BootTimeline.Phase phase = BootTimeline.getInstance().start(callable.toString(), parent)) {
+                        return callable.call();
+                    }
+                }
+                public String toString() {
+                    return callable.toString();
+                }
+            });
         }
+        return callablesInPhases;
+    }
 
-        return isisSessionFactory;
+    private static void writeBootTimelineIfRequired(
+            final IsisConfigurationDefault configuration,
+            final BootTimeline bootTimeline) {
+        final String fileName = configuration.getString(KEY_BOOT_TIMELINE_FILE);
+        if(fileName == null) {
+            return;
+        }
+        final File file = new File(fileName);
+        try {
+            Files.write(file.toPath(), bootTimeline.toJson().getBytes(StandardCharsets.UTF_8));
+            LOG.info("boot timeline written to: {}", file.getAbsolutePath());
+        } catch (final IOException ex) {
+            LOG.warn("unable to write boot timeline to: {}", file.getAbsolutePath(), ex);
+        }
     }
 
     //endregion
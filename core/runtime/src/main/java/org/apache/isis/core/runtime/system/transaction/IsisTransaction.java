@@ -30,6 +30,9 @@
 import org.apache.isis.applib.annotation.Programmatic;
 import org.apache.isis.applib.services.HasTransactionId;
 import org.apache.isis.applib.services.WithTransactionScope;
+import org.apache.isis.applib.services.iactn.Interaction;
+import org.apache.isis.applib.services.iactn.InteractionContext;
+import org.apache.isis.applib.services.metrics.InteractionTiming.Phase;
 import org.apache.isis.applib.services.xactn.Transaction2;
 import org.apache.isis.applib.services.xactn.TransactionState;
 import org.apache.isis.core.commons.authentication.AuthenticationSession;
@@ -39,6 +42,7 @@
 import org.apache.isis.core.commons.util.ToString;
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
 import org.apache.isis.core.metamodel.services.ServicesInjector;
+import org.apache.isis.core.metamodel.services.metrics.InteractionTimings;
 import org.apache.isis.core.metamodel.services.publishing.PublishingServiceInternal;
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.CreateObjectCommand;
 import org.apache.isis.core.runtime.persistence.objectstore.transaction.DestroyObjectCommand;
@@ -170,6 +174,7 @@ public TransactionState getTransactionState() {
     private final MessageBroker messageBroker;
     private final PublishingServiceInternal publishingServiceInternal;
     private final AuditingServiceInternal auditingServiceInternal;
+    private final InteractionContext interactionContext;
 
     private final List<WithTransactionScope> withTransactionScopes;
 
@@ -192,6 +197,7 @@ public IsisTransaction(
         this.messageBroker = authenticationSession.getMessageBroker();
         this.publishingServiceInternal = servicesInjector.lookupServiceElseFail(PublishingServiceInternal.class);
         this.auditingServiceInternal = servicesInjector.lookupServiceElseFail(AuditingServiceInternal.class);
+        this.interactionContext = servicesInjector.lookupService(InteractionContext.class);
 
         withTransactionScopes = servicesInjector.lookupServices(WithTransactionScope.class);
 
@@ -336,13 +342,22 @@ public final void flush() {
         LOG.debug("flush transaction {}", this);
 
         try {
-            doFlush();
+            doFlushTimed();
         } catch (final RuntimeException ex) {
             setAbortCause(new IsisTransactionFlushException(ex));
             throw ex;
         }
     }
 
+    private void doFlushTimed() {
+        final long startedAt = System.nanoTime();
+        try {
+            doFlush();
+        } finally {
+            InteractionTimings.getInstance().record(currentMemberIdentifier(), Phase.FLUSH, startedAt);
+        }
+    }
+
     /**
      * <p>
      * Called by both {@link #commit()} and by {@link #flush()}:
@@ -400,6 +415,28 @@ private void doFlush() {
         
     }
 
+    /**
+     * The identifier of the top-level member being (or most recently) executed in this interaction, against which
+     * the timings of flushing, auditing and publishing are recorded.
+     */
+    private String currentMemberIdentifier() {
+        final Interaction interaction = interactionContext != null ? interactionContext.getInteraction() : null;
+        if(interaction == null) {
+            return null;
+        }
+        Interaction.Execution<?, ?> execution = interaction.getCurrentExecution();
+        if(execution == null) {
+            execution = interaction.getPriorExecution();
+        }
+        if(execution == null) {
+            return null;
+        }
+        while(execution.getParent() != null) {
+            execution = execution.getParent();
+        }
+        return execution.getMemberIdentifier();
+    }
+
     //endregion
 
     //region > preCommit, commit
@@ -416,10 +453,9 @@ void preCommit() {
         }
 
         try {
-            auditingServiceInternal.audit();
-
-            publishingServiceInternal.publishObjects();
-            doFlush();
+            doAuditTimed();
+            doPublishTimed();
+            doFlushTimed();
 
         } catch (final RuntimeException ex) {
             setAbortCause(new IsisTransactionManagerException(ex));
@@ -432,6 +468,24 @@ void preCommit() {
     }
 
 
+    private void doAuditTimed() {
+        final long startedAt = System.nanoTime();
+        try {
+            auditingServiceInternal.audit();
+        } finally {
+            InteractionTimings.getInstance().record(currentMemberIdentifier(), Phase.AUDIT, startedAt);
+        }
+    }
+
+    private void doPublishTimed() {
+        final long startedAt = System.nanoTime();
+        try {
+            publishingServiceInternal.publishObjects();
+        } finally {
+            InteractionTimings.getInstance().record(currentMemberIdentifier(), Phase.PUBLISH, startedAt);
+        }
+    }
+
     void commit() {
         assert getState().canCommit();
         assert abortCause == null;
@@ -0,0 +1,415 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.systemusinginstallers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+
+import javax.annotation.Nullable;
+import javax.jdo.annotations.PersistenceCapable;
+import javax.xml.bind.annotation.XmlElement;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Function;
+import com.google.common.base.Joiner;
+import com.google.common.base.Predicate;
+import com.google.common.base.Splitter;
+import com.google.common.collect.FluentIterable;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import org.reflections.ReflectionsException;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.vfs.Vfs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.isis.applib.AppManifest;
+import org.apache.isis.applib.annotation.Action;
+import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.applib.annotation.DomainObjectLayout;
+import org.apache.isis.applib.annotation.DomainService;
+import org.apache.isis.applib.annotation.DomainServiceLayout;
+import org.apache.isis.applib.annotation.Mixin;
+import org.apache.isis.applib.annotation.Nature;
+import org.apache.isis.applib.annotation.Programmatic;
+import org.apache.isis.applib.annotation.Property;
+import org.apache.isis.applib.annotation.ViewModel;
+import org.apache.isis.applib.annotation.ViewModelLayout;
+import org.apache.isis.applib.fixturescripts.DiscoverableFixtureScript;
+import org.apache.isis.applib.fixturescripts.FixtureScript;
+import org.apache.isis.applib.services.classdiscovery.ClassDiscoveryServiceUsingReflections;
+import org.apache.isis.core.metamodel.facets.Annotations;
+
+/**
+ * The domain types (services, entities, fixture scripts, mixins, domain objects, view models and JAXB-annotated
+ * types) within the packages of an {@link AppManifest}, as used to populate the {@link AppManifest.Registry}.
+ *
+ * <p>
+ * These are either {@link #scan(List) scanned} from the classpath (which is slow, as every class file within the
+ * packages must be read), or {@link #load(Class, List) loaded} from an index generated at build time by the
+ * <code>index</code> goal of the <code>isis-maven-plugin</code> and held in the {@link #resourceNameFor(Class)
+ * resource} for the app manifest.
+ *
+ * <p>
+ * The index is a text file holding the list of packages that were scanned, a {@link #fingerprint(List, ClassLoader)
+ * fingerprint} of the classes within those packages, and then the name of each type, one per line, prefixed by its
+ * {@link Category}.  An index whose fingerprint does not match the classpath at runtime is stale, and is ignored.
+ */
+public class DomainTypeIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DomainTypeIndex.class);
+
+    static final String RESOURCE_PREFIX = "META-INF/isis/";
+    static final String RESOURCE_SUFFIX = ".domain-types";
+
+    private static final String PACKAGES_KEY = "packages";
+    private static final String FINGERPRINT_KEY = "fingerprint";
+
+    public enum Category {
+        DOMAIN_SERVICE,
+        PERSISTENCE_CAPABLE,
+        FIXTURE_SCRIPT,
+        MIXIN,
+        DOMAIN_OBJECT,
+        VIEW_MODEL,
+        XML_ELEMENT
+    }
+
+    private final List<String> packages;
+    private final String fingerprint;
+    private final Map<Category, Set<Class<?>>> typesByCategory;
+
+    DomainTypeIndex(
+            final List<String> packages,
+            final String fingerprint,
+            final Map<Category, Set<Class<?>>> typesByCategory) {
+        this.packages = Collections.unmodifiableList(packages);
+        this.fingerprint = fingerprint;
+        this.typesByCategory = typesByCategory;
+    }
+
+    /**
+     * The packages (of the framework and the modules of the app manifest) that were searched.
+     */
+    public List<String> getPackages() {
+        return packages;
+    }
+
+    /**
+     * The {@link #fingerprint(List, ClassLoader) fingerprint} of the classes within the {@link #getPackages()
+     * packages} at the time that they were searched.
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public Set<Class<?>> getTypes(final Category category) {
+        final Set<Class<?>> types = typesByCategory.get(category);
+        return types != null ? Collections.unmodifiableSet(types) : Collections.<Class<?>>emptySet();
+    }
+
+    // //////////////////////////////////////
+
+    /**
+     * The packages to search for the provided app manifest: those providing the framework's own services, along
+     * with those of each of the app manifest's modules.
+     */
+    public static List<String> packagesFor(final AppManifest appManifest) {
+        final List<String> moduleAndFrameworkPackages = Lists.newArrayList();
+        moduleAndFrameworkPackages.addAll(AppManifest.Registry.FRAMEWORK_PROVIDED_SERVICES);
+        Iterables.addAll(moduleAndFrameworkPackages, IsisComponentProvider.modulePackageNamesFrom(appManifest));
+        return moduleAndFrameworkPackages;
+    }
+
+    /**
+     * The name of the classpath resource holding the index for the provided app manifest.
+     */
+    public static String resourceNameFor(final Class<?> appManifestClass) {
+        return RESOURCE_PREFIX + appManifestClass.getName() + RESOURCE_SUFFIX;
+    }
+
+    /**
+     * Loads the index for the app manifest if available, otherwise falls back to scanning the classpath.
+     */
+    public static DomainTypeIndex loadElseScan(final Class<?> appManifestClass, final List<String> packages) {
+        final DomainTypeIndex index = load(appManifestClass, packages);
+        return index != null ? index : scan(packages);
+    }
+
+    // //////////////////////////////////////
+
+    /**
+     * Searches the classpath for the domain types within the provided packages.
+     */
+    public static DomainTypeIndex scan(final List<String> packages) {
+
+        Vfs.setDefaultURLTypes(ClassDiscoveryServiceUsingReflections.getUrlTypes());
+
+        final IsisComponentProvider.IsisReflections reflections = new IsisComponentProvider.IsisReflections(packages);
+
+        final Set<Class<?>> domainServiceTypes = Sets.newLinkedHashSet();
+        domainServiceTypes.addAll(reflections.getTypesAnnotatedWith(DomainService.class));
+
+        domainServiceTypes.addAll(reflections.getTypesAnnotatedWith(DomainServiceLayout.class));
+
+        domainServiceTypes.addAll(reflections.getTypesAnnotatedWith(
+                "org.springframework.stereotype.Component",
+                "org.springframework.stereotype.Repository",
+                "org.springframework.stereotype.Service"));
+
+
+        final Set<Class<?>> persistenceCapableTypes = Sets.newLinkedHashSet();
+        persistenceCapableTypes.addAll(reflections.getTypesAnnotatedWith(PersistenceCapable.class));
+
+        // the fixtureScript types are introspected just to provide a drop-down when running fixture scripts
+        // in prototyping mode (though they may be introspected lazily if actually run).
+        // we therefore try to limit the set of fixture types eagerly introspected at startup
+        final Set<Class<?>> fixtureScriptTypes = Sets.newLinkedHashSet();
+        fixtureScriptTypes.addAll(
+                FluentIterable.from(reflections.getSubTypesOf(FixtureScript.class)).
+                        filter(new Predicate<Class<?>>(){
+                            @Override
+                            public boolean apply(@Nullable final Class<?> aClass) {
+                                // ignore as a fixture script if annotated with @Programmatic
+                                // (though directly implementing DiscoverableFixtureScript takes precedence and will NOT ignore)
+                                return DiscoverableFixtureScript.class.isAssignableFrom(aClass) ||
+                                        Annotations.getAnnotation(aClass, Programmatic.class) == null;
+                            }
+                        })
+                        .toList());
+
+        final Set<Class<?>> domainObjectTypes = Sets.newLinkedHashSet();
+        domainObjectTypes.addAll(reflections.getTypesAnnotatedWith(DomainObject.class));
+        domainObjectTypes.addAll(reflections.getTypesAnnotatedWith(DomainObjectLayout.class));
+        // v2 remove annotations with DomainObject
+        domainObjectTypes.removeAll(Lists.newArrayList(Action.class, Property.class,
+                org.apache.isis.applib.annotation.Collection.class));
+
+        final Set<Class<?>> mixinTypes = Sets.newHashSet();
+        mixinTypes.addAll(reflections.getTypesAnnotatedWith(Mixin.class));
+        mixinTypes.addAll(
+                Lists.newArrayList(Iterables.filter(domainObjectTypes, new Predicate<Class<?>>() {
+                    @Override
+                    public boolean apply(@Nullable final Class<?> input) {
+                        if(input == null) { return false; }
+                        final DomainObject annotation = Annotations.getAnnotation(input, DomainObject.class);
+                        return !Modifier.isAbstract(input.getModifiers())
+                                && annotation != null
+                                && annotation.nature() == Nature.MIXIN;
+                    }
+                }))
+        );
+
+        final Set<Class<?>> viewModelTypes = Sets.newLinkedHashSet();
+        viewModelTypes.addAll(reflections.getTypesAnnotatedWith(ViewModel.class));
+        viewModelTypes.addAll(reflections.getTypesAnnotatedWith(ViewModelLayout.class));
+
+        final Set<Class<?>> xmlElementTypes = Sets.newLinkedHashSet();
+        xmlElementTypes.addAll(reflections.getTypesAnnotatedWith(XmlElement.class));
+
+        // Reflections seems to have a bug whereby it will return some classes outside the
+        // set of packages that we want (think this is to do with the fact that it matches based on
+        // the prefix and gets it wrong); so we double check and filter out types outside our
+        // required set of packages.
+        final List<String> packagesWithDotSuffix = withDotSuffix(packages);
+
+        final Map<Category, Set<Class<?>>> typesByCategory = new EnumMap<>(Category.class);
+        typesByCategory.put(Category.DOMAIN_SERVICE, IsisComponentProvider.withinPackageAndNotAnonymous(packagesWithDotSuffix, domainServiceTypes));
+        typesByCategory.put(Category.PERSISTENCE_CAPABLE, IsisComponentProvider.withinPackageAndNotAnonymous(packagesWithDotSuffix, persistenceCapableTypes));
+        typesByCategory.put(Category.FIXTURE_SCRIPT, IsisComponentProvider.withinPackageAndNotAnonymous(packagesWithDotSuffix, fixtureScriptTypes));
+        typesByCategory.put(Category.MIXIN, IsisComponentProvider.withinPackageAndNotAnonymous(packagesWithDotSuffix, mixinTypes));
+        typesByCategory.put(Category.DOMAIN_OBJECT, IsisComponentProvider.withinPackageAndNotAnonymous(packagesWithDotSuffix, domainObjectTypes));
+        typesByCategory.put(Category.VIEW_MODEL, IsisComponentProvider.withinPackageAndNotAnonymous(packagesWithDotSuffix, viewModelTypes));
+        typesByCategory.put(Category.XML_ELEMENT, IsisComponentProvider.withinPackageAndNotAnonymous(packagesWithDotSuffix, xmlElementTypes));
+
+        final String fingerprint = fingerprint(packages, Thread.currentThread().getContextClassLoader());
+        return new DomainTypeIndex(packages, fingerprint, typesByCategory);
+    }
+
+    /**
+     * A hash of the names of the class files within the provided packages, across all of the classpath.
+     *
+     * <p>
+     * This only lists the entries of each directory or jar (it does not read the class files), so is much cheaper
+     * than a scan.  It detects classes being added, removed or renamed (including from a different version of a
+     * jar), but not changes to the annotations of an existing class; the index should therefore be regenerated as
+     * part of every build.
+     */
+    static String fingerprint(final List<String> packages, final ClassLoader classLoader) {
+        Vfs.setDefaultURLTypes(ClassDiscoveryServiceUsingReflections.getUrlTypes());
+
+        final List<String> packagePaths = Lists.newArrayList();
+        final Set<URL> urls = Sets.newLinkedHashSet();
+        for (final String packageName : packages) {
+            packagePaths.add(packageName.replace('.', '/') + "/");
+            urls.addAll(ClasspathHelper.forPackage(packageName, classLoader));
+        }
+
+        final SortedSet<String> classFiles = Sets.newTreeSet();
+        for (final URL url : urls) {
+            final Vfs.Dir dir = Vfs.fromURL(url);
+            try {
+                for (final Vfs.File file : dir.getFiles()) {
+                    final String relativePath = file.getRelativePath();
+                    if(relativePath.endsWith(".class") && startsWithAny(relativePath, packagePaths)) {
+                        classFiles.add(relativePath);
+                    }
+                }
+            } finally {
+                dir.close();
+            }
+        }
+
+        final Hasher hasher = Hashing.sha1().newHasher();
+        for (final String classFile : classFiles) {
+            hasher.putString(classFile, Charsets.UTF_8).putByte((byte) 0);
+        }
+        return hasher.hash().toString();
+    }
+
+    private static boolean startsWithAny(final String str, final List<String> prefixes) {
+        for (final String prefix : prefixes) {
+            if(str.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static List<String> withDotSuffix(final List<String> packages) {
+        // for a tiny bit of efficiency, we append a '.' to each package name here, outside the loops
+        return FluentIterable.from(packages).transform(new Function<String, String>() {
+            @Nullable @Override
+            public String apply(@Nullable final String s) {
+                return s != null ? s + "." : null;
+            }
+        }).toList();
+    }
+
+    // //////////////////////////////////////
+
+    /**
+     * Loads the index for the app manifest, using the thread's context class loader.
+     *
+     * @return <code>null</code> if there is no index, or if it was generated for a different set of packages, or if
+     * its fingerprint does not match that of the classpath, or if any of the indexed types could not be loaded.
+     */
+    public static DomainTypeIndex load(final Class<?> appManifestClass, final List<String> packages) {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final String resourceName = resourceNameFor(appManifestClass);
+        final InputStream inputStream = classLoader.getResourceAsStream(resourceName);
+        if(inputStream == null) {
+            LOG.debug("No domain type index '{}'; will scan classpath", resourceName);
+            return null;
+        }
+        try (final Reader reader = new InputStreamReader(inputStream, Charsets.UTF_8)) {
+            final DomainTypeIndex index = read(reader, classLoader);
+            if(!index.getPackages().equals(packages)) {
+                LOG.warn("Domain type index '{}' is for packages {} but require {}; will scan classpath",
+                        resourceName, index.getPackages(), packages);
+                return null;
+            }
+            if(!index.getFingerprint().equals(fingerprint(packages, classLoader))) {
+                LOG.warn("Domain type index '{}' is stale (classes within packages have changed); will scan classpath",
+                        resourceName);
+                return null;
+            }
+            LOG.info("Using domain type index '{}'", resourceName);
+            return index;
+        } catch (IOException | ClassNotFoundException | LinkageError | IllegalArgumentException
+                | ReflectionsException ex) {
+            LOG.warn("Unable to read domain type index '{}'; will scan classpath", resourceName, ex);
+            return null;
+        }
+    }
+
+    static DomainTypeIndex read(final Reader reader, final ClassLoader classLoader)
+            throws IOException, ClassNotFoundException {
+        final BufferedReader bufferedReader = new BufferedReader(reader);
+        List<String> packages = null;
+        String fingerprint = null;
+        final Map<Category, Set<Class<?>>> typesByCategory = new EnumMap<>(Category.class);
+        for (final Category category : Category.values()) {
+            typesByCategory.put(category, Sets.<Class<?>>newLinkedHashSet());
+        }
+
+        String line;
+        while((line = bufferedReader.readLine()) != null) {
+            line = line.trim();
+            if(line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            final int equals = line.indexOf('=');
+            if(equals == -1) {
+                throw new IllegalArgumentException("Malformed line: '" + line + "'");
+            }
+            final String key = line.substring(0, equals);
+            final String value = line.substring(equals + 1);
+            if(PACKAGES_KEY.equals(key)) {
+                packages = Lists.newArrayList(Splitter.on(',').omitEmptyStrings().split(value));
+            } else if(FINGERPRINT_KEY.equals(key)) {
+                fingerprint = value;
+            } else {
+                typesByCategory.get(Category.valueOf(key)).add(classLoader.loadClass(value));
+            }
+        }
+        if(packages == null) {
+            throw new IllegalArgumentException("No '" + PACKAGES_KEY + "' entry");
+        }
+        if(fingerprint == null) {
+            throw new IllegalArgumentException("No '" + FINGERPRINT_KEY + "' entry");
+        }
+        return new DomainTypeIndex(packages, fingerprint, typesByCategory);
+    }
+
+    /**
+     * Writes out this index, in the format expected by {@link #load(Class, List)}.
+     */
+    public void writeTo(final Writer writer) {
+        final PrintWriter printWriter = new PrintWriter(writer);
+        printWriter.println("# generated by isis-maven-plugin:index; do not edit");
+        printWriter.println(PACKAGES_KEY + "=" + Joiner.on(',').join(packages));
+        printWriter.println(FINGERPRINT_KEY + "=" + fingerprint);
+        for (final Category category : Category.values()) {
+            for (final Class<?> type : getTypes(category)) {
+                printWriter.println(category.name() + "=" + type.getName());
+            }
+        }
+        printWriter.flush();
+    }
+
+}
@@ -19,20 +19,15 @@
 
 package org.apache.isis.core.runtime.systemusinginstallers;
 
-import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nullable;
-import javax.jdo.annotations.PersistenceCapable;
-import javax.xml.bind.annotation.XmlElement;
 
 import com.google.common.base.Function;
 import com.google.common.base.Joiner;
-import com.google.common.base.Predicate;
-import com.google.common.collect.FluentIterable;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
@@ -40,29 +35,13 @@
 import org.reflections.ReflectionUtils;
 import org.reflections.Reflections;
 import org.reflections.scanners.TypeAnnotationsScanner;
-import org.reflections.vfs.Vfs;
 
 import org.apache.isis.applib.AppManifest;
-import org.apache.isis.applib.annotation.Action;
-import org.apache.isis.applib.annotation.DomainObject;
-import org.apache.isis.applib.annotation.DomainObjectLayout;
-import org.apache.isis.applib.annotation.DomainService;
-import org.apache.isis.applib.annotation.DomainServiceLayout;
-import org.apache.isis.applib.annotation.Mixin;
-import org.apache.isis.applib.annotation.Nature;
-import org.apache.isis.applib.annotation.Programmatic;
-import org.apache.isis.applib.annotation.Property;
-import org.apache.isis.applib.annotation.ViewModel;
-import org.apache.isis.applib.annotation.ViewModelLayout;
-import org.apache.isis.applib.fixturescripts.DiscoverableFixtureScript;
-import org.apache.isis.applib.fixturescripts.FixtureScript;
-import org.apache.isis.applib.services.classdiscovery.ClassDiscoveryServiceUsingReflections;
 import org.apache.isis.core.commons.config.IsisConfiguration;
 import org.apache.isis.core.commons.config.IsisConfigurationDefault;
 import org.apache.isis.core.commons.factory.InstanceUtil;
 import org.apache.isis.core.commons.lang.ClassUtil;
 import org.apache.isis.core.metamodel.facetapi.MetaModelRefiner;
-import org.apache.isis.core.metamodel.facets.Annotations;
 import org.apache.isis.core.metamodel.layoutmetadata.LayoutMetadataReader;
 import org.apache.isis.core.metamodel.progmodel.ProgrammingModel;
 import org.apache.isis.core.metamodel.services.ServicesInjector;
@@ -122,7 +101,7 @@ public IsisComponentProvider(
         this.authorizationManager = authorizationManager;
     }
 
-    public class IsisReflections extends Reflections{
+    public static class IsisReflections extends Reflections{
 
         public IsisReflections(Object... params) {
             super(params);
@@ -157,102 +136,30 @@ private void putAppManifestKey(final AppManifest appManifest) {
         );
     }
 
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     private void findAndRegisterTypes(final AppManifest appManifest) {
-        final Iterable<String> modulePackages = modulePackageNamesFrom(appManifest);
+        final List<String> moduleAndFrameworkPackages = DomainTypeIndex.packagesFor(appManifest);
         final AppManifest.Registry registry = AppManifest.Registry.instance();
 
-        final List<String> moduleAndFrameworkPackages = Lists.newArrayList();
-        moduleAndFrameworkPackages.addAll(AppManifest.Registry.FRAMEWORK_PROVIDED_SERVICES);
-        Iterables.addAll(moduleAndFrameworkPackages, modulePackages);
-
-        Vfs.setDefaultURLTypes(ClassDiscoveryServiceUsingReflections.getUrlTypes());
-
-        final IsisReflections reflections = new IsisReflections(moduleAndFrameworkPackages);
+        // uses the index generated at build time (by the isis-maven-plugin) if there is one, since scanning
+        // the classpath is expensive.
+        final DomainTypeIndex index = DomainTypeIndex.loadElseScan(appManifest.getClass(), moduleAndFrameworkPackages);
 
         final Set<Class<?>> domainServiceTypes = Sets.newLinkedHashSet();
-        domainServiceTypes.addAll(reflections.getTypesAnnotatedWith(DomainService.class));
-
-        domainServiceTypes.addAll(reflections.getTypesAnnotatedWith(DomainServiceLayout.class));
-
-        domainServiceTypes.addAll(reflections.getTypesAnnotatedWith(
-                "org.springframework.stereotype.Component",
-                "org.springframework.stereotype.Repository",
-                "org.springframework.stereotype.Service"));
-
-
-        final Set<Class<?>> persistenceCapableTypes = Sets.newLinkedHashSet();
-        persistenceCapableTypes.addAll(reflections.getTypesAnnotatedWith(PersistenceCapable.class));
-
-        // the fixtureScript types are introspected just to provide a drop-down when running fixture scripts
-        // in prototyping mode (though they may be introspected lazily if actually run).
-        // we therefore try to limit the set of fixture types eagerly introspected at startup
-        final Set<Class<? extends FixtureScript>> fixtureScriptTypes = Sets.newLinkedHashSet();
-        fixtureScriptTypes.addAll(
-                FluentIterable.from(reflections.getSubTypesOf(FixtureScript.class)).
-                        filter(new Predicate<Class<?>>(){
-                            @Override
-                            public boolean apply(@Nullable final Class<?> aClass) {
-                                // ignore as a fixture script if annotated with @Programmatic
-                                // (though directly implementing DiscoverableFixtureScript takes precedence and will NOT ignore)
-                                return DiscoverableFixtureScript.class.isAssignableFrom(aClass) ||
-                                        Annotations.getAnnotation(aClass, Programmatic.class) == null;
-                            }
-                        })
-                        .toList());
-
-        final Set<Class<?>> domainObjectTypes = Sets.newLinkedHashSet();
-        domainObjectTypes.addAll(reflections.getTypesAnnotatedWith(DomainObject.class));
-        domainObjectTypes.addAll(reflections.getTypesAnnotatedWith(DomainObjectLayout.class));
-        // v2 remove annotations with DomainObject
-        domainObjectTypes.removeAll(Lists.newArrayList(Action.class, Property.class,
-                org.apache.isis.applib.annotation.Collection.class));
-
-        final Set<Class<?>> mixinTypes = Sets.newHashSet();
-        mixinTypes.addAll(reflections.getTypesAnnotatedWith(Mixin.class));
-        mixinTypes.addAll(
-                Lists.newArrayList(Iterables.filter(domainObjectTypes, new Predicate<Class<?>>() {
-                    @Override
-                    public boolean apply(@Nullable final Class<?> input) {
-                        if(input == null) { return false; }
-                        final DomainObject annotation = Annotations.getAnnotation(input, DomainObject.class);
-                        return !Modifier.isAbstract(input.getModifiers())
-                                && annotation != null
-                                && annotation.nature() == Nature.MIXIN;
-                    }
-                }))
-        );
-
-        final Set<Class<?>> viewModelTypes = Sets.newLinkedHashSet();
-        viewModelTypes.addAll(reflections.getTypesAnnotatedWith(ViewModel.class));
-        viewModelTypes.addAll(reflections.getTypesAnnotatedWith(ViewModelLayout.class));
-
-        final Set<Class<?>> xmlElementTypes = Sets.newLinkedHashSet();
-        xmlElementTypes.addAll(reflections.getTypesAnnotatedWith(XmlElement.class));
+        domainServiceTypes.addAll(index.getTypes(DomainTypeIndex.Category.DOMAIN_SERVICE));
 
         // add in any explicitly registered services...
         domainServiceTypes.addAll(appManifest.getAdditionalServices());
 
-        // Reflections seems to have a bug whereby it will return some classes outside the
-        // set of packages that we want (think this is to do with the fact that it matches based on
-        // the prefix and gets it wrong); so we double check and filter out types outside our
-        // required set of packages.
-
-        // for a tiny bit of efficiency, we append a '.' to each package name here, outside the loops
-        List<String> packagesWithDotSuffix =
-                FluentIterable.from(moduleAndFrameworkPackages).transform(new Function<String, String>() {
-                    @Nullable @Override
-                    public String apply(@Nullable final String s) {
-                        return s != null ? s + "." : null;
-                    }
-                }).toList();
+        final List<String> packagesWithDotSuffix = DomainTypeIndex.withDotSuffix(moduleAndFrameworkPackages);
 
         registry.setDomainServiceTypes(withinPackageAndNotAnonymous(packagesWithDotSuffix, domainServiceTypes));
-        registry.setPersistenceCapableTypes(withinPackageAndNotAnonymous(packagesWithDotSuffix, persistenceCapableTypes));
-        registry.setFixtureScriptTypes(withinPackageAndNotAnonymous(packagesWithDotSuffix, fixtureScriptTypes));
-        registry.setMixinTypes(withinPackageAndNotAnonymous(packagesWithDotSuffix, mixinTypes));
-        registry.setDomainObjectTypes(withinPackageAndNotAnonymous(packagesWithDotSuffix, domainObjectTypes));
-        registry.setViewModelTypes(withinPackageAndNotAnonymous(packagesWithDotSuffix, viewModelTypes));
-        registry.setXmlElementTypes(withinPackageAndNotAnonymous(packagesWithDotSuffix, xmlElementTypes));
+        registry.setPersistenceCapableTypes(index.getTypes(DomainTypeIndex.Category.PERSISTENCE_CAPABLE));
+        registry.setFixtureScriptTypes((Set) index.getTypes(DomainTypeIndex.Category.FIXTURE_SCRIPT));
+        registry.setMixinTypes(index.getTypes(DomainTypeIndex.Category.MIXIN));
+        registry.setDomainObjectTypes(index.getTypes(DomainTypeIndex.Category.DOMAIN_OBJECT));
+        registry.setViewModelTypes(index.getTypes(DomainTypeIndex.Category.VIEW_MODEL));
+        registry.setXmlElementTypes(index.getTypes(DomainTypeIndex.Category.XML_ELEMENT));
     }
 
     static <T> Set<Class<? extends T>> withinPackageAndNotAnonymous(
@@ -315,7 +222,7 @@ private static String join(final String csv1, final String csv2) {
         return Joiner.on(",").join(csv1, csv2);
     }
 
-    private Iterable<String> modulePackageNamesFrom(final AppManifest appManifest) {
+    static Iterable<String> modulePackageNamesFrom(final AppManifest appManifest) {
         List<Class<?>> modules = appManifest.getModules();
         if (modules == null || modules.isEmpty()) {
             throw new IllegalArgumentException(
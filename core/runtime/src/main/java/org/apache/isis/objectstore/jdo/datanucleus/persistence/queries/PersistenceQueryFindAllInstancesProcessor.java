@@ -18,7 +18,9 @@
  */
 package org.apache.isis.objectstore.jdo.datanucleus.persistence.queries;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 import javax.jdo.Query;
 
@@ -59,4 +61,34 @@ public List<ObjectAdapter> process(final PersistenceQueryFindAllInstances persis
             jdoQuery.closeAll();
         }
     }
+
+    public Stream<ObjectAdapter> processStreaming(final PersistenceQueryFindAllInstances persistenceQuery, final int fetchSize) {
+
+        final ObjectSpecification specification = persistenceQuery.getSpecification();
+
+        final Class<?> cls = specification.getCorrespondingClass();
+        final Query jdoQuery = persistenceSession.newJdoQuery(cls);
+
+        // http://www.datanucleus.org/servlet/jira/browse/NUCCORE-1103
+        jdoQuery.addExtension("datanucleus.multivaluedFetch", "none");
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("allInstances() streamed: class={}", specification.getFullIdentifier());
+        }
+
+        return streamAdapters(jdoQuery, Collections.<String, Object>emptyMap(), fetchSize);
+    }
+
+    public long processCount(final PersistenceQueryFindAllInstances persistenceQuery) {
+        return countOf(newJdoQueryFor(persistenceQuery), Collections.<String, Object>emptyMap());
+    }
+
+    public boolean processExists(final PersistenceQueryFindAllInstances persistenceQuery) {
+        return anyOf(newJdoQueryFor(persistenceQuery), Collections.<String, Object>emptyMap(), 0);
+    }
+
+    private Query newJdoQueryFor(final PersistenceQueryFindAllInstances persistenceQuery) {
+        final Class<?> cls = persistenceQuery.getSpecification().getCorrespondingClass();
+        return persistenceSession.newJdoQuery(cls);
+    }
 }
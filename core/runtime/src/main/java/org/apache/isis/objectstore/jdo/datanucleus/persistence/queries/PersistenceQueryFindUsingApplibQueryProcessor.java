@@ -21,6 +21,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import javax.jdo.Query;
 
@@ -104,6 +105,8 @@ private List<?> getResults(final PersistenceQueryFindUsingApplibQueryDefault per
         
         // http://www.datanucleus.org/servlet/jira/browse/NUCCORE-1103
         jdoQuery.addExtension("datanucleus.multivaluedFetch", "none");
+
+        persistenceSession.addFetchMembers(cls, persistenceQuery.getFetchMembers(), jdoQuery.getFetchPlan());
         
         if(persistenceQuery.hasRange()) {
             jdoQuery.setRange(persistenceQuery.getStart(), persistenceQuery.getEnd());
@@ -128,6 +131,77 @@ private List<?> getResults(final PersistenceQueryFindUsingApplibQueryDefault per
         }
     }
 
+    public Stream<ObjectAdapter> processStreaming(
+            final PersistenceQueryFindUsingApplibQueryDefault persistenceQuery,
+            final int fetchSize) {
+
+        final String queryName = persistenceQuery.getQueryName();
+        final ObjectSpecification objectSpec = persistenceQuery.getSpecification();
+
+        if((objectSpec.getFullIdentifier() + "#pk").equals(queryName)) {
+            // at most one result, so nothing to be gained from streaming
+            return process(persistenceQuery).stream();
+        }
+
+        final Map<String, Object> argumentsByParameterName = unwrap(
+                persistenceQuery.getArgumentsAdaptersByParameterName());
+
+        final Class<?> cls = objectSpec.getCorrespondingClass();
+        final Query jdoQuery = persistenceSession.newJdoNamedQuery(cls, queryName);
+
+        // http://www.datanucleus.org/servlet/jira/browse/NUCCORE-1103
+        jdoQuery.addExtension("datanucleus.multivaluedFetch", "none");
+
+        persistenceSession.addFetchMembers(cls, persistenceQuery.getFetchMembers(), jdoQuery.getFetchPlan());
+
+        if(persistenceQuery.hasRange()) {
+            jdoQuery.setRange(persistenceQuery.getStart(), persistenceQuery.getEnd());
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("{} # {} ( {} ) streamed", cls.getName(), queryName, argumentsByParameterName);
+        }
+
+        return streamAdapters(jdoQuery, argumentsByParameterName, fetchSize);
+    }
+
+    public long processCount(final PersistenceQueryFindUsingApplibQueryDefault persistenceQuery) {
+        if(isPrimaryKeyQuery(persistenceQuery)) {
+            return getResultsPk(persistenceQuery).size();
+        }
+
+        final Query jdoQuery = newJdoNamedQueryFor(persistenceQuery);
+        final long count = countOf(jdoQuery, unwrap(persistenceQuery.getArgumentsAdaptersByParameterName()));
+        if(!persistenceQuery.hasRange()) {
+            return count;
+        }
+        return Math.max(0, Math.min(count, persistenceQuery.getEnd()) - persistenceQuery.getStart());
+    }
+
+    public boolean processExists(final PersistenceQueryFindUsingApplibQueryDefault persistenceQuery) {
+        if(isPrimaryKeyQuery(persistenceQuery)) {
+            return !getResultsPk(persistenceQuery).isEmpty();
+        }
+
+        final Query jdoQuery = newJdoNamedQueryFor(persistenceQuery);
+        return anyOf(jdoQuery, unwrap(persistenceQuery.getArgumentsAdaptersByParameterName()), persistenceQuery.getStart());
+    }
+
+    private static boolean isPrimaryKeyQuery(final PersistenceQueryFindUsingApplibQueryDefault persistenceQuery) {
+        final ObjectSpecification objectSpec = persistenceQuery.getSpecification();
+        return (objectSpec.getFullIdentifier() + "#pk").equals(persistenceQuery.getQueryName());
+    }
+
+    private Query newJdoNamedQueryFor(final PersistenceQueryFindUsingApplibQueryDefault persistenceQuery) {
+        final Class<?> cls = persistenceQuery.getSpecification().getCorrespondingClass();
+        final Query jdoQuery = persistenceSession.newJdoNamedQuery(cls, persistenceQuery.getQueryName());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("{} # {} ( {} ) count/exists", cls.getName(), persistenceQuery.getQueryName(),
+                    persistenceQuery.getArgumentsAdaptersByParameterName());
+        }
+        return jdoQuery;
+    }
+
     private List<?> firstIfAnyOf(final List<?> results) {
         return results.isEmpty()
                 ? Collections.emptyList()
@@ -19,12 +19,29 @@
 package org.apache.isis.objectstore.jdo.datanucleus.persistence.queries;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
 import org.apache.isis.core.runtime.system.persistence.PersistenceQuery;
 
 public interface PersistenceQueryProcessor<T extends PersistenceQuery> {
 	List<ObjectAdapter> process(T query);
+
+	/**
+	 * As {@link #process(PersistenceQuery)}, but reading the results from a cursor, fetching <tt>fetchSize</tt> at a
+	 * time.  The returned stream must be closed.
+	 */
+	Stream<ObjectAdapter> processStreaming(T query, int fetchSize);
+
+	/**
+	 * The number of instances that {@link #process(PersistenceQuery)} would return, but without loading any of them.
+	 */
+	long processCount(T query);
+
+	/**
+	 * Whether {@link #process(PersistenceQuery)} would return any instances, but without loading any of them.
+	 */
+	boolean processExists(T query);
 }
 
 // Copyright (c) Naked Objects Group Ltd.
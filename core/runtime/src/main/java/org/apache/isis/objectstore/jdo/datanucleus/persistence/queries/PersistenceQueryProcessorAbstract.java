@@ -18,10 +18,21 @@
  */
 package org.apache.isis.objectstore.jdo.datanucleus.persistence.queries;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import javax.jdo.Query;
 import javax.jdo.listener.InstanceLifecycleEvent;
 
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.Lists;
 
 import org.datanucleus.enhancement.Persistable;
@@ -51,22 +62,115 @@ protected PersistenceQueryProcessorAbstract(final PersistenceSession persistence
     protected List<ObjectAdapter> loadAdapters(final List<?> pojos) {
         final List<ObjectAdapter> adapters = Lists.newArrayList();
         for (final Object pojo : pojos) {
-        	// ought not to be necessary, however for some queries it seems that the 
-        	// lifecycle listener is not called
-            ObjectAdapter adapter;
-            if(pojo instanceof Persistable) {
-                // an entity
-                persistenceSession.initializeMapAndCheckConcurrency((Persistable) pojo);
-                adapter = persistenceSession.getAdapterFor(pojo);
-            } else {
-                // a value type
-                adapter = persistenceSession.adapterFor(pojo);
-            }
-            Assert.assertNotNull(adapter);
-            adapters.add(adapter);
+            adapters.add(loadAdapter(pojo));
         }
         return adapters;
     }
 
+    private ObjectAdapter loadAdapter(final Object pojo) {
+        // ought not to be necessary, however for some queries it seems that the
+        // lifecycle listener is not called
+        ObjectAdapter adapter;
+        if(pojo instanceof Persistable) {
+            // an entity
+            persistenceSession.initializeMapAndCheckConcurrency((Persistable) pojo);
+            adapter = persistenceSession.getAdapterFor(pojo);
+        } else {
+            // a value type
+            adapter = persistenceSession.adapterFor(pojo);
+        }
+        Assert.assertNotNull(adapter);
+        return adapter;
+    }
+
+    /**
+     * Executes the JDO query as a <tt>count(this)</tt> projection (ignoring any ordering), so that no pojos are
+     * loaded.
+     */
+    protected long countOf(final Query jdoQuery, final Map<String, Object> argumentsByParameterName) {
+        jdoQuery.setResult("count(this)");
+        jdoQuery.setOrdering(null);
+        jdoQuery.setUnique(true);
+        try {
+            final Object count = execute(jdoQuery, argumentsByParameterName);
+            return count != null ? ((Number) count).longValue() : 0L;
+        } finally {
+            jdoQuery.closeAll();
+        }
+    }
+
+    /**
+     * Executes the JDO query for (at most) the identity of the first match, starting at <tt>start</tt>, so that no
+     * pojos are loaded.
+     */
+    protected boolean anyOf(final Query jdoQuery, final Map<String, Object> argumentsByParameterName, final long start) {
+        jdoQuery.setResult("JDOHelper.getObjectId(this)");
+        jdoQuery.setOrdering(null);
+        jdoQuery.setRange(start, start + 1);
+        try {
+            final Collection<?> results = (Collection<?>) execute(jdoQuery, argumentsByParameterName);
+            return results != null && !results.isEmpty();
+        } finally {
+            jdoQuery.closeAll();
+        }
+    }
+
+    private static Object execute(final Query jdoQuery, final Map<String, Object> argumentsByParameterName) {
+        return argumentsByParameterName.isEmpty()
+                ? jdoQuery.execute()
+                : jdoQuery.executeWithMap(argumentsByParameterName);
+    }
+
+    /**
+     * Executes the JDO query such that its results are read from a (forward-only) cursor, <tt>fetchSize</tt> rows at a
+     * time, and are adapted only as the returned stream is consumed.
+     *
+     * <p>
+     * Each time a further <tt>fetchSize</tt> results have been consumed, those already returned are
+     * {@link PersistenceSession#evictStreamed(List, Set) evicted} (other than any that were already being managed
+     * before the query was executed), so that memory use stays flat however many results there are.  Closing the
+     * stream closes the JDO query.
+     */
+    protected Stream<ObjectAdapter> streamAdapters(
+            final Query jdoQuery,
+            final Map<String, Object> argumentsByParameterName,
+            final int fetchSize) {
+
+        jdoQuery.getFetchPlan().setFetchSize(fetchSize);
+        jdoQuery.addExtension("datanucleus.query.resultCacheType", "none");
+        jdoQuery.addExtension("datanucleus.rdbms.query.resultSetType", "forward-only");
+        jdoQuery.addExtension("datanucleus.query.loadResultsAtCommit", "false");
+
+        final Set<ObjectAdapter> adaptersBeforeStream = persistenceSession.snapshotAdapters();
+        final Collection<?> results;
+        try {
+            results = (Collection<?>) execute(jdoQuery, argumentsByParameterName);
+        } catch (final RuntimeException ex) {
+            jdoQuery.closeAll();
+            throw ex;
+        }
+
+        final Iterator<?> pojos = results != null ? results.iterator() : Collections.emptyIterator();
+        final List<Object> consumed = Lists.newArrayList();
+        final Iterator<ObjectAdapter> adapters = new AbstractIterator<ObjectAdapter>() {
+            @Override
+            protected ObjectAdapter computeNext() {
+                if(consumed.size() >= fetchSize) {
+                    persistenceSession.evictStreamed(consumed, adaptersBeforeStream);
+                    consumed.clear();
+                }
+                if(!pojos.hasNext()) {
+                    return endOfData();
+                }
+                final Object pojo = pojos.next();
+                consumed.add(pojo);
+                return loadAdapter(pojo);
+            }
+        };
+        return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(adapters, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(jdoQuery::closeAll);
+    }
+
 
 }
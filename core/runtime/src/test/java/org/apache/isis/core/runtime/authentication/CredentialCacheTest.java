@@ -0,0 +1,113 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.authentication;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Predicates;
+import com.google.common.base.Ticker;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class CredentialCacheTest {
+
+    static class FakeTicker extends Ticker {
+        long nanos;
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+
+        void advance(final long duration, final TimeUnit unit) {
+            nanos += unit.toNanos(duration);
+        }
+    }
+
+    private FakeTicker ticker;
+    private CredentialCache<String> cache;
+
+    @Before
+    public void setUp() throws Exception {
+        ticker = new FakeTicker();
+        cache = new CredentialCache<>(60, 100, ticker);
+    }
+
+    @Test
+    public void keys_are_stable_but_distinct() throws Exception {
+        assertThat(cache.keyFor("basic", "sven", "pass"), is(equalTo(cache.keyFor("basic", "sven", "pass"))));
+        assertThat(cache.keyFor("basic", "sven", "pass"), is(not(equalTo(cache.keyFor("basic", "sven", "Pass")))));
+        assertThat(cache.keyFor("basic", "ab", "c"), is(not(equalTo(cache.keyFor("basic", "a", "bc")))));
+    }
+
+    @Test
+    public void keys_are_salted() throws Exception {
+        final CredentialCache<String> otherCache = new CredentialCache<>(60, 100, ticker);
+        assertThat(cache.keyFor("basic", "sven", "pass"), is(not(equalTo(otherCache.keyFor("basic", "sven", "pass")))));
+    }
+
+    @Test
+    public void expires_after_ttl() throws Exception {
+        final String key = cache.keyFor("basic", "sven", "pass");
+        cache.put(key, "sven");
+
+        ticker.advance(59, TimeUnit.SECONDS);
+        assertThat(cache.lookup(key), is("sven"));
+
+        ticker.advance(1, TimeUnit.SECONDS);
+        assertThat(cache.lookup(key), is(nullValue()));
+
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.getHitRate(), is(0.5));
+    }
+
+    @Test
+    public void revoke() throws Exception {
+        final String svenKey = cache.keyFor("basic", "sven", "pass");
+        final String dickKey = cache.keyFor("basic", "dick", "pass");
+        cache.put(svenKey, "sven");
+        cache.put(dickKey, "dick");
+
+        cache.revokeIf(Predicates.equalTo("sven"));
+        assertThat(cache.lookup(svenKey), is(nullValue()));
+        assertThat(cache.lookup(dickKey), is("dick"));
+
+        cache.revokeAll();
+        assertThat(cache.size(), is(0L));
+    }
+
+    @Test
+    public void disabled_if_no_ttl() throws Exception {
+        cache = new CredentialCache<>(0, 100, ticker);
+        assertThat(cache.isEnabled(), is(false));
+
+        final String key = cache.keyFor("basic", "sven", "pass");
+        cache.put(key, "sven");
+        assertThat(cache.lookup(key), is(nullValue()));
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.headless;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import com.google.common.collect.Lists;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class HsqlDbSnapshotTest {
+
+    private Connection connection;
+    private Statement statement;
+
+    @Before
+    public void setUp() throws Exception {
+        final String url = "jdbc:hsqldb:mem:snapshot-" + UUID.randomUUID();
+        assertThat(HsqlDbSnapshot.supports(url), is(true));
+
+        connection = DriverManager.getConnection(url, "sa", "");
+        statement = connection.createStatement();
+        statement.execute("CREATE SCHEMA \"simple\"");
+        statement.execute("CREATE TABLE \"simple\".\"Customer\" ("
+                + "\"id\" BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 1) PRIMARY KEY, "
+                + "\"name\" VARCHAR(50), "
+                + "\"notes\" CLOB)");
+        statement.execute("CREATE TABLE \"simple\".\"Order\" ("
+                + "\"id\" BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 1) PRIMARY KEY, "
+                + "\"customer_id\" BIGINT REFERENCES \"simple\".\"Customer\"(\"id\"))");
+
+        statement.execute("INSERT INTO \"simple\".\"Customer\" (\"name\", \"notes\") VALUES ('Fred', 'likes cheese')");
+        statement.execute("INSERT INTO \"simple\".\"Customer\" (\"name\", \"notes\") VALUES ('Mary', null)");
+        statement.execute("INSERT INTO \"simple\".\"Order\" (\"customer_id\") VALUES (2)");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        statement.execute("SHUTDOWN");
+        connection.close();
+    }
+
+    @Test
+    public void restores_rows_and_identities() throws Exception {
+
+        final HsqlDbSnapshot snapshot = HsqlDbSnapshot.take(connection);
+        assertThat(snapshot.getRowCount("\"simple\".\"Customer\""), is(2));
+        assertThat(snapshot.getRowCount("\"simple\".\"Order\""), is(1));
+
+        statement.execute("DELETE FROM \"simple\".\"Order\"");
+        statement.execute("UPDATE \"simple\".\"Customer\" SET \"name\" = 'Freddy' WHERE \"id\" = 1");
+        statement.execute("INSERT INTO \"simple\".\"Customer\" (\"name\") VALUES ('Bill')");
+        statement.execute("INSERT INTO \"simple\".\"Customer\" (\"name\") VALUES ('Ben')");
+
+        snapshot.restoreInto(connection);
+
+        assertThat(namesOfCustomers(), is((List<String>) Lists.newArrayList("1:Fred:likes cheese", "2:Mary:null")));
+        assertThat(count("\"simple\".\"Order\""), is(1));
+
+        // identity continues from the restored rows, not from those inserted since the snapshot
+        statement.execute("INSERT INTO \"simple\".\"Customer\" (\"name\") VALUES ('Jane')");
+        assertThat(namesOfCustomers().get(2), is("3:Jane:null"));
+    }
+
+    @Test
+    public void can_restore_repeatedly() throws Exception {
+
+        final HsqlDbSnapshot snapshot = HsqlDbSnapshot.take(connection);
+
+        for (int i = 0; i < 3; i++) {
+            statement.execute("INSERT INTO \"simple\".\"Order\" (\"customer_id\") VALUES (1)");
+            snapshot.restoreInto(connection);
+            assertThat(count("\"simple\".\"Order\""), is(1));
+        }
+    }
+
+    private List<String> namesOfCustomers() throws SQLException {
+        final List<String> names = Lists.newArrayList();
+        try (final ResultSet rs = statement.executeQuery(
+                "SELECT \"id\", \"name\", \"notes\" FROM \"simple\".\"Customer\" ORDER BY \"id\"")) {
+            while (rs.next()) {
+                names.add(rs.getLong(1) + ":" + rs.getString(2) + ":" + rs.getString(3));
+            }
+        }
+        return names;
+    }
+
+    private int count(final String table) throws SQLException {
+        try (final ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.proxy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.Collections;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.specloader.classsubstitutor.JavassistEnhanced;
+
+import javassist.util.proxy.MethodFilter;
+import javassist.util.proxy.ProxyObject;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ProxyClassCacheTest {
+
+    public static class Customer {
+        public String getName() {
+            return "Fred";
+        }
+    }
+
+    public static class Order {
+    }
+
+    private static final Class<?>[] ADDITIONAL_INTERFACES = { JavassistEnhanced.class };
+
+    private static final MethodFilter METHOD_FILTER = new MethodFilter() {
+        @Override
+        public boolean isHandled(final Method m) {
+            return !m.getName().equals("finalize");
+        }
+    };
+
+    private ProxyClassCache proxyClassCache;
+
+    @Before
+    public void setUp() throws Exception {
+        proxyClassCache = new ProxyClassCache(1);
+    }
+
+    @Test
+    public void creates_proxy_class() throws Exception {
+        final Class<Customer> proxyClass =
+                proxyClassCache.proxyClassFor(Customer.class, ADDITIONAL_INTERFACES, METHOD_FILTER);
+
+        assertTrue(Customer.class.isAssignableFrom(proxyClass));
+        assertTrue(JavassistEnhanced.class.isAssignableFrom(proxyClass));
+        assertTrue(ProxyObject.class.isAssignableFrom(proxyClass));
+    }
+
+    @Test
+    public void same_proxy_class_for_same_request() throws Exception {
+        final Class<Object> first = proxyClassCache.proxyClassFor(Customer.class, ADDITIONAL_INTERFACES, METHOD_FILTER);
+        final Class<Object> second = proxyClassCache.proxyClassFor(Customer.class, ADDITIONAL_INTERFACES.clone(), METHOD_FILTER);
+
+        assertThat(second, is(sameInstance(first)));
+        assertThat(proxyClassCache.size(), is(1L));
+    }
+
+    @Test
+    public void different_proxy_class_for_different_filter() throws Exception {
+        final MethodFilter otherFilter = new MethodFilter() {
+            @Override
+            public boolean isHandled(final Method m) {
+                return true;
+            }
+        };
+        final Class<Object> first = proxyClassCache.proxyClassFor(Customer.class, ADDITIONAL_INTERFACES, METHOD_FILTER);
+        final Class<Object> second = proxyClassCache.proxyClassFor(Customer.class, ADDITIONAL_INTERFACES, otherFilter);
+
+        assertThat(second, is(not(sameInstance(first))));
+    }
+
+    @Test
+    public void bounded() throws Exception {
+        proxyClassCache.proxyClassFor(Customer.class, ADDITIONAL_INTERFACES, METHOD_FILTER);
+        proxyClassCache.proxyClassFor(Order.class, ADDITIONAL_INTERFACES, METHOD_FILTER);
+
+        assertThat(proxyClassCache.size(), is(1L));
+    }
+
+    @Test
+    public void does_not_retain_class_loader() throws Exception {
+        final WeakReference<ClassLoader> classLoaderRef = proxyInOwnClassLoader(Customer.class);
+
+        for (int i = 0; i < 20 && classLoaderRef.get() != null; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        assertThat(classLoaderRef.get(), is(nullValue()));
+    }
+
+    private WeakReference<ClassLoader> proxyInOwnClassLoader(final Class<?> cls) throws Exception {
+        final ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+                if(!name.equals(cls.getName())) {
+                    return super.loadClass(name, resolve);
+                }
+                try (final InputStream is = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    final byte[] bytes = ByteStreams.toByteArray(is);
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        };
+        final Class<?> loadedClass = classLoader.loadClass(cls.getName());
+        assertThat(loadedClass, is(not(sameInstance((Object) cls))));
+
+        final Class<Object> proxyClass = proxyClassCache.proxyClassFor(loadedClass, ADDITIONAL_INTERFACES, METHOD_FILTER);
+        assertThat(proxyClassCache.proxyClassFor(loadedClass, ADDITIONAL_INTERFACES, METHOD_FILTER),
+                is(sameInstance(proxyClass)));
+
+        return new WeakReference<>(classLoader);
+    }
+
+    @Test
+    public void pregenerate_disabled_by_default() throws Exception {
+        assertThat(ProxyClassCache.isPregenerate(Collections.<String, String>emptyMap()), is(false));
+        assertThat(ProxyClassCache.isPregenerate(ImmutableMap.of(ProxyClassCache.KEY_PREGENERATE, "true")), is(true));
+    }
+
+}
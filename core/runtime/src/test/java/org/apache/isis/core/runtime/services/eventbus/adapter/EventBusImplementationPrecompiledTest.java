@@ -0,0 +1,155 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.services.eventbus.adapter;
+
+import java.util.List;
+
+import com.google.common.collect.Lists;
+import com.google.common.eventbus.Subscribe;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.applib.services.eventbus.AbstractDomainEvent;
+import org.apache.isis.applib.services.eventbus.ActionDomainEvent;
+import org.apache.isis.applib.services.eventbus.PropertyDomainEvent;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class EventBusImplementationPrecompiledTest {
+
+    public static class ActionSubscriber {
+        final List<Object> received = Lists.newArrayList();
+        @Subscribe
+        public void on(final ActionDomainEvent<?> ev) {
+            received.add(ev);
+        }
+    }
+
+    /**
+     * Mimics the proxy of a request-scoped service.
+     */
+    public static class ActionSubscriberProxy extends ActionSubscriber {
+        @Override
+        public void on(final ActionDomainEvent<?> ev) {
+            super.on(ev);
+        }
+    }
+
+    static class NonPublicSubscriber {
+        final List<Object> received = Lists.newArrayList();
+        @Subscribe
+        void on(final Object ev) {
+            received.add(ev);
+        }
+    }
+
+    public static class VetoingSubscriber {
+        @Subscribe
+        public void on(final ActionDomainEvent<?> ev) {
+            throw new RuntimeException("not allowed");
+        }
+    }
+
+    EventBusImplementationPrecompiled eventBus;
+
+    @Before
+    public void setUp() throws Exception {
+        eventBus = new EventBusImplementationPrecompiled();
+    }
+
+    @Test
+    public void dispatches_to_subscribers_of_supertype() throws Exception {
+        final ActionSubscriber subscriber = new ActionSubscriber();
+        eventBus.register(subscriber);
+
+        final ActionDomainEvent.Default event = new ActionDomainEvent.Default();
+        eventBus.post(event);
+        eventBus.post("not an action domain event");
+
+        assertThat(subscriber.received, is((List<Object>) Lists.<Object>newArrayList(event)));
+        assertThat(eventBus.hasSubscribersFor(ActionDomainEvent.Default.class), is(true));
+        assertThat(eventBus.hasSubscribersFor(PropertyDomainEvent.Default.class), is(false));
+    }
+
+    @Test
+    public void overridden_subscriber_method_invoked_once() throws Exception {
+        final ActionSubscriberProxy subscriber = new ActionSubscriberProxy();
+        eventBus.register(subscriber);
+
+        eventBus.post(new ActionDomainEvent.Default());
+
+        assertThat(subscriber.received.size(), is(1));
+    }
+
+    @Test
+    public void registering_again_is_ignored() throws Exception {
+        final ActionSubscriber subscriber = new ActionSubscriber();
+        eventBus.register(subscriber);
+        eventBus.register(subscriber);
+
+        eventBus.post(new ActionDomainEvent.Default());
+
+        assertThat(subscriber.received.size(), is(1));
+    }
+
+    @Test
+    public void non_public_subscriber() throws Exception {
+        final NonPublicSubscriber subscriber = new NonPublicSubscriber();
+        eventBus.register(subscriber);
+
+        eventBus.post("hello");
+
+        assertThat(subscriber.received, is((List<Object>) Lists.<Object>newArrayList("hello")));
+    }
+
+    @Test
+    public void exception_during_validation_vetoes() throws Exception {
+        final ActionSubscriber subscriber = new ActionSubscriber();
+        eventBus.register(new VetoingSubscriber());
+        eventBus.register(subscriber);
+
+        final ActionDomainEvent.Default event = new ActionDomainEvent.Default();
+        event.setEventPhase(AbstractDomainEvent.Phase.VALIDATE);
+        eventBus.post(event);
+
+        assertThat(event.getInvalidityReason(), is("not allowed"));
+        assertThat(subscriber.received.size(), is(1));
+    }
+
+    @Test
+    public void exception_for_other_events_is_ignored() throws Exception {
+        final NonPublicSubscriber subscriber = new NonPublicSubscriber();
+        eventBus.register(new Object() {
+            @Subscribe
+            public void on(final String ev) {
+                throw new RuntimeException();
+            }
+        });
+        eventBus.register(subscriber);
+
+        eventBus.post("hello");
+
+        assertThat(subscriber.received.size(), is(1));
+        assertThat(eventBus.asDomainEvent("hello"), is(nullValue()));
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.services.eventbus.adapter;
+
+import com.google.common.eventbus.Subscribe;
+
+import org.axonframework.eventhandling.annotation.EventHandler;
+import org.junit.Test;
+
+import org.apache.isis.applib.services.eventbus.ActionDomainEvent;
+import org.apache.isis.applib.services.eventbus.EventBusImplementation2;
+import org.apache.isis.applib.services.eventbus.PropertyDomainEvent;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class EventBusImplementation_hasSubscribersFor_Test {
+
+    public static class PropertySubscriber {
+        @Subscribe
+        public void on(final PropertyDomainEvent<?,?> ev) {
+        }
+    }
+
+    /**
+     * Mimics the proxy of a request-scoped service.
+     */
+    public static class PropertySubscriberProxy extends PropertySubscriber {
+        @Override
+        public void on(final PropertyDomainEvent<?,?> ev) {
+            super.on(ev);
+        }
+    }
+
+    public static class ActionSubscriberForAxon {
+        @EventHandler
+        public void on(final ActionDomainEvent<?> ev) {
+        }
+    }
+
+    public static class SomeActionDomainEvent extends ActionDomainEvent<Object> {
+    }
+
+    @Test
+    public void no_subscribers() throws Exception {
+        final EventBusImplementation2 eventBus = new EventBusImplementationForGuava();
+
+        assertThat(eventBus.hasSubscribersFor(PropertyDomainEvent.Default.class), is(false));
+    }
+
+    @Test
+    public void subscriber_for_supertype() throws Exception {
+        final EventBusImplementation2 eventBus = new EventBusImplementationForGuava();
+        eventBus.register(new PropertySubscriber());
+
+        assertThat(eventBus.hasSubscribersFor(PropertyDomainEvent.Default.class), is(true));
+        assertThat(eventBus.hasSubscribersFor(SomeActionDomainEvent.class), is(false));
+    }
+
+    @Test
+    public void subscriber_registered_through_proxy() throws Exception {
+        final EventBusImplementation2 eventBus = new EventBusImplementationForGuava();
+        eventBus.register(new PropertySubscriberProxy());
+
+        assertThat(eventBus.hasSubscribersFor(PropertyDomainEvent.Default.class), is(true));
+    }
+
+    @Test
+    public void registration_after_lookup() throws Exception {
+        final EventBusImplementation2 eventBus = new EventBusImplementationForGuava();
+        assertThat(eventBus.hasSubscribersFor(PropertyDomainEvent.Default.class), is(false));
+
+        eventBus.register(new PropertySubscriber());
+
+        assertThat(eventBus.hasSubscribersFor(PropertyDomainEvent.Default.class), is(true));
+    }
+
+    @Test
+    public void axon() throws Exception {
+        final EventBusImplementation2 eventBus = new EventBusImplementationForAxonSimple();
+        eventBus.register(new ActionSubscriberForAxon());
+
+        assertThat(eventBus.hasSubscribersFor(SomeActionDomainEvent.class), is(true));
+        assertThat(eventBus.hasSubscribersFor(PropertyDomainEvent.Default.class), is(false));
+    }
+
+}
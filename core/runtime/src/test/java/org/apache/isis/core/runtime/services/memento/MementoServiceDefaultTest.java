@@ -17,6 +17,7 @@
 package org.apache.isis.core.runtime.services.memento;
 
 import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.Matchers.contains;
 import static org.junit.Assert.assertThat;
 
 import java.math.BigDecimal;
@@ -29,6 +30,8 @@
 
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.memento.MementoService.Memento;
+import org.apache.isis.applib.services.urlencoding.UrlEncodingServiceUsingBaseEncoding;
+import org.apache.isis.core.commons.exceptions.IsisException;
 import org.apache.isis.core.runtime.services.memento.MementoServiceDefault;
 
 public class MementoServiceDefaultTest {
@@ -96,4 +99,83 @@ public void roundtrip() {
         assertThat(memento2.get("someEnum", DOW.class), is(DOW.Wed));
         
     }
+
+    @Test
+    public void roundtrip_whenValuesContainSeparators() {
+        final Memento memento = mementoService.create();
+
+        memento.set("someString", "12:-~1|<xml/>");
+        memento.set("someEmptyString", "");
+        memento.set("someNullValue", null);
+        memento.set("someOtherString", "-");
+
+        final Memento memento2 = mementoService.parse(memento.asString());
+
+        assertThat(memento2.get("someString", String.class), is("12:-~1|<xml/>"));
+        assertThat(memento2.get("someEmptyString", String.class), is(""));
+        assertThat(memento2.get("someNullValue", String.class), is(nullValue()));
+        assertThat(memento2.get("someOtherString", String.class), is("-"));
+        assertThat(memento2.keySet(), contains("someString", "someEmptyString", "someNullValue", "someOtherString"));
+    }
+
+    @Test
+    public void set_whenAlreadySet_firstValueWins() {
+        final Memento memento = mementoService.create();
+
+        memento.set("someString", "first");
+        memento.set("someString", "second");
+
+        assertThat(memento.get("someString", String.class), is("first"));
+
+        final Memento memento2 = mementoService.parse(memento.asString());
+        assertThat(memento2.get("someString", String.class), is("first"));
+        assertThat(memento2.keySet(), contains("someString"));
+    }
+
+    @Test
+    public void roundtrip_withEncoding() {
+        mementoService = new MementoServiceDefault();
+        mementoService.urlEncodingService = new UrlEncodingServiceUsingBaseEncoding();
+
+        final Memento memento = mementoService.create();
+        memento.set("someBookmark", new Bookmark("CUS", "12345"));
+
+        final Memento memento2 = mementoService.parse(memento.asString());
+
+        assertThat(memento2.get("someBookmark", Bookmark.class), is(new Bookmark("CUS", "12345")));
+    }
+
+    @Test
+    public void parse_legacyXml() {
+        final String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<memento>"
+                + "<someString>a  string &amp; more</someString>"
+                + "<someInt>123456789</someInt>"
+                + "<someNullValue>$$_isis_null_value_$$</someNullValue>"
+                + "<someBookmark>CUS:12345</someBookmark>"
+                + "<someEnum>Wed</someEnum>"
+                + "</memento>";
+
+        final Memento memento = mementoService.parse(xml);
+
+        assertThat(memento.get("someString", String.class), is("a  string & more"));
+        assertThat(memento.get("someInt", Integer.class), is(123456789));
+        assertThat(memento.get("someNullValue", Integer.class), is(nullValue()));
+        assertThat(memento.get("someBookmark", Bookmark.class), is(new Bookmark("CUS", "12345")));
+        assertThat(memento.get("someEnum", DOW.class), is(DOW.Wed));
+        assertThat(memento.keySet(), contains("someString", "someInt", "someNullValue", "someBookmark", "someEnum"));
+
+        // and when re-written, is in the current format
+        assertThat(memento.asString(), startsWith(MementoEncoding.VERSION_1_PREFIX));
+    }
+
+    @Test(expected = IsisException.class)
+    public void parse_unrecognized() {
+        mementoService.parse("not a memento");
+    }
+
+    @Test(expected = IsisException.class)
+    public void parse_corrupt() {
+        mementoService.parse(MementoEncoding.VERSION_1_PREFIX + "10:short");
+    }
 }
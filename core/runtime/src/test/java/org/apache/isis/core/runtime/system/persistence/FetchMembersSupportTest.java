@@ -0,0 +1,267 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.system.persistence;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.jdo.FetchGroup;
+import javax.jdo.FetchPlan;
+
+import com.google.common.collect.Sets;
+
+import org.datanucleus.ClassLoaderResolver;
+import org.datanucleus.ExecutionContext;
+import org.datanucleus.api.jdo.JDOPersistenceManager;
+import org.datanucleus.metadata.AbstractClassMetaData;
+import org.datanucleus.metadata.AbstractMemberMetaData;
+import org.datanucleus.metadata.MetaDataManager;
+import org.datanucleus.metadata.RelationType;
+import org.jmock.Expectations;
+import org.jmock.api.Invocation;
+import org.jmock.auto.Mock;
+import org.jmock.lib.action.CustomAction;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class FetchMembersSupportTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private JDOPersistenceManager mockPersistenceManager;
+    @Mock
+    private ExecutionContext mockExecutionContext;
+    @Mock
+    private ClassLoaderResolver mockClassLoaderResolver;
+    @Mock
+    private MetaDataManager mockMetaDataManager;
+    @Mock
+    private AbstractClassMetaData mockClassMetaData;
+    @Mock
+    private AbstractMemberMetaData mockReferenceMetaData;
+    @Mock
+    private AbstractMemberMetaData mockValueMetaData;
+    @Mock
+    private FetchPlan mockFetchPlan;
+    @Mock
+    private FetchGroup mockFetchGroup;
+
+    private FetchMembersSupport fetchMembersSupport;
+
+    private static final String FETCH_GROUP_NAME =
+            FetchMembersSupport.FETCH_GROUP_PREFIX + Customer.class.getName() + "[address]";
+
+    @Before
+    public void setUp() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockPersistenceManager).getExecutionContext();
+            will(returnValue(mockExecutionContext));
+            allowing(mockExecutionContext).getClassLoaderResolver();
+            will(returnValue(mockClassLoaderResolver));
+            allowing(mockExecutionContext).getMetaDataManager();
+            will(returnValue(mockMetaDataManager));
+            allowing(mockMetaDataManager).getMetaDataForClass(Customer.class, mockClassLoaderResolver);
+            will(returnValue(mockClassMetaData));
+
+            allowing(mockClassMetaData).getMetaDataForMember("address");
+            will(returnValue(mockReferenceMetaData));
+            allowing(mockReferenceMetaData).getRelationType(mockClassLoaderResolver);
+            will(returnValue(RelationType.MANY_TO_ONE_UNI));
+
+            allowing(mockClassMetaData).getMetaDataForMember("name");
+            will(returnValue(mockValueMetaData));
+            allowing(mockValueMetaData).getRelationType(mockClassLoaderResolver);
+            will(returnValue(RelationType.NONE));
+
+            allowing(mockClassMetaData).getMetaDataForMember("unknown");
+            will(returnValue(null));
+        }});
+
+        fetchMembersSupport = new FetchMembersSupport(mockPersistenceManager);
+    }
+
+    public static class Customer {
+    }
+
+    @Test
+    public void only_relationships_are_retained() throws Exception {
+        final List<String> relationships =
+                fetchMembersSupport.relationshipsOf(Customer.class, Arrays.asList("name", "address", "unknown"));
+        assertThat(relationships, is(Collections.singletonList("address")));
+    }
+
+    @Test
+    public void none_if_class_not_persistent() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockMetaDataManager).getMetaDataForClass(String.class, mockClassLoaderResolver);
+            will(returnValue(null));
+        }});
+        final List<String> relationships =
+                fetchMembersSupport.relationshipsOf(String.class, Collections.singletonList("address"));
+        assertThat(relationships.isEmpty(), is(true));
+    }
+
+    @Test
+    public void adds_group_for_relationships() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockFetchPlan).getGroups();
+            will(returnValue(Sets.newHashSet(FetchGroup.DEFAULT)));
+
+            oneOf(mockPersistenceManager).getFetchGroup(Customer.class, FETCH_GROUP_NAME);
+            will(returnValue(mockFetchGroup));
+            oneOf(mockFetchGroup).addMembers(new String[] { "address" });
+            oneOf(mockFetchPlan).addGroup(FETCH_GROUP_NAME);
+        }});
+
+        final String fetchGroupName =
+                fetchMembersSupport.addTo(Customer.class, Arrays.asList("name", "address"), mockFetchPlan);
+
+        assertThat(fetchGroupName, is(FETCH_GROUP_NAME));
+    }
+
+    @Test
+    public void nothing_added_if_no_members() throws Exception {
+        context.checking(new Expectations() {{
+            never(mockFetchPlan);
+        }});
+        assertThat(fetchMembersSupport.addTo(Customer.class, Collections.emptyList(), mockFetchPlan),
+                is(nullValue()));
+    }
+
+    @Test
+    public void nothing_added_if_no_relationships() throws Exception {
+        context.checking(new Expectations() {{
+            never(mockFetchPlan);
+        }});
+        assertThat(fetchMembersSupport.addTo(Customer.class, Collections.singletonList("name"), mockFetchPlan),
+                is(nullValue()));
+    }
+
+    @Test
+    public void nothing_added_if_already_in_fetch_plan() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockFetchPlan).getGroups();
+            will(returnValue(Sets.newHashSet(FETCH_GROUP_NAME)));
+
+            never(mockPersistenceManager).getFetchGroup(with(any(Class.class)), with(any(String.class)));
+            never(mockFetchPlan).addGroup(with(any(String.class)));
+        }});
+        assertThat(fetchMembersSupport.addTo(Customer.class, Collections.singletonList("address"), mockFetchPlan),
+                is(nullValue()));
+    }
+
+    /**
+     * Mimics a lazily loaded collection, recording whether its elements were read while the fetch group was
+     * still in the fetch plan.
+     */
+    private static class LazyCollection implements Iterable<Object> {
+        boolean fetchGroupRemoved;
+        boolean loadedWithFetchGroup;
+
+        @Override
+        public Iterator<Object> iterator() {
+            loadedWithFetchGroup = !fetchGroupRemoved;
+            return Collections.emptyIterator();
+        }
+    }
+
+    @Test
+    public void collection_loaded_before_fetch_group_removed() throws Exception {
+        final LazyCollection lazyCollection = new LazyCollection();
+        context.checking(new Expectations() {{
+            allowing(mockPersistenceManager).getFetchPlan();
+            will(returnValue(mockFetchPlan));
+            allowing(mockFetchPlan).getGroups();
+            will(returnValue(Sets.newHashSet(FetchGroup.DEFAULT)));
+            allowing(mockPersistenceManager).getFetchGroup(Customer.class, FETCH_GROUP_NAME);
+            will(returnValue(mockFetchGroup));
+            allowing(mockFetchGroup).addMembers(new String[] { "address" });
+
+            oneOf(mockFetchPlan).addGroup(FETCH_GROUP_NAME);
+            oneOf(mockFetchPlan).removeGroup(FETCH_GROUP_NAME);
+            will(new CustomAction("remove group") {
+                @Override
+                public Object invoke(final Invocation invocation) throws Throwable {
+                    lazyCollection.fetchGroupRemoved = true;
+                    return mockFetchPlan;
+                }
+            });
+        }});
+
+        final LazyCollection result = fetchMembersSupport.executeWith(
+                Customer.class, Collections.singletonList("address"), () -> lazyCollection);
+
+        assertThat(result == lazyCollection, is(true));
+        assertThat(lazyCollection.fetchGroupRemoved, is(true));
+        assertThat(lazyCollection.loadedWithFetchGroup, is(true));
+    }
+
+    @Test
+    public void fetch_group_removed_if_block_throws() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockPersistenceManager).getFetchPlan();
+            will(returnValue(mockFetchPlan));
+            allowing(mockFetchPlan).getGroups();
+            will(returnValue(Sets.newHashSet(FetchGroup.DEFAULT)));
+            allowing(mockPersistenceManager).getFetchGroup(Customer.class, FETCH_GROUP_NAME);
+            will(returnValue(mockFetchGroup));
+            allowing(mockFetchGroup).addMembers(new String[] { "address" });
+
+            oneOf(mockFetchPlan).addGroup(FETCH_GROUP_NAME);
+            oneOf(mockFetchPlan).removeGroup(FETCH_GROUP_NAME);
+        }});
+
+        try {
+            fetchMembersSupport.executeWith(Customer.class, Collections.singletonList("address"), () -> {
+                throw new IllegalStateException();
+            });
+        } catch(IllegalStateException ignore) {
+            return;
+        }
+        throw new AssertionError("expected exception");
+    }
+
+    @Test
+    public void fetch_plan_untouched_if_no_relationships() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockPersistenceManager).getFetchPlan();
+            will(returnValue(mockFetchPlan));
+            never(mockFetchPlan).addGroup(with(any(String.class)));
+            never(mockFetchPlan).removeGroup(with(any(String.class)));
+        }});
+
+        final String result = fetchMembersSupport.executeWith(
+                Customer.class, Collections.singletonList("name"), () -> "x");
+
+        assertThat(result, is("x"));
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.systemusinginstallers;
+
+import java.io.File;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.io.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.isis.core.runtime.systemusinginstallers.fixture.budget.SomeServiceToInclude;
+import org.apache.isis.core.runtime.systemusinginstallers.fixture.budgetassignment.SomeServiceNotToInclude;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class DomainTypeIndexTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ClassLoader classLoader = getClass().getClassLoader();
+
+    @Test
+    public void round_trip() throws Exception {
+        final List<String> packages = Arrays.asList(
+                SomeServiceToInclude.class.getPackage().getName(),
+                SomeServiceNotToInclude.class.getPackage().getName());
+        final Map<DomainTypeIndex.Category, Set<Class<?>>> typesByCategory =
+                Maps.newEnumMap(DomainTypeIndex.Category.class);
+        typesByCategory.put(DomainTypeIndex.Category.DOMAIN_SERVICE,
+                Sets.<Class<?>>newLinkedHashSet(Arrays.asList(SomeServiceToInclude.class, SomeServiceNotToInclude.class)));
+        typesByCategory.put(DomainTypeIndex.Category.VIEW_MODEL,
+                Sets.<Class<?>>newLinkedHashSet(Collections.<Class<?>>singletonList(SomeServiceToInclude.class)));
+        final DomainTypeIndex index = new DomainTypeIndex(packages, "abc123", typesByCategory);
+
+        final StringWriter writer = new StringWriter();
+        index.writeTo(writer);
+        final DomainTypeIndex read = DomainTypeIndex.read(new StringReader(writer.toString()), classLoader);
+
+        assertThat(read.getPackages(), is(equalTo(packages)));
+        assertThat(read.getFingerprint(), is(equalTo("abc123")));
+        for (final DomainTypeIndex.Category category : DomainTypeIndex.Category.values()) {
+            assertThat(read.getTypes(category), is(equalTo(index.getTypes(category))));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void requires_packages() throws Exception {
+        DomainTypeIndex.read(new StringReader(
+                "DOMAIN_SERVICE=" + SomeServiceToInclude.class.getName() + "\n"), classLoader);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void requires_fingerprint() throws Exception {
+        DomainTypeIndex.read(new StringReader(
+                "packages=com.mycompany\n" +
+                "DOMAIN_SERVICE=" + SomeServiceToInclude.class.getName() + "\n"), classLoader);
+    }
+
+    @Test(expected = ClassNotFoundException.class)
+    public void unknown_type() throws Exception {
+        DomainTypeIndex.read(new StringReader(
+                "packages=com.mycompany\n" +
+                "fingerprint=abc123\n" +
+                "DOMAIN_SERVICE=com.mycompany.NoSuchService\n"), classLoader);
+    }
+
+    @Test
+    public void load_when_no_index() throws Exception {
+        final DomainTypeIndex index = DomainTypeIndex.load(
+                DomainTypeIndexTest.class, Collections.singletonList("com.mycompany"));
+        assertThat(index, is(nullValue()));
+    }
+
+    @Test
+    public void fingerprint_depends_on_classes_within_packages() throws Exception {
+        final List<String> packages = Collections.singletonList(SomeServiceToInclude.class.getPackage().getName());
+        final List<String> otherPackages = Collections.singletonList(SomeServiceNotToInclude.class.getPackage().getName());
+
+        assertThat(DomainTypeIndex.fingerprint(packages, classLoader),
+                is(equalTo(DomainTypeIndex.fingerprint(packages, classLoader))));
+        assertThat(DomainTypeIndex.fingerprint(packages, classLoader),
+                is(not(equalTo(DomainTypeIndex.fingerprint(otherPackages, classLoader)))));
+    }
+
+    @Test
+    public void load_when_index_is_current() throws Exception {
+        final List<String> packages = Collections.singletonList(SomeServiceToInclude.class.getPackage().getName());
+        final DomainTypeIndex index = loadIndexWithFingerprint(
+                packages, DomainTypeIndex.fingerprint(packages, classLoader));
+        assertThat(index, is(notNullValue()));
+    }
+
+    @Test
+    public void load_when_index_is_stale() throws Exception {
+        final List<String> packages = Collections.singletonList(SomeServiceToInclude.class.getPackage().getName());
+        final DomainTypeIndex index = loadIndexWithFingerprint(packages, "abc123");
+        assertThat(index, is(nullValue()));
+    }
+
+    private DomainTypeIndex loadIndexWithFingerprint(
+            final List<String> packages,
+            final String fingerprint) throws Exception {
+        final File dir = temporaryFolder.getRoot();
+        final File indexFile = new File(dir, DomainTypeIndex.resourceNameFor(DomainTypeIndexTest.class));
+        Files.createParentDirs(indexFile);
+        try (final Writer writer = Files.newWriter(indexFile, Charsets.UTF_8)) {
+            new DomainTypeIndex(packages, fingerprint, Maps.<DomainTypeIndex.Category, Set<Class<?>>>newEnumMap(
+                    DomainTypeIndex.Category.class)).writeTo(writer);
+        }
+
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previousClassLoader = thread.getContextClassLoader();
+        try (final URLClassLoader indexClassLoader = new URLClassLoader(new URL[] { dir.toURI().toURL() }, classLoader)) {
+            thread.setContextClassLoader(indexClassLoader);
+            return DomainTypeIndex.load(DomainTypeIndexTest.class, packages);
+        } finally {
+            thread.setContextClassLoader(previousClassLoader);
+        }
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.objectstore.jdo.datanucleus.persistence.queries;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.jdo.FetchPlan;
+import javax.jdo.Query;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import org.jmock.Expectations;
+import org.jmock.Sequence;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.runtime.system.persistence.PersistenceQuery;
+import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PersistenceQueryProcessorAbstractTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private PersistenceSession mockPersistenceSession;
+
+    @Mock
+    private Query mockJdoQuery;
+
+    @Mock
+    private FetchPlan mockFetchPlan;
+
+    @Mock
+    private ObjectAdapter mockAdapter;
+
+    private PersistenceQueryProcessorAbstract<PersistenceQuery> processor;
+
+    @Before
+    public void setUp() throws Exception {
+        processor = new PersistenceQueryProcessorAbstract<PersistenceQuery>(mockPersistenceSession) {
+            @Override
+            public List<ObjectAdapter> process(final PersistenceQuery query) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Stream<ObjectAdapter> processStreaming(final PersistenceQuery query, final int fetchSize) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public long processCount(final PersistenceQuery query) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public boolean processExists(final PersistenceQuery query) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private final Set<ObjectAdapter> adaptersBeforeStream = Sets.newIdentityHashSet();
+
+    private void expectStreamedInBatchesOf2() {
+        final Sequence streaming = context.sequence("streaming");
+        context.checking(new Expectations() {{
+            allowing(mockJdoQuery).getFetchPlan();
+            will(returnValue(mockFetchPlan));
+            oneOf(mockFetchPlan).setFetchSize(2);
+            allowing(mockJdoQuery).addExtension(with(any(String.class)), with(any(Object.class)));
+
+            oneOf(mockPersistenceSession).snapshotAdapters();
+            inSequence(streaming);
+            will(returnValue(adaptersBeforeStream));
+            oneOf(mockJdoQuery).execute();
+            inSequence(streaming);
+            will(returnValue(Arrays.asList("a", "b", "c", "d", "e")));
+
+            allowing(mockPersistenceSession).adapterFor(with(any(Object.class)));
+            will(returnValue(mockAdapter));
+        }});
+    }
+
+    @Test
+    public void evicts_each_batch_once_consumed_and_closes_query() throws Exception {
+
+        expectStreamedInBatchesOf2();
+        final Sequence sequence = context.sequence("eviction");
+        context.checking(new Expectations() {{
+            oneOf(mockPersistenceSession).evictStreamed(
+                    with(equal(Lists.<Object>newArrayList("a", "b"))), with(same(adaptersBeforeStream)));
+            inSequence(sequence);
+            oneOf(mockPersistenceSession).evictStreamed(
+                    with(equal(Lists.<Object>newArrayList("c", "d"))), with(same(adaptersBeforeStream)));
+            inSequence(sequence);
+
+            oneOf(mockJdoQuery).closeAll();
+        }});
+
+        final List<ObjectAdapter> adapters;
+        try (final Stream<ObjectAdapter> stream =
+                     processor.streamAdapters(mockJdoQuery, Collections.<String, Object>emptyMap(), 2)) {
+            adapters = stream.collect(Collectors.toList());
+        }
+
+        assertThat(adapters.size(), is(5));
+    }
+
+    @Test
+    public void nothing_evicted_until_consumed() throws Exception {
+
+        expectStreamedInBatchesOf2();
+        context.checking(new Expectations() {{
+            never(mockPersistenceSession).evictStreamed(with(any(List.class)), with(any(Set.class)));
+            oneOf(mockJdoQuery).closeAll();
+        }});
+
+        try (final Stream<ObjectAdapter> stream =
+                     processor.streamAdapters(mockJdoQuery, Collections.<String, Object>emptyMap(), 2)) {
+            assertThat(stream.limit(2).count(), is(2L));
+        }
+    }
+
+    @Test
+    public void count_is_a_projection_that_loads_no_pojos() throws Exception {
+
+        final Map<String, Object> args = Collections.<String, Object>singletonMap("name", "Fred");
+        context.checking(new Expectations() {{
+            oneOf(mockJdoQuery).setResult("count(this)");
+            oneOf(mockJdoQuery).setOrdering(null);
+            oneOf(mockJdoQuery).setUnique(true);
+            oneOf(mockJdoQuery).executeWithMap(args);
+            will(returnValue(3L));
+            oneOf(mockJdoQuery).closeAll();
+
+            never(mockPersistenceSession).adapterFor(with(any(Object.class)));
+        }});
+
+        assertThat(processor.countOf(mockJdoQuery, args), is(3L));
+    }
+
+    @Test
+    public void exists_fetches_at_most_one_identity() throws Exception {
+
+        context.checking(new Expectations() {{
+            oneOf(mockJdoQuery).setResult("JDOHelper.getObjectId(this)");
+            oneOf(mockJdoQuery).setOrdering(null);
+            oneOf(mockJdoQuery).setRange(5L, 6L);
+            oneOf(mockJdoQuery).execute();
+            will(returnValue(Collections.emptyList()));
+            oneOf(mockJdoQuery).closeAll();
+
+            never(mockPersistenceSession).adapterFor(with(any(Object.class)));
+        }});
+
+        assertThat(processor.anyOf(mockJdoQuery, Collections.<String, Object>emptyMap(), 5), is(false));
+    }
+
+}
@@ -24,6 +24,9 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import javax.naming.AuthenticationException;
 import javax.naming.NamingEnumeration;
@@ -36,6 +39,7 @@
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.apache.shiro.authz.AuthorizationInfo;
 import org.apache.shiro.authz.SimpleAuthorizationInfo;
@@ -44,7 +48,10 @@
 import org.apache.shiro.realm.ldap.LdapContextFactory;
 import org.apache.shiro.realm.ldap.LdapUtils;
 import org.apache.shiro.subject.PrincipalCollection;
+import org.apache.shiro.util.Destroyable;
 import org.apache.shiro.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import org.apache.isis.security.shiro.permrolemapper.PermissionToRoleMapper;
 import org.apache.isis.security.shiro.permrolemapper.PermissionToRoleMapperFromIni;
@@ -134,8 +141,22 @@
  * See the sample for group and user attribute and mapping.
  * <p/>
  * </p>
+ * <p>
+ * By default the directory is searched each time a user's authorization info is required.  For large directories
+ * this can be slow, so alternatively the groups (and their members and permissions) can be loaded into an in-memory
+ * {@link Snapshot snapshot}, refreshed periodically in the background:
+ * <p/>
+ * <pre>
+ * ldapRealm.snapshotRefreshSeconds = 300
+ * </pre>
+ * <p/>
+ * <p>
+ * Until the first snapshot has been loaded (or if it cannot be loaded), the directory is searched as before.
+ * </p>
  */
-public class IsisLdapRealm extends JndiLdapRealm {
+public class IsisLdapRealm extends JndiLdapRealm implements Destroyable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IsisLdapRealm.class);
 
     private static final String UNIQUEMEMBER_SUBSTITUTION_TOKEN = "{0}";
     private final static SearchControls SUBTREE_SCOPE = new SearchControls();
@@ -191,6 +212,14 @@ public class IsisLdapRealm extends JndiLdapRealm {
      */
     private String cnAttribute = "cn";
 
+    /**
+     * How often to refresh the {@link Snapshot snapshot}; if zero (the default) then no snapshot is taken.
+     */
+    private int snapshotRefreshSeconds;
+
+    private ScheduledExecutorService snapshotRefresher;
+    private volatile Snapshot snapshot;
+
     public IsisLdapRealm() {
         setGroupObjectClass("groupOfUniqueNames");
         setUniqueMemberAttribute("uniqueMember");
@@ -209,6 +238,18 @@ public IsisLdapRealm() {
      */
     @Override
     protected AuthorizationInfo queryForAuthorizationInfo(final PrincipalCollection principals, final LdapContextFactory ldapContextFactory) throws NamingException {
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot != null) {
+            final String username = (String) getAvailablePrincipal(principals);
+            final Set<String> roleNames = snapshot.rolesFor(username);
+            final SimpleAuthorizationInfo simpleAuthorizationInfo = new SimpleAuthorizationInfo(roleNames);
+            final Set<String> stringPermissions = permsFor(roleNames);
+            stringPermissions.addAll(snapshot.userPermissions);
+            stringPermissions.addAll(snapshot.groupPermissionsFor(roleNames));
+            simpleAuthorizationInfo.setStringPermissions(stringPermissions);
+            return simpleAuthorizationInfo;
+        }
+
         final Set<String> roleNames = getRoles(principals, ldapContextFactory);
         SimpleAuthorizationInfo simpleAuthorizationInfo = new SimpleAuthorizationInfo(roleNames);
         Set<String> stringPermissions = permsFor(roleNames);
@@ -370,6 +411,165 @@ private Set<String> permsFor(Set<String> roleNames) {
         return perms;
     }
 
+    //region > snapshot
+
+    /**
+     * The groups of the directory, their members and permissions, along with the permissions obtained from the
+     * users' attributes; equivalent to searching the directory for each user, but a hash lookup.
+     */
+    static class Snapshot {
+        private final Map<String, Set<String>> roleNamesByUser;
+        private final Map<String, Set<String>> permissionsByGroup;
+        private final Set<String> userPermissions;
+
+        Snapshot(
+                final Map<String, Set<String>> roleNamesByUser,
+                final Map<String, Set<String>> permissionsByGroup,
+                final Set<String> userPermissions) {
+            this.roleNamesByUser = roleNamesByUser;
+            this.permissionsByGroup = permissionsByGroup;
+            this.userPermissions = userPermissions;
+        }
+
+        Set<String> rolesFor(final String userName) {
+            final Set<String> roleNames = roleNamesByUser.get(userName);
+            return roleNames != null ? Sets.newLinkedHashSet(roleNames) : Sets.<String>newLinkedHashSet();
+        }
+
+        Set<String> groupPermissionsFor(final Set<String> roleNames) {
+            final Set<String> permissions = Sets.newLinkedHashSet();
+            for (final String roleName : roleNames) {
+                final Set<String> groupPermissions = permissionsByGroup.get(roleName);
+                if (groupPermissions != null) {
+                    permissions.addAll(groupPermissions);
+                }
+            }
+            return permissions;
+        }
+    }
+
+    @Override
+    protected void onInit() {
+        super.onInit();
+        if (snapshotRefreshSeconds > 0) {
+            snapshotRefresher = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("IsisLdapRealm-snapshot-%d").setDaemon(true).build());
+            snapshotRefresher.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    refreshSnapshot();
+                }
+            }, 0, snapshotRefreshSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (snapshotRefresher != null) {
+            snapshotRefresher.shutdownNow();
+            snapshotRefresher = null;
+        }
+    }
+
+    /**
+     * Reloads the {@link Snapshot snapshot} from the directory; if this fails then the previous snapshot (if any)
+     * continues to be used.
+     */
+    public void refreshSnapshot() {
+        try {
+            snapshot = loadSnapshot(getContextFactory());
+        } catch (NamingException | RuntimeException ex) {
+            LOG.warn("Unable to load snapshot of LDAP groups; continuing with previous snapshot (if any)", ex);
+        }
+    }
+
+    Snapshot loadSnapshot(final LdapContextFactory ldapContextFactory) throws NamingException {
+        LdapContext systemLdapCtx = null;
+        try {
+            systemLdapCtx = ldapContextFactory.getSystemLdapContext();
+
+            final Map<String, Set<String>> roleNamesByUser = Maps.newHashMap();
+            final Map<String, Set<String>> permissionsByGroup = Maps.newHashMap();
+            final NamingEnumeration<SearchResult> searchResultEnum =
+                    systemLdapCtx.search(searchBase, "objectClass=" + groupObjectClass, SUBTREE_SCOPE);
+            while (searchResultEnum.hasMore()) {
+                final SearchResult group = searchResultEnum.next();
+                addRoleForEachMember(group, roleNamesByUser);
+
+                final Attribute cn = group.getAttributes().get(cnAttribute);
+                if (cn != null) {
+                    final Set<String> permissions = Sets.newLinkedHashSet();
+                    addPermIfFound(group, permissions, groupExtractedAttribute, permissionByGroupAttribute);
+                    final String groupName = cn.get().toString();
+                    Set<String> groupPermissions = permissionsByGroup.get(groupName);
+                    if (groupPermissions == null) {
+                        groupPermissions = Sets.newLinkedHashSet();
+                        permissionsByGroup.put(groupName, groupPermissions);
+                    }
+                    groupPermissions.addAll(permissions);
+                }
+            }
+
+            Set<String> userPermissions;
+            try {
+                userPermissions = Sets.newLinkedHashSet(permUser(null, systemLdapCtx));
+            } catch (org.apache.shiro.authc.AuthenticationException ex) {
+                userPermissions = Collections.emptySet();
+            }
+
+            LOG.info("Loaded snapshot of LDAP groups for {} users", roleNamesByUser.size());
+            return new Snapshot(roleNamesByUser, permissionsByGroup, userPermissions);
+        } finally {
+            LdapUtils.closeContext(systemLdapCtx);
+        }
+    }
+
+    /**
+     * As {@link #addRoleIfMember(String, SearchResult, Set)}, but for all members of the group.
+     */
+    private void addRoleForEachMember(final SearchResult group, final Map<String, Set<String>> roleNamesByUser)
+            throws NamingException {
+        final NamingEnumeration<? extends Attribute> attributeEnum = group.getAttributes().getAll();
+        while (attributeEnum.hasMore()) {
+            final Attribute attr = attributeEnum.next();
+            if (!uniqueMemberAttribute.equalsIgnoreCase(attr.getID())) {
+                continue;
+            }
+            final NamingEnumeration<?> e = attr.getAll();
+            while (e.hasMore()) {
+                final String userName = userNameFrom(e.next().toString());
+                if (userName == null) {
+                    continue;
+                }
+                Attribute attribute = group.getAttributes().get("cn");
+                String groupName = attribute.get().toString();
+                String roleName = roleNameFor(groupName);
+                if (roleName == null) {
+                    continue;
+                }
+                Set<String> roleNames = roleNamesByUser.get(userName);
+                if (roleNames == null) {
+                    roleNames = Sets.newLinkedHashSet();
+                    roleNamesByUser.put(userName, roleNames);
+                }
+                roleNames.add(roleName);
+            }
+        }
+    }
+
+    private String userNameFrom(final String uniqueMemberAttributeValue) {
+        final int prefixLength = uniqueMemberAttributeValuePrefix.length();
+        final int suffixLength = uniqueMemberAttributeValueSuffix.length();
+        if (uniqueMemberAttributeValue.length() < prefixLength + suffixLength ||
+            !uniqueMemberAttributeValue.startsWith(uniqueMemberAttributeValuePrefix) ||
+            !uniqueMemberAttributeValue.endsWith(uniqueMemberAttributeValueSuffix)) {
+            return null;
+        }
+        return uniqueMemberAttributeValue.substring(prefixLength, uniqueMemberAttributeValue.length() - suffixLength);
+    }
+
+    //endregion
+
     public void setSearchBase(String searchBase) {
         this.searchBase = searchBase;
     }
@@ -498,4 +698,8 @@ public void setCnAttribute(String cnAttribute) {
         this.cnAttribute = cnAttribute;
     }
 
+    public void setSnapshotRefreshSeconds(int snapshotRefreshSeconds) {
+        this.snapshotRefreshSeconds = snapshotRefreshSeconds;
+    }
+
 }
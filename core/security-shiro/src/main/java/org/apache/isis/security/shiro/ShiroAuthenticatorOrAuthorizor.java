@@ -21,8 +21,12 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
+import com.google.common.base.Predicate;
 import com.google.common.collect.Lists;
 
 import org.apache.shiro.SecurityUtils;
@@ -42,6 +46,7 @@
 import org.apache.shiro.realm.Realm;
 import org.apache.shiro.subject.PrincipalCollection;
 import org.apache.shiro.subject.Subject;
+import org.apache.shiro.util.ThreadContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,6 +57,7 @@
 import org.apache.isis.core.runtime.authentication.AuthenticationManagerInstaller;
 import org.apache.isis.core.runtime.authentication.AuthenticationRequest;
 import org.apache.isis.core.runtime.authentication.AuthenticationRequestPassword;
+import org.apache.isis.core.runtime.authentication.CredentialCache;
 import org.apache.isis.core.runtime.authentication.standard.Authenticator;
 import org.apache.isis.core.runtime.authentication.standard.SimpleSession;
 import org.apache.isis.core.runtime.authorization.AuthorizationManagerInstaller;
@@ -74,9 +80,16 @@ public class ShiroAuthenticatorOrAuthorizor implements Authenticator, Authorizor
     private static final String ISIS_AUTHENTICATION_SHIRO_AUTO_LOGOUT_KEY = "isis.authentication.shiro.autoLogoutIfAlreadyAuthenticated";
     private static final boolean ISIS_AUTHENTICATION_SHIRO_AUTO_LOGOUT_DEFAULT = false;
 
+    /**
+     * Prefix of the configuration properties for the {@link #getCredentialCache() cache of verified credentials};
+     * see {@link CredentialCache#TTL_SECONDS_SUFFIX} and {@link CredentialCache#MAX_SIZE_SUFFIX}.
+     */
+    public static final String ISIS_AUTHENTICATION_SHIRO_CACHE_KEY_PREFIX = "isis.authentication.shiro.cache";
+
     //region > constructor and fields
     private final IsisConfiguration configuration;
     private final boolean autoLogout;
+    private final CredentialCache<VerifiedLogin> credentialCache;
 
     private DeploymentCategory deploymentCategory;
 
@@ -85,6 +98,7 @@ public ShiroAuthenticatorOrAuthorizor(final IsisConfiguration configuration) {
         autoLogout = configuration.getBoolean(
                 ISIS_AUTHENTICATION_SHIRO_AUTO_LOGOUT_KEY,
                 ISIS_AUTHENTICATION_SHIRO_AUTO_LOGOUT_DEFAULT);
+        credentialCache = CredentialCache.create(configuration, ISIS_AUTHENTICATION_SHIRO_CACHE_KEY_PREFIX);
     }
 
     public IsisConfiguration getConfiguration() {
@@ -147,6 +161,22 @@ public AuthenticationSession authenticate(final AuthenticationRequest request, f
                 return authenticationSessionFor(request, code, token, currentSubject);
             }
         }
+
+        final String cacheKey = cacheKeyFor(request);
+        if(cacheKey != null) {
+            final VerifiedLogin verifiedLogin = credentialCache.lookup(cacheKey);
+            if(verifiedLogin != null) {
+                // rather than logging in again (eg binding to an LDAP server), create an already-authenticated
+                // subject for this thread, so that subsequent authorization checks are against this user.
+                final Subject subject = new Subject.Builder(securityManager)
+                        .principals(verifiedLogin.principals)
+                        .authenticated(true)
+                        .buildSubject();
+                ThreadContext.bind(subject);
+                return authenticationSessionFor(request, code, verifiedLogin.roles);
+            }
+        }
+
         try {
             currentSubject.login(token);
         } catch ( UnknownAccountException uae ) { 
@@ -169,11 +199,26 @@ public AuthenticationSession authenticate(final AuthenticationRequest request, f
             return null;
         }
 
-        return authenticationSessionFor(request, code, token, currentSubject);
+        final List<String> roles = getRoles(currentSubject, token);
+        if(cacheKey != null) {
+            credentialCache.put(cacheKey, new VerifiedLogin(
+                    request.getName(), currentSubject.getPrincipals(), Collections.unmodifiableList(roles)));
+        }
+        return authenticationSessionFor(request, code, roles);
+    }
+
+    private String cacheKeyFor(final AuthenticationRequest request) {
+        if(!credentialCache.isEnabled()) {
+            return null;
+        }
+        final AuthenticationRequestPassword passwordRequest = (AuthenticationRequestPassword) request;
+        return credentialCache.keyFor(
+                ShiroAuthenticatorOrAuthorizor.class.getName(), passwordRequest.getName(), passwordRequest.getPassword());
     }
 
     @Override
     public void logout(final AuthenticationSession session) {
+        revokeCachedCredentials(session.getUserName());
         Subject currentSubject = SecurityUtils.getSubject();
         if(currentSubject.isAuthenticated()) {
             currentSubject.logout();
@@ -181,7 +226,14 @@ public void logout(final AuthenticationSession session) {
     }
 
     AuthenticationSession authenticationSessionFor(AuthenticationRequest request, String code, AuthenticationToken token, Subject currentSubject) {
-        List<String> roles = getRoles(currentSubject, token);
+        return authenticationSessionFor(request, code, getRoles(currentSubject, token));
+    }
+
+    private static AuthenticationSession authenticationSessionFor(
+            final AuthenticationRequest request,
+            final String code,
+            final List<String> realmRoles) {
+        final List<String> roles = Lists.newArrayList(realmRoles);
         // copy over any roles passed in
         // (this is used by the Wicket viewer, for example).
         roles.addAll(request.getRoles());
@@ -301,6 +353,45 @@ public boolean isUsableInRole(String role, Identifier identifier) {
 
     //endregion
 
+    //region > credential cache
+
+    /**
+     * The cache of verified credentials, so that a user presenting the same credentials again (for example, in
+     * each of a series of stateless REST requests) is not re-authenticated against the realm(s).
+     *
+     * <p>
+     * Disabled unless <tt>isis.authentication.shiro.cache.ttlSeconds</tt> is set.
+     */
+    public CredentialCache<?> getCredentialCache() {
+        return credentialCache;
+    }
+
+    /**
+     * Revokes the cached credentials of the specified user, for example if their password or roles are changed.
+     */
+    public void revokeCachedCredentials(final String userName) {
+        credentialCache.revokeIf(new Predicate<VerifiedLogin>() {
+            @Override
+            public boolean apply(@Nullable final VerifiedLogin verifiedLogin) {
+                return verifiedLogin != null && Objects.equals(verifiedLogin.userName, userName);
+            }
+        });
+    }
+
+    static class VerifiedLogin {
+        private final String userName;
+        private final PrincipalCollection principals;
+        private final List<String> roles;
+
+        VerifiedLogin(final String userName, final PrincipalCollection principals, final List<String> roles) {
+            this.userName = userName;
+            this.principals = principals;
+            this.roles = roles;
+        }
+    }
+
+    //endregion
+
     //region > Injected (via Shiro service locator)
 
     /**
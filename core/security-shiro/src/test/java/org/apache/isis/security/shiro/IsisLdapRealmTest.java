@@ -0,0 +1,264 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.security.shiro;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.ServiceUnavailableException;
+import javax.naming.directory.BasicAttribute;
+import javax.naming.directory.BasicAttributes;
+import javax.naming.directory.SearchControls;
+import javax.naming.directory.SearchResult;
+import javax.naming.ldap.LdapContext;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+
+import org.apache.shiro.authz.AuthorizationInfo;
+import org.apache.shiro.realm.ldap.LdapContextFactory;
+import org.apache.shiro.subject.SimplePrincipalCollection;
+import org.hamcrest.Description;
+import org.jmock.Expectations;
+import org.jmock.api.Action;
+import org.jmock.api.Invocation;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class IsisLdapRealmTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private LdapContextFactory mockLdapContextFactory;
+
+    @Mock
+    private LdapContext mockLdapContext;
+
+    private IsisLdapRealm realm;
+
+    private final List<SearchResult> groups = Lists.newArrayList();
+    private final List<SearchResult> users = Lists.newArrayList();
+    private int searchCount;
+    private boolean directoryUnavailable;
+
+    @Before
+    public void setUp() throws Exception {
+        realm = newRealm();
+        realm.setRolesByGroup(ImmutableMap.of(
+                "LDN_USERS", "user_role",
+                "NYK_USERS", "user_role",
+                "GLOBAL_ADMIN", "admin_role"));
+        realm.setPermissionsByRole("user_role = *:ToDoItem:*:*; admin_role = *");
+
+        groups.add(group("LDN_USERS", "GB", "sven", "dick"));
+        groups.add(group("NYK_USERS", "US", "bob"));
+        groups.add(group("GLOBAL_ADMIN", null, "sven"));
+        groups.add(group("UNMAPPED", "FR", "dick", "bob"));
+        users.add(user("sven", "Baker Street"));
+        users.add(user("dick", null));
+
+        context.checking(new Expectations() {{
+            allowing(mockLdapContextFactory).getSystemLdapContext();
+            will(returnValue(mockLdapContext));
+
+            allowing(mockLdapContext).search(
+                    with(equal("ou=groups,o=mojo")), with(equal("objectClass=groupOfUniqueNames")), with(any(SearchControls.class)));
+            will(returnResultsOf(groups));
+
+            allowing(mockLdapContext).search(
+                    with(equal("ou=users,o=mojo")), with(equal("objectClass=inetOrgPerson")), with(any(SearchControls.class)));
+            will(returnResultsOf(users));
+
+            allowing(mockLdapContext).close();
+        }});
+    }
+
+    @Test
+    public void snapshot_is_equivalent_to_searching() throws Exception {
+
+        final AuthorizationInfo svenSearched = authorizationInfoFor("sven");
+        final AuthorizationInfo dickSearched = authorizationInfoFor("dick");
+        final AuthorizationInfo unknownSearched = authorizationInfoFor("unknown");
+
+        realm.refreshSnapshot();
+        searchCount = 0;
+
+        assertEquivalent(authorizationInfoFor("sven"), svenSearched);
+        assertEquivalent(authorizationInfoFor("dick"), dickSearched);
+        assertEquivalent(authorizationInfoFor("unknown"), unknownSearched);
+
+        assertThat(searchCount, is(0));
+    }
+
+    @Test
+    public void snapshot_roles_and_permissions() throws Exception {
+
+        realm.refreshSnapshot();
+
+        final AuthorizationInfo sven = authorizationInfoFor("sven");
+        assertThat(sven.getRoles(), is(equalTo((Collection<String>) ImmutableSet.of("user_role", "admin_role"))));
+        assertThat(sven.getStringPermissions().contains("*"), is(true));
+        assertThat(sven.getStringPermissions().contains("*:ToDoItem:*:*"), is(true));
+        assertThat(sven.getStringPermissions().contains("attribute:Folder.Baker Street:Read"), is(true));
+    }
+
+    @Test
+    public void snapshot_group_permissions_without_role_mapping() throws Exception {
+
+        realm = newRealm();
+        realm.setPermissionsByRole("LDN_USERS = *:ToDoItem:*:*");
+        final AuthorizationInfo dickSearched = authorizationInfoFor("dick");
+
+        realm.refreshSnapshot();
+
+        final AuthorizationInfo dick = authorizationInfoFor("dick");
+        assertEquivalent(dick, dickSearched);
+        assertThat(dick.getRoles(), is(equalTo((Collection<String>) ImmutableSet.of("LDN_USERS", "UNMAPPED"))));
+        assertThat(dick.getStringPermissions().contains("attribute:Portfolio.GB"), is(true));
+        assertThat(dick.getStringPermissions().contains("attribute:Portfolio.FR"), is(true));
+        assertThat(dick.getStringPermissions().contains("attribute:Portfolio.US"), is(false));
+    }
+
+    @Test
+    public void previous_snapshot_retained_if_refresh_fails() throws Exception {
+
+        realm.refreshSnapshot();
+        final AuthorizationInfo before = authorizationInfoFor("sven");
+
+        directoryUnavailable = true;
+        realm.refreshSnapshot();
+        searchCount = 0;
+
+        assertEquivalent(authorizationInfoFor("sven"), before);
+        assertThat(searchCount, is(0));
+    }
+
+    // //////////////////////////////////////
+
+    private IsisLdapRealm newRealm() {
+        final IsisLdapRealm realm = new IsisLdapRealm();
+        realm.setContextFactory(mockLdapContextFactory);
+        realm.setSearchBase("ou=groups,o=mojo");
+        realm.setSearchUserBase("ou=users,o=mojo");
+        realm.setUserObjectClass("inetOrgPerson");
+        realm.setGroupExtractedAttribute("country");
+        realm.setPermissionByGroupAttribute("attribute:Portfolio.{country}");
+        realm.setUserExtractedAttribute("street");
+        realm.setPermissionByUserAttribute("attribute:Folder.{street}:Read");
+        return realm;
+    }
+
+    private AuthorizationInfo authorizationInfoFor(final String userName) throws NamingException {
+        return realm.queryForAuthorizationInfo(new SimplePrincipalCollection(userName, realm.getName()), mockLdapContextFactory);
+    }
+
+    private static void assertEquivalent(final AuthorizationInfo actual, final AuthorizationInfo expected) {
+        assertThat(actual.getRoles(), is(equalTo(expected.getRoles())));
+        assertThat(actual.getStringPermissions(), is(equalTo(expected.getStringPermissions())));
+    }
+
+    private static SearchResult group(final String cn, final String country, final String... members) {
+        final BasicAttributes attributes = new BasicAttributes(true);
+        attributes.put(new BasicAttribute("cn", cn));
+        if(country != null) {
+            attributes.put(new BasicAttribute("country", country));
+        }
+        final BasicAttribute uniqueMember = new BasicAttribute("uniqueMember");
+        for (final String member : members) {
+            uniqueMember.add("uid=" + member);
+        }
+        attributes.put(uniqueMember);
+        return new SearchResult("cn=" + cn, null, attributes);
+    }
+
+    private static SearchResult user(final String uid, final String street) {
+        final BasicAttributes attributes = new BasicAttributes(true);
+        attributes.put(new BasicAttribute("uid", uid));
+        if(street != null) {
+            attributes.put(new BasicAttribute("street", street));
+        }
+        return new SearchResult("uid=" + uid, null, attributes);
+    }
+
+    private Action returnResultsOf(final List<SearchResult> results) {
+        return new Action() {
+            @Override
+            public Object invoke(final Invocation invocation) throws Throwable {
+                if(directoryUnavailable) {
+                    throw new ServiceUnavailableException();
+                }
+                searchCount++;
+                return new NamingEnumerationOf<>(Lists.newArrayList(results).iterator());
+            }
+
+            @Override
+            public void describeTo(final Description description) {
+                description.appendText("returns search results");
+            }
+        };
+    }
+
+    private static class NamingEnumerationOf<T> implements NamingEnumeration<T> {
+        private final Iterator<T> iterator;
+
+        NamingEnumerationOf(final Iterator<T> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public T next() {
+            return iterator.next();
+        }
+
+        @Override
+        public boolean hasMore() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            return hasMore();
+        }
+
+        @Override
+        public T nextElement() {
+            return next();
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.server.authentication;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableList;
+
+import org.apache.isis.core.commons.authentication.AuthenticationSession;
+import org.apache.isis.core.runtime.authentication.CredentialCache;
+import org.apache.isis.core.runtime.authentication.standard.SimpleSession;
+import org.apache.isis.core.runtime.system.context.IsisContext;
+
+/**
+ * Holds the {@link CredentialCache cache} of verified {@link Identity identities} used by
+ * {@link AuthenticationSessionStrategyBasicAuth}.
+ *
+ * <p>
+ * Only the identity (user name, roles and validation code) is cached, not the {@link AuthenticationSession} itself:
+ * a session also holds per-request state (its {@link AuthenticationSession#getMessageBroker() message broker} and
+ * attributes), so a fresh session is created for each request.
+ *
+ * <p>
+ * Disabled unless <tt>isis.viewer.restfulobjects.authentication.cache.ttlSeconds</tt> is set.  Should not be used
+ * with Shiro, because Shiro requires each request to be logged in; instead enable the cache of the
+ * <tt>ShiroAuthenticatorOrAuthorizor</tt>.
+ */
+public final class AuthenticationSessionCache {
+
+    public static final String KEY_PREFIX = "isis.viewer.restfulobjects.authentication.cache";
+
+    private static CredentialCache<Identity> instance;
+
+    private AuthenticationSessionCache() {
+    }
+
+    /**
+     * The cache, configured (on first use) from the current configuration.
+     */
+    public static synchronized CredentialCache<Identity> getInstance() {
+        if(instance == null) {
+            instance = CredentialCache.create(IsisContext.getSessionFactory().getConfiguration(), KEY_PREFIX);
+        }
+        return instance;
+    }
+
+    /**
+     * Revokes all cached identities of the specified user, so that their next request is re-authenticated.
+     */
+    public static void revokeUser(final String userName) {
+        getInstance().revokeIf(new Predicate<Identity>() {
+            @Override
+            public boolean apply(@Nullable final Identity identity) {
+                return identity != null && identity.getUserName().equals(userName);
+            }
+        });
+    }
+
+    /**
+     * The immutable outcome of a successful authentication.
+     */
+    public static final class Identity {
+
+        public static Identity of(final AuthenticationSession authSession) {
+            return new Identity(authSession.getUserName(), authSession.getRoles(), authSession.getValidationCode());
+        }
+
+        private final String userName;
+        private final List<String> roles;
+        private final String validationCode;
+
+        private Identity(final String userName, final List<String> roles, final String validationCode) {
+            this.userName = userName;
+            this.roles = ImmutableList.copyOf(roles);
+            this.validationCode = validationCode;
+        }
+
+        public String getUserName() {
+            return userName;
+        }
+
+        public List<String> getRoles() {
+            return roles;
+        }
+
+        public String getValidationCode() {
+            return validationCode;
+        }
+
+        /**
+         * A new session (with its own message broker and attributes) for this identity.
+         */
+        public AuthenticationSession newSession() {
+            return new SimpleSession(userName, roles, validationCode);
+        }
+    }
+
+}
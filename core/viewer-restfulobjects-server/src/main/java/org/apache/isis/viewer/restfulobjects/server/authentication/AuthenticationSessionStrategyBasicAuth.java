@@ -30,12 +30,18 @@
 import org.apache.isis.core.commons.authentication.AuthenticationSession;
 import org.apache.isis.core.runtime.authentication.AuthenticationManager;
 import org.apache.isis.core.runtime.authentication.AuthenticationRequestPassword;
+import org.apache.isis.core.runtime.authentication.CredentialCache;
 import org.apache.isis.core.runtime.system.context.IsisContext;
 import org.apache.isis.core.webapp.auth.AuthenticationSessionStrategyAbstract;
 
 /**
  * Implements the HTTP Basic Auth protocol; does not bind the
  * {@link AuthenticationSession} onto the {@link HttpSession}.
+ *
+ * <p>
+ * If the {@link AuthenticationSessionCache} is enabled, then the identity verified for each
+ * set of credentials is cached, so that subsequent requests need not be re-authenticated
+ * (though each is still given its own session).
  */
 public class AuthenticationSessionStrategyBasicAuth extends AuthenticationSessionStrategyAbstract {
 
@@ -52,6 +58,20 @@ public AuthenticationSession lookupValid(final HttpServletRequest httpServletReq
             return null;
         }
 
+        final AuthenticationManager authenticationManager = authenticationManagerFrom(httpServletRequest);
+        final CredentialCache<AuthenticationSessionCache.Identity> cache = authenticationSessionCache();
+        final String cacheKey = cache.isEnabled() ? cache.keyFor(BASIC_AUTH_PREFIX, digest) : null;
+        if (cacheKey != null) {
+            final AuthenticationSessionCache.Identity cachedIdentity = cache.lookup(cacheKey);
+            if (cachedIdentity != null) {
+                final AuthenticationSession authSession = cachedIdentity.newSession();
+                if (authenticationManager.isSessionValid(authSession)) {
+                    return authSession;
+                }
+                cache.revoke(cacheKey);
+            }
+        }
+
         final String userAndPassword = unencoded(digest);
         final Matcher matcher = USER_AND_PASSWORD_REGEX.matcher(userAndPassword);
         if (!matcher.matches()) {
@@ -62,8 +82,10 @@ public AuthenticationSession lookupValid(final HttpServletRequest httpServletReq
         final String password = matcher.group(2);
 
         final AuthenticationRequestPassword request = new AuthenticationRequestPassword(user, password);
-        final AuthenticationSession authSession =
-                authenticationManagerFrom(httpServletRequest).authenticate(request);
+        final AuthenticationSession authSession = authenticationManager.authenticate(request);
+        if (cacheKey != null && authSession != null) {
+            cache.put(cacheKey, AuthenticationSessionCache.Identity.of(authSession));
+        }
         return authSession;
     }
 
@@ -82,5 +104,9 @@ protected String unencoded(final String encodedDigest) {
         return new String(new Base64().decode(encodedDigest.getBytes()));
     }
 
+    protected CredentialCache<AuthenticationSessionCache.Identity> authenticationSessionCache() {
+        return AuthenticationSessionCache.getInstance();
+    }
+
 
 }
@@ -23,6 +23,7 @@
 
 import org.apache.isis.applib.annotation.ActionSemantics;
 import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.applib.services.metrics.InteractionTiming.Phase;
 import org.apache.isis.applib.services.xactn.TransactionService;
 import org.apache.isis.core.commons.authentication.AuthenticationSession;
 import org.apache.isis.core.commons.config.IsisConfiguration;
@@ -31,6 +32,7 @@
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.deployment.DeploymentCategory;
 import org.apache.isis.core.metamodel.services.ServicesInjector;
+import org.apache.isis.core.metamodel.services.metrics.InteractionTimings;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
 import org.apache.isis.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
@@ -387,7 +389,12 @@ private Response invokeActionUsingAdapters(
 
         // response
         transactionService.flushTransaction();
-        return representationService.actionResult(representationServiceContext, objectAndActionInvocation, selfLink);
+        final long startedAt = System.nanoTime();
+        try {
+            return representationService.actionResult(representationServiceContext, objectAndActionInvocation, selfLink);
+        } finally {
+            InteractionTimings.getInstance().record(action.getIdentifier(), Phase.RENDER, startedAt);
+        }
     }
 
 
@@ -18,7 +18,10 @@
  */
 package org.apache.isis.viewer.restfulobjects.server.resources;
 
+import java.util.List;
+
 import org.apache.isis.applib.services.health.Health;
+import org.apache.isis.applib.services.metrics.InteractionTiming;
 import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
 import org.apache.isis.viewer.restfulobjects.applib.RepresentationType;
 import org.apache.isis.viewer.restfulobjects.rendering.LinkFollowSpecs;
@@ -44,6 +47,24 @@ public HealthReprRenderer with(final Health health) {
         return this;
     }
 
+    public HealthReprRenderer withTimings(final List<InteractionTiming> interactionTimings) {
+        final JsonRepresentation timings = JsonRepresentation.newArray();
+        for (final InteractionTiming interactionTiming : interactionTimings) {
+            final JsonRepresentation timing = JsonRepresentation.newMap();
+            timing.mapPut("memberIdentifier", interactionTiming.getMemberIdentifier());
+            timing.mapPut("phase", interactionTiming.getPhase().name());
+            timing.mapPut("count", interactionTiming.getCount());
+            timing.mapPut("meanNanos", interactionTiming.getMeanNanos());
+            timing.mapPut("maxNanos", interactionTiming.getMaxNanos());
+            timing.mapPut("p50Nanos", interactionTiming.getP50Nanos());
+            timing.mapPut("p90Nanos", interactionTiming.getP90Nanos());
+            timing.mapPut("p99Nanos", interactionTiming.getP99Nanos());
+            timings.arrayAdd(timing);
+        }
+        representation.mapPut("timings", timings);
+        return this;
+    }
+
     @Override
     public JsonRepresentation render() {
 
@@ -28,6 +28,8 @@
 import org.apache.isis.applib.annotation.Where;
 import org.apache.isis.applib.services.health.Health;
 import org.apache.isis.applib.services.health.HealthCheckService;
+import org.apache.isis.applib.services.metrics.MetricsService;
+import org.apache.isis.applib.services.metrics.MetricsService2;
 import org.apache.isis.core.commons.authentication.HealthAuthSession;
 import org.apache.isis.core.runtime.sessiontemplate.AbstractIsisSessionTemplate;
 import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
@@ -49,6 +51,13 @@
 //@Path("/health")
 public class HealthResourceServerside extends ResourceAbstract implements HealthResource {
 
+    /**
+     * Whether the {@link MetricsService2#interactionTimings() interaction timings} should be included in the
+     * representation.  Disabled by default, as the health resource does not require authentication.
+     */
+    public static final String KEY_TIMINGS = "isis.viewer.restfulobjects.health.timings";
+    private static final boolean TIMINGS_DEFAULT = false;
+
     @Override
     @GET
     @Produces({ MediaType.APPLICATION_JSON, RestfulMediaType.APPLICATION_JSON_HEALTH })
@@ -93,6 +102,9 @@ protected void doExecuteWithTransaction(final Object context) {
             } else {
                 health = Health.ok();
             }
+            if(getConfiguration().getBoolean(KEY_TIMINGS, TIMINGS_DEFAULT) && metricsService instanceof MetricsService2) {
+                renderer.withTimings(((MetricsService2) metricsService).interactionTimings());
+            }
             renderer.includesSelf();
 
             final Response.ResponseBuilder responseBuilder = health.getResult()
@@ -108,5 +120,8 @@ protected void doExecuteWithTransaction(final Object context) {
         @Inject
         HealthCheckService healthService;
 
+        @Inject
+        MetricsService metricsService;
+
     }
 }
\ No newline at end of file
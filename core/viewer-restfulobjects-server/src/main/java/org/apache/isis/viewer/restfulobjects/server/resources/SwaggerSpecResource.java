@@ -24,8 +24,11 @@
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 
 import org.apache.isis.applib.services.swagger.SwaggerService;
 import org.apache.isis.core.metamodel.services.ServicesInjector;
@@ -39,13 +42,16 @@ public class SwaggerSpecResource {
     @Context
     HttpHeaders httpHeaders;
 
+    @Context
+    Request request;
+
     @Path("/private")
     @GET
     @Consumes({ MediaType.WILDCARD, MediaType.APPLICATION_JSON, "text/yaml" })
     @Produces({
             MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrivate() {
+    public Response swaggerPrivate() {
         return swagger(SwaggerService.Visibility.PRIVATE);
     }
 
@@ -55,7 +61,7 @@ public String swaggerPrivate() {
     @Produces({
             MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrototyping() {
+    public Response swaggerPrototyping() {
         return swagger(SwaggerService.Visibility.PRIVATE_WITH_PROTOTYPING);
     }
 
@@ -65,14 +71,28 @@ public String swaggerPrototyping() {
     @Produces({
             MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPublic() {
+    public Response swaggerPublic() {
         return swagger(SwaggerService.Visibility.PUBLIC);
     }
 
-    private String swagger(final SwaggerService.Visibility visibility) {
+    private Response swagger(final SwaggerService.Visibility visibility) {
         final SwaggerService.Format format = deriveFrom(httpHeaders);
-        String spec = getIsisSessionFactory().doInSession(new MyCallable(visibility, format));
-        return spec;
+        final String spec = getIsisSessionFactory().doInSession(new MyCallable(visibility, format));
+
+        // the spec is cached by the SwaggerService (and String caches its own hashCode), so this is cheap
+        final EntityTag entityTag = entityTagFor(spec);
+        final Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if(notModified != null) {
+            return notModified.header(HttpHeaders.VARY, HttpHeaders.ACCEPT).build();
+        }
+        return Response.ok(spec)
+                .tag(entityTag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .build();
+    }
+
+    static EntityTag entityTagFor(final String spec) {
+        return new EntityTag(Integer.toHexString(spec.hashCode()) + "-" + Integer.toHexString(spec.length()));
     }
 
     private SwaggerService.Format deriveFrom(final HttpHeaders httpHeaders) {
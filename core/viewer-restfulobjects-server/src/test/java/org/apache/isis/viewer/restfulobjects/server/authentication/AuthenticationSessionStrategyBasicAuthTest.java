@@ -0,0 +1,138 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.server.authentication;
+
+import javax.servlet.http.HttpServletRequest;
+
+import com.google.common.base.Ticker;
+
+import org.apache.commons.codec.binary.Base64;
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.commons.authentication.AuthenticationSession;
+import org.apache.isis.core.runtime.authentication.AuthenticationManager;
+import org.apache.isis.core.runtime.authentication.AuthenticationRequest;
+import org.apache.isis.core.runtime.authentication.CredentialCache;
+import org.apache.isis.core.runtime.authentication.standard.SimpleSession;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class AuthenticationSessionStrategyBasicAuthTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    HttpServletRequest mockHttpServletRequest;
+
+    @Mock
+    AuthenticationManager mockAuthenticationManager;
+
+    private CredentialCache<AuthenticationSessionCache.Identity> cache;
+    private AuthenticationSessionStrategyBasicAuth strategy;
+
+    private final AuthenticationSession session = new SimpleSession("sven", new String[0], "code");
+
+    @Before
+    public void setUp() throws Exception {
+        cache = new CredentialCache<>(60, 100, Ticker.systemTicker());
+        strategy = new AuthenticationSessionStrategyBasicAuth() {
+            @Override
+            protected AuthenticationManager authenticationManagerFrom(final HttpServletRequest httpServletRequest) {
+                return mockAuthenticationManager;
+            }
+
+            @Override
+            protected CredentialCache<AuthenticationSessionCache.Identity> authenticationSessionCache() {
+                return cache;
+            }
+        };
+
+        final String digest = new String(new Base64().encode("sven:pass".getBytes()));
+        context.checking(new Expectations() {{
+            allowing(mockHttpServletRequest).getHeader(AuthenticationSessionStrategyBasicAuth.HEADER_AUTHORIZATION);
+            will(returnValue(AuthenticationSessionStrategyBasicAuth.BASIC_AUTH_PREFIX + digest));
+        }});
+    }
+
+    @Test
+    public void authenticates_once_while_session_valid() throws Exception {
+
+        context.checking(new Expectations() {{
+            oneOf(mockAuthenticationManager).authenticate(with(any(AuthenticationRequest.class)));
+            will(returnValue(session));
+
+            allowing(mockAuthenticationManager).isSessionValid(with(equal(session)));
+            will(returnValue(true));
+        }});
+
+        for (int i = 0; i < 10; i++) {
+            final AuthenticationSession authSession = strategy.lookupValid(mockHttpServletRequest, null);
+            assertThat(authSession.getUserName(), is("sven"));
+            assertThat(authSession.getValidationCode(), is("code"));
+        }
+        assertThat(cache.getHitCount(), is(9L));
+    }
+
+    @Test
+    public void each_request_given_its_own_session() throws Exception {
+
+        context.checking(new Expectations() {{
+            oneOf(mockAuthenticationManager).authenticate(with(any(AuthenticationRequest.class)));
+            will(returnValue(session));
+
+            allowing(mockAuthenticationManager).isSessionValid(with(any(AuthenticationSession.class)));
+            will(returnValue(true));
+        }});
+
+        strategy.lookupValid(mockHttpServletRequest, null);
+        final AuthenticationSession first = strategy.lookupValid(mockHttpServletRequest, null);
+        final AuthenticationSession second = strategy.lookupValid(mockHttpServletRequest, null);
+
+        assertThat(first, is(not(sameInstance(second))));
+        assertThat(first.getMessageBroker(), is(not(sameInstance(second.getMessageBroker()))));
+
+        first.getMessageBroker().addMessage("for the first request only");
+        assertThat(second.getMessageBroker().getMessages().isEmpty(), is(true));
+    }
+
+    @Test
+    public void reauthenticates_if_session_no_longer_valid() throws Exception {
+
+        context.checking(new Expectations() {{
+            exactly(2).of(mockAuthenticationManager).authenticate(with(any(AuthenticationRequest.class)));
+            will(returnValue(session));
+
+            oneOf(mockAuthenticationManager).isSessionValid(with(equal(session)));
+            will(returnValue(false));
+        }});
+
+        strategy.lookupValid(mockHttpServletRequest, null);
+        strategy.lookupValid(mockHttpServletRequest, null);
+    }
+
+}
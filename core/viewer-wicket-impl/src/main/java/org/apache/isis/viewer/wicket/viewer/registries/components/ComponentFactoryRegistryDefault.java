@@ -19,10 +19,14 @@
 
 package org.apache.isis.viewer.wicket.viewer.registries.components;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import javax.inject.Inject;
 
@@ -36,6 +40,16 @@
 import org.apache.wicket.MarkupContainer;
 import org.apache.wicket.model.IModel;
 
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.viewer.wicket.model.mementos.ActionMemento;
+import org.apache.isis.viewer.wicket.model.mementos.ActionParameterMemento;
+import org.apache.isis.viewer.wicket.model.mementos.CollectionMemento;
+import org.apache.isis.viewer.wicket.model.mementos.ObjectAdapterMemento;
+import org.apache.isis.viewer.wicket.model.mementos.PropertyMemento;
+import org.apache.isis.viewer.wicket.model.models.ActionModel;
+import org.apache.isis.viewer.wicket.model.models.EntityCollectionModel;
+import org.apache.isis.viewer.wicket.model.models.EntityModel;
+import org.apache.isis.viewer.wicket.model.models.ScalarModel;
 import org.apache.isis.viewer.wicket.ui.ComponentFactory;
 import org.apache.isis.viewer.wicket.ui.ComponentFactory.ApplicationAdvice;
 import org.apache.isis.viewer.wicket.ui.ComponentType;
@@ -46,12 +60,26 @@
 /**
  * Implementation of {@link ComponentFactoryRegistry} that delegates to a
  * provided {@link ComponentFactoryRegistrar}.
+ *
+ * <p>
+ * The {@link ComponentFactory#appliesTo(ComponentType, IModel) advice} of each
+ * factory is cached, keyed by the {@link #resolutionKeyFor(ComponentType, IModel) metamodel element}
+ * that the model represents, so that (for example) rendering each cell of a table
+ * does not consult every factory again.  Factories that are
+ * {@link ComponentFactory.DependsOnModelInstance dependent on the model instance}
+ * are always consulted.
  */
 @Singleton
 public class ComponentFactoryRegistryDefault implements ComponentFactoryRegistry {
 
     private final Multimap<ComponentType, ComponentFactory> componentFactoriesByType;
 
+    /**
+     * The advice of each factory (in the order that they were registered for the component type), populated lazily.
+     */
+    private final ConcurrentMap<List<Object>, AtomicReferenceArray<ApplicationAdvice>> resolutions =
+            new ConcurrentHashMap<>();
+
     @javax.inject.Inject
     public ComponentFactoryRegistryDefault(final ComponentFactoryRegistrar componentFactoryList) {
         componentFactoriesByType = Multimaps.newListMultimap(new HashMap<ComponentType, Collection<ComponentFactory>>(), new Supplier<List<ComponentFactory>>() {
@@ -85,6 +113,7 @@ protected void registerComponentFactories(final ComponentFactoryRegistrar compon
 
     protected void registerComponentFactory(final ComponentFactory componentFactory) {
         componentFactoriesByType.put(componentFactory.getComponentType(), componentFactory);
+        resolutions.clear();
     }
 
     private void ensureAllComponentTypesRegistered() {
@@ -132,9 +161,19 @@ public Component createComponent(final ComponentType componentType, final String
     @Override
     public List<ComponentFactory> findComponentFactories(final ComponentType componentType, final IModel<?> model) {
         final Collection<ComponentFactory> componentFactoryList = componentFactoriesByType.get(componentType);
+        final AtomicReferenceArray<ApplicationAdvice> resolved =
+                resolutionsFor(componentType, model, componentFactoryList.size());
         final List<ComponentFactory> matching = Lists.newArrayList();
+        int i = 0;
         for (final ComponentFactory componentFactory : componentFactoryList) {
-            final ApplicationAdvice appliesTo = componentFactory.appliesTo(componentType, model);
+            ApplicationAdvice appliesTo = resolved != null ? resolved.get(i) : null;
+            if (appliesTo == null) {
+                appliesTo = componentFactory.appliesTo(componentType, model);
+                if (resolved != null && !(componentFactory instanceof ComponentFactory.DependsOnModelInstance)) {
+                    resolved.set(i, appliesTo);
+                }
+            }
+            i++;
             if (appliesTo.applies()) {
                 matching.add(componentFactory);
             }
@@ -149,6 +188,79 @@ public List<ComponentFactory> findComponentFactories(final ComponentType compone
         return matching;
     }
 
+    private AtomicReferenceArray<ApplicationAdvice> resolutionsFor(
+            final ComponentType componentType,
+            final IModel<?> model,
+            final int numberOfFactories) {
+        final List<Object> key = resolutionKeyFor(componentType, model);
+        if (key == null) {
+            return null;
+        }
+        final AtomicReferenceArray<ApplicationAdvice> resolved = resolutions.get(key);
+        if (resolved != null) {
+            return resolved;
+        }
+        final AtomicReferenceArray<ApplicationAdvice> newlyResolved = new AtomicReferenceArray<>(numberOfFactories);
+        final AtomicReferenceArray<ApplicationAdvice> existing = resolutions.putIfAbsent(key, newlyResolved);
+        return existing != null ? existing : newlyResolved;
+    }
+
+    /**
+     * The key under which the advice of the factories for this component type and model can be cached, or
+     * <tt>null</tt> if they must be consulted every time.
+     *
+     * <p>
+     * The key identifies the metamodel element (the scalar property or parameter, the type of an entity, the
+     * type and collection of a collection, or the action) that the model represents; the factories' advice
+     * depends only on the facets of that element, which do not change once the metamodel has been built.
+     * Other models (values, menus, pages and so on) are not cached.
+     */
+    protected List<Object> resolutionKeyFor(final ComponentType componentType, final IModel<?> model) {
+        if (model instanceof ScalarModel) {
+            final ScalarModel scalarModel = (ScalarModel) model;
+            final ObjectSpecification typeOfSpec = scalarModel.getTypeOfSpecification();
+            if (typeOfSpec == null) {
+                return null;
+            }
+            if (scalarModel.getKind() == ScalarModel.Kind.PROPERTY) {
+                final PropertyMemento propertyMemento = scalarModel.getPropertyMemento();
+                return keyOf(componentType, model, typeOfSpec.getSpecId(),
+                        propertyMemento.getOwningType(), propertyMemento.getIdentifier());
+            } else {
+                final ActionParameterMemento parameterMemento = scalarModel.getParameterMemento();
+                final ActionMemento actionMemento = parameterMemento.getActionMemento();
+                return keyOf(componentType, model, typeOfSpec.getSpecId(),
+                        actionMemento.getOwningType(), actionMemento.getNameParmsId(), parameterMemento.getNumber());
+            }
+        }
+        if (model instanceof EntityModel) {
+            final ObjectAdapterMemento adapterMemento = ((EntityModel) model).getObjectAdapterMemento();
+            return adapterMemento != null
+                    ? keyOf(componentType, model, adapterMemento.getObjectSpecId())
+                    : null;
+        }
+        if (model instanceof EntityCollectionModel) {
+            final EntityCollectionModel collectionModel = (EntityCollectionModel) model;
+            final CollectionMemento collectionMemento = collectionModel.getCollectionMemento();
+            return keyOf(componentType, model, collectionModel.getTypeOfSpecification().getSpecId(),
+                    collectionMemento != null ? collectionMemento.getOwningType() : null,
+                    collectionMemento != null ? collectionMemento.getId() : null);
+        }
+        if (model instanceof ActionModel) {
+            final ActionMemento actionMemento = ((ActionModel) model).getActionMemento();
+            return keyOf(componentType, model, actionMemento.getOwningType(), actionMemento.getNameParmsId());
+        }
+        return null;
+    }
+
+    private static List<Object> keyOf(final ComponentType componentType, final IModel<?> model, final Object... elements) {
+        final Object[] key = new Object[elements.length + 2];
+        key[0] = componentType;
+        key[1] = model.getClass();
+        System.arraycopy(elements, 0, key, 2, elements.length);
+        return Arrays.asList(key);
+    }
+
     @Override
     public ComponentFactory findComponentFactory(final ComponentType componentType, final IModel<?> model) {
         final Collection<ComponentFactory> componentFactories = findComponentFactories(componentType, model);
@@ -0,0 +1,157 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.viewer.registries.components;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.wicket.Component;
+import org.apache.wicket.model.IModel;
+import org.apache.wicket.model.Model;
+import org.apache.wicket.request.resource.CssResourceReference;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.viewer.wicket.ui.ComponentFactory;
+import org.apache.isis.viewer.wicket.ui.ComponentType;
+import org.apache.isis.viewer.wicket.ui.app.registry.ComponentFactoryRegistrar;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ComponentFactoryRegistryDefaultTest {
+
+    static class CountingComponentFactory implements ComponentFactory {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ComponentType componentType;
+        private final String appliesToValue;
+        int appliesToCount;
+
+        CountingComponentFactory(final ComponentType componentType, final String appliesToValue) {
+            this.componentType = componentType;
+            this.appliesToValue = appliesToValue;
+        }
+
+        @Override
+        public ComponentType getComponentType() {
+            return componentType;
+        }
+
+        @Override
+        public ApplicationAdvice appliesTo(final ComponentType componentType, final IModel<?> model) {
+            appliesToCount++;
+            return ApplicationAdvice.appliesIf(appliesToValue == null || appliesToValue.equals(model.getObject()));
+        }
+
+        @Override
+        public Component createComponent(final IModel<?> model) {
+            return null;
+        }
+
+        @Override
+        public Component createComponent(final String id, final IModel<?> model) {
+            return null;
+        }
+
+        @Override
+        public String getName() {
+            return appliesToValue;
+        }
+
+        @Override
+        public CssResourceReference getCssResourceReference() {
+            return null;
+        }
+    }
+
+    static class InstanceDependentComponentFactory extends CountingComponentFactory
+            implements ComponentFactory.DependsOnModelInstance {
+
+        private static final long serialVersionUID = 1L;
+
+        InstanceDependentComponentFactory(final ComponentType componentType, final String appliesToValue) {
+            super(componentType, appliesToValue);
+        }
+    }
+
+    private CountingComponentFactory fooFactory;
+    private CountingComponentFactory barFactory;
+    private CountingComponentFactory instanceDependentFactory;
+
+    private ComponentFactoryRegistryDefault registry;
+
+    @Before
+    public void setUp() throws Exception {
+        fooFactory = new CountingComponentFactory(ComponentType.SCALAR_NAME_AND_VALUE, "foo");
+        barFactory = new CountingComponentFactory(ComponentType.SCALAR_NAME_AND_VALUE, "bar");
+        instanceDependentFactory = new InstanceDependentComponentFactory(ComponentType.SCALAR_NAME_AND_VALUE, "bar");
+
+        registry = new ComponentFactoryRegistryDefault(new ComponentFactoryRegistrar() {
+            @Override
+            public void addComponentFactories(final ComponentFactoryList componentFactories) {
+                componentFactories.add(fooFactory);
+                componentFactories.add(barFactory);
+                componentFactories.add(instanceDependentFactory);
+                for (final ComponentType componentType : ComponentType.values()) {
+                    if(componentType != ComponentType.SCALAR_NAME_AND_VALUE) {
+                        componentFactories.add(new CountingComponentFactory(componentType, null));
+                    }
+                }
+            }
+        }) {
+            @Override
+            protected List<Object> resolutionKeyFor(final ComponentType componentType, final IModel<?> model) {
+                // for this test, the model's object stands in for the metamodel element it represents
+                return Collections.<Object>singletonList(model.getObject());
+            }
+        };
+    }
+
+    @Test
+    public void advice_is_cached_per_resolution_key() throws Exception {
+
+        for (int i = 0; i < 100; i++) {
+            final ComponentFactory componentFactory =
+                    registry.findComponentFactory(ComponentType.SCALAR_NAME_AND_VALUE, Model.of("bar"));
+            assertThat(componentFactory, is(sameInstance((ComponentFactory) barFactory)));
+        }
+        assertThat(fooFactory.appliesToCount, is(1));
+        assertThat(barFactory.appliesToCount, is(1));
+
+        registry.findComponentFactory(ComponentType.SCALAR_NAME_AND_VALUE, Model.of("foo"));
+        assertThat(fooFactory.appliesToCount, is(2));
+        assertThat(barFactory.appliesToCount, is(2));
+    }
+
+    @Test
+    public void instance_dependent_factories_are_always_consulted() throws Exception {
+
+        for (int i = 0; i < 100; i++) {
+            final List<ComponentFactory> componentFactories =
+                    registry.findComponentFactories(ComponentType.SCALAR_NAME_AND_VALUE, Model.of("bar"));
+            assertThat(componentFactories.size(), is(2));
+        }
+        assertThat(barFactory.appliesToCount, is(1));
+        assertThat(instanceDependentFactory.appliesToCount, is(100));
+    }
+
+}
@@ -362,6 +362,12 @@ public Type getType() {
      */
     private ActionModel actionModelHint;
 
+    /**
+     * The references of the elements to fetch eagerly when the collection is {@link #load() loaded}; typically
+     * those rendered as columns of a table.
+     */
+    private List<String> fetchMembers = Collections.emptyList();
+
     private EntityCollectionModel(final Class<?> typeOf, final List<ObjectAdapterMemento> mementoList, final int pageSize) {
         this.type = Type.STANDALONE;
         this.entityModel = null;
@@ -451,7 +457,19 @@ public CollectionLayoutData getLayoutData() {
 
     @Override
     protected List<ObjectAdapter> load() {
-        return type.load(this);
+        if(fetchMembers.isEmpty()) {
+            return type.load(this);
+        }
+        final Class<?> elementType = getTypeOfSpecification().getCorrespondingClass();
+        return getPersistenceSession().executeWithFetchMembers(elementType, fetchMembers, () -> type.load(this));
+    }
+
+    public List<String> getFetchMembers() {
+        return fetchMembers;
+    }
+
+    public void setFetchMembers(final List<String> fetchMembers) {
+        this.fetchMembers = Lists.newArrayList(fetchMembers);
     }
 
     public ObjectSpecification getTypeOfSpecification() {
@@ -80,9 +80,23 @@ public static final ApplicationAdvice appliesIf(final boolean b) {
     /**
      * Whether the {@link Component} created by this factory applies to the
      * specified {@link ComponentType} and {@link IModel}.
+     *
+     * <p>
+     * The {@link ComponentFactoryRegistry} caches this advice, keyed by the
+     * component type and the metamodel element (type, property, parameter etc)
+     * that the model represents.  Factories whose advice depends upon the
+     * model instance itself should implement {@link DependsOnModelInstance}.
      */
     ApplicationAdvice appliesTo(ComponentType componentType, IModel<?> model);
 
+    /**
+     * Marker for factories whose {@link #appliesTo(ComponentType, IModel)}
+     * depends upon the state of the model instance (or has side-effects), and
+     * so must be consulted every time rather than having its advice cached.
+     */
+    public interface DependsOnModelInstance {
+    }
+
     /**
      * Creates component, with id being derived from the
      * {@link #getComponentType() component type} for this factory.
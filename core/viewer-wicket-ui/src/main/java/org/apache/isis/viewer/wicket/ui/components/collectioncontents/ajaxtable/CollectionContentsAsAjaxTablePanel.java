@@ -209,13 +209,20 @@ private void addPropertyColumnsIfRequired(final List<IColumn<ObjectAdapter,Strin
             }
         }
 
+        final List<String> referencePropertyIds = Lists.newArrayList();
         for (final String propertyId : propertyIds) {
             final ObjectAssociation property = propertyById.get(propertyId);
             if(property != null) {
                 final ColumnAbstract<ObjectAdapter> nopc = createObjectAdapterPropertyColumn(property);
                 columns.add(nopc);
+                if(property.getSpecification().isPersistenceCapable()) {
+                    referencePropertyIds.add(propertyId);
+                }
             }
         }
+
+        // so that the referenced objects are loaded along with the rows, rather than with a query per row
+        getModel().setFetchMembers(referencePropertyIds);
     }
 
     private List<String> reordered(
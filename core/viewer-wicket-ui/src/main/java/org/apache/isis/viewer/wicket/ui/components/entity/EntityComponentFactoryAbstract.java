@@ -27,6 +27,7 @@
 import org.apache.isis.core.metamodel.facets.object.value.ValueFacet;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.viewer.wicket.model.models.EntityModel;
+import org.apache.isis.viewer.wicket.ui.ComponentFactory;
 import org.apache.isis.viewer.wicket.ui.ComponentFactoryAbstract;
 import org.apache.isis.viewer.wicket.ui.ComponentType;
 
@@ -34,8 +35,12 @@
  * Convenience adapter for a number of {@link ComponentFactoryAbstract component
  * factory}s that where the created {@link Component} are backed by an
  * {@link EntityModel}.
+ *
+ * <p>
+ * Because {@link #appliesTo(IModel)} also loads the entity, its advice is not cached.
  */
-public abstract class EntityComponentFactoryAbstract extends ComponentFactoryAbstract {
+public abstract class EntityComponentFactoryAbstract extends ComponentFactoryAbstract
+        implements ComponentFactory.DependsOnModelInstance {
 
     private static final long serialVersionUID = 1L;
 
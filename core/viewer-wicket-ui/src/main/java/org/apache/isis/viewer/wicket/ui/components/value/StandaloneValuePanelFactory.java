@@ -30,7 +30,8 @@
 /**
  * {@link ComponentFactory} for rendering standalone values..
  */
-public class StandaloneValuePanelFactory extends ComponentFactoryAbstract {
+public class StandaloneValuePanelFactory extends ComponentFactoryAbstract
+        implements ComponentFactory.DependsOnModelInstance {
 
     private static final long serialVersionUID = 1L;
     
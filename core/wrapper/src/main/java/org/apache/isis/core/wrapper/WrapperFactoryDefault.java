@@ -25,6 +25,11 @@
 import java.util.List;
 import java.util.Map;
 
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import org.apache.isis.applib.annotation.DomainService;
 import org.apache.isis.applib.annotation.NatureOfService;
 import org.apache.isis.applib.annotation.Programmatic;
@@ -50,6 +55,7 @@
 import org.apache.isis.applib.services.wrapper.listeners.InteractionListener;
 import org.apache.isis.core.commons.authentication.AuthenticationSessionProvider;
 import org.apache.isis.core.metamodel.services.persistsession.PersistenceSessionServiceInternal;
+import org.apache.isis.core.runtime.proxy.ProxyClassCache;
 import org.apache.isis.core.runtime.system.session.IsisSessionFactory;
 import org.apache.isis.core.wrapper.dispatchers.InteractionEventDispatcher;
 import org.apache.isis.core.wrapper.dispatchers.InteractionEventDispatcherTypeSafe;
@@ -73,10 +79,13 @@
 )
 public class WrapperFactoryDefault implements WrapperFactory {
 
+    private static final Logger LOG = LoggerFactory.getLogger(WrapperFactoryDefault.class);
+
     private final List<InteractionListener> listeners = new ArrayList<InteractionListener>();
     private final Map<Class<? extends InteractionEvent>, InteractionEventDispatcher> dispatchersByEventClass = new HashMap<Class<? extends InteractionEvent>, InteractionEventDispatcher>();
 
 
+    private final ProxyCreator proxyCreator;
     private final ProxyContextHandler proxyContextHandler;
 
     public WrapperFactoryDefault() {
@@ -84,6 +93,7 @@ public WrapperFactoryDefault() {
     }
     WrapperFactoryDefault(final ProxyCreator proxyCreator) {
 
+        this.proxyCreator = proxyCreator;
         proxyContextHandler = new ProxyContextHandler(proxyCreator);
 
         dispatchersByEventClass.put(ObjectTitleEvent.class, new InteractionEventDispatcherTypeSafe<ObjectTitleEvent>() {
@@ -216,6 +226,19 @@ public void dispatchTypeSafe(final CollectionMethodEvent interactionEvent) {
         });
     }
 
+    // /////////////////////////////////////////////////////////////
+    // init
+    // /////////////////////////////////////////////////////////////
+
+    @Programmatic
+    @PostConstruct
+    public void init(final Map<String, String> properties) {
+        if(ProxyClassCache.isPregenerate(properties)) {
+            final int count = proxyCreator.pregenerate(isisSessionFactory.getSpecificationLoader().allSpecifications());
+            LOG.info("pre-generated {} wrapper proxy classes", count);
+        }
+    }
+
     // /////////////////////////////////////////////////////////////
     // wrap and unwrap
     // /////////////////////////////////////////////////////////////
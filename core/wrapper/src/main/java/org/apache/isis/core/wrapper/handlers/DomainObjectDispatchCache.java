@@ -0,0 +1,220 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.wrapper.handlers;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.isis.core.metamodel.facets.ImperativeFacet;
+import org.apache.isis.core.metamodel.facets.ImperativeFacet.Intent;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.Contributed;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.metamodel.spec.feature.ObjectMember;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.core.metamodel.specloader.specimpl.ContributeeMember;
+import org.apache.isis.core.metamodel.specloader.specimpl.dflt.ObjectSpecificationDefault;
+
+/**
+ * Caches, for each {@link Method} invoked through a wrapper, the {@link ObjectMember} and {@link Intent} that it
+ * corresponds to, along with (for actions) the {@link ContributeeMember} to use for any given combination of
+ * argument types.
+ *
+ * <p>
+ * Resolving these requires the {@link ObjectSpecification} to be looked up and (for contributed members) the
+ * members of each of the argument types to be searched; this only depends upon the metamodel, so is done once
+ * rather than on every call.  Everything cached is discarded whenever the
+ * {@link SpecificationLoader#getMetaModelVersion() metamodel version} changes (for example, if a specification is
+ * invalidated), so that stale members are never used.
+ *
+ * <p>
+ * A single instance is shared by all {@link DomainObjectInvocationHandler}s created by a
+ * {@link ProxyContextHandler}.
+ */
+public class DomainObjectDispatchCache {
+
+    public static class Dispatch {
+
+        private final ObjectMember objectMember;
+        private final Intent intent;
+
+        /**
+         * Populated lazily, only used for actions.
+         */
+        private final ConcurrentMap<List<Class<?>>, Optional<ContributeeMember>> contributeeByArgTypes =
+                new ConcurrentHashMap<>();
+
+        Dispatch(final ObjectMember objectMember, final Intent intent) {
+            this.objectMember = objectMember;
+            this.intent = intent;
+        }
+
+        public ObjectMember getObjectMember() {
+            return objectMember;
+        }
+
+        public Intent getIntent() {
+            return intent;
+        }
+    }
+
+    /**
+     * The dispatches resolved against a particular version of the metamodel.
+     */
+    private static class DispatchByMethod {
+
+        private final long metaModelVersion;
+        private final ConcurrentMap<Method, Dispatch> dispatchByMethod = new ConcurrentHashMap<>();
+
+        DispatchByMethod(final long metaModelVersion) {
+            this.metaModelVersion = metaModelVersion;
+        }
+    }
+
+    private volatile DispatchByMethod dispatches = new DispatchByMethod(-1);
+
+    private ConcurrentMap<Method, Dispatch> dispatchByMethod(final SpecificationLoader specificationLoader) {
+        // read before resolving; if resolving itself loads further specs then it is simply resolved again next time
+        final long currentVersion = specificationLoader.getMetaModelVersion();
+        DispatchByMethod dispatches = this.dispatches;
+        if(dispatches.metaModelVersion != currentVersion) {
+            dispatches = new DispatchByMethod(currentVersion);
+            this.dispatches = dispatches;
+        }
+        return dispatches.dispatchByMethod;
+    }
+
+    /**
+     * @throws UnsupportedOperationException if the method does not correspond to any member (not cached).
+     */
+    public Dispatch dispatchFor(final Method method, final SpecificationLoader specificationLoader) {
+        final ConcurrentMap<Method, Dispatch> dispatchByMethod = dispatchByMethod(specificationLoader);
+        Dispatch dispatch = dispatchByMethod.get(method);
+        if(dispatch == null) {
+            final ObjectMember objectMember = locateAndCheckMember(method, specificationLoader);
+            final Intent intent = ImperativeFacet.Util.getIntent(objectMember, method);
+            dispatch = new Dispatch(objectMember, intent);
+            dispatchByMethod.put(method, dispatch);
+        }
+        return dispatch;
+    }
+
+    /**
+     * Whether this invocation of an action is in fact of a contributed property/collection/action, as determined by
+     * the runtime types of the provided arguments.
+     */
+    public ContributeeMember contributeeFor(
+            final Dispatch dispatch,
+            final Object[] args,
+            final SpecificationLoader specificationLoader) {
+
+        if (!(dispatch.objectMember instanceof ObjectAction)) {
+            return null;
+        }
+
+        final List<Class<?>> argTypes = argTypesOf(args);
+        Optional<ContributeeMember> contributeeMember = dispatch.contributeeByArgTypes.get(argTypes);
+        if(contributeeMember == null) {
+            contributeeMember = Optional.ofNullable(
+                    determineIfContributed(argTypes, (ObjectAction) dispatch.objectMember, specificationLoader));
+            dispatch.contributeeByArgTypes.put(argTypes, contributeeMember);
+        }
+        return contributeeMember.orElse(null);
+    }
+
+    private static List<Class<?>> argTypesOf(final Object[] args) {
+        final Class<?>[] argTypes = new Class<?>[args.length];
+        for (int i = 0; i < args.length; i++) {
+            argTypes[i] = args[i] != null ? args[i].getClass() : null;
+        }
+        return Arrays.asList(argTypes);
+    }
+
+    private static ContributeeMember determineIfContributed(
+            final List<Class<?>> argTypes,
+            final ObjectAction objectAction,
+            final SpecificationLoader specificationLoader) {
+
+        for (final Class<?> argType : argTypes) {
+            if (argType == null) {
+                continue;
+            }
+            final ObjectSpecificationDefault objectSpec = getJavaSpecification(argType, specificationLoader);
+
+            if (argTypes.size() == 1) {
+                // is this a contributed property/collection?
+                final List<ObjectAssociation> associations =
+                        objectSpec.getAssociations(Contributed.INCLUDED);
+                for (final ObjectAssociation association : associations) {
+                    if (association instanceof ContributeeMember) {
+                        final ContributeeMember contributeeMember = (ContributeeMember) association;
+                        if (contributeeMember.isContributedBy(objectAction)) {
+                            return contributeeMember;
+                        }
+                    }
+                }
+            }
+
+            // is this a contributed action?
+            final List<ObjectAction> actions =
+                    objectSpec.getObjectActions(Contributed.INCLUDED);
+            for (final ObjectAction action : actions) {
+                if (action instanceof ContributeeMember) {
+                    final ContributeeMember contributeeMember = (ContributeeMember) action;
+                    if (contributeeMember.isContributedBy(objectAction)) {
+                        return contributeeMember;
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static ObjectMember locateAndCheckMember(
+            final Method method,
+            final SpecificationLoader specificationLoader) {
+        final ObjectSpecificationDefault objectSpecificationDefault =
+                getJavaSpecification(method.getDeclaringClass(), specificationLoader);
+        final ObjectMember member = objectSpecificationDefault.getMember(method);
+
+        if (member == null) {
+            final String methodName = method.getName();
+            throw new UnsupportedOperationException("Method '" + methodName + "' being invoked does not correspond to any of the object's fields or actions.");
+        }
+        return member;
+    }
+
+    private static ObjectSpecificationDefault getJavaSpecification(
+            final Class<?> clazz,
+            final SpecificationLoader specificationLoader) {
+        final ObjectSpecification objectSpec = specificationLoader.loadSpecification(clazz);
+        if (!(objectSpec instanceof ObjectSpecificationDefault)) {
+            throw new UnsupportedOperationException("Only Java is supported (specification is '" + objectSpec.getClass().getCanonicalName() + "')");
+        }
+        return (ObjectSpecificationDefault) objectSpec;
+    }
+
+}
@@ -28,9 +28,9 @@
 import java.util.Set;
 
 import com.google.common.base.Function;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
 
 import org.datanucleus.enhancement.Persistable;
 
@@ -55,7 +55,6 @@
 import org.apache.isis.core.metamodel.consent.Consent;
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.consent.InteractionResult;
-import org.apache.isis.core.metamodel.facets.ImperativeFacet;
 import org.apache.isis.core.metamodel.facets.ImperativeFacet.Intent;
 import org.apache.isis.core.metamodel.facets.object.mixin.MixinFacet;
 import org.apache.isis.core.metamodel.interactions.ObjectTitleContext;
@@ -64,7 +63,6 @@
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.feature.Contributed;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
-import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
 import org.apache.isis.core.metamodel.spec.feature.ObjectMember;
 import org.apache.isis.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
@@ -72,7 +70,6 @@
 import org.apache.isis.core.metamodel.specloader.specimpl.ContributeeMember;
 import org.apache.isis.core.metamodel.specloader.specimpl.ObjectActionContributee;
 import org.apache.isis.core.metamodel.specloader.specimpl.ObjectActionMixedIn;
-import org.apache.isis.core.metamodel.specloader.specimpl.dflt.ObjectSpecificationDefault;
 import org.apache.isis.core.runtime.system.session.IsisSessionFactory;
 
 public class DomainObjectInvocationHandler<T> extends DelegatingInvocationHandlerDefault<T> {
@@ -117,7 +114,21 @@
      */
     protected Method __isis_executionMode;
 
-    protected final Set<String> dnPersistableMethods = Sets.newHashSet();
+    /**
+     * The names of the methods of {@link Persistable}; these are the same for every handler, so computed only once.
+     */
+    private static final Set<String> DN_PERSISTABLE_METHOD_NAMES =
+            ImmutableSet.copyOf(
+                    Iterables.transform(
+                            Arrays.asList(Persistable.class.getDeclaredMethods()),
+                            new Function<Method, String>() {
+                                @Override
+                                public String apply(final Method input) {
+                                    return input.getName();
+                                }
+                            }));
+
+    protected final Set<String> dnPersistableMethods = DN_PERSISTABLE_METHOD_NAMES;
 
     public DomainObjectInvocationHandler(
             final T delegate,
@@ -149,17 +160,6 @@ public DomainObjectInvocationHandler(
             saveMethod = WrapperObject.class.getMethod("save", new Class[] {});
             wrappedMethod = WrapperObject.class.getMethod("wrapped", new Class[] {});
 
-            dnPersistableMethods.addAll(
-                    Lists.newArrayList(
-                            Iterables.transform(
-                                    Arrays.asList(Persistable.class.getDeclaredMethods()),
-                                    new Function<Method, String>() {
-                                        @Override
-                                        public String apply(final Method input) {
-                                            return input.getName();
-                                        }
-                                    })));
-
         } catch (final NoSuchMethodException nsme) {
             throw new IllegalStateException(
                     "Could not locate reserved declared methods in the WrappingObject and WrappedObject interfaces",
@@ -204,12 +204,16 @@ public Object invoke(final Object proxyObject, final Method method, final Object
             return executionMode;
         }
 
-        final ObjectMember objectMember = locateAndCheckMember(method);
-        final ContributeeMember contributeeMember = determineIfContributed(args, objectMember);
+        final DomainObjectDispatchCache dispatchCache = proxy.getDispatchCache();
+        final DomainObjectDispatchCache.Dispatch dispatch = dispatchCache.dispatchFor(method, getSpecificationLoader());
+
+        final ObjectMember objectMember = dispatch.getObjectMember();
+        final ContributeeMember contributeeMember =
+                dispatchCache.contributeeFor(dispatch, args, getSpecificationLoader());
 
         final String memberName = objectMember.getName();
 
-        final Intent intent = ImperativeFacet.Util.getIntent(objectMember, method);
+        final Intent intent = dispatch.getIntent();
         if(intent == Intent.CHECK_IF_HIDDEN || intent == Intent.CHECK_IF_DISABLED) {
             throw new UnsupportedOperationException(String.format("Cannot invoke supporting method '%s'", memberName));
         }
@@ -311,53 +315,6 @@ public InteractionInitiatedBy getInteractionInitiatedBy() {
         return getExecutionMode().shouldEnforceRules()? InteractionInitiatedBy.USER: InteractionInitiatedBy.FRAMEWORK;
     }
 
-    // see if this is a contributed property/collection/action
-    private ContributeeMember determineIfContributed(
-            final Object[] args,
-            final ObjectMember objectMember) {
-
-        if (!(objectMember instanceof ObjectAction)) {
-            return null;
-        }
-
-        final ObjectAction objectAction = (ObjectAction) objectMember;
-
-        for (final Object arg : args) {
-            if (arg == null) {
-                continue;
-            }
-            final ObjectSpecificationDefault objectSpec = getJavaSpecification(arg.getClass());
-
-            if (args.length == 1) {
-                // is this a contributed property/collection?
-                final List<ObjectAssociation> associations =
-                        objectSpec.getAssociations(Contributed.INCLUDED);
-                for (final ObjectAssociation association : associations) {
-                    if (association instanceof ContributeeMember) {
-                        final ContributeeMember contributeeMember = (ContributeeMember) association;
-                        if (contributeeMember.isContributedBy(objectAction)) {
-                            return contributeeMember;
-                        }
-                    }
-                }
-            }
-
-            // is this a contributed action?
-            final List<ObjectAction> actions =
-                    objectSpec.getObjectActions(Contributed.INCLUDED);
-            for (final ObjectAction action : actions) {
-                if (action instanceof ContributeeMember) {
-                    final ContributeeMember contributeeMember = (ContributeeMember) action;
-                    if (contributeeMember.isContributedBy(objectAction)) {
-                        return contributeeMember;
-                    }
-                }
-            }
-        }
-
-        return null;
-    }
-
     private boolean isJdoMethod(final Method method) {
         return methodStartsWith(method, "jdo") || dnPersistableMethods.contains(method.getName());
     }
@@ -898,17 +855,6 @@ private InteractionException toException(final InteractionEvent interactionEvent
     // switching
     // /////////////////////////////////////////////////////////////////
 
-    private ObjectMember locateAndCheckMember(final Method method) {
-        final ObjectSpecificationDefault objectSpecificationDefault = getJavaSpecificationOfOwningClass(method);
-        final ObjectMember member = objectSpecificationDefault.getMember(method);
-        
-        if (member == null) {
-            final String methodName = method.getName();
-            throw new UnsupportedOperationException("Method '" + methodName + "' being invoked does not correspond to any of the object's fields or actions.");
-        }
-        return member;
-    }
-
     protected boolean isTitleMethod(final Method method) {
         return method.equals(titleMethod);
     }
@@ -925,26 +871,6 @@ protected boolean isExecutionModeMethod(final Method method) {
         return method.equals(__isis_executionMode);
     }
 
-    // /////////////////////////////////////////////////////////////////
-    // Specification lookup
-    // /////////////////////////////////////////////////////////////////
-
-    private ObjectSpecificationDefault getJavaSpecificationOfOwningClass(final Method method) {
-        return getJavaSpecification(method.getDeclaringClass());
-    }
-
-    private ObjectSpecificationDefault getJavaSpecification(final Class<?> clazz) {
-        final ObjectSpecification objectSpec = getSpecification(clazz);
-        if (!(objectSpec instanceof ObjectSpecificationDefault)) {
-            throw new UnsupportedOperationException("Only Java is supported (specification is '" + objectSpec.getClass().getCanonicalName() + "')");
-        }
-        return (ObjectSpecificationDefault) objectSpec;
-    }
-
-    private ObjectSpecification getSpecification(final Class<?> type) {
-        return getSpecificationLoader().loadSpecification(type);
-    }
-
     // /////////////////////////////////////////////////////////////////
     // Dependencies
     // /////////////////////////////////////////////////////////////////
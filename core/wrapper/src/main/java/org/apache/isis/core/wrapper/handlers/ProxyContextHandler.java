@@ -30,11 +30,16 @@
 public class ProxyContextHandler {
 
     private final ProxyCreator proxyCreator;
+    private final DomainObjectDispatchCache dispatchCache = new DomainObjectDispatchCache();
     
     public ProxyContextHandler(final ProxyCreator proxyCreator) {
         this.proxyCreator = proxyCreator;
     }
 
+    public DomainObjectDispatchCache getDispatchCache() {
+        return dispatchCache;
+    }
+
     public <T> T proxy(
             final T domainObject,
             final ExecutionMode mode,
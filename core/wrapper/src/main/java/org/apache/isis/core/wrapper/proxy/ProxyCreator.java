@@ -20,35 +20,39 @@
 package org.apache.isis.core.wrapper.proxy;
 
 import java.lang.reflect.Method;
-import java.util.Map;
-
-import com.google.common.collect.MapMaker;
 
 import org.apache.isis.applib.services.wrapper.WrapperObject;
 import org.apache.isis.applib.services.wrapper.WrappingObject;
-import org.apache.isis.core.commons.lang.ArrayExtensions;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.specloader.classsubstitutor.JavassistEnhanced;
+import org.apache.isis.core.runtime.proxy.ProxyClassCache;
 import org.apache.isis.core.wrapper.handlers.DelegatingInvocationHandler;
 import org.apache.isis.core.wrapper.internal.util.Util;
 
 import javassist.util.proxy.MethodFilter;
 import javassist.util.proxy.MethodHandler;
 import javassist.util.proxy.Proxy;
-import javassist.util.proxy.ProxyFactory;
 
 public class ProxyCreator {
 
-    /**
-     * Lazily constructed cache.
-     */
-    private final Map<Class, ProxyFactory> proxyFactoryByClass;
+    private static final Class<?>[] ADDITIONAL_INTERFACES = { JavassistEnhanced.class, WrappingObject.class };
+
+    private static final MethodFilter METHOD_FILTER = new MethodFilter() {
+        @Override
+        public boolean isHandled(final Method m) {
+            // ignore finalize()
+            return !m.getName().equals("finalize") || m.isBridge();
+        }
+    };
+
+    private final ProxyClassCache proxyClassCache;
 
     public ProxyCreator() {
-        this(new MapMaker().weakKeys().concurrencyLevel(10).<Class, ProxyFactory>makeMap());
+        this(ProxyClassCache.getInstance());
     }
 
-    public ProxyCreator(Map<Class, ProxyFactory> proxyFactoryByClass) {
-        this.proxyFactoryByClass = proxyFactoryByClass;
+    public ProxyCreator(final ProxyClassCache proxyClassCache) {
+        this.proxyClassCache = proxyClassCache;
     }
 
     @SuppressWarnings("unchecked")
@@ -61,9 +65,7 @@ public <T> T instantiateProxy(final DelegatingInvocationHandler<T> handler) {
         if (clazz.isInterface()) {
             return Util.createInstance(clazz, handler, WrapperObject.class);
         } else {
-            final ProxyFactory proxyFactory = proxyFactoryFor(clazz);
-
-            final Class<T> enhancedClass = proxyFactory.createClass();
+            final Class<T> enhancedClass = proxyClassFor(clazz);
             final Proxy proxy = (Proxy) Util.createInstance(enhancedClass);
 
             proxy.setHandler(new MethodHandler() {
@@ -77,40 +79,15 @@ public Object invoke(Object self, Method thisMethod, Method proceed, Object[] ar
         }
     }
 
-    private <T> ProxyFactory proxyFactoryFor(final Class<T> toProxyClass) {
-        ProxyFactory proxyFactory = proxyFactoryByClass.get(toProxyClass);
-        if(proxyFactory == null) {
-            proxyFactory = createProxyFactoryFor(toProxyClass);
-            proxyFactoryByClass.put(toProxyClass, proxyFactory);
-        }
-        return proxyFactory;
+    private <T> Class<T> proxyClassFor(final Class<T> toProxyClass) {
+        return proxyClassCache.proxyClassFor(toProxyClass, ADDITIONAL_INTERFACES, METHOD_FILTER);
     }
 
-    private <T> ProxyFactory createProxyFactoryFor(final Class<T> toProxyClass) {
-
-        final ProxyFactory proxyFactory = new ProxyFactory();
-
-        proxyFactory.setSuperclass(toProxyClass);
-        final Class[] types = ArrayExtensions.combine(
-                toProxyClass.getInterfaces(),
-                new Class<?>[] { JavassistEnhanced.class, WrappingObject.class });
-        proxyFactory.setInterfaces(types);
-
-        proxyFactory.setFilter(new MethodFilter() {
-            @Override
-            public boolean isHandled(final Method m) {
-                // ignore finalize()
-                return !m.getName().equals("finalize") || m.isBridge();
-            }
-        });
-
-        // this is the default, I believe
-        // calling it here only because I know that it will throw an exception if the code were
-        // in the future changed such that caching is invalid
-        // (ie fail fast if future change could introduce a bug)
-        proxyFactory.setUseCache(true);
-
-        return proxyFactory;
+    /**
+     * Eagerly creates the proxy classes for all domain types, see {@link ProxyClassCache#pregenerate(Iterable, Class[], MethodFilter)}.
+     */
+    public int pregenerate(final Iterable<ObjectSpecification> specifications) {
+        return proxyClassCache.pregenerate(specifications, ADDITIONAL_INTERFACES, METHOD_FILTER);
     }
 
 }
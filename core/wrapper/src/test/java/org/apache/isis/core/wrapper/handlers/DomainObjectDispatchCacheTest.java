@@ -0,0 +1,164 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.wrapper.handlers;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.applib.filter.Filter;
+import org.apache.isis.core.metamodel.facetapi.Facet;
+import org.apache.isis.core.metamodel.facets.ImperativeFacet;
+import org.apache.isis.core.metamodel.facets.ImperativeFacet.Intent;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.core.metamodel.specloader.specimpl.dflt.ObjectSpecificationDefault;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+import org.apache.isis.progmodel.wrapper.dom.employees.Employee;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class DomainObjectDispatchCacheTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private SpecificationLoader mockSpecificationLoader;
+    @Mock
+    private ObjectSpecificationDefault mockEmployeeSpec;
+    @Mock
+    private OneToOneAssociation mockNameProperty;
+    @Mock
+    private ImperativeFacet mockAccessorFacet;
+
+    private Method getNameMethod;
+
+    private DomainObjectDispatchCache dispatchCache;
+
+    @Before
+    public void setUp() throws Exception {
+        getNameMethod = Employee.class.getMethod("getName");
+        dispatchCache = new DomainObjectDispatchCache();
+    }
+
+    @Test
+    public void resolves_member_and_intent_only_once() throws Exception {
+
+        // expecting
+        context.checking(new Expectations() {{
+            allowing(mockSpecificationLoader).getMetaModelVersion();
+            will(returnValue(1L));
+
+            oneOf(mockSpecificationLoader).loadSpecification(Employee.class);
+            will(returnValue(mockEmployeeSpec));
+
+            oneOf(mockEmployeeSpec).getMember(getNameMethod);
+            will(returnValue(mockNameProperty));
+
+            oneOf(mockNameProperty).getFacets(with(any(Filter.class)));
+            will(returnValue(Collections.<Facet>singletonList(mockAccessorFacet)));
+
+            allowing(mockAccessorFacet).getMethods();
+            will(returnValue(Collections.singletonList(getNameMethod)));
+
+            allowing(mockAccessorFacet).getIntent(getNameMethod);
+            will(returnValue(Intent.ACCESSOR));
+        }});
+
+        // when
+        final DomainObjectDispatchCache.Dispatch dispatch =
+                dispatchCache.dispatchFor(getNameMethod, mockSpecificationLoader);
+        final DomainObjectDispatchCache.Dispatch dispatch2 =
+                dispatchCache.dispatchFor(getNameMethod, mockSpecificationLoader);
+
+        // then
+        assertThat(dispatch2, is(sameInstance(dispatch)));
+        assertThat(dispatch.getObjectMember(), is(sameInstance((Object) mockNameProperty)));
+        assertThat(dispatch.getIntent(), is(Intent.ACCESSOR));
+
+        // and properties are never contributed
+        assertThat(dispatchCache.contributeeFor(dispatch, new Object[0], mockSpecificationLoader), is(nullValue()));
+    }
+
+    @Test
+    public void resolves_member_again_if_metamodel_changes() throws Exception {
+
+        // expecting
+        context.checking(new Expectations() {{
+            exactly(2).of(mockSpecificationLoader).getMetaModelVersion();
+            will(onConsecutiveCalls(returnValue(1L), returnValue(2L)));
+
+            exactly(2).of(mockSpecificationLoader).loadSpecification(Employee.class);
+            will(returnValue(mockEmployeeSpec));
+
+            exactly(2).of(mockEmployeeSpec).getMember(getNameMethod);
+            will(returnValue(mockNameProperty));
+
+            allowing(mockNameProperty).getFacets(with(any(Filter.class)));
+            will(returnValue(Collections.<Facet>singletonList(mockAccessorFacet)));
+
+            allowing(mockAccessorFacet).getMethods();
+            will(returnValue(Collections.singletonList(getNameMethod)));
+
+            allowing(mockAccessorFacet).getIntent(getNameMethod);
+            will(returnValue(Intent.ACCESSOR));
+        }});
+
+        // when
+        final DomainObjectDispatchCache.Dispatch dispatch =
+                dispatchCache.dispatchFor(getNameMethod, mockSpecificationLoader);
+        final DomainObjectDispatchCache.Dispatch dispatch2 =
+                dispatchCache.dispatchFor(getNameMethod, mockSpecificationLoader);
+
+        // then
+        assertThat(dispatch2, is(not(sameInstance(dispatch))));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void when_no_member() throws Exception {
+
+        // expecting
+        context.checking(new Expectations() {{
+            allowing(mockSpecificationLoader).getMetaModelVersion();
+            will(returnValue(1L));
+
+            allowing(mockSpecificationLoader).loadSpecification(Employee.class);
+            will(returnValue(mockEmployeeSpec));
+
+            allowing(mockEmployeeSpec).getMember(getNameMethod);
+            will(returnValue(null));
+        }});
+
+        // when
+        dispatchCache.dispatchFor(getNameMethod, mockSpecificationLoader);
+    }
+
+}